@@ -0,0 +1,98 @@
+package com.poppy.common.config.redis.codec;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.poppy.domain.notification.dto.NotificationDto;
+import com.poppy.domain.notification.dto.WaitingNotificationDto;
+import com.poppy.domain.notification.entity.NotificationType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+// 기존 @class 포함 JSON 방식과 NotificationCodec 구현체의 발행(encode) / 수신 후 STOMP 전달(decode) 비용 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NotificationCodecBenchmark {
+    private ObjectMapper objectMapper;
+    private ObjectMapper legacyMapper;
+    private JsonNotificationCodec jsonCodec;
+    private BinaryNotificationCodec binaryCodec;
+
+    private NotificationDto notification;
+    private byte[] legacyMessage;
+    private byte[] jsonMessage;
+    private byte[] binaryMessage;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .build();
+
+        // 기존 GenericJackson2JsonRedisSerializer처럼 클래스명을 함께 기록
+        legacyMapper = objectMapper.copy();
+        legacyMapper.activateDefaultTyping(
+                legacyMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+
+        jsonCodec = new JsonNotificationCodec(objectMapper);
+        binaryCodec = new BinaryNotificationCodec(objectMapper);
+
+        notification = WaitingNotificationDto.builder()
+                .id(123456L)
+                .message("현재 5번째 순서입니다.")
+                .type(NotificationType.TEAMS_AHEAD)
+                .userId(987654L)
+                .popupStoreId(42L)
+                .popupStoreName("포피 성수 팝업스토어")
+                .waitingNumber(17)
+                .peopleAhead(5)
+                .isRead(false)
+                .noticeDate(LocalDate.of(2024, 11, 20))
+                .noticeTime(LocalTime.of(14, 30))
+                .build();
+
+        legacyMessage = legacyMapper.writeValueAsBytes(notification);
+        jsonMessage = jsonCodec.encode(notification);
+        binaryMessage = binaryCodec.encode(notification);
+    }
+
+    @Benchmark
+    public byte[] legacyEncode() throws Exception {
+        return legacyMapper.writeValueAsBytes(notification);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() {
+        return jsonCodec.encode(notification);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return binaryCodec.encode(notification);
+    }
+
+    // 기존 수신 경로: bytes -> String -> DTO -> STOMP용 재직렬화
+    @Benchmark
+    public void legacyDecode(Blackhole blackhole) throws Exception {
+        NotificationDto dto = legacyMapper.readValue(new String(legacyMessage), NotificationDto.class);
+        blackhole.consume(objectMapper.writeValueAsBytes(dto));
+    }
+
+    @Benchmark
+    public NotificationFrame jsonDecode() {
+        return jsonCodec.decode(jsonMessage);
+    }
+
+    @Benchmark
+    public NotificationFrame binaryDecode() {
+        return binaryCodec.decode(binaryMessage);
+    }
+}
@@ -0,0 +1,78 @@
+package com.poppy.domain.search.index;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 비트셋 교집합 필터와 findBySearchCondition의 WHERE 조건을 모든 행에 적용하는 전체 스캔(메모리 내 비교로 재현) 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StoreFacetIndexBenchmark {
+    private static final String[] LOCATIONS = {"성수", "홍대", "강남", "잠실", "여의도", "한남", "압구정", "연남", "을지로", "판교"};
+    private static final LocalDate TODAY = LocalDate.of(2024, 11, 20);
+
+    @Param({"10000", "100000"})
+    private int storeCount;
+
+    private StoreFacetIndex index;
+    private List<StoreFacetIndex.Entry> entries;
+
+    private final List<String> locations = List.of("성수", "홍대");
+    private final List<Long> categoryIds = List.of(1L, 3L, 5L);
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new StoreFacetIndex(TODAY.minusDays(7), TODAY.plusDays(180));
+        entries = new ArrayList<>(storeCount);
+
+        for (int i = 0; i < storeCount; i++) {
+            LocalDate start = TODAY.plusDays(random.nextInt(120) - 60);
+            StoreFacetIndex.Entry entry = new StoreFacetIndex.Entry(
+                    (long) i,
+                    (long) random.nextInt(10),
+                    LOCATIONS[random.nextInt(LOCATIONS.length)],
+                    Math.round(random.nextDouble() * 50) / 10.0,
+                    start,
+                    start.plusDays(7 + random.nextInt(30)),
+                    i
+            );
+            entries.add(entry);
+            index.put(entry);
+        }
+    }
+
+    @Benchmark
+    public List<Long> bitsetIndex() {
+        return index.search(TODAY, locations, 3.5, categoryIds);
+    }
+
+    @Benchmark
+    public List<Long> dateOnlyIndex() {
+        return index.search(TODAY, null, null, null);
+    }
+
+    // 조인/네트워크 비용이 없으므로 실제 쿼리보다 유리한 조건
+    @Benchmark
+    public List<Long> fullScan() {
+        List<StoreFacetIndex.Entry> matched = new ArrayList<>();
+        for (StoreFacetIndex.Entry entry : entries) {
+            if (entry.getStartDate().isAfter(TODAY) || entry.getEndDate().isBefore(TODAY)) continue;
+            if (!locations.contains(entry.getLocation())) continue;
+            if (entry.getRating() < 3.5) continue;
+            if (!categoryIds.contains(entry.getCategoryId())) continue;
+            matched.add(entry);
+        }
+        matched.sort(Comparator.comparingLong(StoreFacetIndex.Entry::getCreatedAt).reversed());
+
+        List<Long> ids = new ArrayList<>(matched.size());
+        for (StoreFacetIndex.Entry entry : matched) ids.add(entry.getId());
+        return ids;
+    }
+}
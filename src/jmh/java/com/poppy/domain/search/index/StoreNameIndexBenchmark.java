@@ -0,0 +1,69 @@
+package com.poppy.domain.search.index;
+
+import com.poppy.common.util.HangulUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// n-gram 역색인 검색과 name LIKE '%keyword%' 전체 스캔(메모리 내 문자열 비교로 재현) 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StoreNameIndexBenchmark {
+    private static final String[] BRANDS = {"포피", "무신사", "젠틀몬스터", "나이키", "카카오프렌즈", "라인프렌즈", "스타벅스", "산리오", "디즈니", "레고"};
+    private static final String[] AREAS = {"성수", "홍대", "강남", "잠실", "여의도", "한남", "압구정", "연남", "을지로", "판교"};
+    private static final String[] KINDS = {"팝업스토어", "팝업", "플래그십", "쇼룸", "전시", "굿즈샵", "체험관", "마켓"};
+
+    @Param({"10000", "100000"})
+    private int storeCount;
+
+    @Param({"성수", "젠틀몬스터", "홍대 굿즈"})
+    private String keyword;
+
+    private StoreNameIndex index;
+    private List<String> names;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new StoreNameIndex();
+        names = new ArrayList<>(storeCount);
+
+        for (int i = 0; i < storeCount; i++) {
+            String name = BRANDS[random.nextInt(BRANDS.length)] + " "
+                    + AREAS[random.nextInt(AREAS.length)] + " "
+                    + KINDS[random.nextInt(KINDS.length)] + " " + i;
+            names.add(name);
+            index.put((long) i, name, i);
+        }
+    }
+
+    @Benchmark
+    public List<Long> invertedIndex() {
+        return index.search(keyword);
+    }
+
+    // MySQL의 %keyword% 조건처럼 모든 행의 이름을 비교 (디스크 I/O 제외이므로 실제보다 유리한 조건)
+    @Benchmark
+    public List<Long> likeScan() {
+        List<Long> result = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            if (names.get(i).contains(keyword)) result.add((long) i);
+        }
+        return result;
+    }
+
+    // 인덱스와 같은 정규화를 적용한 전체 스캔
+    @Benchmark
+    public List<Long> normalizedScan() {
+        String query = HangulUtil.normalize(keyword);
+        List<Long> result = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            if (HangulUtil.normalize(names.get(i)).contains(query)) result.add((long) i);
+        }
+        return result;
+    }
+}
@@ -3,11 +3,14 @@ package com.poppy.admin.service;
 import com.poppy.common.entity.Images;
 import com.poppy.common.exception.BusinessException;
 import com.poppy.common.exception.ErrorCode;
+import com.poppy.common.geo.Geocoder;
 import com.poppy.common.service.ImageService;
 import com.poppy.domain.popupStore.dto.request.PopupStoreReqDto;
 import com.poppy.domain.popupStore.dto.response.PopupStoreRspDto;
 import com.poppy.domain.popupStore.entity.PopupStore;
 import com.poppy.domain.popupStore.entity.ReservationType;
+import com.poppy.domain.popupStore.event.PopupStoreChangedEvent;
+import com.poppy.domain.popupStore.event.PopupStoreEventPublisher;
 import com.poppy.domain.popupStore.repository.PopupStoreRepository;
 import com.poppy.domain.popupStore.service.PopupStoreService;
 import com.poppy.domain.reservation.entity.PopupStoreStatus;
@@ -38,6 +41,8 @@ public class AdminService {
     private final PopupStoreService popupStoreService;
     private final AsyncRedisSlotInitializationService asyncRedisSlotService;
     private final ImageService imageService;
+    private final PopupStoreEventPublisher popupStoreEventPublisher;
+    private final Geocoder geocoder;
 
     @Transactional
     public PopupStoreRspDto savePopupStore(PopupStoreReqDto reqDto) {
@@ -75,9 +80,14 @@ public class AdminService {
                 .masterUser(masterUser)
                 .reservationType(reqDto.getReservationType())
                 .scrapCount(0)
+                .reviewCount(0)
+                .viewCount(0L)
                 .images(new ArrayList<>())
                 .build();
 
+        // 주변 스토어 검색용 좌표 (변환 실패 시 좌표 없이 등록)
+        geocoder.geocode(reqDto.getAddress()).ifPresent(popupStore::updateCoordinates);
+
         PopupStore savedPopupStore = popupStoreRepository.save(popupStore);
 
         // 이미지 업로드 및 저장
@@ -91,6 +101,7 @@ public class AdminService {
                 image.updatePopupStore(savedPopupStore);
                 savedPopupStore.getImages().add(image);
             });
+            savedPopupStore.refreshThumbnailUrl();
         }
 
         // 휴무일 설정
@@ -126,6 +137,7 @@ public class AdminService {
             asyncRedisSlotService.initializeRedisSlots(savedPopupStore.getId());
         }
 
+        popupStoreEventPublisher.publish(savedPopupStore.getId(), PopupStoreChangedEvent.Type.CREATED);
         return PopupStoreRspDto.from(savedPopupStore);
     }
 
@@ -165,6 +177,7 @@ public class AdminService {
 
             asyncRedisSlotService.clearRedisData(popupStore.getId());
             popupStoreRepository.delete(popupStore);
+            popupStoreEventPublisher.publish(id, PopupStoreChangedEvent.Type.DELETED);
         }
         catch (DataIntegrityViolationException e) {
             throw new BusinessException(ErrorCode.STORE_HAS_REFERENCES);
@@ -16,6 +16,9 @@ public class DistributedLockService {
     public static final String NOTIFICATION_CLEANUP_LOCK = "notification-cleanup-lock";
     public static final String RESERVATION_24H_BEFORE_LOCK = "reservation-24h-before-lock";
     public static final String SCRAP_STORE_OPENING_LOCK = "scrap-store-opening-lock";
+    public static final String POPUP_STORE_SUMMARY_LOCK = "popup-store-summary-lock";
+    public static final String STORE_VIEW_ROLLUP_LOCK = "store-view-rollup-lock";
+    public static final String HOME_FEED_LOCK = "home-feed-lock";
 
 
     private final RedissonClient redissonClient;
@@ -1,61 +1,75 @@
 package com.poppy.common.config.redis;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.poppy.domain.notification.dto.NotificationDto;
+import com.poppy.common.config.redis.codec.NotificationCodec;
+import com.poppy.common.config.redis.codec.NotificationFrame;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationSubscriber implements MessageListener {
-    private final ObjectMapper objectMapper;
+    private final NotificationCodec notificationCodec;
     private final SimpMessageSendingOperations messagingTemplate;
 
+    private static final byte[] NOTIFICATION_CHANNEL = RedisConfig.NOTIFICATION_TOPIC.getBytes(StandardCharsets.UTF_8);
+
     @Override
     public void onMessage(Message message, byte[] pattern) {
         try {
-            String channelName = new String(message.getChannel());
-            String messageBody = new String(message.getBody());
-
-            if ("notifications".equals(channelName)) {
-                NotificationDto notification = objectMapper.readValue(messageBody, NotificationDto.class);
-                sendWebSocketNotification(notification); // 웹소켓으로 전환
+            if (Arrays.equals(NOTIFICATION_CHANNEL, message.getChannel())) {
+                NotificationFrame frame = notificationCodec.decode(message.getBody());
+                sendWebSocketNotification(frame); // 웹소켓으로 전환
             }
         } catch (Exception e) {
             log.error("Error processing Redis message: {}", e.getMessage(), e);
         }
     }
 
-    private void sendWebSocketNotification(NotificationDto notification) {
+    // 발행 시 직렬화된 JSON을 다시 변환하지 않고 그대로 STOMP 프레임으로 전달
+    private void sendWebSocketNotification(NotificationFrame frame) {
         try {
             // 특정 사용자에게 알림 전송
-            String destination = "/queue/notifications";
-            messagingTemplate.convertAndSendToUser(
-                    String.valueOf(notification.getUserId()), // userId를 username으로 사용
-                    destination,
-                    notification
-            );
-            log.info("개인 알림 전송 - message: {}, type: {}, userId: {}, popupStoreName: {}, isRead: {}",
-                    notification.getMessage(),
-                    notification.getType(),
-                    notification.getUserId(),
-                    notification.getPopupStoreName(),
-                    notification.getIsRead());
+            if (frame.getUserId() != null) {
+                String destination = "/user/" + frame.getUserId() + "/queue/notifications";  // userId를 username으로 사용
+                messagingTemplate.send(destination, createJsonMessage(frame.getPayload()));
+                log.info("개인 알림 전송 - userId: {}, size: {}", frame.getUserId(), frame.getPayload().length);
+            }
+
+            // 스토어를 스크랩한 사용자에게 전송 (클라이언트는 스크랩한 스토어의 토픽을 구독)
+            if (frame.getStoreId() != null) {
+                String storeDestination = "/topic/stores/" + frame.getStoreId() + "/notifications";
+                messagingTemplate.send(storeDestination, createJsonMessage(frame.getPayload()));
+                log.info("스토어 알림 전송 - storeId: {}, size: {}", frame.getStoreId(), frame.getPayload().length);
+            }
 
             // 모든 사용자에게 공지사항 전송 (공지사항인 경우)
-            if (notification.getType().name().equals("NOTICE")) {
+            if (frame.isBroadcast()) {
                 String globalDestination = "/topic/notifications";
-                messagingTemplate.convertAndSend(globalDestination, notification);
-                log.info("공지사항 전송 - message: {}", notification.getMessage());
+                messagingTemplate.send(globalDestination, createJsonMessage(frame.getPayload()));
+                log.info("공지사항 전송 - size: {}", frame.getPayload().length);
             }
 
         } catch (Exception e) {
             log.error("Failed to send WebSocket notification: {}", e.getMessage(), e);
         }
     }
+
+    private org.springframework.messaging.Message<byte[]> createJsonMessage(byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
 }
@@ -0,0 +1,35 @@
+package com.poppy.common.config.redis;
+
+import com.poppy.domain.popupStore.event.PopupStoreChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+// 다른 노드에서 발생한 팝업스토어 변경을 로컬 이벤트로 변환
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PopupStoreEventSubscriber implements MessageListener {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    // message: {Type}:{storeId}
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.indexOf(':');
+
+            PopupStoreChangedEvent.Type type = PopupStoreChangedEvent.Type.valueOf(body.substring(0, separator));
+            Long storeId = Long.parseLong(body.substring(separator + 1));
+
+            applicationEventPublisher.publishEvent(new PopupStoreChangedEvent(storeId, type));
+        } catch (Exception e) {
+            log.error("Error processing popup store event: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -16,8 +16,8 @@ import org.springframework.data.redis.connection.lettuce.LettucePoolingClientCon
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -26,6 +26,10 @@ import java.util.concurrent.Executors;
 @Configuration
 public class RedisConfig {
     public static final String NOTIFICATION_TOPIC = "notifications";
+    public static final String POPUP_STORE_EVENT_TOPIC = "popup-store:events";
+    // 스토어 데이터 버전 (이벤트를 발행하는 노드가 변경마다 한 번만 증가, 검색 결과 캐시 키에 사용)
+    // 이미 캐시된 검색 결과와 버전이 겹치지 않도록 기존 키 이름 유지
+    public static final String POPUP_STORE_VERSION_KEY = "search:result:version";
 
     @Value("${spring.data.redis.host}")
     private String host;
@@ -100,21 +104,14 @@ public class RedisConfig {
         return template;
     }
 
-    // 알림을 위한 RedisTemplate
+    // 알림을 위한 RedisTemplate (NotificationCodec으로 인코딩한 바이트를 그대로 발행)
     @Bean
-    public RedisTemplate<String, Object> notificationRedisTemplate(
-            RedisConnectionFactory connectionFactory,
-            ObjectMapper objectMapper) {
-        RedisTemplate<String, Object> template = new RedisTemplate<>();
+    public RedisTemplate<String, byte[]> notificationRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
-        GenericJackson2JsonRedisSerializer jsonSerializer =
-                new GenericJackson2JsonRedisSerializer(objectMapper);
-
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(jsonSerializer);
-        template.setHashKeySerializer(new StringRedisSerializer());
-        template.setHashValueSerializer(jsonSerializer);
+        template.setValueSerializer(RedisSerializer.byteArray());
 
         template.afterPropertiesSet();
         return template;
@@ -131,10 +128,12 @@ public class RedisConfig {
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
             NotificationSubscriber notificationSubscriber,
-            ChannelTopic notificationTopic) {
+            ChannelTopic notificationTopic,
+            PopupStoreEventSubscriber popupStoreEventSubscriber) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
         container.addMessageListener(notificationSubscriber, notificationTopic);
+        container.addMessageListener(popupStoreEventSubscriber, new ChannelTopic(POPUP_STORE_EVENT_TOPIC));
 
         // 컨테이너 설정
         container.setSubscriptionExecutor(Executors.newFixedThreadPool(4)); // 구독 처리 스레드 풀
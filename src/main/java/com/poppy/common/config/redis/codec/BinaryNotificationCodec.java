@@ -0,0 +1,80 @@
+package com.poppy.common.config.redis.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poppy.domain.notification.dto.NotificationDto;
+import com.poppy.domain.notification.entity.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/*
+ * 버전이 붙은 고정 길이 헤더 + STOMP용 JSON 본문
+ *
+ * [0]     version
+ * [1]     flags (bit0: 전체 전송, bit1: 스토어 토픽 전송)
+ * [2..9]  userId (없으면 -1), 스토어 토픽 전송이면 storeId
+ * [10..]  STOMP로 그대로 전달할 JSON (발행 시 한 번만 직렬화)
+ *
+ * 수신 측은 헤더만 읽고 본문은 역직렬화하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.bus.codec", havingValue = "binary", matchIfMissing = true)
+@RequiredArgsConstructor
+public class BinaryNotificationCodec implements NotificationCodec {
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = 10;
+    private static final byte FLAG_BROADCAST = 0x01;
+    private static final byte FLAG_STORE_TOPIC = 0x02;
+    private static final long NO_USER = -1L;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public byte[] encode(NotificationDto notification) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(notification);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("알림 직렬화에 실패했습니다.", e);
+        }
+
+        byte flags = notification.getType() == NotificationType.NOTICE ? FLAG_BROADCAST : 0;
+        long target = notification.getUserId() != null ? notification.getUserId() : NO_USER;
+
+        Long storeId = NotificationCodec.storeTopicOf(notification);
+        if (storeId != null) {
+            flags |= FLAG_STORE_TOPIC;
+            target = storeId;
+        }
+
+        return ByteBuffer.allocate(HEADER_SIZE + json.length)
+                .put(VERSION)
+                .put(flags)
+                .putLong(target)
+                .put(json)
+                .array();
+    }
+
+    @Override
+    public NotificationFrame decode(byte[] message) {
+        if (message.length < HEADER_SIZE || message[0] != VERSION)
+            throw new IllegalArgumentException("지원하지 않는 알림 메시지 형식입니다.");
+
+        ByteBuffer buffer = ByteBuffer.wrap(message);
+        buffer.position(1);
+        byte flags = buffer.get();
+        long target = buffer.getLong();
+        boolean storeTopic = (flags & FLAG_STORE_TOPIC) != 0;
+
+        return new NotificationFrame(
+                storeTopic || target == NO_USER ? null : target,
+                (flags & FLAG_BROADCAST) != 0,
+                storeTopic ? target : null,
+                Arrays.copyOfRange(message, HEADER_SIZE, message.length)
+        );
+    }
+}
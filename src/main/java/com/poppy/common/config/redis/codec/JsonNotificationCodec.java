@@ -0,0 +1,54 @@
+package com.poppy.common.config.redis.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poppy.domain.notification.dto.NotificationDto;
+import com.poppy.domain.notification.entity.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+// 알림 DTO JSON을 그대로 발행 (@class 없이), 수신 측에서 userId, type, storeId만 읽음
+@Component
+@ConditionalOnProperty(name = "notification.bus.codec", havingValue = "json")
+@RequiredArgsConstructor
+public class JsonNotificationCodec implements NotificationCodec {
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public byte[] encode(NotificationDto notification) {
+        try {
+            return objectMapper.writeValueAsBytes(notification);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("알림 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    @Override
+    public NotificationFrame decode(byte[] message) {
+        try {
+            JsonNode node = objectMapper.readTree(message);
+            JsonNode userId = node.get("userId");
+            boolean broadcast = NotificationType.NOTICE.name().equals(node.path("type").asText());
+            boolean hasUser = userId != null && !userId.isNull();
+
+            // 수신자 없는 스크랩 스토어 오픈 알림은 스토어 토픽으로 전송
+            JsonNode storeId = node.get("storeId");
+            boolean storeTopic = !hasUser
+                    && NotificationType.SCRAPED_STORE_OPENING.name().equals(node.path("type").asText())
+                    && storeId != null && !storeId.isNull();
+
+            return new NotificationFrame(
+                    hasUser ? userId.asLong() : null,
+                    broadcast,
+                    storeTopic ? storeId.asLong() : null,
+                    message
+            );
+        } catch (IOException e) {
+            throw new IllegalArgumentException("알림 역직렬화에 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.poppy.common.config.redis.codec;
+
+import com.poppy.domain.notification.dto.NotificationDto;
+import com.poppy.domain.notification.dto.ScrapedStoreNotificationDto;
+
+// Redis Pub/Sub 알림 메시지 인코딩 방식
+public interface NotificationCodec {
+    byte[] encode(NotificationDto notification);
+
+    NotificationFrame decode(byte[] message);
+
+    // 수신자 없이 발행된 스토어 알림은 스토어 토픽으로 한 번만 전송
+    static Long storeTopicOf(NotificationDto notification) {
+        if (notification.getUserId() == null && notification instanceof ScrapedStoreNotificationDto storeNotification)
+            return storeNotification.getStoreId();
+        return null;
+    }
+}
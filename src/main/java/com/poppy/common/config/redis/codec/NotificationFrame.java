@@ -0,0 +1,14 @@
+package com.poppy.common.config.redis.codec;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Redis 버스로 전달되는 알림 프레임 (payload는 STOMP로 그대로 전달할 JSON 바이트)
+@Getter
+@AllArgsConstructor
+public class NotificationFrame {
+    private final Long userId;
+    private final boolean broadcast;  // 공지사항처럼 전체 사용자에게도 전송해야 하는지
+    private final Long storeId;       // 스토어 토픽으로 전송하는 경우 (스크랩한 스토어 오픈 알림)
+    private final byte[] payload;
+}
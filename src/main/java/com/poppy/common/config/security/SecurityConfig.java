@@ -48,6 +48,7 @@ public class SecurityConfig {
                         // 팝업스토어 관련
                         .requestMatchers("/popup-stores/**").permitAll()
                         .requestMatchers("/search-history/popular").permitAll()
+                        .requestMatchers("/search/**").permitAll()
                         // 공지사항 관련
                         .requestMatchers("/notices/**").permitAll()
                         // 리뷰 관련
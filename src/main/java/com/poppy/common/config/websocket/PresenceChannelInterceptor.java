@@ -0,0 +1,71 @@
+package com.poppy.common.config.websocket;
+
+import com.poppy.domain.notification.service.UserPresenceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 인바운드 STOMP 프레임(하트비트 포함)을 받을 때마다 접속 상태 TTL 연장
+ *
+ * - /app/presence/heartbeat를 보내지 않는 기존 클라이언트도 연결이 살아 있으면 온라인으로 유지
+ * - 세션별로 REFRESH_INTERVAL_MILLIS에 한 번만 Redis에 반영 (프레임마다 쓰지 않음)
+ * - CONNECT/DISCONNECT는 WebSocketEventListener에서 처리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PresenceChannelInterceptor implements ChannelInterceptor {
+    private static final long REFRESH_INTERVAL_MILLIS = 15_000L;   // 접속 상태 TTL(60초)보다 충분히 짧게
+
+    private final UserPresenceService presenceService;
+    private final Map<String, Long> lastRefreshBySession = new ConcurrentHashMap<>();
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(headers);
+        if (sessionId == null || type == null || type == SimpMessageType.CONNECT) return message;
+
+        if (type == SimpMessageType.DISCONNECT) {
+            lastRefreshBySession.remove(sessionId);
+            return message;
+        }
+
+        Long userId = getUserId(SimpMessageHeaderAccessor.getUser(headers));
+        if (userId == null) return message;
+
+        long now = System.currentTimeMillis();
+        Long last = lastRefreshBySession.get(sessionId);
+        if (last != null && now - last < REFRESH_INTERVAL_MILLIS) return message;
+        lastRefreshBySession.put(sessionId, now);
+
+        try {
+            presenceService.heartbeat(userId, sessionId);
+        } catch (Exception e) {     // 접속 상태 갱신 실패로 메시지 처리를 막지 않음
+            log.warn("Failed to refresh presence - userId: {}, session: {}: {}", userId, sessionId, e.getMessage());
+        }
+        return message;
+    }
+
+    private Long getUserId(Principal user) {
+        if (user == null) return null;
+
+        try {
+            return Long.valueOf(user.getName());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
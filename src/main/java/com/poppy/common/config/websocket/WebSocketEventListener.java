@@ -0,0 +1,53 @@
+package com.poppy.common.config.websocket;
+
+import com.poppy.domain.notification.service.UserPresenceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.AbstractSubProtocolEvent;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WebSocketEventListener {
+    private final UserPresenceService presenceService;
+
+    @EventListener
+    public void handleSessionConnected(SessionConnectedEvent event) {
+        Long userId = getUserId(event);
+        if (userId == null) return;
+
+        presenceService.connect(userId, getSessionId(event));
+        log.debug("User {} connected - session: {}", userId, getSessionId(event));
+    }
+
+    @EventListener
+    public void handleSessionDisconnect(SessionDisconnectEvent event) {
+        Long userId = getUserId(event);
+        if (userId == null) return;
+
+        presenceService.disconnect(userId, event.getSessionId());
+        log.debug("User {} disconnected - session: {}", userId, event.getSessionId());
+    }
+
+    private Long getUserId(AbstractSubProtocolEvent event) {
+        Principal user = event.getUser();
+        if (user == null) return null;
+
+        try {
+            return Long.valueOf(user.getName());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String getSessionId(AbstractSubProtocolEvent event) {
+        return StompHeaderAccessor.wrap(event.getMessage()).getSessionId();
+    }
+}
@@ -21,6 +21,7 @@ public enum ErrorCode {
     SLOT_NOT_FOUND(404, "해당 팝업스토어의 슬롯을 찾을 수 없습니다."),
     INVALID_FORMAT(400, "잘못된 요청 형식입니다."),
     NOT_NULL_PARAMETER(400, "스토어, 날짜, 시간, 인원을 입력해주세요."),
+    INVALID_COORDINATE(400, "위치 정보를 확인해주세요."),
 
     // 팝업스토어 등록 및 삭제 관련 (관리자)
     INVALID_DATE(500, "존재하는 날짜를 입력해주세요."),
@@ -95,7 +96,10 @@ public enum ErrorCode {
     FILE_IS_EMPTY(500, "파일이 비어있습니다."),
     FILE_SIZE_EXCEEDED(500, "파일 크기 제한을 초과하였습니다."),
     INVALID_IMAGE_TYPE(500, "유효하지 않은 이미지 타입입니다."),
-    IMAGE_UPDATE_FAILED(500, "이미지 업데이트에 실패하였습니다.")
+    IMAGE_UPDATE_FAILED(500, "이미지 업데이트에 실패하였습니다."),
+
+    // 페이지 관련
+    INVALID_CURSOR(400, "잘못된 페이지 커서입니다.")
     ;
 
     private final int code;
@@ -0,0 +1,23 @@
+package com.poppy.common.geo;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+// 지오코딩 제공자가 설정되지 않은 환경용 (좌표를 만들지 않으므로 해당 스토어는 위치 인덱스에서 제외)
+@Component
+@Profile("!local & !test")
+@ConditionalOnProperty(prefix = "geocoder", name = "provider", havingValue = "none", matchIfMissing = true)
+public class DisabledGeocoder implements Geocoder {
+    @Override
+    public Optional<GeoPoint> geocode(String address) {
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+}
@@ -0,0 +1,11 @@
+package com.poppy.common.geo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class GeoPoint {
+    private final double latitude;
+    private final double longitude;
+}
@@ -0,0 +1,11 @@
+package com.poppy.common.geo;
+
+import java.util.Optional;
+
+public interface Geocoder {    // 주소 -> 좌표 변환 (외부 지오코딩 API 구현체로 교체 가능)
+    Optional<GeoPoint> geocode(String address);     // 변환할 수 없으면 empty
+
+    default boolean isEnabled() {   // 제공자가 설정되지 않았으면 false (좌표 백필 등 보류용)
+        return true;
+    }
+}
@@ -0,0 +1,65 @@
+package com.poppy.common.geo;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// 외부 API 없이 서울 자치구 중심 좌표로 변환하는 로컬/테스트용 지오코더 (실제 좌표가 아니므로 운영에서는 등록하지 않음)
+@Component
+@Profile({"local", "test"})
+@ConditionalOnProperty(prefix = "geocoder", name = "provider", havingValue = "stub", matchIfMissing = true)
+public class StubGeocoder implements Geocoder {
+    private static final double MAX_JITTER_DEGREES = 0.003;    // 약 300m, 같은 구의 스토어가 한 점에 겹치지 않도록
+
+    private static final Map<String, GeoPoint> DISTRICTS = new LinkedHashMap<>();
+
+    static {
+        DISTRICTS.put("종로구", new GeoPoint(37.5730, 126.9794));
+        DISTRICTS.put("중구", new GeoPoint(37.5641, 126.9979));
+        DISTRICTS.put("용산구", new GeoPoint(37.5326, 126.9905));
+        DISTRICTS.put("성동구", new GeoPoint(37.5634, 127.0369));
+        DISTRICTS.put("광진구", new GeoPoint(37.5385, 127.0823));
+        DISTRICTS.put("동대문구", new GeoPoint(37.5744, 127.0396));
+        DISTRICTS.put("중랑구", new GeoPoint(37.6063, 127.0925));
+        DISTRICTS.put("성북구", new GeoPoint(37.5894, 127.0167));
+        DISTRICTS.put("강북구", new GeoPoint(37.6396, 127.0257));
+        DISTRICTS.put("도봉구", new GeoPoint(37.6688, 127.0471));
+        DISTRICTS.put("노원구", new GeoPoint(37.6542, 127.0568));
+        DISTRICTS.put("은평구", new GeoPoint(37.6027, 126.9291));
+        DISTRICTS.put("서대문구", new GeoPoint(37.5791, 126.9368));
+        DISTRICTS.put("마포구", new GeoPoint(37.5663, 126.9019));
+        DISTRICTS.put("양천구", new GeoPoint(37.5170, 126.8665));
+        DISTRICTS.put("강서구", new GeoPoint(37.5509, 126.8495));
+        DISTRICTS.put("구로구", new GeoPoint(37.4954, 126.8874));
+        DISTRICTS.put("금천구", new GeoPoint(37.4569, 126.8955));
+        DISTRICTS.put("영등포구", new GeoPoint(37.5264, 126.8962));
+        DISTRICTS.put("동작구", new GeoPoint(37.5124, 126.9393));
+        DISTRICTS.put("관악구", new GeoPoint(37.4784, 126.9516));
+        DISTRICTS.put("서초구", new GeoPoint(37.4837, 127.0324));
+        DISTRICTS.put("강남구", new GeoPoint(37.5172, 127.0473));
+        DISTRICTS.put("송파구", new GeoPoint(37.5145, 127.1059));
+        DISTRICTS.put("강동구", new GeoPoint(37.5301, 127.1238));
+    }
+
+    @Override
+    public Optional<GeoPoint> geocode(String address) {
+        if (address == null || address.isBlank()) return Optional.empty();
+
+        for (Map.Entry<String, GeoPoint> district : DISTRICTS.entrySet()) {
+            if (!address.contains(district.getKey())) continue;
+
+            // 주소 문자열 기준으로 항상 같은 위치가 나오도록 해시로 오프셋 계산
+            int hash = address.hashCode();
+            double latOffset = ((hash & 0xFFFF) / 65535.0 * 2 - 1) * MAX_JITTER_DEGREES;
+            double lngOffset = (((hash >>> 16) & 0xFFFF) / 65535.0 * 2 - 1) * MAX_JITTER_DEGREES;
+
+            GeoPoint center = district.getValue();
+            return Optional.of(new GeoPoint(center.getLatitude() + latOffset, center.getLongitude() + lngOffset));
+        }
+        return Optional.empty();
+    }
+}
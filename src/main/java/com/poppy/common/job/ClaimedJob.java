@@ -0,0 +1,14 @@
+package com.poppy.common.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ClaimedJob {
+    private final String id;
+    private final String type;
+    private final String payload;
+    private final int attempts;
+    private final long leaseUntil;    // 가져갈 때 설정된 가시성 만료 시각 (연장 시 본인 점유 여부 확인용)
+}
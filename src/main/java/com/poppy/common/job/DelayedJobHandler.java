@@ -0,0 +1,9 @@
+package com.poppy.common.job;
+
+// 지연 작업 처리기 (type별로 하나씩 등록)
+public interface DelayedJobHandler {
+    String getType();
+
+    // 예외가 발생하면 가시성 타임아웃 이후 다른 노드에서 재시도
+    void handle(String payload);
+}
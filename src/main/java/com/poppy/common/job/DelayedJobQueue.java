@@ -0,0 +1,168 @@
+package com.poppy.common.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Redis ZSET 기반 지연 작업 큐
+ *
+ * - delayed-jobs:queue     실행 시각(ms)을 score로 하는 작업 id
+ * - delayed-jobs:data      작업 id -> "type|payload"
+ * - delayed-jobs:attempts  작업 id -> 시도 횟수
+ * - delayed-jobs:done:{id} 완료 표시 (같은 작업이 다시 등록되지 않도록 3일간 유지)
+ *
+ * 모든 노드가 실행 시각이 지난 작업을 가져가며, 가져간 작업은 score를 가시성 타임아웃만큼 뒤로 미뤄
+ * 처리 중 노드가 죽으면 타임아웃 후 다른 노드가 다시 가져간다.
+ * 처리가 길어지면 워커가 score를 주기적으로 연장하며, score가 가져갈 때 값과 같을 때만 연장해 다른 노드의 점유를 덮어쓰지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DelayedJobQueue {
+    private static final String QUEUE_KEY = "delayed-jobs:queue";
+    private static final String DATA_KEY = "delayed-jobs:data";
+    private static final String ATTEMPTS_KEY = "delayed-jobs:attempts";
+    private static final String DONE_KEY_PREFIX = "delayed-jobs:done:";
+    private static final long DONE_TTL_SECONDS = 3 * 24 * 60 * 60L;
+    static final long VISIBILITY_TIMEOUT_MILLIS = 60_000L;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // ARGV[4]: 1이면 이미 등록된 작업의 실행 시각을 유지
+    private static final DefaultRedisScript<Long> SCHEDULE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[3]) == 1 then
+                return 0
+            end
+            local added
+            if ARGV[4] == '1' then
+                added = redis.call('ZADD', KEYS[1], 'NX', ARGV[1], ARGV[2])
+            else
+                added = redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2])
+            end
+            redis.call('HSET', KEYS[2], ARGV[2], ARGV[3])
+            return added
+            """, Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            local result = {}
+            for _, id in ipairs(ids) do
+                redis.call('ZADD', KEYS[1], ARGV[3], id)
+                local attempts = redis.call('HINCRBY', KEYS[3], id, 1)
+                table.insert(result, id)
+                table.insert(result, redis.call('HGET', KEYS[2], id) or '')
+                table.insert(result, tostring(attempts))
+            end
+            return result
+            """, List.class);
+
+    // ARGV[2]: 현재 점유 중인 가시성 만료 시각, ARGV[3]: 새 만료 시각
+    private static final DefaultRedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>("""
+            local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if score and tonumber(score) == tonumber(ARGV[2]) then
+                redis.call('ZADD', KEYS[1], 'XX', ARGV[3], ARGV[1])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final DefaultRedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            redis.call('HDEL', KEYS[2], ARGV[1])
+            redis.call('HDEL', KEYS[3], ARGV[1])
+            redis.call('SET', KEYS[4], '1', 'EX', tonumber(ARGV[2]))
+            return 1
+            """, Long.class);
+
+    private static final DefaultRedisScript<Long> CANCEL_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HDEL', KEYS[2], ARGV[1])
+            redis.call('HDEL', KEYS[3], ARGV[1])
+            return redis.call('ZREM', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    // 작업 등록 (같은 id가 있으면 실행 시각과 내용을 갱신)
+    public void schedule(String jobId, String type, String payload, Instant fireAt) {
+        schedule(jobId, type, payload, fireAt, false);
+    }
+
+    // 이미 등록되었거나 완료된 작업이면 무시
+    public void scheduleIfAbsent(String jobId, String type, String payload, Instant fireAt) {
+        schedule(jobId, type, payload, fireAt, true);
+    }
+
+    public void cancel(String jobId) {
+        redisTemplate.execute(CANCEL_SCRIPT, List.of(QUEUE_KEY, DATA_KEY, ATTEMPTS_KEY), jobId);
+    }
+
+    // 실행 시각이 지난 작업을 최대 limit개 가져옴
+    @SuppressWarnings("unchecked")
+    public List<ClaimedJob> claim(int limit) {
+        long now = System.currentTimeMillis();
+        long leaseUntil = now + VISIBILITY_TIMEOUT_MILLIS;
+        List<Object> result = redisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(QUEUE_KEY, DATA_KEY, ATTEMPTS_KEY),
+                String.valueOf(now),
+                String.valueOf(limit),
+                String.valueOf(leaseUntil)
+        );
+
+        List<ClaimedJob> jobs = new ArrayList<>();
+        if (result == null) return jobs;
+
+        for (int i = 0; i + 2 < result.size(); i += 3) {
+            String id = String.valueOf(result.get(i));
+            String data = String.valueOf(result.get(i + 1));
+            int attempts = Integer.parseInt(String.valueOf(result.get(i + 2)));
+
+            int separator = data.indexOf('|');
+            if (separator < 0) {
+                log.warn("Dropping delayed job without data: {}", id);
+                complete(id);
+                continue;
+            }
+            jobs.add(new ClaimedJob(id, data.substring(0, separator), data.substring(separator + 1), attempts, leaseUntil));
+        }
+        return jobs;
+    }
+
+    // 아직 점유 중이면 가시성 만료 시각을 newLeaseUntil로 연장 (이미 다른 노드가 가져갔거나 완료됐으면 false)
+    public boolean extendLease(String jobId, long leaseUntil, long newLeaseUntil) {
+        Long extended = redisTemplate.execute(
+                EXTEND_SCRIPT,
+                List.of(QUEUE_KEY),
+                jobId,
+                String.valueOf(leaseUntil),
+                String.valueOf(newLeaseUntil)
+        );
+        return extended != null && extended == 1L;
+    }
+
+    public void complete(String jobId) {
+        redisTemplate.execute(
+                COMPLETE_SCRIPT,
+                List.of(QUEUE_KEY, DATA_KEY, ATTEMPTS_KEY, DONE_KEY_PREFIX + jobId),
+                jobId,
+                String.valueOf(DONE_TTL_SECONDS)
+        );
+    }
+
+    private void schedule(String jobId, String type, String payload, Instant fireAt, boolean ifAbsent) {
+        redisTemplate.execute(
+                SCHEDULE_SCRIPT,
+                List.of(QUEUE_KEY, DATA_KEY, DONE_KEY_PREFIX + jobId),
+                String.valueOf(fireAt.toEpochMilli()),
+                jobId,
+                type + "|" + payload,
+                ifAbsent ? "1" : "0"
+        );
+    }
+}
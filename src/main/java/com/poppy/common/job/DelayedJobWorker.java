@@ -0,0 +1,118 @@
+package com.poppy.common.job;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ * 모든 노드에서 실행되며 실행 시각이 지난 지연 작업을 가져와 처리
+ *
+ * - 가져온 작업은 처리가 끝날 때까지 별도 스레드가 LEASE_EXTEND_INTERVAL_MILLIS마다 가시성 타임아웃을 연장
+ *   (오래 걸리는 처리기가 처리 도중 다른 노드에 다시 가져가져 중복 실행되지 않도록)
+ * - @Scheduled 스레드는 처리 중에 막혀 있으므로 연장은 전용 스레드에서 수행
+ */
+@Component
+@Slf4j
+public class DelayedJobWorker {
+    private static final int CLAIM_BATCH_SIZE = 20;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long LEASE_EXTEND_INTERVAL_MILLIS = DelayedJobQueue.VISIBILITY_TIMEOUT_MILLIS / 3;
+
+    private final DelayedJobQueue delayedJobQueue;
+    private final Map<String, DelayedJobHandler> handlers;
+    private final Map<String, Long> leases = new ConcurrentHashMap<>();    // 가져온 뒤 아직 끝나지 않은 작업 id -> 가시성 만료 시각
+    private final ScheduledExecutorService leaseExtender = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "delayed-job-lease");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public DelayedJobWorker(DelayedJobQueue delayedJobQueue, List<DelayedJobHandler> handlers) {
+        this.delayedJobQueue = delayedJobQueue;
+        this.handlers = handlers.stream()
+                .collect(Collectors.toMap(DelayedJobHandler::getType, Function.identity()));
+    }
+
+    @PostConstruct
+    public void startLeaseExtender() {
+        leaseExtender.scheduleWithFixedDelay(this::extendLeases,
+                LEASE_EXTEND_INTERVAL_MILLIS, LEASE_EXTEND_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stopLeaseExtender() {
+        leaseExtender.shutdownNow();
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void poll() {
+        List<ClaimedJob> jobs;
+        try {
+            jobs = delayedJobQueue.claim(CLAIM_BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("Failed to claim delayed jobs: {}", e.getMessage());
+            return;
+        }
+
+        // 같은 배치에서 처리 순서를 기다리는 작업도 연장 대상
+        jobs.forEach(job -> leases.put(job.getId(), job.getLeaseUntil()));
+        for (ClaimedJob job : jobs) {
+            try {
+                process(job);
+            } finally {
+                leases.remove(job.getId());
+            }
+        }
+    }
+
+    // 연장에 실패한 작업은 이미 다른 노드가 가져갔거나 완료된 것이므로 더 연장하지 않음
+    void extendLeases() {
+        long newLeaseUntil = System.currentTimeMillis() + DelayedJobQueue.VISIBILITY_TIMEOUT_MILLIS;
+        leases.forEach((jobId, leaseUntil) -> {
+            try {
+                if (delayedJobQueue.extendLease(jobId, leaseUntil, newLeaseUntil)) {
+                    leases.replace(jobId, leaseUntil, newLeaseUntil);
+                } else {
+                    leases.remove(jobId, leaseUntil);
+                    log.warn("Lost lease of delayed job while processing - id: {}", jobId);
+                }
+            } catch (Exception e) {     // Redis 장애 시 다음 주기에 다시 시도
+                log.warn("Failed to extend delayed job lease - id: {}: {}", jobId, e.getMessage());
+            }
+        });
+    }
+
+    private void process(ClaimedJob job) {
+        DelayedJobHandler handler = handlers.get(job.getType());
+        if (handler == null) {
+            log.error("No handler for delayed job type: {}, id: {}", job.getType(), job.getId());
+            delayedJobQueue.complete(job.getId());
+            return;
+        }
+
+        if (job.getAttempts() > MAX_ATTEMPTS) {
+            log.error("Delayed job exceeded max attempts. Dropping - id: {}, attempts: {}", job.getId(), job.getAttempts());
+            delayedJobQueue.complete(job.getId());
+            return;
+        }
+
+        try {
+            handler.handle(job.getPayload());
+            delayedJobQueue.complete(job.getId());
+        } catch (Exception e) {
+            // 완료 처리하지 않으면 가시성 타임아웃 이후 재시도
+            log.warn("Delayed job failed - id: {}, attempts: {}, reason: {}", job.getId(), job.getAttempts(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.poppy.common.pagination;
+
+import com.poppy.common.exception.BusinessException;
+import com.poppy.common.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 키셋 페이지 커서 (이전 페이지 마지막 행의 정렬 키와 id, 클라이언트에는 Base64 문자열로만 노출)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class Cursor {
+    private static final char SEPARATOR = '|';
+
+    private final String sortKey;   // id만으로 정렬하는 목록은 빈 문자열
+    private final Long id;
+
+    public static Cursor of(Object sortKey, Long id) {
+        return new Cursor(String.valueOf(sortKey), id);
+    }
+
+    public static Cursor ofId(Long id) {
+        return new Cursor("", id);
+    }
+
+    public String encode() {
+        byte[] raw = (sortKey + SEPARATOR + id).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    // 비어 있으면 첫 페이지 (null)
+    public static Cursor decode(String value) {
+        if (value == null || value.isBlank()) return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) throw new BusinessException(ErrorCode.INVALID_CURSOR);
+
+            return new Cursor(raw.substring(0, separator), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {   // Base64, 숫자 형식 오류
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public LocalDate sortKeyAsDate() {
+        try {
+            return LocalDate.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public LocalDateTime sortKeyAsDateTime() {
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.poppy.common.pagination;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// 키셋 페이지 응답 (nextCursor를 다음 요청의 cursor로 그대로 전달)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorPage<T> {
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    // rows는 CursorRequest.fetchSize()만큼 조회한 결과 (size보다 많으면 다음 페이지가 있음)
+    public static <T> CursorPage<T> of(List<T> rows, CursorRequest request, Function<T, Cursor> cursorOf) {
+        boolean hasNext = rows.size() > request.getSize();
+        List<T> content = hasNext ? new ArrayList<>(rows.subList(0, request.getSize())) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
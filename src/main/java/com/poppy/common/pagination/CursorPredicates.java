@@ -0,0 +1,39 @@
+package com.poppy.common.pagination;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+
+import java.util.function.Function;
+
+/*
+ * QueryDSL 키셋 조건
+ *
+ * - (sortKey, id) 순서로 정렬한 목록에서 커서 다음 행만 조회 (OFFSET 없이 인덱스에서 바로 시작 위치를 찾음)
+ * - 정렬 방향은 orderBy()와 같아야 하고, 커서가 없으면 null을 반환해 where()에서 무시됨
+ */
+public final class CursorPredicates {
+    private CursorPredicates() {
+    }
+
+    public static <T extends Comparable<?>> BooleanExpression after(ComparableExpression<T> sortKey, NumberPath<Long> id,
+                                                                   Cursor cursor, Function<Cursor, T> sortKeyOf, Order order) {
+        if (cursor == null) return null;
+
+        T value = sortKeyOf.apply(cursor);
+        if (order == Order.ASC)
+            return sortKey.gt(value).or(sortKey.eq(value).and(id.gt(cursor.getId())));
+        return sortKey.lt(value).or(sortKey.eq(value).and(id.lt(cursor.getId())));
+    }
+
+    public static BooleanExpression afterId(NumberPath<Long> id, Cursor cursor, Order order) {
+        if (cursor == null) return null;
+        return order == Order.ASC ? id.gt(cursor.getId()) : id.lt(cursor.getId());
+    }
+
+    public static OrderSpecifier<?>[] orderBy(ComparableExpression<?> sortKey, NumberPath<Long> id, Order order) {
+        return new OrderSpecifier<?>[]{new OrderSpecifier<>(order, sortKey), new OrderSpecifier<>(order, id)};
+    }
+}
@@ -0,0 +1,30 @@
+package com.poppy.common.pagination;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 키셋 페이지 요청 (cursor가 null이면 첫 페이지)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorRequest {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private final Cursor cursor;
+    private final int size;
+
+    public static CursorRequest of(String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_SIZE : Math.max(1, Math.min(size, MAX_SIZE));
+        return new CursorRequest(Cursor.decode(cursor), pageSize);
+    }
+
+    public static CursorRequest first(int size) {
+        return new CursorRequest(null, size);
+    }
+
+    // 다음 페이지 존재 여부를 확인하기 위해 한 행 더 조회
+    public int fetchSize() {
+        return size + 1;
+    }
+}
@@ -0,0 +1,50 @@
+package com.poppy.common.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class HangulUtil {
+    private static final char SYLLABLE_START = '\uAC00';  // 가
+    private static final char SYLLABLE_END = '\uD7A3';    // 힣
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;  // 중성 21개 * 종성 28개
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    // 검색용 정규화 (NFD로 들어온 한글 조합, 소문자 변환, 공백/특수문자 제거)
+    public static String normalize(String text) {
+        if (text == null) return "";
+
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(composed.length());
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (Character.isLetterOrDigit(c)) sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_START && c <= SYLLABLE_END;
+    }
+
+    // 자음만 입력된 글자인지 (ㄱ ~ ㅎ)
+    public static boolean isChoseong(char c) {
+        return CHOSEONG.indexOf(c) >= 0;
+    }
+
+    // 완성형 글자의 초성 (한글이 아니면 그대로 반환)
+    public static char choseongOf(char c) {
+        if (!isSyllable(c)) return c;
+        return CHOSEONG.charAt((c - SYLLABLE_START) / SYLLABLES_PER_CHOSEONG);
+    }
+
+    // 문자열의 초성 (예: 포피팝업 -> ㅍㅍㅍㅇ)
+    public static String toChoseong(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) sb.append(choseongOf(text.charAt(i)));
+        return sb.toString();
+    }
+}
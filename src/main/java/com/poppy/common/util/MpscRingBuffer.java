@@ -0,0 +1,72 @@
+package com.poppy.common.util;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/*
+ * 고정 크기 락프리 링 버퍼 (여러 생산자, 단일 소비자)
+ *
+ * - 칸마다 시퀀스 번호를 두고 생산자는 CAS로 쓸 위치만 확보한 뒤 값을 쓰고 시퀀스로 공개
+ * - 가득 차면 기다리지 않고 offer가 false를 반환 (요청 스레드가 막히지 않도록 버리는 쪽을 선택)
+ * - drainTo는 한 스레드에서만 호출해야 함
+ */
+public class MpscRingBuffer<E> {
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();   // 다음에 쓸 위치 (생산자 공유)
+    private long head;                                  // 다음에 읽을 위치 (소비자 전용)
+
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1)
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) sequences.set(i, i);
+    }
+
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.set(index, element);
+                    sequences.set(index, position + 1);    // 소비자에게 공개
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                return false;   // 한 바퀴 전 값을 아직 소비하지 않음 (가득 참)
+            } else {
+                position = tail.get();  // 다른 생산자가 먼저 가져감
+            }
+        }
+    }
+
+    // 공개된 값을 최대 maxElements개까지 꺼냄 (쓰는 중인 칸을 만나면 거기서 멈춤)
+    public int drainTo(Collection<? super E> sink, int maxElements) {
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) break;
+
+            sink.add(elements.get(index));
+            elements.set(index, null);
+            sequences.set(index, head + mask + 1);     // 다음 바퀴 생산자에게 반환
+            head++;
+            drained++;
+        }
+        return drained;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -24,6 +24,15 @@ public class NotificationController {
         );
     }
 
+    @GetMapping("/notifications/unread-count")
+    public RspTemplate<Long> getUnreadCount(@PathVariable Long id) {
+        return new RspTemplate<>(
+                HttpStatus.OK,
+                "읽지 않은 알림 개수 조회 성공",
+                notificationService.getUnreadCount(id)
+        );
+    }
+
     @PatchMapping("/notification/{notificationId}")
     public RspTemplate<?> markAsRead(@PathVariable Long id, @PathVariable Long notificationId) {
         notificationService.markAsRead(notificationId);
@@ -0,0 +1,38 @@
+package com.poppy.domain.notification.controller;
+
+import com.poppy.domain.notification.entity.PresenceState;
+import com.poppy.domain.notification.service.UserPresenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+// 클라이언트가 STOMP로 보내는 접속 상태 메시지 처리 (/app/presence/**)
+@Controller
+@RequiredArgsConstructor
+public class PresenceController {
+    private final UserPresenceService presenceService;
+
+    // 30초 주기 하트비트
+    @MessageMapping("/presence/heartbeat")
+    public void heartbeat(Principal principal, SimpMessageHeaderAccessor accessor) {
+        if (principal == null) return;
+        presenceService.heartbeat(Long.valueOf(principal.getName()), accessor.getSessionId());
+    }
+
+    // 앱이 포그라운드로 전환됨
+    @MessageMapping("/presence/foreground")
+    public void foreground(Principal principal, SimpMessageHeaderAccessor accessor) {
+        if (principal == null) return;
+        presenceService.updateState(Long.valueOf(principal.getName()), accessor.getSessionId(), PresenceState.ONLINE);
+    }
+
+    // 앱이 백그라운드로 전환됨 (이후 알림은 FCM으로 발송)
+    @MessageMapping("/presence/background")
+    public void background(Principal principal, SimpMessageHeaderAccessor accessor) {
+        if (principal == null) return;
+        presenceService.updateState(Long.valueOf(principal.getName()), accessor.getSessionId(), PresenceState.BACKGROUND);
+    }
+}
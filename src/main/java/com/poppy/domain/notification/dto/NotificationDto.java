@@ -17,6 +17,7 @@ import lombok.experimental.SuperBuilder;
         @JsonSubTypes.Type(value = NoticeNotificationDto.class, name = "NOTICE")
 })
 public abstract class NotificationDto {
+    private Long id;
     private String message;
     private NotificationType type;
     private Long userId;
@@ -0,0 +1,54 @@
+package com.poppy.domain.notification.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.poppy.domain.notification.entity.Notification;
+import com.poppy.domain.notification.entity.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Redis 알림함에 저장되는 압축된 알림 항목
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class NotificationInboxEntry {
+    private Long id;
+    private NotificationType type;
+    private String message;
+    private Long popupStoreId;
+    private String popupStoreName;
+    private Integer waitingNumber;
+    private Integer peopleAhead;
+    private boolean read;
+    private LocalDateTime createTime;
+
+    public static NotificationInboxEntry from(Notification notification) {
+        return NotificationInboxEntry.builder()
+                .id(notification.getId())
+                .type(notification.getType())
+                .message(notification.getMessage())
+                .popupStoreId(notification.getPopupStore() != null ? notification.getPopupStore().getId() : null)
+                .popupStoreName(notification.getPopupStore() != null ? notification.getPopupStore().getName() : null)
+                .waitingNumber(notification.getWaitingNumber())
+                .peopleAhead(notification.getPeopleAhead())
+                .read(notification.isRead())
+                .createTime(notification.getCreateTime())
+                .build();
+    }
+
+    public NotificationInboxEntry markAsRead() {
+        return this.toBuilder().read(true).build();
+    }
+
+    // 알림 유형에 맞는 응답 DTO로 변환
+    public NotificationDto toDto(Long userId) {
+        if (type == NotificationType.RESERVATION_CHECK || type == NotificationType.RESERVATION_CANCEL)
+            return ReservationNotificationDto.from(this, userId);
+        return WaitingNotificationDto.from(this, userId);
+    }
+}
@@ -49,4 +49,19 @@ public class ReservationNotificationDto extends NotificationDto {
                 .noticeTime(LocalTime.now())
                 .build();
     }
+
+    // Redis 알림함 조회 시 사용
+    public static ReservationNotificationDto from(NotificationInboxEntry entry, Long userId) {
+        return ReservationNotificationDto.builder()
+                .id(entry.getId())
+                .message(entry.getMessage())
+                .type(entry.getType())
+                .userId(userId)
+                .popupStoreId(entry.getPopupStoreId())
+                .popupStoreName(entry.getPopupStoreName())
+                .isRead(entry.isRead())
+                .noticeDate(entry.getCreateTime() != null ? entry.getCreateTime().toLocalDate() : null)
+                .noticeTime(entry.getCreateTime() != null ? entry.getCreateTime().toLocalTime() : null)
+                .build();
+    }
 }
@@ -56,4 +56,21 @@ public class WaitingNotificationDto extends NotificationDto {
                 .noticeTime(LocalTime.now())
                 .build();
     }
-}
\ No newline at end of file
+
+    // Redis 알림함 조회 시 사용
+    public static WaitingNotificationDto from(NotificationInboxEntry entry, Long userId) {
+        return WaitingNotificationDto.builder()
+                .id(entry.getId())
+                .message(entry.getMessage())
+                .type(entry.getType())
+                .userId(userId)
+                .popupStoreId(entry.getPopupStoreId())
+                .popupStoreName(entry.getPopupStoreName())
+                .waitingNumber(entry.getWaitingNumber())
+                .peopleAhead(entry.getPeopleAhead())
+                .isRead(entry.isRead())
+                .noticeDate(entry.getCreateTime() != null ? entry.getCreateTime().toLocalDate() : null)
+                .noticeTime(entry.getCreateTime() != null ? entry.getCreateTime().toLocalTime() : null)
+                .build();
+    }
+}
@@ -9,7 +9,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_store_type", columnList = "user_id, popup_store_id, type")   // 오픈 알림 중복 저장 확인
+})
 @Getter
 @NoArgsConstructor
 public class Notification extends BaseTimeEntity {
@@ -0,0 +1,15 @@
+package com.poppy.domain.notification.entity;
+
+public enum NotificationChannel {
+    WEBSOCKET,
+    FCM,
+    BOTH;
+
+    public boolean usesWebSocket() {
+        return this == WEBSOCKET || this == BOTH;
+    }
+
+    public boolean usesFcm() {
+        return this == FCM || this == BOTH;
+    }
+}
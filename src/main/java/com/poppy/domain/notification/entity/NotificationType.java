@@ -9,6 +9,7 @@ public enum NotificationType {
     RESERVATION_CANCEL("예약 취소 알림"),
     NOTICE("공지사항"),
     REMIND_24H("예약 24시간 전 알림"), // 예약 24시간 전 알림
+    REMIND_1H("예약 1시간 전 알림"),   // 예약 1시간 전 알림
     SCRAPED_STORE_OPENING("스크랩한 스토어 오픈");
 
     private final String description;
@@ -0,0 +1,7 @@
+package com.poppy.domain.notification.entity;
+
+public enum PresenceState {
+    ONLINE,         // 앱 화면을 보고 있는 상태 (웹소켓 연결 + 포그라운드)
+    BACKGROUND,     // 웹소켓은 연결되어 있지만 앱이 백그라운드에 있는 상태
+    OFFLINE         // 연결된 세션이 없는 상태
+}
@@ -0,0 +1,46 @@
+package com.poppy.domain.notification.repository;
+
+import com.poppy.domain.notification.entity.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 같은 내용의 알림을 여러 유저에게 저장할 때 엔티티를 만들지 않고 JDBC 배치로 INSERT
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+    // 같은 유저/스토어/유형의 알림이 이미 있으면 건너뜀 (작업 재시도 시 중복 저장 방지)
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO notifications (message, type, is_read, user_id, popup_store_id, is_fcm, create_time, update_time)
+            SELECT ?, ?, false, ?, ?, false, ?, ?
+            FROM DUAL
+            WHERE NOT EXISTS (
+                SELECT 1 FROM notifications n
+                WHERE n.user_id = ? AND n.popup_store_id = ? AND n.type = ?
+            )
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 스토어당 한 번만 발생하는 알림(오픈 알림 등) 전용
+    public void batchInsertIfAbsent(List<Long> userIds, NotificationType type, String message, Long popupStoreId) {
+        if (userIds.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, userIds, userIds.size(), (ps, userId) -> {
+            ps.setString(1, message);
+            ps.setString(2, type.name());
+            ps.setLong(3, userId);
+            ps.setLong(4, popupStoreId);
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+            ps.setLong(7, userId);
+            ps.setLong(8, popupStoreId);
+            ps.setString(9, type.name());
+        });
+    }
+}
@@ -3,9 +3,11 @@ package com.poppy.domain.notification.repository;
 import com.poppy.domain.notification.entity.Notification;
 import com.poppy.domain.notification.entity.NotificationType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -17,18 +19,53 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
             NotificationType type
     );
 
-    // 유저별 알림 개수를 초과하는 알림만 조회
+    // 읽지 않은 활동 알림 개수 (알림함 백필 시 카운터 초기화용)
+    long countByUserIdAndIsFcmFalseAndTypeNotAndIsReadFalse(Long userId, NotificationType type);
+
+    // 알림 읽음 처리 (엔티티 조회 없이 단건 UPDATE, 이미 읽은 알림이면 0)
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :id AND n.user.id = :userId AND n.isRead = false")
+    int markAsRead(@Param("id") Long id, @Param("userId") Long userId);
+
+    // 알림 삭제 (엔티티 조회 없이 단건 DELETE)
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id = :id AND n.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    // 다음 청크의 마지막 user_id 조회 (알림이 있는 유저 기준 keyset)
+    @Query(value = """
+    SELECT MAX(chunk.user_id)
+    FROM (
+        SELECT DISTINCT n.user_id
+        FROM notifications n
+        WHERE n.user_id > :cursor
+        ORDER BY n.user_id
+        LIMIT :chunkSize
+    ) chunk
+""", nativeQuery = true)
+    Long findUserIdChunkUpperBound(@Param("cursor") Long cursor, @Param("chunkSize") int chunkSize);
+
+    // 유저 범위 내에서 유저별 최신 limit개를 초과하는 알림을 최대 batchSize개 삭제
+    @Modifying
+    @Transactional
     @Query(value = """
-    SELECT n.*
+    DELETE n
     FROM notifications n
-    WHERE n.user_id = :userId
-    AND n.id NOT IN (
-        SELECT n2.id
-        FROM notifications n2
-        WHERE n2.user_id = :userId
-        ORDER BY n2.create_time DESC
-        LIMIT :limit
-    )
+    JOIN (
+        SELECT ranked.id
+        FROM (
+            SELECT n2.id,
+                   ROW_NUMBER() OVER (PARTITION BY n2.user_id ORDER BY n2.create_time DESC, n2.id DESC) AS rn
+            FROM notifications n2
+            WHERE n2.user_id > :fromUserId
+            AND n2.user_id <= :toUserId
+        ) ranked
+        WHERE ranked.rn > :limit
+        LIMIT :batchSize
+    ) expired ON n.id = expired.id
 """, nativeQuery = true)
-    List<Notification> findNotificationsExceedingLimit(@Param("userId") Long userId, @Param("limit") int limit);
-}
\ No newline at end of file
+    int deleteExceedingLimitInUserRange(@Param("fromUserId") Long fromUserId,
+                                        @Param("toUserId") Long toUserId,
+                                        @Param("limit") int limit,
+                                        @Param("batchSize") int batchSize);
+}
@@ -0,0 +1,127 @@
+package com.poppy.domain.notification.service;
+
+import com.google.firebase.messaging.*;
+import com.poppy.domain.user.entity.User;
+import com.poppy.domain.user.service.DeviceTokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// FCM 발송 (유저의 모든 기기로 한 번에 발송하고 만료된 토큰은 정리)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FcmSender {
+    private static final int MULTICAST_LIMIT = 500;   // FCM 멀티캐스트 최대 토큰 수
+    private static final int TOPIC_MANAGEMENT_LIMIT = 1000;  // 토픽 구독/해제 한 번에 처리 가능한 최대 토큰 수
+
+    private final FirebaseMessaging firebaseMessaging;
+    private final DeviceTokenService deviceTokenService;
+
+    public void send(User user, String title, String body, Map<String, String> data) {
+        send(deviceTokenService.getTokens(user), title, body, data);
+    }
+
+    public void send(List<String> tokens, String title, String body, Map<String, String> data) {
+        if (tokens.isEmpty()) return;
+
+        com.google.firebase.messaging.Notification notification = com.google.firebase.messaging.Notification.builder()
+                .setTitle(title)
+                .setBody(body)
+                .build();
+
+        for (int from = 0; from < tokens.size(); from += MULTICAST_LIMIT) {
+            List<String> chunk = tokens.subList(from, Math.min(from + MULTICAST_LIMIT, tokens.size()));
+
+            MulticastMessage message = MulticastMessage.builder()
+                    .addAllTokens(chunk)
+                    .setNotification(notification)
+                    .putAllData(data)
+                    .build();
+
+            try {
+                BatchResponse response = firebaseMessaging.sendEachForMulticast(message);
+                log.info("FCM sent - type: {}, success: {}, failure: {}",
+                        data.get("type"), response.getSuccessCount(), response.getFailureCount());
+                pruneDeadTokens(chunk, response);
+            } catch (FirebaseMessagingException e) {
+                log.error("Failed to send FCM notification", e);
+            }
+        }
+    }
+
+    // 토픽 구독자 전체에게 한 번에 발송 (구독자 수와 관계없이 요청 1번)
+    public void sendToTopic(String topic, String title, String body, Map<String, String> data) {
+        Message message = Message.builder()
+                .setTopic(topic)
+                .setNotification(com.google.firebase.messaging.Notification.builder()
+                        .setTitle(title)
+                        .setBody(body)
+                        .build())
+                .putAllData(data)
+                .build();
+
+        try {
+            firebaseMessaging.send(message);
+            log.info("FCM topic sent - type: {}, topic: {}", data.get("type"), topic);
+        } catch (FirebaseMessagingException e) {
+            log.error("Failed to send FCM topic notification - topic: {}", topic, e);
+        }
+    }
+
+    public void subscribe(List<String> tokens, String topic) {
+        manageTopic(tokens, topic, true);
+    }
+
+    public void unsubscribe(List<String> tokens, String topic) {
+        manageTopic(tokens, topic, false);
+    }
+
+    private void manageTopic(List<String> tokens, String topic, boolean subscribe) {
+        for (int from = 0; from < tokens.size(); from += TOPIC_MANAGEMENT_LIMIT) {
+            List<String> chunk = tokens.subList(from, Math.min(from + TOPIC_MANAGEMENT_LIMIT, tokens.size()));
+
+            try {
+                TopicManagementResponse response = subscribe
+                        ? firebaseMessaging.subscribeToTopic(chunk, topic)
+                        : firebaseMessaging.unsubscribeFromTopic(chunk, topic);
+                if (response.getFailureCount() > 0)
+                    log.warn("FCM topic {} partially failed - topic: {}, failure: {}",
+                            subscribe ? "subscribe" : "unsubscribe", topic, response.getFailureCount());
+            } catch (FirebaseMessagingException e) {
+                log.error("Failed to {} FCM topic - topic: {}", subscribe ? "subscribe" : "unsubscribe", topic, e);
+            }
+        }
+    }
+
+    // 응답 순서는 요청한 토큰 순서와 같음
+    private void pruneDeadTokens(List<String> tokens, BatchResponse response) {
+        if (response.getFailureCount() == 0) return;
+
+        List<SendResponse> responses = response.getResponses();
+        List<String> deadTokens = new ArrayList<>();
+        for (int i = 0; i < responses.size(); i++) {
+            SendResponse sendResponse = responses.get(i);
+            if (!sendResponse.isSuccessful() && isDeadToken(sendResponse.getException()))
+                deadTokens.add(tokens.get(i));
+        }
+
+        if (deadTokens.isEmpty()) return;
+
+        try {
+            deviceTokenService.prune(deadTokens);
+        } catch (Exception e) {
+            log.warn("Failed to prune dead FCM tokens: {}", e.getMessage());
+        }
+    }
+
+    private boolean isDeadToken(FirebaseMessagingException e) {
+        if (e == null) return false;
+        MessagingErrorCode errorCode = e.getMessagingErrorCode();
+        return errorCode == MessagingErrorCode.UNREGISTERED || errorCode == MessagingErrorCode.INVALID_ARGUMENT;
+    }
+}
@@ -1,32 +1,55 @@
 package com.poppy.domain.notification.service;
 
 import com.poppy.common.config.redis.DistributedLockService;
-import com.poppy.domain.notification.entity.Notification;
 import com.poppy.domain.notification.repository.NotificationRepository;
-import com.poppy.domain.user.entity.User;
-import com.poppy.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationCleanupScheduler {
     private static final String CLEANUP_SCHEDULE = "0 0 0 * * *"; // 매일 자정에 실행
+    private static final String RESUME_SCHEDULE = "0 */10 * * * *"; // 중단된 정리 작업은 10분마다 이어서 실행
     private static final int MAX_NOTIFICATIONS = 30; // 유저당 보관할 최대 알림 개수
+    private static final int USER_CHUNK_SIZE = 500; // 한 번에 처리할 유저 범위
+    private static final int DELETE_BATCH_SIZE = 1000; // DELETE 한 번에 삭제할 최대 행 수 (트랜잭션 단위)
+    private static final long TIME_BUDGET_MILLIS = 240_000L; // 락 점유 시간(300초) 안에 끝내도록 240초 후 중단
+    private static final String CURSOR_KEY = "notification:cleanup:cursor"; // 마지막으로 완료한 user_id
 
     private final NotificationRepository notificationRepository;
-    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
     private final DistributedLockService lockService;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong progressCursor = new AtomicLong();
+
+    @PostConstruct
+    public void registerMetrics() {
+        meterRegistry.gauge("notification.cleanup.cursor", progressCursor);
+    }
 
     @Scheduled(cron = CLEANUP_SCHEDULE)
-    @Transactional
     public void cleanupOldNotifications() {
+        runCleanup();
+    }
+
+    @Scheduled(cron = RESUME_SCHEDULE)
+    public void resumeInterruptedCleanup() {
+        // 진행 중인 커서가 없으면 이어서 할 작업이 없음
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(CURSOR_KEY))) return;
+        runCleanup();
+    }
+
+    private void runCleanup() {
         // 10초 동안 락 획득 시도, 성공하면 5분 동안 락 유지
         if (!lockService.tryLock(DistributedLockService.NOTIFICATION_CLEANUP_LOCK, 10L, 300L)) {
             log.debug("Failed to acquire notification cleanup lock. Skipping this execution.");
@@ -34,24 +57,55 @@ public class NotificationCleanupScheduler {
         }
 
         try {
-            List<User> users = userRepository.findAll();
+            long deadline = System.currentTimeMillis() + TIME_BUDGET_MILLIS;
+            long cursor = loadCursor();
             int deletedCount = 0;
+            saveCursor(cursor);
 
-            for (User user : users) {
-                Long userId = user.getId();
-                List<Notification> notificationsToDelete = notificationRepository.findNotificationsExceedingLimit(userId, MAX_NOTIFICATIONS);
+            while (System.currentTimeMillis() < deadline) {
+                Long upperUserId = notificationRepository.findUserIdChunkUpperBound(cursor, USER_CHUNK_SIZE);
 
-                if (!notificationsToDelete.isEmpty()) {
-                    notificationRepository.deleteAll(notificationsToDelete);
-                    deletedCount += notificationsToDelete.size();
+                // 더 이상 처리할 유저가 없으면 완료
+                if (upperUserId == null) {
+                    redisTemplate.delete(CURSOR_KEY);
+                    log.info("Old notifications cleanup completed. Deleted {} notifications", deletedCount);
+                    return;
                 }
+
+                // 범위 내 초과 알림을 배치 단위로 삭제 (배치마다 짧은 트랜잭션)
+                int batchDeleted;
+                do {
+                    batchDeleted = notificationRepository.deleteExceedingLimitInUserRange(
+                            cursor, upperUserId, MAX_NOTIFICATIONS, DELETE_BATCH_SIZE);
+                    deletedCount += batchDeleted;
+                    meterRegistry.counter("notification.cleanup.deleted").increment(batchDeleted);
+                    meterRegistry.counter("notification.cleanup.batches").increment();
+                } while (batchDeleted == DELETE_BATCH_SIZE && System.currentTimeMillis() < deadline);
+
+                // 범위를 다 지우지 못했으면 커서를 유지하고 다음 실행에서 같은 범위부터 재개
+                if (batchDeleted == DELETE_BATCH_SIZE) break;
+
+                cursor = upperUserId;
+                saveCursor(cursor);
             }
 
-            log.info("Old notifications cleanup completed. Deleted {} notifications", deletedCount);
+            log.info("Notification cleanup paused at userId {}. Deleted {} notifications, will resume later",
+                    cursor, deletedCount);
         } catch (Exception e) {
             log.error("Failed to cleanup old notifications: {}", e.getMessage(), e);
         } finally {
             lockService.unlock(DistributedLockService.NOTIFICATION_CLEANUP_LOCK);
         }
     }
-}
\ No newline at end of file
+
+    private long loadCursor() {
+        String cursor = redisTemplate.opsForValue().get(CURSOR_KEY);
+        return cursor != null ? Long.parseLong(cursor) : 0L;
+    }
+
+    // 서버가 중간에 종료되어도 다음 실행에서 이어서 처리할 수 있도록 진행 위치 저장
+    private void saveCursor(long cursor) {
+        redisTemplate.opsForValue().set(CURSOR_KEY, String.valueOf(cursor), 1, TimeUnit.DAYS);
+        progressCursor.set(cursor);
+    }
+}
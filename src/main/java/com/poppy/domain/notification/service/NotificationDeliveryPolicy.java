@@ -0,0 +1,56 @@
+package com.poppy.domain.notification.service;
+
+import com.poppy.domain.notification.entity.NotificationChannel;
+import com.poppy.domain.notification.entity.NotificationType;
+import com.poppy.domain.notification.entity.PresenceState;
+import com.poppy.domain.user.entity.User;
+import com.poppy.domain.user.service.DeviceTokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationDeliveryPolicy {
+    private final UserPresenceService presenceService;
+    private final DeviceTokenService deviceTokenService;
+
+    // 접속 상태와 관계없이 발송 채널을 고정하는 알림 유형
+    private static final Map<NotificationType, NotificationChannel> TYPE_OVERRIDES = new EnumMap<>(NotificationType.class);
+
+    static {
+        TYPE_OVERRIDES.put(NotificationType.WAITING_CALL, NotificationChannel.BOTH);   // 입장 호출은 놓치면 안 되므로 양쪽 모두 발송
+    }
+
+    // 접속 중인 사용자는 웹소켓, 오프라인/백그라운드 사용자는 FCM으로 발송
+    public NotificationChannel resolve(User user, NotificationType type) {
+        NotificationChannel override = TYPE_OVERRIDES.get(type);
+        if (override != null) return fallbackIfNoFcmToken(override, user);
+
+        PresenceState presence;
+        try {
+            presence = presenceService.getPresence(user.getId());
+        } catch (Exception e) {
+            // 접속 상태를 알 수 없으면 기존처럼 양쪽 모두 발송
+            log.warn("Failed to resolve presence for user {}: {}", user.getId(), e.getMessage());
+            return fallbackIfNoFcmToken(NotificationChannel.BOTH, user);
+        }
+
+        NotificationChannel channel = presence == PresenceState.ONLINE
+                ? NotificationChannel.WEBSOCKET
+                : NotificationChannel.FCM;
+
+        return fallbackIfNoFcmToken(channel, user);
+    }
+
+    // 발송할 기기 토큰이 없으면 웹소켓으로 대체 (대표 토큰 컬럼이 아니라 기기 레지스트리 기준)
+    private NotificationChannel fallbackIfNoFcmToken(NotificationChannel channel, User user) {
+        if (channel.usesFcm() && deviceTokenService.getTokens(user).isEmpty())
+            return NotificationChannel.WEBSOCKET;
+        return channel;
+    }
+}
@@ -0,0 +1,301 @@
+package com.poppy.domain.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poppy.domain.notification.dto.NotificationInboxEntry;
+import com.poppy.domain.notification.entity.Notification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 유저별 최신 알림 30개를 Redis 리스트로 유지하는 write-through 알림함 (MySQL은 영구 저장 및 백필 용도)
+ *
+ * - 읽지 않은 알림 수는 30개 밖의 알림까지 포함해 별도 카운터로 유지 (백필 시 DB 개수로 초기화)
+ * - 백필은 DB 조회 전에 로딩 토큰을 남기고, 조회 중 알림 추가/읽음/삭제가 있으면 토큰을 지워 이전 스냅샷으로 덮어쓰지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationInboxService {
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private static final String INBOX_KEY_PREFIX = "notification:inbox:";
+    private static final String LOADED_KEY_PREFIX = "notification:inbox:loaded:";  // 백필 완료 여부 (빈 알림함 구분용)
+    private static final String LOADING_KEY_PREFIX = "notification:inbox:loading:";    // 백필 중인 조회의 토큰
+    private static final String UNREAD_KEY_PREFIX = "notification:inbox:unread:";
+    public static final int INBOX_SIZE = 30;
+    private static final long INBOX_TTL_DAYS = 7L;
+    private static final long LOADING_TTL_SECONDS = 30L;
+
+    // KEYS[1]: 알림함, KEYS[2]: 백필 완료, KEYS[3]: 로딩 토큰, KEYS[4]: 읽지 않은 수 / ARGV[1]: 알림, ARGV[2]: 최대 개수
+    // 백필된 알림함에만 추가 (백필 전이면 일부만 담긴 리스트가 생기지 않도록 무시하고, 진행 중인 백필은 무효화)
+    private static final DefaultRedisScript<Long> PUSH_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                redis.call('DEL', KEYS[3])
+                return 0
+            end
+            local ttl = redis.call('TTL', KEYS[2])
+            redis.call('LPUSH', KEYS[1], ARGV[1])
+            redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1)
+            redis.call('EXPIRE', KEYS[1], ttl)
+            redis.call('INCR', KEYS[4])
+            redis.call('EXPIRE', KEYS[4], ttl)
+            return 1
+            """, Long.class);
+
+    // KEYS: PUSH_SCRIPT와 같음 / ARGV[1]: 로딩 토큰, ARGV[2]: TTL(초), ARGV[3]: 읽지 않은 수, ARGV[4..]: 알림
+    // DB 조회 이후 토큰이 바뀌었으면(그 사이 변경 발생) 백필하지 않음
+    private static final DefaultRedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[3]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1], KEYS[3])
+            if #ARGV > 3 then
+                redis.call('RPUSH', KEYS[1], unpack(ARGV, 4))
+                redis.call('EXPIRE', KEYS[1], ARGV[2])
+            end
+            redis.call('SET', KEYS[4], ARGV[3], 'EX', ARGV[2])
+            redis.call('SET', KEYS[2], '1', 'EX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    // KEYS[1]: 읽지 않은 수, KEYS[2]: 로딩 토큰 (진행 중인 백필은 무효화하고 카운터가 있을 때만 감소)
+    private static final DefaultRedisScript<Long> DECREMENT_UNREAD_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[2])
+            local count = tonumber(redis.call('GET', KEYS[1]))
+            if count and count > 0 then
+                return redis.call('DECR', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    // 값 기준으로 위치를 찾아 교체 (그 사이 새 알림이 추가되어 인덱스가 밀려도 안전)
+    private static final DefaultRedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+            local index = redis.call('LPOS', KEYS[1], ARGV[1])
+            if not index then
+                return 0
+            end
+            redis.call('LSET', KEYS[1], index, ARGV[2])
+            return 1
+            """, Long.class);
+
+    // 알림함 조회 (백필되지 않았으면 empty)
+    public Optional<List<NotificationInboxEntry>> getInbox(Long userId) {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(generateLoadedKey(userId)))) return Optional.empty();
+
+        List<String> values = redisTemplate.opsForList().range(generateKey(userId), 0, INBOX_SIZE - 1);
+        if (values == null) return Optional.empty();
+
+        List<NotificationInboxEntry> entries = new ArrayList<>(values.size());
+        for (String value : values) {
+            NotificationInboxEntry entry = deserialize(value);
+            if (entry != null) entries.add(entry);
+        }
+        return Optional.of(entries);
+    }
+
+    // 읽지 않은 알림 수 조회 (백필되지 않았으면 empty)
+    public Optional<Long> getUnreadCount(Long userId) {
+        String value = redisTemplate.opsForValue().get(generateUnreadKey(userId));
+        return value == null ? Optional.empty() : Optional.of(Long.parseLong(value));
+    }
+
+    // DB 조회 직전에 호출해 로딩 토큰 발급 (Redis 실패 시 null, 이 경우 백필하지 않음)
+    public String beginLoad(Long userId) {
+        String token = UUID.randomUUID().toString();
+        try {
+            redisTemplate.opsForValue().set(generateLoadingKey(userId), token, LOADING_TTL_SECONDS, TimeUnit.SECONDS);
+            return token;
+        } catch (Exception e) {
+            log.warn("Failed to begin notification inbox load for user {}: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    // DB 조회 결과로 알림함 백필 (조회 중 변경이 있었으면 다음 조회 때 다시 백필)
+    public void fill(Long userId, String token, List<NotificationInboxEntry> entries, long unreadCount) {
+        if (token == null) return;
+
+        try {
+            List<String> args = new ArrayList<>(entries.size() + 3);
+            args.add(token);
+            args.add(String.valueOf(TimeUnit.DAYS.toSeconds(INBOX_TTL_DAYS)));
+            args.add(String.valueOf(unreadCount));
+            for (NotificationInboxEntry entry : entries) args.add(serialize(entry));
+
+            redisTemplate.execute(FILL_SCRIPT, generateKeys(userId), args.toArray());
+        } catch (Exception e) {
+            log.warn("Failed to fill notification inbox for user {}: {}", userId, e.getMessage());
+            evict(userId);
+        }
+    }
+
+    // 새 알림 저장 후 알림함 맨 앞에 추가 (커밋 이후 반영)
+    public void push(Notification notification) {
+        if (notification == null || notification.getUser() == null) return;
+
+        Long userId = notification.getUser().getId();
+        String value = serialize(NotificationInboxEntry.from(notification));
+
+        runAfterCommit(userId, () -> redisTemplate.execute(
+                PUSH_SCRIPT,
+                generateKeys(userId),
+                value,
+                String.valueOf(INBOX_SIZE)
+        ));
+    }
+
+    public Optional<NotificationInboxEntry> find(Long userId, Long notificationId) {
+        String raw = findRaw(userId, notificationId);
+        return raw == null ? Optional.empty() : Optional.ofNullable(deserialize(raw));
+    }
+
+    public boolean contains(Long userId, Long notificationId) {
+        return findRaw(userId, notificationId) != null;
+    }
+
+    // DB에서 읽지 않음 -> 읽음으로 바뀐 알림만 호출 (알림함 밖의 알림이어도 카운터는 감소)
+    public void markAsRead(Long userId, Long notificationId) {
+        runAfterCommit(userId, () -> {
+            decrementUnread(userId);
+
+            String raw = findRaw(userId, notificationId);
+            if (raw == null) return;
+
+            NotificationInboxEntry entry = deserialize(raw);
+            if (entry == null || entry.isRead()) return;
+
+            redisTemplate.execute(REPLACE_SCRIPT, List.of(generateKey(userId)), raw, serialize(entry.markAsRead()));
+        });
+    }
+
+    // DB에서 삭제된 알림만 호출 (읽지 않은 알림이었으면 카운터 감소)
+    public void remove(Long userId, Long notificationId, boolean unread) {
+        runAfterCommit(userId, () -> {
+            if (unread) {
+                decrementUnread(userId);
+            } else {
+                redisTemplate.delete(generateLoadingKey(userId));
+            }
+
+            String raw = findRaw(userId, notificationId);
+            if (raw != null) redisTemplate.opsForList().remove(generateKey(userId), 1, raw);
+        });
+    }
+
+    // 캐시를 비워 다음 조회 시 DB에서 다시 백필 (진행 중인 백필도 무효화)
+    public void evict(Long userId) {
+        try {
+            redisTemplate.delete(generateKeys(userId));
+        } catch (Exception e) {
+            log.warn("Failed to evict notification inbox for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    // 여러 유저의 알림함 비우기 (커밋 전에 비우면 그 사이 백필이 커밋 전 DB를 다시 담을 수 있으므로 커밋 이후 실행)
+    public void evict(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return;
+
+        List<String> keys = new ArrayList<>(userIds.size() * 4);
+        for (Long userId : userIds) keys.addAll(generateKeys(userId));
+
+        afterCommit(() -> {
+            try {
+                redisTemplate.delete(keys);
+            } catch (Exception e) {
+                log.warn("Failed to evict {} notification inboxes: {}", userIds.size(), e.getMessage());
+            }
+        });
+    }
+
+    private void decrementUnread(Long userId) {
+        redisTemplate.execute(DECREMENT_UNREAD_SCRIPT, List.of(generateUnreadKey(userId), generateLoadingKey(userId)));
+    }
+
+    private String findRaw(Long userId, Long notificationId) {
+        List<String> values = redisTemplate.opsForList().range(generateKey(userId), 0, INBOX_SIZE - 1);
+        if (values == null) return null;
+
+        for (String value : values) {
+            NotificationInboxEntry entry = deserialize(value);
+            if (entry != null && notificationId.equals(entry.getId())) return value;
+        }
+        return null;
+    }
+
+    // 트랜잭션이 롤백되면 캐시에도 반영되지 않도록 커밋 이후 실행, Redis 실패 시 알림함을 비움
+    private void runAfterCommit(Long userId, Runnable task) {
+        afterCommit(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.warn("Failed to update notification inbox for user {}: {}", userId, e.getMessage());
+                evict(userId);
+            }
+        });
+    }
+
+    private void afterCommit(Runnable safeTask) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeTask.run();
+                }
+            });
+        } else {
+            safeTask.run();
+        }
+    }
+
+    private String serialize(NotificationInboxEntry entry) {
+        try {
+            return objectMapper.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림함 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private NotificationInboxEntry deserialize(String value) {
+        try {
+            return objectMapper.readValue(value, NotificationInboxEntry.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to deserialize notification inbox entry: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private String generateKey(Long userId) {
+        return INBOX_KEY_PREFIX + userId;
+    }
+
+    private String generateLoadedKey(Long userId) {
+        return LOADED_KEY_PREFIX + userId;
+    }
+
+    private String generateLoadingKey(Long userId) {
+        return LOADING_KEY_PREFIX + userId;
+    }
+
+    private String generateUnreadKey(Long userId) {
+        return UNREAD_KEY_PREFIX + userId;
+    }
+
+    // 알림함, 백필 완료, 로딩 토큰, 읽지 않은 수 순서
+    private List<String> generateKeys(Long userId) {
+        return List.of(generateKey(userId), generateLoadedKey(userId), generateLoadingKey(userId), generateUnreadKey(userId));
+    }
+}
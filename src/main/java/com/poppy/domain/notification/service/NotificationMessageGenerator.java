@@ -13,7 +13,7 @@ public class NotificationMessageGenerator {
             case WAITING_CANCEL -> "[대기 취소 알림]";
             case WAITING_TIMEOUT -> "[대기 시간 초과]";
             case NOTICE -> "[공지사항]";
-            case REMIND_24H -> "[예약 알림]";
+            case REMIND_24H, REMIND_1H -> "[예약 알림]";
             case SCRAPED_STORE_OPENING -> "[스토어 오픈]";
             default -> throw new IllegalArgumentException("Unknown notification.html type: " + type);
         };
@@ -27,6 +27,7 @@ public class NotificationMessageGenerator {
             case TEAMS_AHEAD -> String.format("현재 %d번째 순서\n대기번호 %d번", peopleAhead, waitingNumber);
             case WAITING_TIMEOUT -> String.format("%d번 대기가 시간 초과로 취소되었습니다", waitingNumber);
             case REMIND_24H -> "팝업스토어 예약 하루 전입니다. 방문 시간을 확인해주세요.";
+            case REMIND_1H -> "팝업스토어 예약 1시간 전입니다. 방문 시간을 확인해주세요.";
             case RESERVATION_CHECK, RESERVATION_CANCEL, NOTICE , SCRAPED_STORE_OPENING -> null;
         };
     }
@@ -43,6 +44,7 @@ public class NotificationMessageGenerator {
             }
             case WAITING_TIMEOUT -> String.format("%d번 대기\n호출 시간 초과로 자동 취소되었습니다.", waitingNumber);
             case REMIND_24H -> "예약 하루 전입니다. 방문 시간을 확인해주세요.";
+            case REMIND_1H -> "예약 1시간 전입니다. 방문 시간을 확인해주세요.";
             case RESERVATION_CHECK, RESERVATION_CANCEL, NOTICE, SCRAPED_STORE_OPENING -> null;
         };
     }
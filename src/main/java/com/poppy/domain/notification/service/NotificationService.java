@@ -1,31 +1,39 @@
 package com.poppy.domain.notification.service;
 
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
 import com.poppy.common.config.redis.NotificationPublisher;
 import com.poppy.common.exception.BusinessException;
 import com.poppy.common.exception.ErrorCode;
 import com.poppy.domain.notice.dto.NoticeRspDto;
 import com.poppy.domain.notification.dto.*;
 import com.poppy.domain.notification.entity.Notification;
+import com.poppy.domain.notification.entity.NotificationChannel;
 import com.poppy.domain.notification.entity.NotificationType;
+import com.poppy.domain.notification.repository.NotificationJdbcRepository;
 import com.poppy.domain.notification.repository.NotificationRepository;
+import com.poppy.domain.popupStore.entity.PopupStore;
 import com.poppy.domain.reservation.entity.Reservation;
 import com.poppy.domain.reservation.entity.ReservationStatus;
-import com.poppy.domain.scrap.entity.Scrap;
+import com.poppy.domain.scrap.service.StoreTopicSubscriptionService;
 import com.poppy.domain.user.entity.Role;
 import com.poppy.domain.user.entity.User;
 import com.poppy.domain.user.repository.LoginUserProvider;
 import com.poppy.domain.user.repository.UserRepository;
+import com.poppy.domain.user.service.DeviceTokenService;
 import com.poppy.domain.waiting.entity.Waiting;
+import com.poppy.domain.waiting.entity.WaitingStatus;
+import com.poppy.domain.waiting.repository.WaitingRepository;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -35,17 +43,62 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class NotificationService {
     private final NotificationRepository notificationRepository;
-    private final FirebaseMessaging firebaseMessaging;
+    private final FcmSender fcmSender;
+    private final DeviceTokenService deviceTokenService;
     private final NotificationMessageGenerator messageGenerator;
     private final NotificationPublisher notificationPublisher;
     private final LoginUserProvider loginUserProvider;
     private final UserRepository userRepository;
+    private final NotificationDeliveryPolicy deliveryPolicy;
+    private final NotificationInboxService inboxService;
+    private final TeamsAheadNotificationCoalescer teamsAheadCoalescer;
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final WaitingRepository waitingRepository;
 
     // 웨이팅 알림 전송
     @Transactional
     public void sendNotification(Waiting waiting, NotificationType type, Integer peopleAhead) {
+        // 대기 순서 알림은 잠시 모아서 마지막 순서만 발송 (앞 3팀 이하는 즉시 발송)
+        if (type == NotificationType.TEAMS_AHEAD) {
+            if (teamsAheadCoalescer.offer(waiting.getId(), peopleAhead)) return;
+        } else {
+            teamsAheadCoalescer.discard(waiting.getId());
+        }
+
+        deliverWaitingNotification(waiting, type, peopleAhead);
+    }
+
+    // 모아둔 대기 순서 알림 발송 (버퍼에 담은 노드와 다를 수 있으므로 대기 건은 DB에서 다시 조회)
+    @Scheduled(fixedDelay = 1000)
+    public void flushTeamsAheadNotifications() {
+        List<TeamsAheadNotificationCoalescer.PendingTeamsAhead> updates = teamsAheadCoalescer.drainDue();
+        if (updates.isEmpty()) return;
+
+        Map<Long, Waiting> waitings = waitingRepository.findAllWithUserAndStoreByIdIn(updates.stream()
+                        .map(TeamsAheadNotificationCoalescer.PendingTeamsAhead::getWaitingId)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Waiting::getId, waiting -> waiting));
+
+        for (TeamsAheadNotificationCoalescer.PendingTeamsAhead update : updates) {
+            Waiting waiting = waitings.get(update.getWaitingId());
+            if (waiting == null || waiting.getStatus() != WaitingStatus.WAITING) continue;   // 그 사이 호출/취소됨
+
+            try {
+                deliverWaitingNotification(waiting, NotificationType.TEAMS_AHEAD, update.getPeopleAhead());
+            } catch (Exception e) {
+                log.warn("Failed to send coalesced TEAMS_AHEAD notification for waiting {}: {}",
+                        update.getWaitingId(), e.getMessage());
+            }
+        }
+    }
+
+    private void deliverWaitingNotification(Waiting waiting, NotificationType type, Integer peopleAhead) {
         log.info("Sending notification.html to userId: {}", waiting.getUser());
 
+        // 접속 상태에 따라 발송 채널 결정
+        NotificationChannel channel = deliveryPolicy.resolve(waiting.getUser(), type);
+
         // FCM 알림 생성
         String fcmTitle = messageGenerator.generateFCMTitle(type, waiting.getPopupStore().getName());
         String fcmBody = messageGenerator.generateFCMBody(type, waiting.getWaitingNumber(), peopleAhead);
@@ -58,10 +111,10 @@ public class NotificationService {
                 true
         );
 
-        // FCM 알림 전송
-        if (waiting.getUser().getFcmToken() != null) {
+        // FCM 알림 전송 (등록된 기기가 없으면 발송 정책에서 웹소켓으로 대체됨)
+        if (channel.usesFcm()) {
             try {
-                sendFCMNotificationWithNewTransaction(waiting.getUser().getFcmToken(), fcmTitle, fcmNotification);
+                sendFCMNotificationWithNewTransaction(waiting.getUser(), fcmTitle, fcmNotification);
             } catch (Exception e) {
                 log.warn("Failed to send FCM notification for user {}: {}", waiting.getUser().getId(), e.getMessage());
             }
@@ -84,21 +137,22 @@ public class NotificationService {
                 false
         );
 
-        // WebSocket 알림 DB 저장
+        // WebSocket 알림 DB 저장 (활동 알림 목록용이므로 채널과 무관하게 저장)
         saveNotification(waiting, wsWaitingNotificationDto);
 
-        // Redis로 WebSocket 알림 발행
-        notificationPublisher.publish(wsWaitingNotificationDto);
+        // Redis로 WebSocket 알림 발행 (접속 중인 사용자에게만)
+        if (channel.usesWebSocket())
+            notificationPublisher.publish(wsWaitingNotificationDto);
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void sendFCMNotificationWithNewTransaction(String token, String title, WaitingNotificationDto dto) {
-        sendFCMNotification(token, title, dto);
+    public void sendFCMNotificationWithNewTransaction(User user, String title, WaitingNotificationDto dto) {
+        sendFCMNotification(user, title, dto);
     }
 
     // 웨이팅 DB 저장
     private void saveNotification(Waiting waiting, WaitingNotificationDto dto) {
-        notificationRepository.save(Notification.builder()
+        Notification notification = notificationRepository.save(Notification.builder()
                 .message(dto.getMessage())
                 .type(dto.getType())
                 .user(waiting.getUser())
@@ -107,6 +161,7 @@ public class NotificationService {
                 .peopleAhead(dto.getPeopleAhead())
                 .isFcm(false)
                 .build());
+        inboxService.push(notification);
     }
 
     // 예약 알림 전송
@@ -136,55 +191,46 @@ public class NotificationService {
 
     // 예약 알림 DB 저장
     private void saveNotification(Reservation reservation, ReservationNotificationDto dto, NotificationType type) {
-        notificationRepository.save(Notification.builder()
+        Notification notification = notificationRepository.save(Notification.builder()
                 .message(dto.getMessage())
                 .type(type)
                 .user(reservation.getUser())
                 .popupStore(reservation.getPopupStore())
                 .build());
+        inboxService.push(notification);
     }
 
+    // 예약 리마인드 알림 전송 (REMIND_24H, REMIND_1H)
     @Transactional
-    public void send24HNotification(Reservation reservation) {
-        log.info("Sending 24h before notification to userId: {}", reservation.getUser().getId());
+    public void sendReminderNotification(Reservation reservation, NotificationType type) {
+        log.info("Sending {} notification to userId: {}", type, reservation.getUser().getId());
 
         String storeName = reservation.getPopupStore().getName();
 
-        // FCM 알림 생성 및 전송
-        if (reservation.getUser().getFcmToken() != null) {
-            String fcmTitle = messageGenerator.generateFCMTitle(NotificationType.REMIND_24H, storeName);
-            String fcmBody = messageGenerator.generateFCMBody(NotificationType.REMIND_24H, null, null);
-
-            Message message = Message.builder()
-                    .setToken(reservation.getUser().getFcmToken())
-                    .setNotification(com.google.firebase.messaging.Notification.builder()
-                            .setTitle(fcmTitle)
-                            .setBody(fcmBody)
-                            .build())
-                    .putData("type", NotificationType.REMIND_24H.name())
-                    .putData("storeId", reservation.getPopupStore().getId().toString())
-                    .putData("reservationId", reservation.getId().toString())
-                    .putData("reservationTime", reservation.getTime().toString())
-                    .build();
-
-            try {
-                firebaseMessaging.send(message);
-                log.info("FCM 24h before notification sent - userId: {}", reservation.getUser().getId());
-            } catch (FirebaseMessagingException e) {
-                log.error("Failed to send FCM 24h before notification", e);
-            }
+        // FCM 알림 생성 및 전송 (등록된 기기가 있을 때만)
+        List<String> tokens = deviceTokenService.getTokens(reservation.getUser());
+        if (!tokens.isEmpty()) {
+            String fcmTitle = messageGenerator.generateFCMTitle(type, storeName);
+            String fcmBody = messageGenerator.generateFCMBody(type, null, null);
+
+            fcmSender.send(tokens, fcmTitle, fcmBody, Map.of(
+                    "type", type.name(),
+                    "storeId", reservation.getPopupStore().getId().toString(),
+                    "reservationId", reservation.getId().toString(),
+                    "reservationTime", reservation.getTime().toString()
+            ));
         }
 
         // WebSocket 알림 생성
         String wsMessage = messageGenerator.generateWebSocketMessage(
-                NotificationType.REMIND_24H,
+                type,
                 null,
                 null
         );
 
         ReservationNotificationDto wsNotificationDto = ReservationNotificationDto.from(
                 wsMessage,
-                NotificationType.REMIND_24H,
+                type,
                 reservation.getUser().getId(),
                 reservation.getPopupStore().getId(),
                 storeName,
@@ -192,74 +238,53 @@ public class NotificationService {
         );
 
         // WebSocket 알림 DB 저장
-        notificationRepository.save(Notification.builder()
+        Notification notification = notificationRepository.save(Notification.builder()
                 .message(wsMessage)
-                .type(NotificationType.REMIND_24H)
+                .type(type)
                 .user(reservation.getUser())
                 .popupStore(reservation.getPopupStore())
                 .isFcm(false)
                 .build());
+        inboxService.push(notification);
 
         // Redis로 WebSocket 알림 발행
         notificationPublisher.publish(wsNotificationDto);
     }
 
+    // 스크랩한 스토어 오픈 알림을 스크랩한 유저들의 알림함에 일괄 저장
     @Transactional
-    public void sendStoreOpeningNotification(Scrap scrap) {
-        log.info("Sending store opening notification to userId: {}", scrap.getUser().getId());
-
-        String storeName = scrap.getPopupStore().getName();
-
-        // FCM 알림 전송
-        if (scrap.getUser().getFcmToken() != null) {
-            String fcmTitle = messageGenerator.generateFCMTitle(NotificationType.SCRAPED_STORE_OPENING, storeName);
-            String fcmBody = messageGenerator.generateFCMBody(NotificationType.SCRAPED_STORE_OPENING, null, null);
-
-            Message message = Message.builder()
-                    .setToken(scrap.getUser().getFcmToken())
-                    .setNotification(com.google.firebase.messaging.Notification.builder()
-                            .setTitle(fcmTitle)
-                            .setBody(fcmBody)
-                            .build())
-                    .putData("type", NotificationType.SCRAPED_STORE_OPENING.name())
-                    .putData("storeId", scrap.getPopupStore().getId().toString())
-                    .build();
+    public void saveStoreOpeningNotifications(PopupStore store, List<Long> userIds) {
+        String wsMessage = messageGenerator.generateWebSocketMessage(NotificationType.SCRAPED_STORE_OPENING, store.getName());
+        notificationJdbcRepository.batchInsertIfAbsent(userIds, NotificationType.SCRAPED_STORE_OPENING, wsMessage, store.getId());
 
-            try {
-                firebaseMessaging.send(message);
-                log.info("FCM store opening notification sent - userId: {}", scrap.getUser().getId());
-            } catch (FirebaseMessagingException e) {
-                log.error("Failed to send FCM store opening notification", e);
-            }
-        }
+        // 엔티티 없이 저장했으므로 알림함 캐시는 커밋 이후 비우고 다음 조회 시 DB에서 백필
+        inboxService.evict(userIds);
+    }
 
-        // WebSocket 알림 생성
-        String wsMessage = messageGenerator.generateWebSocketMessage(
-                NotificationType.SCRAPED_STORE_OPENING,
-                null,
-                null
-        );
+    // 스크랩한 스토어 오픈 알림 발송 (구독자 수와 관계없이 FCM 토픽 1번, 스토어 토픽 WebSocket 1번)
+    public void sendStoreOpeningNotification(PopupStore store) {
+        log.info("Sending store opening notification - storeId: {}", store.getId());
+
+        String storeName = store.getName();
 
-        ScrapedStoreNotificationDto wsNotificationDto = ScrapedStoreNotificationDto.of(
+        // FCM 토픽 발송 (스크랩 시 store-{id} 토픽 구독)
+        String fcmTitle = messageGenerator.generateFCMTitle(NotificationType.SCRAPED_STORE_OPENING, storeName);
+        String fcmBody = messageGenerator.generateFCMBody(NotificationType.SCRAPED_STORE_OPENING, storeName);
+        fcmSender.sendToTopic(StoreTopicSubscriptionService.topicOf(store.getId()), fcmTitle, fcmBody, Map.of(
+                "type", NotificationType.SCRAPED_STORE_OPENING.name(),
+                "storeId", store.getId().toString()
+        ));
+
+        // 수신자 없이 발행하면 스토어 토픽으로 전달
+        String wsMessage = messageGenerator.generateWebSocketMessage(NotificationType.SCRAPED_STORE_OPENING, storeName);
+        notificationPublisher.publish(ScrapedStoreNotificationDto.of(
                 wsMessage,
                 NotificationType.SCRAPED_STORE_OPENING,
-                scrap.getUser().getId(),
-                scrap.getPopupStore().getId(),
+                null,
+                store.getId(),
                 storeName,
                 false
-        );
-
-        // WebSocket 알림 DB 저장
-        notificationRepository.save(Notification.builder()
-                .message(wsMessage)
-                .type(NotificationType.SCRAPED_STORE_OPENING)
-                .user(scrap.getUser())
-                .popupStore(scrap.getPopupStore())
-                .isFcm(false)
-                .build());
-
-        // Redis로 WebSocket 알림 발행
-        notificationPublisher.publish(wsNotificationDto);
+        ));
     }
 
     // 공지사항 알림 전송
@@ -297,12 +322,15 @@ public class NotificationService {
 
             // Redis로 WebSocket 알림 발행
             notificationPublisher.publish(notificationDto);
-
-            // FCM 알림 전송
-            if (user.getFcmToken() != null) {
-                sendNoticeFCM(user.getFcmToken(), String.format("[%s]", noticeCategory), noticeSubject);
-            }
         }
+
+        // FCM 알림은 전체 기기 토큰을 모아 500개 단위로 발송
+        fcmSender.send(
+                deviceTokenService.getTokens(users),
+                String.format("[%s]", noticeCategory),
+                noticeSubject,
+                Map.of("type", NotificationType.NOTICE.name())
+        );
     }
 
     // 공지사항 알림 DB 저장
@@ -315,91 +343,97 @@ public class NotificationService {
                 .build());
     }
 
-    // FCM 푸시 알림 전송
-    private void sendFCMNotification(String fcmToken, String title, WaitingNotificationDto dto) {
-        if (fcmToken == null) {
-            log.warn("FCM token not found for user: {}", dto.getUserId());
-            return;
-        }
-
-        Message.Builder messageBuilder = Message.builder()
-                .setToken(fcmToken)
-                .setNotification(com.google.firebase.messaging.Notification.builder()
-                        .setTitle(title)
-                        .setBody(dto.getMessage())
-                        .build())
-                .putData("type", dto.getType().name())
-                .putData("storeId", dto.getPopupStoreId().toString())
-                .putData("waitingNumber", dto.getWaitingNumber().toString());
+    // FCM 푸시 알림 전송 (유저의 모든 기기로 발송)
+    private void sendFCMNotification(User user, String title, WaitingNotificationDto dto) {
+        Map<String, String> data = new HashMap<>();
+        data.put("type", dto.getType().name());
+        data.put("storeId", dto.getPopupStoreId().toString());
+        data.put("waitingNumber", dto.getWaitingNumber().toString());
 
         // peopleAhead가 null이 아닐 때만 추가
         if (dto.getPeopleAhead() != null)
-            messageBuilder.putData("peopleAhead", dto.getPeopleAhead().toString());
+            data.put("peopleAhead", dto.getPeopleAhead().toString());
 
-        Message message = messageBuilder.build();
-
-        try {
-            firebaseMessaging.send(message);
-            log.info("FCM notification.html sent - type: {}, userId: {}",
-                    dto.getType(), dto.getUserId());
-        }
-        catch (FirebaseMessagingException e) {
-            log.error("Failed to send FCM notification.html", e);
-        }
+        fcmSender.send(user, title, dto.getMessage(), data);
     }
 
-    private void sendNoticeFCM(String fcmToken, String title, String content) {
-        Message message = Message.builder()
-                .setToken(fcmToken)
-                .setNotification(com.google.firebase.messaging.Notification.builder()
-                        .setTitle(title)
-                        .setBody(content)
-                        .build())
-                .putData("type", NotificationType.NOTICE.name())
-                .build();
-
-        try {
-            firebaseMessaging.send(message);
-            log.info("FCM notice sent to token: {}", fcmToken);
-        } catch (FirebaseMessagingException e) {
-            log.error("Failed to send FCM notice", e);
-        }
+    // 활동 알림 최신순 30개 목록 조회 (Redis 알림함 우선, 없으면 DB에서 백필)
+    @Transactional(readOnly = true)
+    public List<? extends NotificationDto> getNotifications(Long userId) {
+        return getInboxEntries(userId).stream()
+                .map(entry -> entry.toDto(userId))
+                .collect(Collectors.toList());
     }
 
-    // 활동 알림 최신순 30개 목록 조회
+    // 읽지 않은 알림 개수 조회 (Redis 카운터 우선, 없으면 알림함과 함께 백필)
     @Transactional(readOnly = true)
-    public List<? extends NotificationDto> getNotifications(Long userId) {
-        return notificationRepository.findTop30ByUserIdAndIsFcmFalseAndTypeNotOrderByCreateTimeDesc(
+    public long getUnreadCount(Long userId) {
+        return inboxService.getUnreadCount(userId)
+                .orElseGet(() -> loadInbox(userId).getUnreadCount());
+    }
+
+    private List<NotificationInboxEntry> getInboxEntries(Long userId) {
+        return inboxService.getInbox(userId)
+                .orElseGet(() -> loadInbox(userId).getEntries());
+    }
+
+    // 로딩 토큰을 먼저 받은 뒤 DB 조회 (조회 중 새 알림이 추가되면 백필은 버려지고 다음 조회 때 다시 백필)
+    private LoadedInbox loadInbox(Long userId) {
+        String token = inboxService.beginLoad(userId);
+
+        List<NotificationInboxEntry> entries = notificationRepository.findTop30ByUserIdAndIsFcmFalseAndTypeNotOrderByCreateTimeDesc(
                         userId,
                         NotificationType.NOTICE
                 )
                 .stream()
-                .map(notification -> {
-                    if(notification.getType() == NotificationType.RESERVATION_CHECK || notification.getType() == NotificationType.RESERVATION_CANCEL)
-                        return ReservationNotificationDto.from(notification);
-                    else return WaitingNotificationDto.from(notification);
-                })
+                .map(NotificationInboxEntry::from)
                 .collect(Collectors.toList());
+        long unreadCount = notificationRepository.countByUserIdAndIsFcmFalseAndTypeNotAndIsReadFalse(userId, NotificationType.NOTICE);
+
+        inboxService.fill(userId, token, entries, unreadCount);
+        return new LoadedInbox(entries, unreadCount);
     }
 
     // 알림 읽음 처리
     @Transactional
     public void markAsRead(Long notificationId) {
+        User loginUser = loginUserProvider.getLoggedInUser();
+
+        // 알림함에 있는 알림이면 엔티티 조회 없이 단건 UPDATE 후 알림함 갱신 (실제로 읽음 처리된 경우에만)
+        if (inboxService.contains(loginUser.getId(), notificationId)) {
+            if (notificationRepository.markAsRead(notificationId, loginUser.getId()) > 0)
+                inboxService.markAsRead(loginUser.getId(), notificationId);
+            return;
+        }
+
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOTIFICATION_NOT_FOUND));
 
         validateNotificationOwner(notification);
+        if (notification.isRead()) return;
+
         notification.markAsRead();
+        inboxService.markAsRead(loginUser.getId(), notificationId);   // 알림함 밖의 알림이어도 읽지 않은 수는 감소
     }
 
     // 알림 삭제
     @Transactional
     public void deleteNotification(Long notificationId) {
+        User loginUser = loginUserProvider.getLoggedInUser();
+
+        Optional<NotificationInboxEntry> cached = inboxService.find(loginUser.getId(), notificationId);
+        if (cached.isPresent()) {
+            if (notificationRepository.deleteByIdAndUserId(notificationId, loginUser.getId()) > 0)
+                inboxService.remove(loginUser.getId(), notificationId, !cached.get().isRead());
+            return;
+        }
+
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOTIFICATION_NOT_FOUND));
 
         validateNotificationOwner(notification);
         notificationRepository.delete(notification);
+        inboxService.remove(loginUser.getId(), notificationId, !notification.isRead());
     }
 
     // 알림 소유자 검증
@@ -408,4 +442,11 @@ public class NotificationService {
         if (!notification.getUser().getId().equals(loginUser.getId()))
             throw new BusinessException(ErrorCode.UNAUTHORIZED_NOTIFICATION_ACCESS);
     }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class LoadedInbox {
+        private final List<NotificationInboxEntry> entries;
+        private final long unreadCount;
+    }
 }
@@ -0,0 +1,136 @@
+package com.poppy.domain.notification.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 짧은 시간 동안 연속으로 발생한 대기 순서(TEAMS_AHEAD) 알림을 대기 건별로 모아 마지막 값만 발송
+ *
+ * - 마지막 값(teams-ahead:latest:{waitingId})과 발송 시점(ZSET teams-ahead:due)을 Redis에 두어 모든 노드가 같은 상태를 봄
+ * - 버퍼 반영과 폐기는 트랜잭션 커밋 이후에만 수행 (롤백된 순서 변경은 발송하지 않음)
+ * - 다른 노드에서 즉시 발송(호출, 앞 3팀 이하)이 나가면 같은 키를 지우므로 오래된 값이 뒤늦게 발송되지 않음
+ * - 꺼내기는 Lua 스크립트로 원자적으로 처리해 한 노드만 발송
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TeamsAheadNotificationCoalescer {
+    static final long WINDOW_MILLIS = 3000L;        // 첫 변경 후 3초 동안 모아서 발송
+    static final int IMMEDIATE_THRESHOLD = 3;       // 앞 3팀 이하 안내는 즉시 발송
+
+    private static final String DUE_KEY = "teams-ahead:due";
+    private static final String LATEST_KEY_PREFIX = "teams-ahead:latest:";
+    private static final long LATEST_TTL_MILLIS = 60_000L;   // 발송되지 못한 값이 남지 않도록
+    private static final int DRAIN_BATCH_SIZE = 500;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // KEYS[1]: 마지막 값, KEYS[2]: 발송 시점 / ARGV[1]: 대기 id, ARGV[2]: 순서, ARGV[3]: 발송 시점, ARGV[4]: TTL
+    private static final DefaultRedisScript<Long> OFFER_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[4])
+            return redis.call('ZADD', KEYS[2], 'NX', ARGV[3], ARGV[1])
+            """, Long.class);
+
+    // KEYS[1]: 발송 시점 / ARGV[1]: 현재 시각, ARGV[2]: 최대 개수, ARGV[3]: 마지막 값 키 접두사 -> {대기 id, 순서, ...}
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            local result = {}
+            for _, id in ipairs(ids) do
+                redis.call('ZREM', KEYS[1], id)
+                local key = ARGV[3] .. id
+                local value = redis.call('GET', key)
+                if value then
+                    redis.call('DEL', key)
+                    table.insert(result, id)
+                    table.insert(result, value)
+                end
+            end
+            return result
+            """, List.class);
+
+    // 버퍼에 담을 대상이면 true (커밋 이후 반영), 즉시 발송해야 하면 false
+    public boolean offer(Long waitingId, Integer peopleAhead) {
+        if (waitingId == null || peopleAhead == null) return false;
+
+        if (peopleAhead <= IMMEDIATE_THRESHOLD) {
+            discard(waitingId);
+            return false;
+        }
+
+        afterCommit(() -> {
+            long dueAt = System.currentTimeMillis() + WINDOW_MILLIS;
+            redisTemplate.execute(OFFER_SCRIPT,
+                    List.of(latestKeyOf(waitingId), DUE_KEY),
+                    String.valueOf(waitingId), String.valueOf(peopleAhead),
+                    String.valueOf(dueAt), String.valueOf(LATEST_TTL_MILLIS));
+        });
+        return true;
+    }
+
+    // 호출/취소 등 다른 알림이 나가면 대기 중인 순서 알림은 버림
+    public void discard(Long waitingId) {
+        if (waitingId == null) return;
+
+        afterCommit(() -> {
+            redisTemplate.delete(latestKeyOf(waitingId));
+            redisTemplate.opsForZSet().remove(DUE_KEY, String.valueOf(waitingId));
+        });
+    }
+
+    // 발송 시점이 지난 알림을 꺼냄
+    @SuppressWarnings("unchecked")
+    public List<PendingTeamsAhead> drainDue() {
+        List<Object> raw = redisTemplate.execute(DRAIN_SCRIPT, List.of(DUE_KEY),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(DRAIN_BATCH_SIZE), LATEST_KEY_PREFIX);
+
+        List<PendingTeamsAhead> due = new ArrayList<>();
+        if (raw == null) return due;
+        for (int i = 0; i + 1 < raw.size(); i += 2) {
+            due.add(new PendingTeamsAhead(Long.valueOf(raw.get(i).toString()), Integer.valueOf(raw.get(i + 1).toString())));
+        }
+        return due;
+    }
+
+    private void afterCommit(Runnable task) {
+        Runnable safeTask = () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.warn("Failed to update TEAMS_AHEAD buffer: {}", e.getMessage());
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeTask.run();
+                }
+            });
+        } else {
+            safeTask.run();
+        }
+    }
+
+    private static String latestKeyOf(Long waitingId) {
+        return LATEST_KEY_PREFIX + waitingId;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PendingTeamsAhead {
+        private final Long waitingId;
+        private final Integer peopleAhead;
+    }
+}
@@ -0,0 +1,101 @@
+package com.poppy.domain.notification.service;
+
+import com.poppy.domain.notification.entity.PresenceState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 유저별 웹소켓 세션 접속 상태
+ *
+ * - presence:user:{userId} 해시에 세션별로 "{상태}:{마지막 수신 시각}" 저장
+ * - 세션마다 마지막 수신 시각으로 만료를 판단 (DISCONNECT 없이 끊긴 세션이 다른 세션의 하트비트로 계속 살아 있지 않도록)
+ * - 키 TTL은 모든 세션이 끊긴 유저의 해시 정리용
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserPresenceService {
+    private final RedisTemplate<String, String> redisTemplate;
+    private static final String KEY_PREFIX = "presence:user:";
+    private static final long PRESENCE_TTL_SECONDS = 60L;   // 하트비트가 끊기면 60초 후 오프라인 처리
+
+    // KEYS[1]: 접속 상태 / ARGV[1]: 세션 id, ARGV[2]: 현재 시각, ARGV[3]: TTL (기존 상태는 유지하고 시각만 갱신)
+    private static final DefaultRedisScript<Long> HEARTBEAT_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], ARGV[1])
+            local state = 'ONLINE'
+            if current then state = string.match(current, '^[^:]+') end
+            redis.call('HSET', KEYS[1], ARGV[1], state .. ':' .. ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // STOMP 세션 연결 시 온라인 등록
+    public void connect(Long userId, String sessionId) {
+        updateState(userId, sessionId, PresenceState.ONLINE);
+    }
+
+    // 하트비트 수신 시 세션 상태는 유지하고 마지막 수신 시각만 갱신
+    public void heartbeat(Long userId, String sessionId) {
+        redisTemplate.execute(HEARTBEAT_SCRIPT, List.of(generateKey(userId)),
+                sessionId, String.valueOf(System.currentTimeMillis()), String.valueOf(PRESENCE_TTL_SECONDS));
+    }
+
+    // 포그라운드/백그라운드 전환
+    public void updateState(Long userId, String sessionId, PresenceState state) {
+        String key = generateKey(userId);
+        redisTemplate.opsForHash().put(key, sessionId, state.name() + ":" + System.currentTimeMillis());
+        redisTemplate.expire(key, PRESENCE_TTL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    // STOMP 세션 종료 시 해당 세션만 제거 (다른 기기의 세션은 유지)
+    public void disconnect(Long userId, String sessionId) {
+        redisTemplate.opsForHash().delete(generateKey(userId), sessionId);
+    }
+
+    // 만료되지 않은 세션 중 하나라도 포그라운드면 ONLINE, 백그라운드 세션만 있으면 BACKGROUND
+    public PresenceState getPresence(Long userId) {
+        String key = generateKey(userId);
+        Map<Object, Object> sessions = redisTemplate.opsForHash().entries(key);
+        if (sessions.isEmpty()) return PresenceState.OFFLINE;
+
+        long expiredBefore = System.currentTimeMillis() - PRESENCE_TTL_SECONDS * 1000;
+        boolean background = false;
+        List<Object> expired = new ArrayList<>();
+        for (Map.Entry<Object, Object> session : sessions.entrySet()) {
+            String value = (String) session.getValue();
+            int separator = value.indexOf(':');
+            if (separator > 0 && Long.parseLong(value.substring(separator + 1)) < expiredBefore) {
+                expired.add(session.getKey());
+                continue;
+            }
+
+            String state = separator > 0 ? value.substring(0, separator) : value;
+            if (PresenceState.ONLINE.name().equals(state)) return PresenceState.ONLINE;
+            background = true;
+        }
+
+        if (!expired.isEmpty()) cleanUp(key, expired);
+        return background ? PresenceState.BACKGROUND : PresenceState.OFFLINE;
+    }
+
+    // DISCONNECT 없이 끊긴 세션 정리 (실패해도 조회 결과에는 영향 없음)
+    private void cleanUp(String key, List<Object> sessionIds) {
+        try {
+            redisTemplate.opsForHash().delete(key, sessionIds.toArray());
+        } catch (Exception e) {
+            log.warn("Failed to remove expired presence sessions - key: {}: {}", key, e.getMessage());
+        }
+    }
+
+    private String generateKey(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -1,17 +1,26 @@
 package com.poppy.domain.popupStore.controller;
 
 import com.poppy.common.api.RspTemplate;
+import com.poppy.common.pagination.CursorPage;
+import com.poppy.common.pagination.CursorRequest;
 import com.poppy.domain.popupStore.dto.request.PopupStoreSearchReqDto;
 import com.poppy.domain.popupStore.dto.request.PopupStoreUpdateReqDto;
+import com.poppy.domain.popupStore.dto.response.NearbyStoreRspDto;
 import com.poppy.domain.popupStore.dto.response.PopupStoreCalenderRspDto;
 import com.poppy.domain.popupStore.dto.response.PopupStoreRspDto;
 import com.poppy.domain.popupStore.dto.response.ReservationAvailableSlotRspDto;
+import com.poppy.domain.popupStore.service.HomeFeedService;
 import com.poppy.domain.popupStore.service.PopupStoreService;
+import com.poppy.domain.popupStore.service.StoreGeoIndexService;
 import com.poppy.domain.search.service.StoreSearchService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -23,17 +32,37 @@ import java.util.List;
 public class PopupStoreController {
     private final PopupStoreService popupStoreService;
     private final StoreSearchService storeSearchService;
+    private final StoreGeoIndexService storeGeoIndexService;
+    private final HomeFeedService homeFeedService;
 
-    // 전체 목록 조회
+    // 전체 목록 조회 (cursor: 이전 응답의 nextCursor, 없으면 첫 페이지)
     @GetMapping
-    public RspTemplate<List<PopupStoreRspDto>> getAllStores() {
+    public RspTemplate<CursorPage<PopupStoreRspDto>> getAllStores(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         return new RspTemplate<>(
                 HttpStatus.OK,
                 "팝업스토어 목록 조회 성공",
-                popupStoreService.getAllActiveStores()
+                popupStoreService.getAllActiveStores(CursorRequest.of(cursor, size))
         );
     }
 
+    // 홈 피드 (신규, 인기, 마감 임박, 오픈 예정, 카테고리별 인기를 한 번에 / 미리 직렬화된 스냅샷)
+    @GetMapping("/home")
+    public ResponseEntity<byte[]> getHomeFeed(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        HomeFeedService.Snapshot snapshot = homeFeedService.getSnapshot();
+
+        if (snapshot.getEtag().equals(ifNoneMatch))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.getEtag()).build();
+
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())   // 매번 ETag로 재검증
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getBody());
+    }
+
     // 팝업스토어 상세 조회
     @GetMapping("/detail/{id}")
     public RspTemplate<PopupStoreRspDto> getStoreDetail(@PathVariable Long id) {
@@ -74,11 +103,13 @@ public class PopupStoreController {
 
     // 오픈 예정 팝업스토어
     @GetMapping("/future")
-    public RspTemplate<List<PopupStoreRspDto>> getFutureStores() {
+    public RspTemplate<CursorPage<PopupStoreRspDto>> getFutureStores(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         return new RspTemplate<>(
                 HttpStatus.OK,
                 "오픈 예정 팝업스토어 조회 성공",
-                popupStoreService.getAllFuturePopupStores()
+                popupStoreService.getAllFuturePopupStores(CursorRequest.of(cursor, size))
         );
     }
 
@@ -132,18 +163,34 @@ public class PopupStoreController {
     @GetMapping("/{storeId}/{date}")
     public RspTemplate<List<ReservationAvailableSlotRspDto>> getAvailable(
             @PathVariable Long storeId, @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date) {
-        PopupStoreRspDto popupStore = popupStoreService.getPopupStore(storeId);
+        String storeName = popupStoreService.getPopupStoreName(storeId);
         List<ReservationAvailableSlotRspDto> available = popupStoreService.getAvailableSlots(storeId, date);
-        return new RspTemplate<>(HttpStatus.OK, popupStore.getName() + "의 예약 가능 시간 조회", available);
+        return new RspTemplate<>(HttpStatus.OK, storeName + "의 예약 가능 시간 조회", available);
+    }
+
+    // 주변 팝업스토어 조회 (반경 m, 가까운 순)
+    @GetMapping("/nearby")
+    public RspTemplate<List<NearbyStoreRspDto>> getNearbyStores(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "1000") double radius) {
+        return new RspTemplate<>(
+                HttpStatus.OK,
+                "주변 팝업스토어 조회 성공",
+                storeGeoIndexService.findNearby(lat, lng, radius)
+        );
     }
 
     // 특정 구역으로 검색
     @GetMapping("/address/{address}")
-    public RspTemplate<List<PopupStoreRspDto>> getStoresByDistrict(@PathVariable String address) {
+    public RspTemplate<CursorPage<PopupStoreRspDto>> getStoresByDistrict(
+            @PathVariable String address,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         return new RspTemplate<>(
                 HttpStatus.OK,
                 address + " 지역 팝업스토어 조회 성공",
-                popupStoreService.getStoresByAddress(address)
+                popupStoreService.getStoresByAddress(address, CursorRequest.of(cursor, size))
         );
     }
 
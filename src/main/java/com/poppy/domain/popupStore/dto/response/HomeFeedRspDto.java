@@ -0,0 +1,26 @@
+package com.poppy.domain.popupStore.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 홈 화면 목록 묶음 (모든 비로그인 유저에게 같은 내용이므로 스냅샷으로 제공)
+@Getter
+@Builder
+public class HomeFeedRspDto {
+    private final List<PopupStoreRspDto> newStores;
+    private final List<PopupStoreRspDto> popularStores;
+    private final List<PopupStoreRspDto> deadlineStores;
+    private final List<PopupStoreRspDto> futureStores;
+    private final List<CategoryStores> popularStoresByCategory;
+
+    @Getter
+    @AllArgsConstructor
+    public static class CategoryStores {
+        private final Long categoryId;
+        private final String categoryName;
+        private final List<PopupStoreRspDto> stores;
+    }
+}
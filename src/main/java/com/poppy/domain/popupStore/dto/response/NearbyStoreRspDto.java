@@ -0,0 +1,47 @@
+package com.poppy.domain.popupStore.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.poppy.common.entity.Images;
+import com.poppy.domain.popupStore.entity.PopupStore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 주변 스토어 목록 항목 (Redis에 요약본으로 저장해두고 거리만 붙여서 응답)
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class NearbyStoreRspDto {
+    private Long id;
+    private String name;
+    private String address;
+    private String categoryName;
+    private String thumbnailUrl;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Double latitude;
+    private Double longitude;
+    private Double distance;    // 요청 위치로부터의 거리 (m)
+
+    public static NearbyStoreRspDto from(PopupStore store) {
+        List<Images> images = store.getImages();
+
+        return NearbyStoreRspDto.builder()
+                .id(store.getId())
+                .name(store.getName())
+                .address(store.getAddress())
+                .categoryName(store.getStoreCategory().getName())
+                .thumbnailUrl(images != null && !images.isEmpty() ? images.get(0).getUploadUrl() : null)
+                .startDate(store.getStartDate())
+                .endDate(store.getEndDate())
+                .latitude(store.getLatitude())
+                .longitude(store.getLongitude())
+                .build();
+    }
+}
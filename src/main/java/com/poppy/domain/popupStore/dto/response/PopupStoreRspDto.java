@@ -4,12 +4,17 @@ import com.poppy.common.entity.Images;
 import com.poppy.domain.popupStore.entity.PopupStore;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Collections;
 import java.util.List;
 
+// 상세 캐시(Redis)에서 역직렬화할 수 있도록 빌더로 생성
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@Jacksonized
 public class PopupStoreRspDto {
     private final Long id;
     private final String name;
@@ -19,6 +24,7 @@ public class PopupStoreRspDto {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class DateInfo {
         private final int year;
         private final int month;
@@ -27,6 +33,7 @@ public class PopupStoreRspDto {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class TimeInfo {
         private final int hour;
         private final int minute;
@@ -86,7 +93,7 @@ public class PopupStoreRspDto {
                 .isActive(store.getIsActive())
                 .isEnd(store.getIsEnd())
                 .rating(store.getRating())
-                .reviewCnt(store.getReviews() != null ? store.getReviews().size() : 0)
+                .reviewCnt(store.getReviewCount() != null ? store.getReviewCount() : 0)
                 .categoryName(store.getStoreCategory().getName())
                 .reservationType(store.getReservationType().toString())
                 .thumbnailUrl(images != null && !images.isEmpty() ? images.get(0).getUploadUrl() : null)
@@ -100,59 +107,60 @@ public class PopupStoreRspDto {
                 .instagramUrl(store.getInstagramUrl())
                 .blogUrl(store.getBlogUrl())
                 .scrapCount(store.getScrapCount())
-                .isAlmostFull(store.calculateAlmostFull(store.getReservationAvailableSlots(), store.getReservationType()))
-                .viewCount(store.getViews() != null ? store.getViews().size() : 0)
+                .isAlmostFull(store.getAlmostFull())
+                .viewCount(viewCountOf(store.getViewCount()))
                 .build();
     }
 
-    public static PopupStoreRspDto of(PopupStore store, boolean isScraped) {
-        List<Images> images = store.getImages();
-
+    // 목록 조회용 (연관 컬렉션 대신 비정규화 컬럼 사용, 이미지는 대표 이미지 한 장만 포함)
+    public static PopupStoreRspDto from(PopupStoreSummaryDto summary) {
         return PopupStoreRspDto.builder()
-                .id(store.getId())
-                .name(store.getName())
-                .description(store.getDescription())
-                .location(store.getLocation())
-                .address(store.getAddress())
-                .startDate(DateInfo.builder()
-                        .year(store.getStartDate().getYear())
-                        .month(store.getStartDate().getMonthValue())
-                        .day(store.getStartDate().getDayOfMonth())
-                        .build())
-                .endDate(DateInfo.builder()
-                        .year(store.getEndDate().getYear())
-                        .month(store.getEndDate().getMonthValue())
-                        .day(store.getEndDate().getDayOfMonth())
-                        .build())
-                .openingTime(TimeInfo.builder()
-                        .hour(store.getOpeningTime().getHour())
-                        .minute(store.getOpeningTime().getMinute())
-                        .build())
-                .closingTime(TimeInfo.builder()
-                        .hour(store.getClosingTime().getHour())
-                        .minute(store.getClosingTime().getMinute())
-                        .build())
-                .availableSlot(store.getAvailableSlot())
-                .isActive(store.getIsActive())
-                .isEnd(store.getIsEnd())
-                .rating(store.getRating())
-                .reviewCnt(store.getReviews().size())
-                .categoryName(store.getStoreCategory().getName())
-                .reservationType(store.getReservationType().toString())
-                .thumbnailUrl(images != null && !images.isEmpty() ? images.get(0).getUploadUrl() : null)
-                .imageUrls(images != null ?
-                        images.stream()
-                                .map(Images::getUploadUrl)
-                                .toList()
+                .id(summary.getId())
+                .name(summary.getName())
+                .description(summary.getDescription())
+                .location(summary.getLocation())
+                .address(summary.getAddress())
+                .startDate(dateOf(summary.getStartDate()))
+                .endDate(dateOf(summary.getEndDate()))
+                .openingTime(timeOf(summary.getOpeningTime()))
+                .closingTime(timeOf(summary.getClosingTime()))
+                .availableSlot(summary.getAvailableSlot())
+                .isActive(summary.getIsActive())
+                .isEnd(summary.getIsEnd())
+                .rating(summary.getRating())
+                .reviewCnt(summary.getReviewCount() != null ? summary.getReviewCount() : 0)
+                .categoryName(summary.getCategoryName())
+                .reservationType(summary.getReservationType().toString())
+                .thumbnailUrl(summary.getThumbnailUrl())
+                .imageUrls(summary.getThumbnailUrl() != null ?
+                        List.of(summary.getThumbnailUrl())
                         : Collections.emptyList())
-                .price(store.getPrice())
-                .homepageUrl(store.getHomepageUrl())
-                .instagramUrl(store.getInstagramUrl())
-                .blogUrl(store.getBlogUrl())
-                .scrapCount(store.getScrapCount())
-                .isScraped(isScraped)
-                .isAlmostFull(store.calculateAlmostFull(store.getReservationAvailableSlots(), store.getReservationType()))
-                .viewCount(store.getViews() != null ? store.getViews().size() : 0)
+                .price(summary.getPrice())
+                .homepageUrl(summary.getHomepageUrl())
+                .instagramUrl(summary.getInstagramUrl())
+                .blogUrl(summary.getBlogUrl())
+                .scrapCount(summary.getScrapCount())
+                .isAlmostFull(summary.getAlmostFull())
+                .viewCount(viewCountOf(summary.getViewCount()))
+                .build();
+    }
+
+    private static DateInfo dateOf(LocalDate date) {
+        return DateInfo.builder()
+                .year(date.getYear())
+                .month(date.getMonthValue())
+                .day(date.getDayOfMonth())
+                .build();
+    }
+
+    private static TimeInfo timeOf(LocalTime time) {
+        return TimeInfo.builder()
+                .hour(time.getHour())
+                .minute(time.getMinute())
                 .build();
     }
-}
\ No newline at end of file
+
+    private static Integer viewCountOf(Long viewCount) {
+        return viewCount != null ? (int) Math.min(viewCount, Integer.MAX_VALUE) : 0;
+    }
+}
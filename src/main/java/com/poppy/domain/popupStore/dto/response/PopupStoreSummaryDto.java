@@ -0,0 +1,38 @@
+package com.poppy.domain.popupStore.dto.response;
+
+import com.poppy.domain.popupStore.entity.ReservationType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 목록 조회용 프로젝션 (팝업스토어 + 카테고리 한 번의 조회로 채움, 생성자 인자 순서는 PopupStoreRepositoryImpl.summary()와 일치)
+@Getter
+@AllArgsConstructor
+public class PopupStoreSummaryDto {
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final String location;
+    private final String address;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final LocalTime openingTime;
+    private final LocalTime closingTime;
+    private final Integer availableSlot;
+    private final Boolean isActive;
+    private final Boolean isEnd;
+    private final Double rating;
+    private final String categoryName;
+    private final ReservationType reservationType;
+    private final String thumbnailUrl;
+    private final Long price;
+    private final String homepageUrl;
+    private final String instagramUrl;
+    private final String blogUrl;
+    private final Integer scrapCount;
+    private final Boolean almostFull;
+    private final Long viewCount;
+    private final Integer reviewCount;
+}
@@ -2,6 +2,7 @@ package com.poppy.domain.popupStore.entity;
 
 import com.poppy.common.entity.BaseTimeEntity;
 import com.poppy.common.entity.Images;
+import com.poppy.common.geo.GeoPoint;
 import com.poppy.domain.popupStore.dto.request.PopupStoreUpdateReqDto;
 import com.poppy.domain.reservation.entity.PopupStoreStatus;
 import com.poppy.domain.reservation.entity.ReservationAvailableSlot;
@@ -45,6 +46,12 @@ public class PopupStore extends BaseTimeEntity {
     @Column(nullable = false)
     private String address; // 실제 도로명 주소
 
+    @Column
+    private Double latitude;    // 주소 지오코딩 결과 (변환 실패 시 null)
+
+    @Column
+    private Double longitude;
+
     @Column(name = "start_date", nullable = false)
     private LocalDate startDate;
 
@@ -84,6 +91,21 @@ public class PopupStore extends BaseTimeEntity {
     @Column(nullable = false)
     private Integer scrapCount = 0;
 
+    // 목록 조회용 비정규화 컬럼 (목록에서 연관 컬렉션을 읽지 않도록 유지)
+    @Builder.Default
+    @Column(name = "review_count", nullable = false)
+    private Integer reviewCount = 0;    // 리뷰 작성/삭제 시 갱신
+
+    @Builder.Default
+    @Column(name = "view_count", nullable = false)
+    private Long viewCount = 0L;    // 누적 조회수
+
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;    // 첫 번째 이미지 URL
+
+    @Column(name = "almost_full")
+    private Boolean almostFull;     // 마감임박 여부 (PopupStoreSummaryScheduler가 주기적으로 갱신, OFFLINE은 null)
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, name = "reservation_type")
     private ReservationType reservationType;    // 팝업 스토어 예약 유형
@@ -138,6 +160,8 @@ public class PopupStore extends BaseTimeEntity {
         this.masterUser = masterUser;
         this.reservationType = reservationType;
         this.scrapCount = scrapCount;
+        this.reviewCount = 0;   // @Builder.Default 필드는 직접 작성한 생성자에서 초기화되지 않음
+        this.viewCount = 0L;
         this.images = new ArrayList<>();
         this.reservationAvailableSlots = new ArrayList<>();
         this.scraps = new ArrayList<>();
@@ -148,6 +172,20 @@ public class PopupStore extends BaseTimeEntity {
         this.scrapCount = count;
     }
 
+    public void updateReviewCount(Integer count) {
+        this.reviewCount = count;
+    }
+
+    // 이미지 목록이 바뀐 뒤 대표 이미지 다시 지정
+    public void refreshThumbnailUrl() {
+        this.thumbnailUrl = images != null && !images.isEmpty() ? images.get(0).getUploadUrl() : null;
+    }
+
+    public void updateCoordinates(GeoPoint point) {
+        this.latitude = point != null ? point.getLatitude() : null;
+        this.longitude = point != null ? point.getLongitude() : null;
+    }
+
     public void updateCategory(StoreCategory category) {
         this.storeCategory = category;
     }
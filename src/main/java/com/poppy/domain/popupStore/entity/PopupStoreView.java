@@ -10,7 +10,14 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "popup_store_views")
+@Table(
+        name = "popup_store_views",
+        indexes = {
+                @Index(name = "idx_popup_store_views_viewed_at", columnList = "viewed_at"),    // 시간 단위 집계, 보관 기간 삭제
+                @Index(name = "idx_popup_store_views_user_viewed_at", columnList = "user_id, viewed_at"),    // 최근 본 팝업, 함께 본 스토어
+                @Index(name = "idx_popup_store_views_store_viewed_at", columnList = "popup_store_id, viewed_at")    // 함께 본 스토어 기준 유저
+        }
+)
 @Getter
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,38 @@
+package com.poppy.domain.popupStore.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 스토어별 시간 단위 조회 집계 (popup_store_views 원본은 보관 기간이 지나면 삭제)
+@Entity
+@Table(
+        name = "store_view_hourly",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"store_id", "hour"}),
+        indexes = @Index(name = "idx_store_view_hourly_hour", columnList = "hour")
+)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreViewHourly {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;   // 스토어 삭제를 막지 않도록 FK 없이 id만 보관
+
+    @Column(name = "hour", nullable = false)
+    private LocalDateTime viewHour;     // 집계 구간 시작 시각 (정시)
+
+    @Column(name = "count", nullable = false)
+    private Long viewCount;
+
+    @Column(name = "unique_users", nullable = false)
+    private Long uniqueUsers;   // 로그인 유저 기준 고유 조회자 수
+}
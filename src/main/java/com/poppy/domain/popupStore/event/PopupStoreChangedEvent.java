@@ -0,0 +1,15 @@
+package com.poppy.domain.popupStore.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 팝업스토어 생성/수정/삭제 이벤트 (Redis Pub/Sub으로 모든 노드에 전달된 뒤 로컬 이벤트로 발행)
+@Getter
+@AllArgsConstructor
+public class PopupStoreChangedEvent {
+    // STATS_UPDATED: 평점/리뷰 수/스크랩 수 등 집계 값만 바뀐 경우 (이름, 조건 인덱스는 갱신 불필요)
+    public enum Type { CREATED, UPDATED, DELETED, STATS_UPDATED }
+
+    private final Long storeId;
+    private final Type type;
+}
@@ -0,0 +1,44 @@
+package com.poppy.domain.popupStore.event;
+
+import com.poppy.common.config.redis.RedisConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 커밋 이후 팝업스토어 변경을 모든 노드에 전파 (검색 인덱스, 캐시 갱신용)
+// 스토어 데이터 버전은 여기서 변경마다 한 번만 올리고 전파 (수신 노드마다 올리면 노드 수만큼 증가해 노드별 버전이 어긋남)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PopupStoreEventPublisher {
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public void publish(Long storeId, PopupStoreChangedEvent.Type type) {
+        Runnable task = () -> {
+            try {
+                if (type != PopupStoreChangedEvent.Type.STATS_UPDATED) redisTemplate.opsForValue().increment(RedisConfig.POPUP_STORE_VERSION_KEY);
+                redisTemplate.convertAndSend(RedisConfig.POPUP_STORE_EVENT_TOPIC, type.name() + ":" + storeId);
+            } catch (Exception e) {
+                // Redis 장애 시 최소한 현재 노드에는 반영
+                log.warn("Failed to broadcast popup store event - storeId: {}, type: {}: {}", storeId, type, e.getMessage());
+                applicationEventPublisher.publishEvent(new PopupStoreChangedEvent(storeId, type));
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
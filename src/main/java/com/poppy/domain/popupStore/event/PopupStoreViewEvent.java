@@ -0,0 +1,16 @@
+package com.poppy.domain.popupStore.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 팝업스토어 상세 조회 기록 (버퍼에 모았다가 배치로 저장)
+@Getter
+@AllArgsConstructor
+public class PopupStoreViewEvent {
+    private final Long storeId;
+    private final Long categoryId;
+    private final Long userId;     // 로그인하지 않은 경우 null
+    private final LocalDateTime viewedAt;
+}
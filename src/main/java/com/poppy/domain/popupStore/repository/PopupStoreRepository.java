@@ -1,12 +1,15 @@
 package com.poppy.domain.popupStore.repository;
 
 import com.poppy.domain.popupStore.entity.PopupStore;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,18 +19,85 @@ public interface PopupStoreRepository extends JpaRepository<PopupStore, Long>, P
     @Query("SELECT p FROM PopupStore p WHERE p.id IN :ids")
     List<PopupStore> findAllById(@Param("ids") List<Long> ids);
 
-    @Query("SELECT p FROM PopupStore p " +
-            "WHERE p.startDate > :today " +
-            "ORDER BY p.startDate ASC")
-    List<PopupStore> findAllFuturePopupStores(@Param("today") LocalDate today);
-
-    @Query("SELECT p FROM PopupStore p WHERE p.address LIKE %:address%")
-    List<PopupStore> findByAddress(@Param("address") String address);
-
-    @Query("SELECT p " +
-            "FROM PopupStore p " +
-            "JOIN p.reservationAvailableSlots slots " +
-            "GROUP BY p.id " +
-            "HAVING SUM(slots.totalSlot) BETWEEN 1 AND 10")
-    List<PopupStore> findAllByTotalSlotLessOrEqualTo10();
-}
\ No newline at end of file
+    // 검색 인덱스 구성용 (id, name, createTime)
+    @Query("SELECT p.id, p.name, p.createTime FROM PopupStore p WHERE p.isEnd = false")
+    List<Object[]> findActiveStoreNames();
+
+    // 검색 조건 인덱스 구성용 (id, categoryId, location, rating, startDate, endDate, createTime)
+    @Query("SELECT p.id, p.storeCategory.id, p.location, p.rating, p.startDate, p.endDate, p.createTime " +
+            "FROM PopupStore p WHERE p.isEnd = false")
+    List<Object[]> findFacetEntries();
+
+    // 비슷한 스토어 계산용 (id, categoryId, location, latitude, longitude, price, rating)
+    @Query("SELECT p.id, p.storeCategory.id, p.location, p.latitude, p.longitude, p.price, p.rating " +
+            "FROM PopupStore p WHERE p.isEnd = false AND p.endDate >= :today")
+    List<Object[]> findSimilarityFeatures(@Param("today") LocalDate today);
+
+    // 비슷한 스토어 목록이 아직 계산되지 않았을 때 대신 보여줄 같은 카테고리 스토어 (평점순)
+    @Query("SELECT p.id FROM PopupStore p " +
+            "WHERE p.storeCategory.id = :categoryId AND p.id <> :storeId AND p.isEnd = false AND p.endDate >= :today " +
+            "ORDER BY p.rating DESC, p.id")
+    List<Long> findSameCategoryStoreIds(@Param("categoryId") Long categoryId, @Param("storeId") Long storeId,
+                                        @Param("today") LocalDate today, Pageable pageable);
+
+    // 위치 인덱스 구성용 (좌표가 있는 진행 중/예정 스토어)
+    @Query("SELECT DISTINCT p FROM PopupStore p " +
+            "JOIN FETCH p.storeCategory " +
+            "LEFT JOIN FETCH p.images " +
+            "WHERE p.isEnd = false AND p.endDate >= :today AND p.latitude IS NOT NULL")
+    List<PopupStore> findGeoIndexTargets(@Param("today") LocalDate today);
+
+    // 위치 인덱스 재구성 중 변경된 스토어 다시 반영용 (조건 검사는 호출하는 쪽에서)
+    @Query("SELECT DISTINCT p FROM PopupStore p " +
+            "JOIN FETCH p.storeCategory " +
+            "LEFT JOIN FETCH p.images " +
+            "WHERE p.id IN :ids")
+    List<PopupStore> findGeoIndexTargetsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 좌표 백필용 (좌표가 없는 진행 중/예정 스토어의 id, address를 id 순으로)
+    @Query("SELECT p.id, p.address FROM PopupStore p " +
+            "WHERE p.isEnd = false AND p.endDate >= :today AND p.latitude IS NULL AND p.address IS NOT NULL " +
+            "AND p.id > :cursor ORDER BY p.id")
+    List<Object[]> findCoordinateBackfillTargets(@Param("today") LocalDate today, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE PopupStore p SET p.latitude = :latitude, p.longitude = :longitude WHERE p.id = :id")
+    void updateCoordinates(@Param("id") Long id, @Param("latitude") Double latitude, @Param("longitude") Double longitude);
+
+    // 상세 캐시 적재용 (카테고리, 관리자, 이미지까지 한 번에 조회해 트랜잭션 밖에서도 DTO 변환 가능)
+    @Query("SELECT DISTINCT p FROM PopupStore p " +
+            "JOIN FETCH p.storeCategory " +
+            "JOIN FETCH p.masterUser " +
+            "LEFT JOIN FETCH p.images " +
+            "WHERE p.id = :id")
+    Optional<PopupStore> findDetailById(@Param("id") Long id);
+
+    // 진행 중인 ONLINE 스토어의 마감임박 여부 일괄 갱신 (ids에 포함된 스토어만 true)
+    @Modifying
+    @Transactional
+    @Query("UPDATE PopupStore p SET p.almostFull = CASE WHEN p.id IN :ids THEN true ELSE false END " +
+            "WHERE p.isEnd = false AND p.reservationType = com.poppy.domain.popupStore.entity.ReservationType.ONLINE")
+    int updateAlmostFull(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE PopupStore p SET p.almostFull = false " +
+            "WHERE p.isEnd = false AND p.reservationType = com.poppy.domain.popupStore.entity.ReservationType.ONLINE")
+    int clearAlmostFull();
+
+    // 비정규화 컬럼 보정 (리뷰 수, 대표 이미지는 원본 기준으로 맞추고 조회수는 시간 단위 집계 합보다 작을 때만 올림)
+    @Modifying
+    @Transactional
+    @Query(value = """
+    UPDATE popup_stores p
+    SET p.review_count = (SELECT COUNT(*) FROM reviews r WHERE r.popup_store_id = p.id),
+        p.thumbnail_url = (SELECT i.upload_url FROM images i WHERE i.popup_store_id = p.id ORDER BY i.id LIMIT 1),
+        p.view_count = GREATEST(p.view_count, (SELECT COALESCE(SUM(h.count), 0) FROM store_view_hourly h WHERE h.store_id = p.id))
+    WHERE p.id > :fromId AND p.id <= :toId
+""", nativeQuery = true)
+    int reconcileSummaryColumns(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM PopupStore p")
+    Long findMaxId();
+}
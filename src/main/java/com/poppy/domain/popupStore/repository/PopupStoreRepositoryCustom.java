@@ -1,14 +1,19 @@
 package com.poppy.domain.popupStore.repository;
 
+import com.poppy.common.pagination.CursorRequest;
 import com.poppy.domain.popupStore.dto.request.PopupStoreSearchReqDto;
-import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.dto.response.PopupStoreSummaryDto;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
 public interface PopupStoreRepositoryCustom {
-    List<PopupStore> findAllActive();
-    List<PopupStore> findByKeyword(String name);
-    List<PopupStore> findNewStores(LocalDateTime fromDate);
-    List<PopupStore> findBySearchCondition(PopupStoreSearchReqDto popupStoreSearchReqDto);
-    List<PopupStore> findSimilarStores(Long categoryId, Long currentStoreId, int limit);
+    List<PopupStoreSummaryDto> findAllActive(CursorRequest request);
+    List<PopupStoreSummaryDto> findByKeyword(String name);
+    List<PopupStoreSummaryDto> findNewStores(LocalDateTime fromDate);
+    List<PopupStoreSummaryDto> findAllFuturePopupStores(LocalDate today, CursorRequest request);
+    List<PopupStoreSummaryDto> findByAddress(String address, CursorRequest request);
+    List<PopupStoreSummaryDto> findSummariesByIds(List<Long> ids);
+    List<PopupStoreSummaryDto> findDeadlineStores(int limit);
+    List<PopupStoreSummaryDto> findBySearchCondition(PopupStoreSearchReqDto popupStoreSearchReqDto);
 }
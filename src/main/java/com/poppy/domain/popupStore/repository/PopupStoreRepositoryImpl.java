@@ -1,10 +1,18 @@
 package com.poppy.domain.popupStore.repository;
 
+import com.poppy.common.pagination.Cursor;
+import com.poppy.common.pagination.CursorPredicates;
+import com.poppy.common.pagination.CursorRequest;
 import com.poppy.domain.popupStore.dto.request.PopupStoreSearchReqDto;
-import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.dto.response.PopupStoreSummaryDto;
 import com.poppy.domain.popupStore.entity.QPopupStore;
+import com.poppy.domain.reservation.entity.QReservationAvailableSlot;
+import com.poppy.domain.storeCategory.entity.QStoreCategory;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 
@@ -16,26 +24,32 @@ import java.util.List;
 public class PopupStoreRepositoryImpl implements PopupStoreRepositoryCustom {
     private final JPAQueryFactory queryFactory;
     private final QPopupStore store = QPopupStore.popupStore;
+    private final QStoreCategory category = QStoreCategory.storeCategory;
+    private final QReservationAvailableSlot slot = QReservationAvailableSlot.reservationAvailableSlot;
 
-    // 전체 목록 조회 (활성화된 스토어만)
+    // 전체 목록 조회 (활성화된 스토어만, 최신 등록순 = id 내림차순)
     @Override
-    public List<PopupStore> findAllActive() {
+    public List<PopupStoreSummaryDto> findAllActive(CursorRequest request) {
         return queryFactory
-                .selectFrom(store)
-                // 모든 유형의 팝업 스토어를 가져오기 위해 left join 사용
-                .leftJoin(store.reservationAvailableSlots).fetchJoin()
-                .leftJoin(store.storeCategory).fetchJoin()
-                .where(isEndFalse())
-                .orderBy(store.createTime.desc())
-                .distinct() // 중복 제거
+                .select(summary())
+                .from(store)
+                .join(store.storeCategory, category)
+                .where(
+                        isEndFalse(),
+                        CursorPredicates.afterId(store.id, request.getCursor(), Order.DESC)
+                )
+                .orderBy(store.id.desc())
+                .limit(request.fetchSize())
                 .fetch();
     }
 
     // 이름으로 검색
     @Override
-    public List<PopupStore> findByKeyword(String name) {
+    public List<PopupStoreSummaryDto> findByKeyword(String name) {
         return queryFactory
-                .selectFrom(store)
+                .select(summary())
+                .from(store)
+                .join(store.storeCategory, category)
                 .where(
                         isEndFalse(),
                         nameContains(name)
@@ -46,9 +60,11 @@ public class PopupStoreRepositoryImpl implements PopupStoreRepositoryCustom {
 
     // 신규 스토어 조회
     @Override
-    public List<PopupStore> findNewStores(LocalDateTime fromDate) {
+    public List<PopupStoreSummaryDto> findNewStores(LocalDateTime fromDate) {
         return queryFactory
-                .selectFrom(store)
+                .select(summary())
+                .from(store)
+                .join(store.storeCategory, category)
                 .where(
                         isEndFalse(),
                         createTimeAfter(fromDate)
@@ -57,40 +73,116 @@ public class PopupStoreRepositoryImpl implements PopupStoreRepositoryCustom {
                 .fetch();
     }
 
-    // 팝업 스토어 검색 필터링
+    // 오픈 예정 팝업 스토어 (오픈일, id 순)
     @Override
-    public List<PopupStore> findBySearchCondition(PopupStoreSearchReqDto searchDto) {
+    public List<PopupStoreSummaryDto> findAllFuturePopupStores(LocalDate today, CursorRequest request) {
         return queryFactory
-                .selectFrom(store)
-                .leftJoin(store.reservationAvailableSlots).fetchJoin()
-                .leftJoin(store.storeCategory).fetchJoin()
+                .select(summary())
+                .from(store)
+                .join(store.storeCategory, category)
                 .where(
-                        isEndFalse(),
-                        dateEquals(searchDto.getDate()),
-                        locationIn(searchDto.getLocations()),
-                        ratingGoe(searchDto.getRating()),
-                        categoryIn(searchDto.getCategoryIds())
+                        store.startDate.gt(today),
+                        CursorPredicates.after(store.startDate, store.id, request.getCursor(), Cursor::sortKeyAsDate, Order.ASC)
                 )
-                .orderBy(store.createTime.desc())
-                .distinct()
+                .orderBy(CursorPredicates.orderBy(store.startDate, store.id, Order.ASC))
+                .limit(request.fetchSize())
                 .fetch();
     }
 
-    // 비슷한 팝업 랜덤 추천
+    // 주소로 조회 (최신 등록순 = id 내림차순)
     @Override
-    public List<PopupStore> findSimilarStores(Long categoryId, Long currentStoreId, int limit) {
+    public List<PopupStoreSummaryDto> findByAddress(String address, CursorRequest request) {
         return queryFactory
-                .selectFrom(store)
+                .select(summary())
+                .from(store)
+                .join(store.storeCategory, category)
+                .where(
+                        store.address.contains(address),
+                        CursorPredicates.afterId(store.id, request.getCursor(), Order.DESC)
+                )
+                .orderBy(store.id.desc())
+                .limit(request.fetchSize())
+                .fetch();
+    }
+
+    // id 목록으로 조회 (순서는 호출하는 쪽에서 맞춤)
+    @Override
+    public List<PopupStoreSummaryDto> findSummariesByIds(List<Long> ids) {
+        return queryFactory
+                .select(summary())
+                .from(store)
+                .join(store.storeCategory, category)
+                .where(store.id.in(ids))
+                .fetch();
+    }
+
+    // 마감 임박 스토어 (전체 슬롯 합이 1~10인 스토어, 최신 등록순으로 limit개)
+    @Override
+    public List<PopupStoreSummaryDto> findDeadlineStores(int limit) {
+        return queryFactory
+                .select(summary())
+                .from(store)
+                .join(store.storeCategory, category)
                 .where(
                         isEndFalse(),
-                        store.storeCategory.id.eq(categoryId),
-                        store.id.ne(currentStoreId)  // 현재 스토어 제외
+                        store.id.in(JPAExpressions
+                                .select(slot.popupStore.id)
+                                .from(slot)
+                                .groupBy(slot.popupStore.id)
+                                .having(slot.totalSlot.sum().between(1, 10)))
                 )
-                .orderBy(Expressions.numberTemplate(Double.class, "function('rand')").asc())  // 랜덤 정렬
+                .orderBy(store.id.desc())
                 .limit(limit)
                 .fetch();
     }
 
+    // 팝업 스토어 검색 필터링
+    @Override
+    public List<PopupStoreSummaryDto> findBySearchCondition(PopupStoreSearchReqDto searchDto) {
+        return queryFactory
+                .select(summary())
+                .from(store)
+                .join(store.storeCategory, category)
+                .where(
+                        isEndFalse(),
+                        dateEquals(searchDto.getDate()),
+                        locationIn(searchDto.getLocations()),
+                        ratingGoe(searchDto.getRating()),
+                        categoryIn(searchDto.getCategoryIds())
+                )
+                .orderBy(store.createTime.desc())
+                .fetch();
+    }
+
+    // 목록 조회용 프로젝션 (연관 컬렉션 없이 비정규화 컬럼만 읽음)
+    private ConstructorExpression<PopupStoreSummaryDto> summary() {
+        return Projections.constructor(PopupStoreSummaryDto.class,
+                store.id,
+                store.name,
+                store.description,
+                store.location,
+                store.address,
+                store.startDate,
+                store.endDate,
+                store.openingTime,
+                store.closingTime,
+                store.availableSlot,
+                store.isActive,
+                store.isEnd,
+                store.rating,
+                category.name,
+                store.reservationType,
+                store.thumbnailUrl,
+                store.price,
+                store.homepageUrl,
+                store.instagramUrl,
+                store.blogUrl,
+                store.scrapCount,
+                store.almostFull,
+                store.viewCount,
+                store.reviewCount);
+    }
+
     // 조건식들
     private BooleanExpression isEndFalse() {
         return store.isEnd.eq(false);
@@ -0,0 +1,52 @@
+package com.poppy.domain.popupStore.repository;
+
+import com.poppy.domain.popupStore.event.PopupStoreViewEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 버퍼에 모인 조회 기록을 엔티티 없이 JDBC 배치로 저장
+@Repository
+@RequiredArgsConstructor
+public class PopupStoreViewJdbcRepository {
+    // 그 사이 삭제된 스토어의 기록은 FK 오류로 배치 전체가 실패하지 않도록 건너뜀
+    private static final String INSERT_SQL = """
+            INSERT INTO popup_store_views (popup_store_id, user_id, viewed_at)
+            SELECT p.id, ?, ? FROM popup_stores p WHERE p.id = ?
+            """;
+    private static final String INCREMENT_VIEW_COUNT_SQL = """
+            UPDATE popup_stores SET view_count = view_count + ? WHERE id = ?
+            """;
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 조회 기록과 스토어별 누적 조회수를 한 트랜잭션으로 반영 (실패 시 모두 롤백되어 다시 시도 가능)
+    @Transactional
+    public void batchInsert(List<PopupStoreViewEvent> events) {
+        if (events.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, BATCH_SIZE, (ps, event) -> {
+            if (event.getUserId() != null) ps.setLong(1, event.getUserId());
+            else ps.setNull(1, Types.BIGINT);
+            ps.setTimestamp(2, Timestamp.valueOf(event.getViewedAt()));
+            ps.setLong(3, event.getStoreId());
+        });
+
+        Map<Long, Long> countsByStore = events.stream()
+                .collect(Collectors.groupingBy(PopupStoreViewEvent::getStoreId, Collectors.counting()));
+        jdbcTemplate.batchUpdate(INCREMENT_VIEW_COUNT_SQL, new ArrayList<>(countsByStore.entrySet()), BATCH_SIZE,
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                });
+    }
+}
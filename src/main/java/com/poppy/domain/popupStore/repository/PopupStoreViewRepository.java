@@ -2,34 +2,45 @@ package com.poppy.domain.popupStore.repository;
 
 import com.poppy.domain.popupStore.entity.PopupStoreView;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 
 public interface PopupStoreViewRepository extends JpaRepository<PopupStoreView,Long> {
+    // 아직 집계하지 않은 가장 오래된 조회 시각 (첫 집계 시작점)
+    @Query("SELECT MIN(v.viewedAt) FROM PopupStoreView v")
+    LocalDateTime findOldestViewedAt();
 
-    // 현재 많이 찾는 팝업
-    @Query("SELECT v.popupStore.id, COUNT(v.id) AS viewCount " +
-            "FROM PopupStoreView v " +
-            "WHERE v.viewedAt >= :startTime " +
-            "GROUP BY v.popupStore.id " +
-            "ORDER BY viewCount DESC")
-    Page<Object[]> findPopularPopupStores(@Param("startTime") LocalDateTime startTime, Pageable pageable);
+    // 기준 시각 이전 원본 기록을 최대 batchSize개 삭제 (배치마다 짧은 트랜잭션)
+    @Modifying
+    @Transactional
+    @Query(value = """
+    DELETE FROM popup_store_views
+    WHERE viewed_at < :cutoff
+    ORDER BY viewed_at
+    LIMIT :batchSize
+""", nativeQuery = true)
+    int deleteViewedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
 
-    // 현재 많이 찾는 (카테고리) 팝업
-    @Query("SELECT v.popupStore.id, COUNT(v.id) AS viewCount " +
-            "FROM PopupStoreView v " +
-            "WHERE v.popupStore.storeCategory.id = :categoryId " +
-            "AND v.viewedAt >= :startTime " +
-            "GROUP BY v.popupStore.id " +
-            "ORDER BY viewCount DESC")
-    Page<Object[]> findPopularPopupStoresByCategory(
-            @Param("categoryId") Long categoryId,
-            @Param("startTime") LocalDateTime startTime,
-            Pageable pageable);
+    // 함께 본 스토어 (storeIds 각각을 본 유저가 since 이후 함께 본 진행 중/예정 스토어별 유저 수, 비로그인 조회 제외)
+    // 결과: (기준 스토어 id, 함께 본 스토어 id, 유저 수)
+    @Query(value = """
+    SELECT viewer.popup_store_id, other.popup_store_id, COUNT(DISTINCT other.user_id)
+    FROM (SELECT DISTINCT v.popup_store_id, v.user_id FROM popup_store_views v
+          WHERE v.popup_store_id IN (:storeIds) AND v.viewed_at >= :since AND v.user_id IS NOT NULL) viewer
+    JOIN popup_store_views other ON other.user_id = viewer.user_id
+    JOIN popup_stores p ON p.id = other.popup_store_id AND p.is_end = false AND p.end_date >= :today
+    WHERE other.viewed_at >= :since AND other.popup_store_id <> viewer.popup_store_id
+    GROUP BY viewer.popup_store_id, other.popup_store_id
+""", nativeQuery = true)
+    List<Object[]> countCoViewers(@Param("storeIds") List<Long> storeIds,
+                                  @Param("since") LocalDateTime since,
+                                  @Param("today") LocalDate today);
 }
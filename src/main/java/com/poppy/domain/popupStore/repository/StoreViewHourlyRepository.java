@@ -0,0 +1,30 @@
+package com.poppy.domain.popupStore.repository;
+
+import com.poppy.domain.popupStore.entity.StoreViewHourly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface StoreViewHourlyRepository extends JpaRepository<StoreViewHourly, Long> {
+    // 마지막으로 집계한 시간 구간
+    @Query("SELECT MAX(s.viewHour) FROM StoreViewHourly s")
+    LocalDateTime findLatestHour();
+
+    // 한 시간 구간의 원본 조회 기록을 스토어별로 집계 (다시 실행해도 같은 결과로 덮어씀)
+    @Modifying
+    @Transactional
+    @Query(value = """
+    INSERT INTO store_view_hourly (store_id, hour, count, unique_users)
+    SELECT v.popup_store_id, :hourStart, COUNT(*), COUNT(DISTINCT v.user_id)
+    FROM popup_store_views v
+    WHERE v.viewed_at >= :hourStart
+    AND v.viewed_at < :hourEnd
+    GROUP BY v.popup_store_id
+    ON DUPLICATE KEY UPDATE count = VALUES(count), unique_users = VALUES(unique_users)
+""", nativeQuery = true)
+    int rollupHour(@Param("hourStart") LocalDateTime hourStart, @Param("hourEnd") LocalDateTime hourEnd);
+}
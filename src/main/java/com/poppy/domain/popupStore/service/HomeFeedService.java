@@ -0,0 +1,157 @@
+package com.poppy.domain.popupStore.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poppy.common.api.RspTemplate;
+import com.poppy.common.config.redis.DistributedLockService;
+import com.poppy.common.exception.BusinessException;
+import com.poppy.common.pagination.CursorRequest;
+import com.poppy.domain.popupStore.dto.response.HomeFeedRspDto;
+import com.poppy.domain.popupStore.dto.response.PopupStoreRspDto;
+import com.poppy.domain.storeCategory.entity.StoreCategory;
+import com.poppy.domain.storeCategory.repository.StoreCategoryRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*
+ * 홈 피드 스냅샷
+ *
+ * - REBUILD_INTERVAL_MILLIS마다 락을 잡은 한 노드만 목록을 조회해 응답 JSON을 만들고 ETag와 함께 Redis 해시에 저장
+ * - 모든 노드는 SYNC_INTERVAL_MILLIS마다 ETag만 비교해 바뀐 경우에만 본문을 받아 로컬 스냅샷 교체
+ * - 요청은 로컬 스냅샷 바이트를 그대로 응답 (DB/Redis 호출 없음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HomeFeedService {
+    private static final String SNAPSHOT_KEY = "home-feed:snapshot";
+    private static final String ETAG_FIELD = "etag";
+    private static final String BODY_FIELD = "body";
+    private static final long REBUILD_INTERVAL_MILLIS = 30_000L;
+    private static final long SYNC_INTERVAL_MILLIS = 5_000L;
+    private static final int FUTURE_STORE_SIZE = 20;    // 오픈 예정은 첫 페이지만 (나머지는 /future 페이지 조회)
+
+    private final PopupStoreService popupStoreService;
+    private final StoreCategoryRepository storeCategoryRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final DistributedLockService lockService;
+
+    private volatile Snapshot snapshot;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final String etag;
+        private final byte[] body;   // RspTemplate으로 감싼 응답 JSON
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+        syncFromRedis();
+    }
+
+    @Scheduled(fixedDelay = REBUILD_INTERVAL_MILLIS, initialDelay = REBUILD_INTERVAL_MILLIS)
+    public void rebuild() {
+        if (!lockService.tryLock(DistributedLockService.HOME_FEED_LOCK, 0L, 30L)) return;
+
+        try {
+            Snapshot built = build();
+            redisTemplate.opsForHash().putAll(SNAPSHOT_KEY, Map.of(
+                    ETAG_FIELD, built.getEtag(),
+                    BODY_FIELD, new String(built.getBody(), StandardCharsets.UTF_8)));
+            snapshot = built;
+        } catch (Exception e) {
+            log.error("Failed to rebuild home feed snapshot: {}", e.getMessage(), e);
+        } finally {
+            lockService.unlock(DistributedLockService.HOME_FEED_LOCK);
+        }
+    }
+
+    @Scheduled(fixedDelay = SYNC_INTERVAL_MILLIS, initialDelay = SYNC_INTERVAL_MILLIS)
+    public void syncFromRedis() {
+        try {
+            Object etag = redisTemplate.opsForHash().get(SNAPSHOT_KEY, ETAG_FIELD);
+            Snapshot current = snapshot;
+            if (etag == null || (current != null && current.getEtag().equals(etag))) return;
+
+            // ETag와 본문을 한 번에 읽어 서로 다른 버전이 섞이지 않도록 함
+            List<Object> values = redisTemplate.opsForHash().multiGet(SNAPSHOT_KEY, List.of(ETAG_FIELD, BODY_FIELD));
+            if (values.get(0) == null || values.get(1) == null) return;
+            snapshot = new Snapshot((String) values.get(0), ((String) values.get(1)).getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            log.warn("Failed to sync home feed snapshot: {}", e.getMessage());
+        }
+    }
+
+    // 시작 직후 아직 스냅샷이 없으면 이 노드에서 직접 구성 (Redis에는 쓰지 않음)
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null) return current;
+
+        syncFromRedis();
+        if (snapshot == null) snapshot = build();
+        return snapshot;
+    }
+
+    private Snapshot build() {
+        List<HomeFeedRspDto.CategoryStores> popularByCategory = new ArrayList<>();
+        for (StoreCategory category : storeCategoryRepository.findAll()) {
+            List<PopupStoreRspDto> stores = orEmpty(() -> popupStoreService.getPopularPopupStoresByCategory(category.getId()));
+            if (!stores.isEmpty())
+                popularByCategory.add(new HomeFeedRspDto.CategoryStores(category.getId(), category.getName(), stores));
+        }
+
+        HomeFeedRspDto feed = HomeFeedRspDto.builder()
+                .newStores(orEmpty(popupStoreService::getNewStores))
+                .popularStores(orEmpty(popupStoreService::getPopularPopupStores))
+                .deadlineStores(orEmpty(popupStoreService::getDeadlinePopupStores))
+                .futureStores(orEmpty(() -> popupStoreService.getAllFuturePopupStores(CursorRequest.first(FUTURE_STORE_SIZE)).getContent()))
+                .popularStoresByCategory(popularByCategory)
+                .build();
+
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(new RspTemplate<>(HttpStatus.OK, "홈 피드 조회 성공", feed));
+            return new Snapshot(etagOf(body), body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize home feed", e);
+        }
+    }
+
+    // 목록이 비어 있으면 STORE_NOT_FOUND를 던지는 조회들도 홈에서는 빈 목록으로 처리
+    private List<PopupStoreRspDto> orEmpty(Supplier<List<PopupStoreRspDto>> loader) {
+        try {
+            return loader.get();
+        } catch (BusinessException e) {
+            return new ArrayList<>();
+        }
+    }
+
+    // 내용이 같으면 같은 ETag가 나오도록 본문 해시 사용
+    static String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
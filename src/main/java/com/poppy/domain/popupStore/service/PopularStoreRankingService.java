@@ -0,0 +1,148 @@
+package com.poppy.domain.popupStore.service;
+
+import com.poppy.common.config.redis.DistributedLockService;
+import com.poppy.domain.popupStore.event.PopupStoreViewEvent;
+import com.poppy.domain.storeCategory.entity.StoreCategory;
+import com.poppy.domain.storeCategory.repository.StoreCategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 3시간 내 인기 팝업스토어 순위
+ *
+ * - 조회 버퍼 플러시마다 스토어별 조회수를 10분 단위 버킷 ZSET(전체 / 카테고리별)에 파이프라인으로 반영
+ * - 1분마다 최근 3시간 버킷을 합산(ZUNIONSTORE)해 상위 RANKING_SIZE개만 현재 순위로 교체
+ * - 조회는 현재 순위 ZSET의 ZREVRANGE 한 번 (원본 조회 기록 수와 무관)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PopularStoreRankingService {
+    private static final String KEY_PREFIX = "popular:stores:";
+    private static final String CATEGORY_KEY_PREFIX = "popular:stores:category:";
+
+    static final long BUCKET_SECONDS = 10 * 60L;
+    static final int WINDOW_BUCKETS = 18;               // 3시간
+    private static final long BUCKET_TTL_SECONDS = BUCKET_SECONDS * (WINDOW_BUCKETS + 1);
+    private static final int RANKING_SIZE = 100;        // 현재 순위에 유지할 최대 스토어 수
+    private static final long REFRESH_INTERVAL_MILLIS = 60 * 1000L;
+    private static final String REFRESH_LOCK = "popular-store-ranking-lock";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final StoreCategoryRepository storeCategoryRepository;
+    private final DistributedLockService lockService;
+
+    // KEYS[1]: 현재 순위, KEYS[2]: 임시 키, KEYS[3..]: 버킷 / ARGV[1]: 유지 개수
+    private static final DefaultRedisScript<Long> ROLL_WINDOW_SCRIPT = new DefaultRedisScript<>("""
+            local size = redis.call('ZUNIONSTORE', KEYS[2], #KEYS - 2, unpack(KEYS, 3))
+            if size == 0 then
+                redis.call('DEL', KEYS[1])
+                return 0
+            end
+            redis.call('ZREMRANGEBYRANK', KEYS[2], 0, -(tonumber(ARGV[1]) + 1))
+            redis.call('RENAME', KEYS[2], KEYS[1])
+            return size
+            """, Long.class);
+
+    // 저장이 끝난 조회 기록만 반영 (저장 실패로 재시도되는 기록이 두 번 세어지지 않도록)
+    public void incrementViews(List<PopupStoreViewEvent> events) {
+        Map<Long, Long> countsByStore = new HashMap<>();
+        Map<Long, Long> categoryByStore = new HashMap<>();
+        for (PopupStoreViewEvent event : events) {
+            countsByStore.merge(event.getStoreId(), 1L, Long::sum);
+            if (event.getCategoryId() != null) categoryByStore.put(event.getStoreId(), event.getCategoryId());
+        }
+        if (countsByStore.isEmpty()) return;
+
+        long bucket = currentBucket();
+        String globalKey = bucketKeyOf(null, bucket);
+        redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                Set<String> touchedKeys = new HashSet<>();
+                touchedKeys.add(globalKey);
+                countsByStore.forEach((storeId, count) -> {
+                    String member = String.valueOf(storeId);
+                    operations.opsForZSet().incrementScore(globalKey, member, count);
+
+                    Long categoryId = categoryByStore.get(storeId);
+                    if (categoryId != null) {
+                        String categoryKey = bucketKeyOf(categoryId, bucket);
+                        operations.opsForZSet().incrementScore(categoryKey, member, count);
+                        touchedKeys.add(categoryKey);
+                    }
+                });
+                touchedKeys.forEach(key -> operations.expire(key, BUCKET_TTL_SECONDS, TimeUnit.SECONDS));
+                return null;
+            }
+        });
+    }
+
+    // 상위 size개 스토어 id (조회수 내림차순)
+    public List<Long> getPopularStoreIds(int size) {
+        return readRanking(currentKeyOf(null), size);
+    }
+
+    public List<Long> getPopularStoreIds(Long categoryId, int size) {
+        return readRanking(currentKeyOf(categoryId), size);
+    }
+
+    // 여러 노드에서 실행해도 결과는 같지만 중복 작업을 피하기 위해 한 노드에서만 갱신
+    @Scheduled(fixedDelay = REFRESH_INTERVAL_MILLIS)
+    public void refreshRankings() {
+        if (!lockService.tryLock(REFRESH_LOCK, 0L, 30L)) return;
+
+        try {
+            long bucket = currentBucket();
+            refreshWindow(null, bucket);
+            for (StoreCategory category : storeCategoryRepository.findAll()) {
+                refreshWindow(category.getId(), bucket);
+            }
+        } catch (Exception e) {
+            log.error("Failed to refresh popular store rankings: {}", e.getMessage(), e);
+        } finally {
+            lockService.unlock(REFRESH_LOCK);
+        }
+    }
+
+    void refreshWindow(Long categoryId, long bucket) {
+        List<String> keys = new ArrayList<>(WINDOW_BUCKETS + 2);
+        keys.add(currentKeyOf(categoryId));
+        keys.add(currentKeyOf(categoryId) + ":tmp");
+        for (int i = 0; i < WINDOW_BUCKETS; i++) keys.add(bucketKeyOf(categoryId, bucket - i));
+
+        redisTemplate.execute(ROLL_WINDOW_SCRIPT, keys, String.valueOf(RANKING_SIZE));
+    }
+
+    private List<Long> readRanking(String key, int size) {
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(key, 0, size - 1);
+        if (members == null) return new ArrayList<>();
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    static long currentBucket() {
+        return System.currentTimeMillis() / 1000 / BUCKET_SECONDS;
+    }
+
+    static String bucketKeyOf(Long categoryId, long bucket) {
+        return scopePrefix(categoryId) + "bucket:" + bucket;
+    }
+
+    static String currentKeyOf(Long categoryId) {
+        return scopePrefix(categoryId) + "current";
+    }
+
+    private static String scopePrefix(Long categoryId) {
+        return categoryId == null ? KEY_PREFIX : CATEGORY_KEY_PREFIX + categoryId + ":";
+    }
+}
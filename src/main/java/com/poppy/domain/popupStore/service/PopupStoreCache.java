@@ -0,0 +1,138 @@
+package com.poppy.domain.popupStore.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.poppy.common.exception.BusinessException;
+import com.poppy.common.exception.ErrorCode;
+import com.poppy.domain.popupStore.dto.response.PopupStoreRspDto;
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.event.PopupStoreChangedEvent;
+import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/*
+ * 팝업스토어 상세 2단 캐시
+ *
+ * - L1: 노드별 Caffeine (LOCAL_TTL), L2: Redis JSON (SHARED_TTL), 둘 다 없으면 DB 한 번 조회 후 L2에 저장
+ * - 같은 스토어를 동시에 요청해도 Caffeine이 키 단위로 적재를 한 번만 수행 (나머지는 결과를 기다림)
+ * - 변경 이벤트(PopupStoreChangedEvent)를 모든 노드가 받아 L1 제거 + L2 삭제
+ * - 적재 중 무효화가 끼어들면 이전 값이 L2에 남을 수 있으나 SHARED_TTL 안에 만료됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PopupStoreCache {
+    private static final String KEY_PREFIX = "popup-store:detail:";
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(60);
+    private static final long LOCAL_MAX_SIZE = 10_000;
+    private static final Duration SHARED_TTL = Duration.ofMinutes(10);
+
+    private final PopupStoreRepository popupStoreRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Cache<Long, Entry> localCache = Caffeine.newBuilder()
+            .maximumSize(LOCAL_MAX_SIZE)
+            .expireAfterWrite(LOCAL_TTL)
+            .recordStats()
+            .build();
+
+    // 상세 응답(스크랩 여부 제외)과 권한/조회에 필요한 식별자
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private Long id;
+        private Long categoryId;
+        private Long masterUserId;
+        private String name;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private PopupStoreRspDto detail;
+
+        public static Entry of(PopupStore store) {
+            return new Entry(
+                    store.getId(),
+                    store.getStoreCategory().getId(),
+                    store.getMasterUser().getId(),
+                    store.getName(),
+                    store.getStartDate(),
+                    store.getEndDate(),
+                    PopupStoreRspDto.from(store));
+        }
+    }
+
+    // L1 적중률은 cache.gets{cache=popup-store-detail, result=hit|miss}, L2는 store.cache.shared{result=hit|miss}
+    @PostConstruct
+    public void registerMetrics() {
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "popup-store-detail");
+    }
+
+    public Entry get(Long storeId) {
+        Entry entry = localCache.get(storeId, this::loadShared);
+        if (entry == null) throw new BusinessException(ErrorCode.STORE_NOT_FOUND);
+        return entry;
+    }
+
+    @EventListener
+    public void onStoreChanged(PopupStoreChangedEvent event) {
+        evict(event.getStoreId());
+    }
+
+    public void evict(Long storeId) {
+        localCache.invalidate(storeId);
+        try {
+            redisTemplate.delete(keyOf(storeId));
+        } catch (Exception e) {
+            log.warn("Failed to evict shared store cache - storeId: {}: {}", storeId, e.getMessage());
+        }
+    }
+
+    // null을 반환하면 L1에도 저장되지 않음 (없는 스토어는 캐시하지 않음)
+    private Entry loadShared(Long storeId) {
+        String key = keyOf(storeId);
+
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                meterRegistry.counter("store.cache.shared", "result", "hit").increment();
+                return objectMapper.readValue(cached, Entry.class);
+            }
+        } catch (Exception e) {
+            // Redis 장애나 이전 형식의 값이면 DB에서 다시 적재
+            log.warn("Failed to read shared store cache - storeId: {}: {}", storeId, e.getMessage());
+        }
+        meterRegistry.counter("store.cache.shared", "result", "miss").increment();
+
+        Entry entry = popupStoreRepository.findDetailById(storeId)
+                .map(Entry::of)
+                .orElse(null);
+        if (entry == null) return null;
+
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(entry), SHARED_TTL);
+        } catch (Exception e) {
+            log.warn("Failed to write shared store cache - storeId: {}: {}", storeId, e.getMessage());
+        }
+        return entry;
+    }
+
+    private static String keyOf(Long storeId) {
+        return KEY_PREFIX + storeId;
+    }
+}
@@ -4,31 +4,35 @@ import com.poppy.admin.service.AsyncRedisSlotInitializationService;
 import com.poppy.common.entity.Images;
 import com.poppy.common.exception.BusinessException;
 import com.poppy.common.exception.ErrorCode;
+import com.poppy.common.geo.Geocoder;
+import com.poppy.common.pagination.Cursor;
+import com.poppy.common.pagination.CursorPage;
+import com.poppy.common.pagination.CursorRequest;
 import com.poppy.common.service.ImageService;
 import com.poppy.domain.popupStore.dto.request.PopupStoreSearchReqDto;
 import com.poppy.domain.popupStore.dto.request.PopupStoreUpdateReqDto;
 import com.poppy.domain.popupStore.dto.response.PopupStoreCalenderRspDto;
 import com.poppy.domain.popupStore.dto.response.PopupStoreRspDto;
+import com.poppy.domain.popupStore.dto.response.PopupStoreSummaryDto;
 import com.poppy.domain.popupStore.entity.PopupStore;
-import com.poppy.domain.popupStore.entity.PopupStoreView;
 import com.poppy.domain.popupStore.entity.ReservationType;
+import com.poppy.domain.popupStore.event.PopupStoreChangedEvent;
+import com.poppy.domain.popupStore.event.PopupStoreEventPublisher;
 import com.poppy.domain.popupStore.repository.PopupStoreRepository;
 import com.poppy.domain.popupStore.dto.response.ReservationAvailableSlotRspDto;
-import com.poppy.domain.popupStore.repository.PopupStoreViewRepository;
 import com.poppy.domain.reservation.entity.PopupStoreStatus;
 import com.poppy.domain.reservation.entity.ReservationAvailableSlot;
 import com.poppy.domain.reservation.repository.ReservationAvailableSlotRepository;
 import com.poppy.domain.reservation.repository.ReservationRepository;
 import com.poppy.domain.scrap.repository.ScrapRepository;
+import com.poppy.domain.search.service.StoreFacetIndexService;
 import com.poppy.domain.storeCategory.entity.StoreCategory;
 import com.poppy.domain.storeCategory.repository.StoreCategoryRepository;
 import com.poppy.domain.user.entity.Role;
 import com.poppy.domain.user.entity.User;
 import com.poppy.domain.user.repository.LoginUserProvider;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -44,49 +48,62 @@ import java.util.stream.Collectors;
 public class PopupStoreService {
     private final PopupStoreRepository popupStoreRepository;
     private final ReservationAvailableSlotRepository reservationAvailableSlotRepository;
-    private final PopupStoreViewRepository popupStoreViewRepository;
     private final StoreCategoryRepository storeCategoryRepository;
     private final ReservationRepository reservationRepository;
     private final ScrapRepository scrapRepository;
     private final ImageService imageService;
     private final LoginUserProvider loginUserProvider;
     private final AsyncRedisSlotInitializationService asyncRedisSlotService;
+    private final PopupStoreEventPublisher popupStoreEventPublisher;
+    private final Geocoder geocoder;
+    private final StoreFacetIndexService storeFacetIndexService;
+    private final PopupStoreViewBuffer popupStoreViewBuffer;
+    private final PopularStoreRankingService popularStoreRankingService;
+    private final SimilarStoreService similarStoreService;
+    private final PopupStoreCache popupStoreCache;
+
+    private static final int POPULAR_STORE_SIZE = 10;   // 인기 팝업 상위 10개
+    private static final int SIMILAR_STORE_SIZE = 5;    // 비슷한 팝업 5개
+    private static final int DEADLINE_STORE_SIZE = 10;  // 마감 임박 팝업 10개
 
     // 전체 목록 조회
     @Transactional(readOnly = true)
-    public List<PopupStoreRspDto> getAllActiveStores() {
-        List<PopupStore> stores = popupStoreRepository.findAllActive();
-        return stores.stream()
-                .map(PopupStoreRspDto::from)
-                .collect(Collectors.toList());
+    public CursorPage<PopupStoreRspDto> getAllActiveStores(CursorRequest request) {
+        List<PopupStoreSummaryDto> stores = popupStoreRepository.findAllActive(request);
+        return CursorPage.of(stores, request, store -> Cursor.ofId(store.getId()))
+                .map(PopupStoreRspDto::from);
     }
 
-    // 팝업 스토어 상세 조회
-    @Transactional
+    // 팝업 스토어 상세 조회 (스토어 정보는 캐시, 스크랩 여부만 요청마다 조회)
     public PopupStoreRspDto getPopupStore(Long id) {
         User user = loginUserProvider.getLoggedInUserOrNull();
 
-        PopupStore popupStore = popupStoreRepository.findById(id)
-                .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
+        PopupStoreCache.Entry popupStore = popupStoreCache.get(id);
 
-        // 조회 기록 추가 (PopupStoreView에 추가)
-        PopupStoreView view = PopupStoreView.builder()
-                .popupStore(popupStore)
-                .viewedAt(LocalDateTime.now())
-                .user(user)     // 로그인하지 않은 유저인 경우 null로 처리
-                .build();
-        popupStoreViewRepository.save(view);
+        // 조회 기록은 버퍼에 넣고 주기적으로 배치 저장 (로그인하지 않은 유저인 경우 null로 처리)
+        popupStoreViewBuffer.record(id, popupStore.getCategoryId(), user != null ? user.getId() : null);
 
         boolean isScraped = false;
         if (user != null) isScraped = scrapRepository.existsByUserIdAndPopupStoreId(user.getId(), id);
 
-        return PopupStoreRspDto.of(popupStore, isScraped);
+        return popupStore.getDetail().toBuilder()
+                .isScraped(isScraped)
+                .build();
+    }
+
+    // 팝업 스토어 이름 조회 (조회 기록 없이 캐시에서)
+    public String getPopupStoreName(Long id) {
+        return popupStoreCache.get(id).getName();
     }
 
     // 팝업 스토어 조회 필터링
     @Transactional(readOnly = true)
     public List<PopupStoreRspDto> searchFiltering(PopupStoreSearchReqDto popupStoreSearchReqDto) {
-        List<PopupStore> stores = popupStoreRepository.findBySearchCondition(popupStoreSearchReqDto);
+        // 인덱스로 id만 추린 뒤 해당 스토어만 조회 (인덱스 구성 전에는 DB 조건 검색)
+        if (storeFacetIndexService.isReady())
+            return getStoresByIds(storeFacetIndexService.search(popupStoreSearchReqDto));
+
+        List<PopupStoreSummaryDto> stores = popupStoreRepository.findBySearchCondition(popupStoreSearchReqDto);
         return stores.stream()
                 .map(PopupStoreRspDto::from)
                 .collect(Collectors.toList());
@@ -95,7 +112,7 @@ public class PopupStoreService {
     // 이름으로 검색
     @Transactional(readOnly = true)
     public List<PopupStoreRspDto> searchStoresByName(String name) {
-        List<PopupStore> stores = popupStoreRepository.findByKeyword(name);
+        List<PopupStoreSummaryDto> stores = popupStoreRepository.findByKeyword(name);
         if(stores.isEmpty()) throw new BusinessException(ErrorCode.STORE_NOT_FOUND);
 
         return stores.stream()
@@ -103,11 +120,26 @@ public class PopupStoreService {
                 .collect(Collectors.toList());
     }
 
+    // id 목록 순서대로 조회 (검색 인덱스 결과 변환용)
+    @Transactional(readOnly = true)
+    public List<PopupStoreRspDto> getStoresByIds(List<Long> ids) {
+        if (ids.isEmpty()) return new ArrayList<>();
+
+        Map<Long, PopupStoreSummaryDto> storesById = popupStoreRepository.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(PopupStoreSummaryDto::getId, store -> store));
+
+        return ids.stream()
+                .map(storesById::get)
+                .filter(Objects::nonNull)
+                .map(PopupStoreRspDto::from)
+                .collect(Collectors.toList());
+    }
+
     // 신규 스토어 조회 (일주일 이내)
     @Transactional(readOnly = true)
     public List<PopupStoreRspDto> getNewStores() {
         LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
-        List<PopupStore> stores = popupStoreRepository.findNewStores(weekAgo);
+        List<PopupStoreSummaryDto> stores = popupStoreRepository.findNewStores(weekAgo);
         if (stores.isEmpty()) {
             throw new BusinessException(ErrorCode.STORE_NOT_FOUND);
         }
@@ -118,84 +150,49 @@ public class PopupStoreService {
 
     // 오픈 예정 팝업 스토어
     @Transactional(readOnly = true)
-    public List<PopupStoreRspDto> getAllFuturePopupStores() {
+    public CursorPage<PopupStoreRspDto> getAllFuturePopupStores(CursorRequest request) {
         LocalDate today = LocalDate.now();
 
-        List<PopupStore> stores = popupStoreRepository.findAllFuturePopupStores(today);
+        List<PopupStoreSummaryDto> stores = popupStoreRepository.findAllFuturePopupStores(today, request);
 
-        return stores.stream()
-                .map(PopupStoreRspDto::from)
-                .collect(Collectors.toList());
+        return CursorPage.of(stores, request, store -> Cursor.of(store.getStartDate(), store.getId()))
+                .map(PopupStoreRspDto::from);
     }
 
-    // 3시간 내 인기 팝업 스토어 조회
+    // 3시간 내 인기 팝업 스토어 조회 (10분 단위 조회수 버킷을 합산한 순위)
     @Transactional(readOnly = true)
     public List<PopupStoreRspDto> getPopularPopupStores() {
-
-        LocalDateTime startTime = LocalDateTime.now().minusHours(3);
-
-        Pageable pageable = PageRequest.of(0, 10);
-        Page<Object[]> results = popupStoreViewRepository.findPopularPopupStores(startTime, pageable);
-
-        List<Long> popupStoreIds = results.getContent().stream()
-                .map(result -> (Long) result[0])
-                .collect(Collectors.toList());
-
-        List<PopupStore> stores = popupStoreRepository.findAllById(popupStoreIds);
-
-        return stores.stream()
-                .map(PopupStoreRspDto::from)
-                .collect(Collectors.toList());
+        return getStoresByIds(popularStoreRankingService.getPopularStoreIds(POPULAR_STORE_SIZE));
     }
 
     // 지금 주목해야 할 (카테고리) 팝업
     @Transactional(readOnly = true)
     public List<PopupStoreRspDto> getPopularPopupStoresByCategory(Long categoryId) {
-        LocalDateTime startTime = LocalDateTime.now().minusHours(3);
-        Pageable pageable = PageRequest.of(0, 10); // 상위 10개 조회
+        List<Long> popupStoreIds = popularStoreRankingService.getPopularStoreIds(categoryId, POPULAR_STORE_SIZE);
+        if (popupStoreIds.isEmpty()) throw new BusinessException(ErrorCode.STORE_NOT_FOUND);
 
-        Page<Object[]> results = popupStoreViewRepository.findPopularPopupStoresByCategory(
-                categoryId,
-                startTime,
-                pageable
-        );
-
-        if (results.isEmpty()) throw new BusinessException(ErrorCode.STORE_NOT_FOUND);
-
-        List<Long> popupStoreIds = results.getContent().stream()
-                .map(result -> (Long) result[0])
-                .collect(Collectors.toList());
-
-        List<PopupStore> stores = popupStoreRepository.findAllById(popupStoreIds);
-
-        return stores.stream()
-                .map(PopupStoreRspDto::from)
-                .collect(Collectors.toList());
+        return getStoresByIds(popupStoreIds);
     }
 
-    // 비슷한 팝업 추천
+    // 비슷한 팝업 추천 (미리 계산해 둔 이웃 목록 조회, 아직 계산되지 않은 스토어는 같은 카테고리 평점순)
+    @Transactional(readOnly = true)
     public List<PopupStoreRspDto> getSimilarStore(Long id) {
-        // 현재 팝업스토어 조회
-        PopupStore currentStore = popupStoreRepository.findById(id)
-                .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
+        PopupStoreCache.Entry store = popupStoreCache.get(id);    // 없는 스토어면 STORE_NOT_FOUND
 
-        // 현재 스토어의 카테고리 ID로 비슷한 스토어 조회
-        List<PopupStore> stores = popupStoreRepository.findSimilarStores(
-                currentStore.getStoreCategory().getId(),
-                id,
-                5
-        );
+        List<Long> similarIds = similarStoreService.getSimilarStoreIds(id, SIMILAR_STORE_SIZE)
+                .orElseGet(() -> popupStoreRepository.findSameCategoryStoreIds(
+                        store.getCategoryId(), id, LocalDate.now(), PageRequest.of(0, SIMILAR_STORE_SIZE)));
 
-        return stores.stream()
-                .map(PopupStoreRspDto::from)
+        return getStoresByIds(similarIds).stream()
+                .filter(store -> !Boolean.TRUE.equals(store.getIsEnd()))   // 다음 재계산 전에 종료된 스토어 제외
                 .collect(Collectors.toList());
     }
 
     // 마감 임박 팝업스토어 반환
+    @Transactional(readOnly = true)
     public List<PopupStoreRspDto> getDeadlinePopupStores() {
-        return popupStoreRepository.findAllByTotalSlotLessOrEqualTo10()
+        return popupStoreRepository.findDeadlineStores(DEADLINE_STORE_SIZE)
                 .stream()
-                .limit(10)
                 .map(PopupStoreRspDto::from)
                 .collect(Collectors.toList());
     }
@@ -203,8 +200,7 @@ public class PopupStoreService {
     // 팝업 스토어 캘린더 반환
     @Transactional(readOnly = true)
     public PopupStoreCalenderRspDto getCalender(Long id) {
-        PopupStore popupStore = popupStoreRepository.findById(id)
-                .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
+        PopupStoreCache.Entry popupStore = popupStoreCache.get(id);
 
         // 오늘 이전 날짜는 예약 가능일 설정 X
         LocalDate now = LocalDate.now();
@@ -339,12 +335,11 @@ public class PopupStoreService {
     // 특정 날짜의 예약 가능 시간대 조회
     @Transactional(readOnly = true)
     public List<ReservationAvailableSlotRspDto> getAvailableSlots(Long storeId, LocalDate date) {
-        // 팝업 스토어 조회
-        PopupStore popupStore = popupStoreRepository.findById(storeId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
+        // 팝업 스토어 존재 확인
+        popupStoreCache.get(storeId);
 
         // 특정 날짜의 예약 가능한 슬롯 조회
-        List<ReservationAvailableSlot> slots = reservationAvailableSlotRepository.findByPopupStoreAndDate(popupStore, date);
+        List<ReservationAvailableSlot> slots = reservationAvailableSlotRepository.findByPopupStoreIdAndDate(storeId, date);
 
         if(slots.isEmpty()) throw new BusinessException(ErrorCode.SLOT_NOT_FOUND); // 슬롯이 없는 경우
 
@@ -366,11 +361,10 @@ public class PopupStoreService {
 
     // 특정 구역으로 반환
     @Transactional(readOnly = true)
-    public List<PopupStoreRspDto> getStoresByAddress(String address) {
-        return popupStoreRepository.findByAddress(address)
-                .stream()
-                .map(PopupStoreRspDto::from)
-                .collect(Collectors.toList());
+    public CursorPage<PopupStoreRspDto> getStoresByAddress(String address, CursorRequest request) {
+        List<PopupStoreSummaryDto> stores = popupStoreRepository.findByAddress(address, request);
+        return CursorPage.of(stores, request, store -> Cursor.ofId(store.getId()))
+                .map(PopupStoreRspDto::from);
     }
 
     // 팝업스토어 수정
@@ -448,6 +442,7 @@ public class PopupStoreService {
                         popupStore.getImages().add(image);
                     }
                 });
+                popupStore.refreshThumbnailUrl();
 
             } catch (Exception e) {
                 throw new BusinessException(ErrorCode.IMAGE_UPDATE_FAILED);
@@ -492,8 +487,13 @@ public class PopupStoreService {
             }
         }
 
+        // 주소가 바뀌면 좌표 재계산
+        if (reqDto.getAddress() != null && !reqDto.getAddress().equals(popupStore.getAddress()))
+            popupStore.updateCoordinates(geocoder.geocode(reqDto.getAddress()).orElse(null));
+
         // 엔티티 업데이트
         popupStore.updateDetails(reqDto);
+        popupStoreEventPublisher.publish(popupStore.getId(), PopupStoreChangedEvent.Type.UPDATED);
 
         return PopupStoreRspDto.from(popupStore);
     }
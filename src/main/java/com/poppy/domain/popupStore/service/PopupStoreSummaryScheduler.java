@@ -0,0 +1,78 @@
+package com.poppy.domain.popupStore.service;
+
+import com.poppy.common.config.redis.DistributedLockService;
+import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+// 목록 조회용 비정규화 컬럼(almostFull, reviewCount, viewCount, thumbnailUrl) 갱신
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PopupStoreSummaryScheduler {
+    private static final long ALMOST_FULL_INTERVAL_MILLIS = 5 * 60 * 1000L;  // 마감임박 여부는 5분마다 갱신
+    private static final String RECONCILE_SCHEDULE = "0 30 4 * * *";  // 매일 새벽 4시 30분에 전체 보정
+    private static final long RECONCILE_CHUNK_SIZE = 1000L;    // UPDATE 한 번에 보정할 id 범위
+
+    private final PopupStoreRepository popupStoreRepository;
+    private final ReservationAvailableSlotRepository reservationAvailableSlotRepository;
+    private final DistributedLockService lockService;
+
+    // 배포 직후 기존 스토어의 컬럼을 채우기 위해 시작 시에도 한 번 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void refreshOnStartup() {
+        reconcileSummaryColumns();
+        refreshAlmostFull();
+    }
+
+    @Scheduled(fixedDelay = ALMOST_FULL_INTERVAL_MILLIS, initialDelay = ALMOST_FULL_INTERVAL_MILLIS)
+    public void refreshAlmostFull() {
+        if (!lockService.tryLock(DistributedLockService.POPUP_STORE_SUMMARY_LOCK, 0L, 60L)) {
+            log.debug("Failed to acquire popup store summary lock. Skipping almost full refresh.");
+            return;
+        }
+
+        try {
+            List<Long> almostFullIds = reservationAvailableSlotRepository.findAlmostFullStoreIds(LocalDate.now(), LocalTime.now());
+            int updated = almostFullIds.isEmpty()
+                    ? popupStoreRepository.clearAlmostFull()
+                    : popupStoreRepository.updateAlmostFull(almostFullIds);
+            log.debug("Refreshed almost full flag for {} stores ({} almost full)", updated, almostFullIds.size());
+        } catch (Exception e) {
+            log.error("Failed to refresh almost full flag: {}", e.getMessage(), e);
+        } finally {
+            lockService.unlock(DistributedLockService.POPUP_STORE_SUMMARY_LOCK);
+        }
+    }
+
+    // 작성/삭제 시 갱신에서 빠진 값이 있어도 원본 테이블 기준으로 맞춤 (id 범위별 짧은 트랜잭션)
+    @Scheduled(cron = RECONCILE_SCHEDULE)
+    public void reconcileSummaryColumns() {
+        if (!lockService.tryLock(DistributedLockService.POPUP_STORE_SUMMARY_LOCK, 10L, 600L)) {
+            log.debug("Failed to acquire popup store summary lock. Skipping reconciliation.");
+            return;
+        }
+
+        try {
+            long maxId = popupStoreRepository.findMaxId();
+            int updated = 0;
+            for (long fromId = 0; fromId < maxId; fromId += RECONCILE_CHUNK_SIZE) {
+                updated += popupStoreRepository.reconcileSummaryColumns(fromId, fromId + RECONCILE_CHUNK_SIZE);
+            }
+            log.info("Reconciled summary columns for {} stores", updated);
+        } catch (Exception e) {
+            log.error("Failed to reconcile popup store summary columns: {}", e.getMessage(), e);
+        } finally {
+            lockService.unlock(DistributedLockService.POPUP_STORE_SUMMARY_LOCK);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.poppy.domain.popupStore.service;
+
+import com.poppy.common.util.MpscRingBuffer;
+import com.poppy.domain.popupStore.event.PopupStoreViewEvent;
+import com.poppy.domain.popupStore.repository.PopupStoreViewJdbcRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 팝업스토어 상세 조회 기록 버퍼
+ *
+ * - 요청 스레드는 락프리 링 버퍼에 넣기만 하고 DB/Redis를 호출하지 않음 (가득 차면 버리고 메트릭으로 기록)
+ * - FLUSH_INTERVAL_MILLIS마다 한 스레드가 꺼내서 popup_store_views에 JDBC 배치 INSERT + 누적 조회수 반영
+ * - 저장이 끝난 기록은 인기 스토어 순위 버킷에 반영
+ * - 고유 조회자 수는 원본에 user_id가 남으므로 시간 단위 집계(StoreViewRollupScheduler)에서 정확히 계산
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PopupStoreViewBuffer {
+    private static final int BUFFER_CAPACITY = 1 << 16;
+    private static final long FLUSH_INTERVAL_MILLIS = 1000L;
+
+    private final PopupStoreViewJdbcRepository popupStoreViewJdbcRepository;
+    private final PopularStoreRankingService popularStoreRankingService;
+    private final MeterRegistry meterRegistry;
+
+    private final MpscRingBuffer<PopupStoreViewEvent> buffer = new MpscRingBuffer<>(BUFFER_CAPACITY);
+
+    public void record(Long storeId, Long categoryId, Long userId) {
+        if (!buffer.offer(new PopupStoreViewEvent(storeId, categoryId, userId, LocalDateTime.now())))
+            meterRegistry.counter("store.views.dropped").increment();
+    }
+
+    // 링 버퍼는 소비자가 하나여야 하므로 스케줄러와 종료 시 플러시가 겹치지 않도록 동기화
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MILLIS)
+    @PreDestroy
+    public synchronized void flush() {
+        List<PopupStoreViewEvent> events = new ArrayList<>();
+        buffer.drainTo(events, buffer.capacity());
+        if (events.isEmpty()) return;
+
+        try {
+            popupStoreViewJdbcRepository.batchInsert(events);
+            meterRegistry.counter("store.views.flushed").increment(events.size());
+        } catch (Exception e) {
+            // 트랜잭션이 롤백되었으므로 다음 플러시에서 다시 시도 (그 사이 버퍼가 차면 초과분은 버림)
+            int requeued = (int) events.stream().filter(buffer::offer).count();
+            meterRegistry.counter("store.views.dropped").increment(events.size() - requeued);
+            log.error("Failed to flush {} store views: {}", events.size(), e.getMessage(), e);
+            return;
+        }
+
+        try {
+            popularStoreRankingService.incrementViews(events);
+        } catch (Exception e) {
+            log.warn("Failed to update popular store rankings: {}", e.getMessage());
+        }
+    }
+}
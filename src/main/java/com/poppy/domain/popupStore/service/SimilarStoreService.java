@@ -0,0 +1,309 @@
+package com.poppy.domain.popupStore.service;
+
+import com.poppy.common.config.redis.DistributedLockService;
+import com.poppy.domain.popupStore.event.PopupStoreChangedEvent;
+import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import com.poppy.domain.popupStore.repository.PopupStoreViewRepository;
+import com.poppy.domain.scrap.repository.ScrapRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/*
+ * 비슷한 팝업스토어 이웃 목록
+ *
+ * - 스토어별 상위 NEIGHBOR_SIZE개 이웃 id를 "12,5,33" 형태 문자열 하나로 Redis에 저장해 조회는 GET 한 번
+ * - 점수: 같은 카테고리 + 가까운 위치 + 같은 가격대 + 함께 본 유저 수 + 함께 스크랩한 유저 수
+ * - 생성/수정/삭제 이벤트로 대상 스토어를 갱신 대기 집합에 넣고, REFRESH_INTERVAL_MILLIS마다 BATCH_SIZE개씩 다시 계산
+ * - 매일 전체 스토어를 갱신 대기 집합에 넣어 새 스토어가 기존 스토어의 이웃에 반영되고 종료된 스토어가 빠지도록 함
+ * - 조회 경로에서는 Redis에 쓰지 않음 (아직 계산되지 않았으면 호출하는 쪽에서 카테고리 기준 목록으로 대신 응답)
+ * - 후보 스토어 특성은 FEATURES_TTL_MILLIS 동안 재사용하고(생성/수정/삭제 이벤트를 받으면 다시 읽음), 함께 본/스크랩한 유저 수는 배치 단위로 한 번씩 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SimilarStoreService {
+    private static final String KEY_PREFIX = "popup-store:similar:";
+    private static final String DIRTY_KEY = "popup-store:similar:dirty";
+    private static final String PROCESSING_KEY = "popup-store:similar:processing";   // 계산 중인 스토어 id
+    private static final String REBUILD_LOCK = "similar-store-rebuild-lock";
+    private static final String REFRESH_LOCK = "similar-store-refresh-lock";
+    private static final String REBUILD_SCHEDULE = "0 20 4 * * *";    // 매일 새벽 4시 20분
+    private static final long REFRESH_INTERVAL_MILLIS = 60 * 1000L;
+    private static final int BATCH_SIZE = 200;                 // 한 번에 다시 계산할 최대 스토어 수
+    private static final Duration LIST_TTL = Duration.ofDays(2);  // 전체 재계산이 한 번 실패해도 유지
+    private static final long FEATURES_TTL_MILLIS = 10 * 60 * 1000L;
+
+    private static final int NEIGHBOR_SIZE = 10;
+    private static final int CO_SIGNAL_DAYS = 14;              // 함께 본 기록 기간 (원본 보관 기간 이내)
+
+    // 점수 가중치
+    private static final double CATEGORY_WEIGHT = 3.0;
+    private static final double LOCATION_WEIGHT = 2.0;
+    private static final double PRICE_WEIGHT = 1.0;
+    private static final double CO_VIEW_WEIGHT = 1.5;
+    private static final double CO_SCRAP_WEIGHT = 2.0;
+    private static final double NEAR_METERS = 3_000;
+    private static final double AROUND_METERS = 10_000;
+
+    // KEYS[1]: 갱신 대기, KEYS[2]: 계산 중 / ARGV[1]: 최대 개수
+    // 이전 실행이 저장 전에 실패했으면 남아 있는 계산 중 id를 다시 반환, 아니면 갱신 대기에서 꺼내 계산 중으로 옮김
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local ids = redis.call('SMEMBERS', KEYS[2])
+            if #ids > 0 then
+                return ids
+            end
+            ids = redis.call('SPOP', KEYS[1], tonumber(ARGV[1]))
+            if #ids > 0 then
+                redis.call('SADD', KEYS[2], unpack(ids))
+            end
+            return ids
+            """, List.class);
+
+    private final PopupStoreRepository popupStoreRepository;
+    private final PopupStoreViewRepository popupStoreViewRepository;
+    private final ScrapRepository scrapRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DistributedLockService lockService;
+    private final MeterRegistry meterRegistry;
+
+    private volatile Map<Long, Candidate> cachedCandidates = Map.of();
+    private volatile long candidatesLoadedAt = 0L;
+
+    // 비슷한 스토어 id (유사도 내림차순, 아직 계산되지 않았으면 empty)
+    // 갱신 대기 등록은 생성 이벤트와 매일 전체 재계산이 맡으므로 여기서는 읽기만 함
+    public Optional<List<Long>> getSimilarStoreIds(Long storeId, int size) {
+        String value = redisTemplate.opsForValue().get(keyOf(storeId));
+        if (value == null) {
+            meterRegistry.counter("store.similar.lookup", "result", "miss").increment();
+            return Optional.empty();
+        }
+
+        meterRegistry.counter("store.similar.lookup", "result", "hit").increment();
+        if (value.isEmpty()) return Optional.of(new ArrayList<>());
+        return Optional.of(Arrays.stream(value.split(","))
+                .limit(size)
+                .map(Long::valueOf)
+                .toList());
+    }
+
+    // 이벤트는 모든 노드에서 받지만 SADD는 여러 번 해도 결과가 같음 (평점/스크랩 수 변경은 매일 전체 재계산에서 반영)
+    // 노드마다 재사용 중인 후보 특성도 만료시켜 변경된 카테고리/위치/가격이 다음 계산에 반영되도록 함
+    @EventListener
+    public void onStoreChanged(PopupStoreChangedEvent event) {
+        if (event.getType() == PopupStoreChangedEvent.Type.STATS_UPDATED) return;
+
+        candidatesLoadedAt = 0L;
+        try {
+            if (event.getType() == PopupStoreChangedEvent.Type.DELETED) {
+                redisTemplate.delete(keyOf(event.getStoreId()));
+                return;
+            }
+            redisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(event.getStoreId()));
+        } catch (Exception e) {
+            log.warn("Failed to mark similar stores dirty - storeId: {}: {}", event.getStoreId(), e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuildAll();
+    }
+
+    // 진행 중/예정 스토어 전체를 갱신 대기 집합에 넣음 (실제 계산은 refreshDirty에서 나눠서 수행)
+    @Scheduled(cron = REBUILD_SCHEDULE)
+    public void rebuildAll() {
+        if (!lockService.tryLock(REBUILD_LOCK, 0L, 60L)) return;
+
+        try {
+            String[] storeIds = popupStoreRepository.findSimilarityFeatures(LocalDate.now()).stream()
+                    .map(row -> String.valueOf(row[0]))
+                    .toArray(String[]::new);
+            if (storeIds.length > 0) redisTemplate.opsForSet().add(DIRTY_KEY, storeIds);
+            log.info("Queued {} stores for similar store refresh", storeIds.length);
+        } catch (Exception e) {
+            log.error("Failed to queue similar store rebuild: {}", e.getMessage(), e);
+        } finally {
+            lockService.unlock(REBUILD_LOCK);
+        }
+    }
+
+    // 갱신 대기에서 꺼낸 id를 계산 중 집합으로 옮기고, 목록을 저장한 뒤에 계산 중 집합을 삭제
+    // (계산 도중 실패하거나 노드가 종료돼도 다음 실행에서 다시 계산, 계산 중 다시 변경된 스토어는 갱신 대기에 새로 들어감)
+    // 여러 노드가 같은 스토어를 중복 계산하지 않도록 잠금
+    @Scheduled(fixedDelay = REFRESH_INTERVAL_MILLIS)
+    public void refreshDirty() {
+        if (!lockService.tryLock(REFRESH_LOCK, 0L, 60L)) return;
+
+        try {
+            List<Object> members = redisTemplate.execute(CLAIM_SCRIPT, List.of(DIRTY_KEY, PROCESSING_KEY),
+                    String.valueOf(BATCH_SIZE));
+            if (members == null || members.isEmpty()) return;
+
+            List<Long> storeIds = members.stream().map(member -> Long.valueOf(member.toString())).toList();
+            Map<Long, Candidate> candidates = loadCandidates(storeIds);
+            List<Long> activeIds = storeIds.stream().filter(candidates::containsKey).toList();
+
+            Map<Long, Map<Long, Long>> coViews = new HashMap<>();
+            Map<Long, Map<Long, Long>> coScraps = new HashMap<>();
+            if (!activeIds.isEmpty()) {
+                LocalDate today = LocalDate.now();
+                coViews = toCounts(popupStoreViewRepository.countCoViewers(
+                        activeIds, LocalDateTime.now().minusDays(CO_SIGNAL_DAYS), today));
+                coScraps = toCounts(scrapRepository.countCoScrappers(activeIds, today));
+            }
+
+            Map<String, String> lists = new HashMap<>(storeIds.size() * 2);
+            for (Long storeId : storeIds) {
+                Candidate store = candidates.get(storeId);
+                if (store == null) {            // 종료/삭제된 스토어
+                    lists.put(keyOf(storeId), "");
+                    continue;
+                }
+
+                List<Long> neighbors = rankNeighbors(store, candidates,
+                        coViews.getOrDefault(storeId, Map.of()), coScraps.getOrDefault(storeId, Map.of()));
+                lists.put(keyOf(storeId), neighbors.stream().map(String::valueOf).collect(Collectors.joining(",")));
+            }
+
+            save(lists);
+            redisTemplate.delete(PROCESSING_KEY);
+            meterRegistry.counter("store.similar.refreshed").increment(lists.size());
+            log.debug("Refreshed similar stores for {} stores", lists.size());
+        } catch (Exception e) {
+            log.error("Failed to refresh similar stores: {}", e.getMessage(), e);
+        } finally {
+            lockService.unlock(REFRESH_LOCK);
+        }
+    }
+
+    // 최근에 읽은 후보를 재사용하되, 오래됐거나 대상 스토어가 없으면(새 스토어일 수 있으므로) 다시 읽음
+    private Map<Long, Candidate> loadCandidates(List<Long> storeIds) {
+        Map<Long, Candidate> candidates = cachedCandidates;
+        boolean fresh = System.currentTimeMillis() - candidatesLoadedAt < FEATURES_TTL_MILLIS;
+        if (fresh && candidates.keySet().containsAll(storeIds)) return candidates;
+
+        candidates = new HashMap<>();
+        for (Object[] row : popupStoreRepository.findSimilarityFeatures(LocalDate.now())) {
+            Candidate candidate = new Candidate(
+                    (Long) row[0],
+                    (Long) row[1],
+                    (String) row[2],
+                    (Double) row[3],
+                    (Double) row[4],
+                    priceBandOf((Long) row[5]),
+                    row[6] != null ? (Double) row[6] : 0.0
+            );
+            candidates.put(candidate.id, candidate);
+        }
+        cachedCandidates = candidates;
+        candidatesLoadedAt = System.currentTimeMillis();
+        return candidates;
+    }
+
+    // 점수가 같으면 평점, id 순으로 정렬해 매번 같은 결과를 반환
+    private List<Long> rankNeighbors(Candidate store, Map<Long, Candidate> candidates,
+                                     Map<Long, Long> coViews, Map<Long, Long> coScraps) {
+        Map<Long, Double> scores = new HashMap<>();
+        for (Candidate other : candidates.values()) {
+            if (other.id.equals(store.id)) continue;
+
+            double score = 0;
+            if (Objects.equals(store.categoryId, other.categoryId)) score += CATEGORY_WEIGHT;
+            score += LOCATION_WEIGHT * locationScore(store, other);
+            if (store.priceBand == other.priceBand) score += PRICE_WEIGHT;
+            score += CO_VIEW_WEIGHT * Math.log1p(coViews.getOrDefault(other.id, 0L));
+            score += CO_SCRAP_WEIGHT * Math.log1p(coScraps.getOrDefault(other.id, 0L));
+            if (score > 0) scores.put(other.id, score);
+        }
+
+        return scores.keySet().stream()
+                .map(candidates::get)
+                .sorted(Comparator.comparingDouble((Candidate c) -> scores.get(c.id)).reversed()
+                        .thenComparing(Comparator.comparingDouble((Candidate c) -> c.rating).reversed())
+                        .thenComparing(c -> c.id))
+                .limit(NEIGHBOR_SIZE)
+                .map(c -> c.id)
+                .toList();
+    }
+
+    // 좌표가 있으면 거리로, 없으면 위치 설명이 같은지로 판단
+    private double locationScore(Candidate a, Candidate b) {
+        if (a.latitude != null && a.longitude != null && b.latitude != null && b.longitude != null) {
+            double meters = distanceMeters(a.latitude, a.longitude, b.latitude, b.longitude);
+            if (meters <= NEAR_METERS) return 1.0;
+            if (meters <= AROUND_METERS) return 0.5;
+            return 0;
+        }
+        return a.location != null && a.location.equals(b.location) ? 1.0 : 0;
+    }
+
+    private static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double h = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * 6_371_000 * Math.asin(Math.sqrt(h));
+    }
+
+    // 무료(또는 미입력) / 1만원 미만 / 3만원 미만 / 5만원 미만 / 그 이상
+    private static int priceBandOf(Long price) {
+        if (price == null || price <= 0) return 0;
+        if (price < 10_000) return 1;
+        if (price < 30_000) return 2;
+        if (price < 50_000) return 3;
+        return 4;
+    }
+
+    // (기준 스토어 id, 다른 스토어 id, 유저 수) -> 기준 스토어별 {다른 스토어 id: 유저 수}
+    private static Map<Long, Map<Long, Long>> toCounts(List<Object[]> rows) {
+        Map<Long, Map<Long, Long>> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.computeIfAbsent(((Number) row[0]).longValue(), id -> new HashMap<>())
+                    .put(((Number) row[1]).longValue(), ((Number) row[2]).longValue());
+        }
+        return counts;
+    }
+
+    private void save(Map<String, String> lists) {
+        redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                lists.forEach((key, value) -> operations.opsForValue().set(key, value, LIST_TTL));
+                return null;
+            }
+        });
+    }
+
+    private static String keyOf(Long storeId) {
+        return KEY_PREFIX + storeId;
+    }
+
+    @AllArgsConstructor
+    private static class Candidate {
+        private final Long id;
+        private final Long categoryId;
+        private final String location;
+        private final Double latitude;
+        private final Double longitude;
+        private final int priceBand;
+        private final double rating;
+    }
+}
@@ -0,0 +1,98 @@
+package com.poppy.domain.popupStore.service;
+
+import com.poppy.common.geo.GeoPoint;
+import com.poppy.common.geo.Geocoder;
+import com.poppy.common.job.DelayedJobHandler;
+import com.poppy.common.job.DelayedJobQueue;
+import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * 좌표 도입 전 등록된 스토어 지오코딩 백필 (1회)
+ *
+ * - 좌표는 스토어 등록/주소 수정 시에만 계산하므로 도입 전 스토어는 위치 인덱스에 들어가지 않음
+ * - 좌표가 없는 진행 중/예정 스토어를 id 순으로 나눠 읽고 주소를 변환해 저장 (변환할 수 없는 주소는 그대로 둠)
+ * - 지연 작업으로 등록해 한 노드에서만 실행하고, 끝나면 위치 인덱스를 다시 구성한 뒤 완료 표시를 남김
+ * - 지오코딩 제공자가 설정되지 않았으면 실행하지 않음 (제공자 설정 후 시작 시 다시 등록)
+ * - 다른 노드가 위치 인덱스를 재구성 중이면 실패로 끝내 재시도 (이미 저장한 좌표는 다시 변환하지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StoreCoordinateBackfillService implements DelayedJobHandler {
+    public static final String JOB_TYPE = "store-coordinate-backfill";
+    private static final String DONE_KEY = "store-coordinate:backfill:done";
+    private static final int STORE_BATCH_SIZE = 200;
+
+    private final DelayedJobQueue delayedJobQueue;
+    private final PopupStoreRepository popupStoreRepository;
+    private final Geocoder geocoder;
+    private final StoreGeoIndexService storeGeoIndexService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleOnStartup() {
+        try {
+            if (!geocoder.isEnabled() || Boolean.TRUE.equals(redisTemplate.hasKey(DONE_KEY))) return;
+            delayedJobQueue.scheduleIfAbsent(JOB_TYPE, JOB_TYPE, "", Instant.now());
+        } catch (Exception e) {
+            log.warn("Failed to schedule store coordinate backfill: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public String getType() {
+        return JOB_TYPE;
+    }
+
+    @Override
+    public void handle(String payload) {
+        if (!geocoder.isEnabled()) {
+            log.warn("Store coordinate backfill skipped - no geocoder provider configured");
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        long cursor = 0L;
+        int geocoded = 0;
+        int failed = 0;
+
+        while (true) {
+            List<Object[]> rows = popupStoreRepository.findCoordinateBackfillTargets(
+                    today, cursor, PageRequest.of(0, STORE_BATCH_SIZE));
+            if (rows.isEmpty()) break;
+
+            for (Object[] row : rows) {
+                cursor = (Long) row[0];
+                Optional<GeoPoint> point = geocoder.geocode((String) row[1]);
+                if (point.isEmpty()) {
+                    failed++;
+                    continue;
+                }
+
+                popupStoreRepository.updateCoordinates(cursor, point.get().getLatitude(), point.get().getLongitude());
+                geocoded++;
+            }
+
+            if (rows.size() < STORE_BATCH_SIZE) break;
+        }
+
+        // 재시도 시에는 변환할 스토어가 없으므로 변환 개수와 관계없이 재구성
+        if (!storeGeoIndexService.rebuild())
+            throw new IllegalStateException("위치 인덱스를 다시 구성하지 못했습니다. (다른 노드에서 재구성 중이거나 실패)");
+
+        redisTemplate.opsForValue().set(DONE_KEY, "1");
+        log.info("Store coordinate backfill finished - geocoded: {}, failed: {}", geocoded, failed);
+    }
+}
@@ -0,0 +1,239 @@
+package com.poppy.domain.popupStore.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poppy.common.config.redis.DistributedLockService;
+import com.poppy.common.exception.BusinessException;
+import com.poppy.common.exception.ErrorCode;
+import com.poppy.domain.popupStore.dto.response.NearbyStoreRspDto;
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.event.PopupStoreChangedEvent;
+import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.geo.*;
+import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.domain.geo.GeoReference;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+
+/*
+ * 주변 스토어 검색용 위치 인덱스
+ *
+ * - Redis GEO(좌표) + 해시(목록 표시용 요약)로 유지해 조회 시 MySQL을 거치지 않음
+ * - 스토어 생성/수정/삭제 이벤트로 갱신하고, 종료된 스토어 정리를 위해 매일 전체 재구성
+ * - 재구성 중에는 모든 노드가 변경된 스토어 id를 Redis에 모아두고, 교체 후 재구성한 노드가 다시 반영
+ *   (교체 직전까지 반영된 이벤트가 조회 시점의 스냅샷으로 덮어써지지 않도록)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StoreGeoIndexService {
+    private static final String GEO_KEY = "popup-stores:geo";
+    private static final String SUMMARY_KEY = "popup-stores:geo:summary";
+    private static final String GEO_TEMP_KEY = "popup-stores:geo:tmp";
+    private static final String SUMMARY_TEMP_KEY = "popup-stores:geo:summary:tmp";
+    private static final String REBUILDING_KEY = "popup-stores:geo:rebuilding";      // 재구성 진행 표시
+    private static final String REBUILD_DIRTY_KEY = "popup-stores:geo:rebuild-dirty"; // 재구성 중 변경된 스토어 id
+    private static final String REBUILD_LOCK = "store-geo-index-lock";
+    private static final long REBUILD_LEASE_SECONDS = 60L;
+
+    // KEYS[1]: 재구성 진행 표시, KEYS[2]: 변경 id / ARGV[1]: 스토어 id, ARGV[2]: TTL
+    private static final DefaultRedisScript<Long> MARK_DIRTY_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('SADD', KEYS[2], ARGV[1])
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // 모아둔 id를 꺼내면서 진행 표시도 함께 제거 (이후 이벤트는 교체된 키에 바로 반영됨)
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> DRAIN_DIRTY_SCRIPT = new DefaultRedisScript<>("""
+            local ids = redis.call('SMEMBERS', KEYS[2])
+            redis.call('DEL', KEYS[1], KEYS[2])
+            return ids
+            """, List.class);
+
+    public static final double MAX_RADIUS_METERS = 20_000;
+    private static final int MAX_RESULTS = 50;
+
+    private final PopupStoreRepository popupStoreRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final DistributedLockService lockService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    // 새 키에 구성한 뒤 교체 (여러 노드가 동시에 시작해도 한 곳에서만 구성)
+    // 다른 노드가 재구성 중이거나 실패하면 false
+    @Scheduled(cron = "0 10 0 * * *")
+    public boolean rebuild() {
+        if (!lockService.tryLock(REBUILD_LOCK, 0, REBUILD_LEASE_SECONDS)) return false;
+
+        try {
+            // 조회 전에 표시해야 조회 이후 들어온 변경이 모두 모임
+            redisTemplate.delete(REBUILD_DIRTY_KEY);
+            redisTemplate.opsForValue().set(REBUILDING_KEY, "1", Duration.ofSeconds(REBUILD_LEASE_SECONDS));
+
+            List<PopupStore> stores = popupStoreRepository.findGeoIndexTargets(LocalDate.now());
+
+            Map<String, Point> points = new HashMap<>(stores.size() * 2);
+            Map<String, String> summaries = new HashMap<>(stores.size() * 2);
+            for (PopupStore store : stores) {
+                String member = String.valueOf(store.getId());
+                points.put(member, new Point(store.getLongitude(), store.getLatitude()));
+                summaries.put(member, serialize(NearbyStoreRspDto.from(store)));
+            }
+
+            redisTemplate.execute(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    operations.multi();
+                    operations.delete(List.of(GEO_TEMP_KEY, SUMMARY_TEMP_KEY));
+                    if (points.isEmpty()) {
+                        operations.delete(List.of(GEO_KEY, SUMMARY_KEY));
+                    } else {
+                        operations.opsForGeo().add(GEO_TEMP_KEY, points);
+                        operations.opsForHash().putAll(SUMMARY_TEMP_KEY, summaries);
+                        operations.rename(GEO_TEMP_KEY, GEO_KEY);
+                        operations.rename(SUMMARY_TEMP_KEY, SUMMARY_KEY);
+                    }
+                    return operations.exec();
+                }
+            });
+
+            int replayed = replayChangedDuringRebuild();
+            log.info("Store geo index built with {} stores, {} changes replayed", stores.size(), replayed);
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to build store geo index: {}", e.getMessage(), e);
+            redisTemplate.delete(REBUILDING_KEY);
+            return false;
+        } finally {
+            lockService.unlock(REBUILD_LOCK);
+        }
+    }
+
+    // 이벤트는 모든 노드에서 받으므로 같은 값을 여러 번 써도 결과가 같도록 처리
+    @EventListener
+    @Transactional(readOnly = true)
+    public void onStoreChanged(PopupStoreChangedEvent event) {
+        if (event.getType() == PopupStoreChangedEvent.Type.STATS_UPDATED) return;   // 좌표, 목록 요약과 무관
+
+        try {
+            // 현재 키에 반영하기 전에 기록 (재구성 노드가 id를 꺼낸 뒤라면 교체된 키에 반영됨)
+            redisTemplate.execute(MARK_DIRTY_SCRIPT, List.of(REBUILDING_KEY, REBUILD_DIRTY_KEY),
+                    String.valueOf(event.getStoreId()), String.valueOf(REBUILD_LEASE_SECONDS));
+
+            PopupStore store = event.getType() == PopupStoreChangedEvent.Type.DELETED
+                    ? null
+                    : popupStoreRepository.findById(event.getStoreId()).orElse(null);
+            apply(event.getStoreId(), store);
+        } catch (Exception e) {
+            log.warn("Failed to update store geo index - storeId: {}: {}", event.getStoreId(), e.getMessage());
+        }
+    }
+
+    // 재구성 중 변경된 스토어를 DB에서 다시 읽어 교체된 키에 반영
+    @SuppressWarnings("unchecked")
+    private int replayChangedDuringRebuild() {
+        List<Object> members = redisTemplate.execute(DRAIN_DIRTY_SCRIPT, List.of(REBUILDING_KEY, REBUILD_DIRTY_KEY));
+        if (members == null || members.isEmpty()) return 0;
+
+        List<Long> storeIds = members.stream().map(member -> Long.valueOf(member.toString())).toList();
+        Map<Long, PopupStore> stores = new HashMap<>();
+        for (PopupStore store : popupStoreRepository.findGeoIndexTargetsByIdIn(storeIds)) stores.put(store.getId(), store);
+
+        for (Long storeId : storeIds) apply(storeId, stores.get(storeId));
+        return storeIds.size();
+    }
+
+    private void apply(Long storeId, PopupStore store) {
+        String member = String.valueOf(storeId);
+
+        if (store == null || !isIndexable(store)) {
+            redisTemplate.opsForZSet().remove(GEO_KEY, member);     // GEO 멤버 삭제는 ZREM
+            redisTemplate.opsForHash().delete(SUMMARY_KEY, member);
+            return;
+        }
+
+        redisTemplate.opsForGeo().add(GEO_KEY, new Point(store.getLongitude(), store.getLatitude()), member);
+        redisTemplate.opsForHash().put(SUMMARY_KEY, member, serialize(NearbyStoreRspDto.from(store)));
+    }
+
+    // 반경 내 스토어를 가까운 순으로 조회
+    public List<NearbyStoreRspDto> findNearby(double latitude, double longitude, double radiusMeters) {
+        if (latitude < -85 || latitude > 85 || longitude < -180 || longitude > 180
+                || radiusMeters <= 0 || radiusMeters > MAX_RADIUS_METERS)
+            throw new BusinessException(ErrorCode.INVALID_COORDINATE);
+
+        GeoResults<RedisGeoCommands.GeoLocation<String>> results = redisTemplate.opsForGeo().search(
+                GEO_KEY,
+                GeoReference.fromCoordinate(longitude, latitude),
+                new Distance(radiusMeters, Metrics.METERS),
+                RedisGeoCommands.GeoSearchCommandArgs.newGeoSearchArgs()
+                        .includeDistance()
+                        .sortAscending()
+                        .limit(MAX_RESULTS)
+        );
+        if (results == null || results.getContent().isEmpty()) return new ArrayList<>();
+
+        List<Object> members = new ArrayList<>(results.getContent().size());
+        for (GeoResult<RedisGeoCommands.GeoLocation<String>> result : results) members.add(result.getContent().getName());
+
+        List<Object> summaries = redisTemplate.opsForHash().multiGet(SUMMARY_KEY, members);
+        LocalDate today = LocalDate.now();
+
+        List<NearbyStoreRspDto> stores = new ArrayList<>(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            NearbyStoreRspDto summary = deserialize((String) summaries.get(i));
+            if (summary == null || summary.getEndDate().isBefore(today)) continue;     // 재구성 전 종료된 스토어 제외
+
+            double distance = results.getContent().get(i).getDistance().getValue();
+            stores.add(summary.toBuilder().distance(Math.round(distance * 10) / 10.0).build());
+        }
+        return stores;
+    }
+
+    private boolean isIndexable(PopupStore store) {
+        return !Boolean.TRUE.equals(store.getIsEnd())
+                && !store.getEndDate().isBefore(LocalDate.now())
+                && store.getLatitude() != null && store.getLongitude() != null;
+    }
+
+    private String serialize(NearbyStoreRspDto summary) {
+        try {
+            return objectMapper.writeValueAsString(summary);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("스토어 위치 요약 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private NearbyStoreRspDto deserialize(String value) {
+        if (value == null) return null;
+
+        try {
+            return objectMapper.readValue(value, NearbyStoreRspDto.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to deserialize store geo summary: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.poppy.domain.popupStore.service;
+
+import com.poppy.common.config.redis.DistributedLockService;
+import com.poppy.domain.popupStore.repository.PopupStoreViewRepository;
+import com.poppy.domain.popupStore.repository.StoreViewHourlyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/*
+ * popup_store_views 시간 단위 집계 및 보관 기간 관리
+ *
+ * - 매시 끝난 시간 구간을 store_view_hourly(store_id, hour, count, unique_users)로 집계 (중단되면 다음 실행에서 이어서)
+ * - 집계가 끝났고 보관 기간(RETENTION_DAYS)이 지난 원본만 배치 단위로 삭제
+ * - 원본은 유저별 최근 본 팝업, 함께 본 스토어 계산에만 남겨두고 나머지 통계는 집계 테이블을 사용
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StoreViewRollupScheduler {
+    private static final String ROLLUP_SCHEDULE = "0 5 * * * *";  // 매시 5분 (조회 버퍼 플러시 이후)
+    private static final long RETENTION_DAYS = 30;
+    private static final int DELETE_BATCH_SIZE = 5000;     // DELETE 한 번에 삭제할 최대 행 수
+    private static final long TIME_BUDGET_MILLIS = 240_000L; // 락 점유 시간(300초) 안에 끝내도록 240초 후 중단
+
+    private final PopupStoreViewRepository popupStoreViewRepository;
+    private final StoreViewHourlyRepository storeViewHourlyRepository;
+    private final DistributedLockService lockService;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(cron = ROLLUP_SCHEDULE)
+    public void rollupAndPurge() {
+        if (!lockService.tryLock(DistributedLockService.STORE_VIEW_ROLLUP_LOCK, 10L, 300L)) {
+            log.debug("Failed to acquire store view rollup lock. Skipping this execution.");
+            return;
+        }
+
+        try {
+            long deadline = System.currentTimeMillis() + TIME_BUDGET_MILLIS;
+            LocalDateTime rolledUntil = rollup(deadline);
+            if (rolledUntil != null) purge(rolledUntil, deadline);
+        } catch (Exception e) {
+            log.error("Failed to rollup store views: {}", e.getMessage(), e);
+        } finally {
+            lockService.unlock(DistributedLockService.STORE_VIEW_ROLLUP_LOCK);
+        }
+    }
+
+    // 끝난 시간 구간을 순서대로 집계하고 집계가 끝난 시각(다음 구간 시작)을 반환
+    private LocalDateTime rollup(long deadline) {
+        LocalDateTime currentHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+
+        LocalDateTime latestHour = storeViewHourlyRepository.findLatestHour();
+        LocalDateTime hour;
+        if (latestHour != null) {
+            hour = latestHour.plusHours(1);
+        } else {
+            LocalDateTime oldestViewedAt = popupStoreViewRepository.findOldestViewedAt();
+            if (oldestViewedAt == null) return null;
+            hour = oldestViewedAt.truncatedTo(ChronoUnit.HOURS);
+        }
+
+        int hours = 0;
+        while (hour.isBefore(currentHour) && System.currentTimeMillis() < deadline) {
+            int stores = storeViewHourlyRepository.rollupHour(hour, hour.plusHours(1));
+            meterRegistry.counter("store.views.rollup.hours").increment();
+            hour = hour.plusHours(1);
+            hours++;
+            log.debug("Rolled up store views for {} ({} rows)", hour.minusHours(1), stores);
+        }
+
+        if (hours > 0) log.info("Rolled up {} hours of store views until {}", hours, hour);
+        return hour;
+    }
+
+    // 보관 기간이 지났더라도 아직 집계하지 않은 구간은 삭제하지 않음
+    private void purge(LocalDateTime rolledUntil, long deadline) {
+        LocalDateTime retentionCutoff = LocalDateTime.now().minusDays(RETENTION_DAYS);
+        LocalDateTime cutoff = rolledUntil.isBefore(retentionCutoff) ? rolledUntil : retentionCutoff;
+
+        int deletedCount = 0;
+        int batchDeleted;
+        do {
+            batchDeleted = popupStoreViewRepository.deleteViewedBefore(cutoff, DELETE_BATCH_SIZE);
+            deletedCount += batchDeleted;
+            meterRegistry.counter("store.views.purged").increment(batchDeleted);
+        } while (batchDeleted == DELETE_BATCH_SIZE && System.currentTimeMillis() < deadline);
+
+        if (deletedCount > 0) log.info("Purged {} store views before {}", deletedCount, cutoff);
+    }
+}
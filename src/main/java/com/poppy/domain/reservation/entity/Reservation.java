@@ -12,7 +12,10 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "reservations")
+@Table(
+        name = "reservations",
+        indexes = @Index(name = "idx_reservations_user_date", columnList = "user_id, date")   // 유저 예약 내역 페이지
+)
 @NoArgsConstructor
 @Getter
 public class Reservation extends BaseTimeEntity {
@@ -1,6 +1,5 @@
 package com.poppy.domain.reservation.repository;
 
-import com.poppy.domain.popupStore.entity.PopupStore;
 import com.poppy.domain.reservation.entity.PopupStoreStatus;
 import com.poppy.domain.reservation.entity.QReservationAvailableSlot;
 import com.poppy.domain.reservation.entity.ReservationAvailableSlot;
@@ -17,11 +16,11 @@ public class ReservationAvailableSlotCustomRepositoryImpl implements Reservation
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public List<ReservationAvailableSlot> findByPopupStoreAndDate(PopupStore popupStore, LocalDate date) {
+    public List<ReservationAvailableSlot> findByPopupStoreIdAndDate(Long popupStoreId, LocalDate date) {
         QReservationAvailableSlot slot = QReservationAvailableSlot.reservationAvailableSlot;
 
         return queryFactory.selectFrom(slot)
-                .where(slot.popupStore.eq(popupStore).and(slot.date.eq(date)))
+                .where(slot.popupStore.id.eq(popupStoreId).and(slot.date.eq(date)))
                 .fetch();
     }
 
@@ -5,11 +5,25 @@ import com.poppy.domain.reservation.entity.ReservationAvailableSlot;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
 @Repository
 public interface ReservationAvailableSlotRepository extends JpaRepository<ReservationAvailableSlot, Long>, ReservationAvailableSlotCustomRepository {
     @Modifying
     @Query("DELETE FROM ReservationAvailableSlot r WHERE r.popupStore.id = :popupStoreId AND r.status = :status")
     void deleteByPopupStoreIdAndStatus(Long popupStoreId, PopupStoreStatus status);
+
+    // 남은 슬롯이 전체의 20% 이하인 스토어 (현재 시점 이후, 휴무일 제외 / PopupStore.calculateAlmostFull과 같은 기준)
+    @Query("SELECT r.popupStore.id FROM ReservationAvailableSlot r " +
+            "WHERE r.status <> com.poppy.domain.reservation.entity.PopupStoreStatus.HOLIDAY " +
+            "AND r.popupStore.isEnd = false " +
+            "AND (r.date > :today OR (r.date = :today AND r.time >= :now)) " +
+            "GROUP BY r.popupStore.id " +
+            "HAVING SUM(r.totalSlot) > 0 AND SUM(r.availableSlot) * 5 <= SUM(r.totalSlot)")
+    List<Long> findAlmostFullStoreIds(@Param("today") LocalDate today, @Param("now") LocalTime now);
 }
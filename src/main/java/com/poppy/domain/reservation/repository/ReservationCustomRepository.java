@@ -0,0 +1,10 @@
+package com.poppy.domain.reservation.repository;
+
+import com.poppy.common.pagination.CursorRequest;
+import com.poppy.domain.reservation.entity.Reservation;
+
+import java.util.List;
+
+public interface ReservationCustomRepository {
+    List<Reservation> findPageByUserId(Long userId, CursorRequest request);
+}
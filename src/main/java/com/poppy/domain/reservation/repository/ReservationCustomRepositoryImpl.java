@@ -0,0 +1,35 @@
+package com.poppy.domain.reservation.repository;
+
+import com.poppy.common.pagination.Cursor;
+import com.poppy.common.pagination.CursorPredicates;
+import com.poppy.common.pagination.CursorRequest;
+import com.poppy.domain.popupStore.entity.QPopupStore;
+import com.poppy.domain.reservation.entity.QReservation;
+import com.poppy.domain.reservation.entity.Reservation;
+import com.querydsl.core.types.Order;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ReservationCustomRepositoryImpl implements ReservationCustomRepository {
+    private final JPAQueryFactory queryFactory;
+
+    // 유저의 예약 내역 (예약일, id 내림차순 / user_id, date 인덱스 사용)
+    @Override
+    public List<Reservation> findPageByUserId(Long userId, CursorRequest request) {
+        QReservation reservation = QReservation.reservation;
+        QPopupStore store = QPopupStore.popupStore;
+
+        return queryFactory.selectFrom(reservation)
+                .join(reservation.popupStore, store).fetchJoin()
+                .where(
+                        reservation.user.id.eq(userId),
+                        CursorPredicates.after(reservation.date, reservation.id, request.getCursor(), Cursor::sortKeyAsDate, Order.DESC)
+                )
+                .orderBy(CursorPredicates.orderBy(reservation.date, reservation.id, Order.DESC))
+                .limit(request.fetchSize())
+                .fetch();
+    }
+}
@@ -12,12 +12,11 @@ import java.util.Optional;
 import java.util.Set;
 
 @Repository
-public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+public interface ReservationRepository extends JpaRepository<Reservation, Long>, ReservationCustomRepository {
     Optional<Reservation> findByUserIdAndPopupStoreIdAndDate(Long userId, Long popupStoreId, LocalDate date);
     Optional<Reservation> findByUserIdAndPopupStoreIdAndDateAndTime(Long userId, Long popupStoreId, LocalDate date, LocalTime time);
-    List<Reservation> findAllByUserId(Long userId);
     Optional<Reservation> findByIdAndUserId(Long id, Long userId);
     Optional<Reservation> findByUserIdAndPopupStoreIdAndDateAndStatus(Long userId, Long storeId, LocalDate date, ReservationStatus status);
-    List<Reservation> findByDateAndTimeAndStatus(LocalDate date, LocalTime time, ReservationStatus status);
+    List<Reservation> findByDateBetweenAndStatus(LocalDate startDate, LocalDate endDate, ReservationStatus status);
     boolean existsByPopupStoreIdAndDateIn(Long popupStoreId, Set<LocalDate> dates);
 }
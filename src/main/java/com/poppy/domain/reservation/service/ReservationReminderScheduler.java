@@ -1,7 +1,6 @@
 package com.poppy.domain.reservation.service;
 
 import com.poppy.common.config.redis.DistributedLockService;
-import com.poppy.domain.notification.service.NotificationService;
 import com.poppy.domain.reservation.entity.Reservation;
 import com.poppy.domain.reservation.entity.ReservationStatus;
 import com.poppy.domain.reservation.repository.ReservationRepository;
@@ -11,47 +10,40 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.List;
 
+// 리마인드는 예약 확정 시 지연 작업으로 등록되며, 이 스케줄러는 누락된 리마인드(배포 이전 예약, Redis 장애 등)만 보충
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ReservationReminderScheduler {
-    private static final String REMINDER_SCHEDULE = "0 0 * * * *"; // 매시 정각마다 실행
+    private static final String BACKFILL_SCHEDULE = "0 30 * * * *"; // 매시 30분마다 실행
 
     private final ReservationRepository reservationRepository;
-    private final NotificationService notificationService;
+    private final ReservationReminderService reservationReminderService;
     private final DistributedLockService lockService;
 
-    @Scheduled(cron = REMINDER_SCHEDULE)
+    @Scheduled(cron = BACKFILL_SCHEDULE)
     @Transactional(readOnly = true)
-    public void sendReservationReminders() {
+    public void backfillReservationReminders() {
         if (!lockService.tryLock(DistributedLockService.RESERVATION_24H_BEFORE_LOCK)) {
             log.debug("Failed to acquire reservation reminder lock. Skipping this execution.");
             return;
         }
 
         try {
-            LocalDateTime now = LocalDateTime.now();
+            LocalDate today = LocalDate.now();
 
-            // 예: 현재 시간이 2024-01-10 14:00:00 일 때
-            // 2024-01-11 14:00:00에 예정된 CHECKED 상태의 예약들을 찾음
-            List<Reservation> reservations = reservationRepository.findByDateAndTimeAndStatus(
-                    now.plusDays(1).toLocalDate(),  // 내일 날짜
-                    now.withMinute(0).withSecond(0).withNano(0).toLocalTime(), // 현재 시의 정각
-                    ReservationStatus.CHECKED // 결제 완료된 예약만
-            );
+            // 24시간 이내에 발송될 수 있는 오늘 ~ 모레 방문 예약만 대상
+            List<Reservation> reservations = reservationRepository.findByDateBetweenAndStatus(
+                    today, today.plusDays(2), ReservationStatus.CHECKED);
 
             for (Reservation reservation : reservations) {
                 try {
-                    notificationService.send24HNotification(reservation);
-                    log.info("Sent 24h notification for reservation - id: {}, userId: {}, dateTime: {}",
-                            reservation.getId(),
-                            reservation.getUser().getId(),
-                            reservation.getDate() + " " + reservation.getTime());
+                    reservationReminderService.scheduleMissingReminders(reservation);
                 } catch (Exception e) {
-                    log.error("Failed to send 24h notification for reservation {}: {}",
+                    log.error("Failed to schedule reminders for reservation {}: {}",
                             reservation.getId(), e.getMessage());
                 }
             }
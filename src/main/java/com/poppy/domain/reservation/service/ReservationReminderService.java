@@ -0,0 +1,107 @@
+package com.poppy.domain.reservation.service;
+
+import com.poppy.common.job.DelayedJobHandler;
+import com.poppy.common.job.DelayedJobQueue;
+import com.poppy.domain.notification.entity.NotificationType;
+import com.poppy.domain.notification.service.NotificationService;
+import com.poppy.domain.reservation.entity.Reservation;
+import com.poppy.domain.reservation.entity.ReservationStatus;
+import com.poppy.domain.reservation.repository.ReservationRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// 예약 확정 시 방문 시각 기준 리마인드 알림을 지연 작업으로 등록하고, 실행 시점에 알림 전송
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationReminderService implements DelayedJobHandler {
+    public static final String JOB_TYPE = "reservation-reminder";
+
+    private final DelayedJobQueue delayedJobQueue;
+    private final ReservationRepository reservationRepository;
+    private final NotificationService notificationService;
+
+    @Getter
+    private enum ReminderOffset {
+        BEFORE_24H(Duration.ofHours(24), NotificationType.REMIND_24H),
+        BEFORE_1H(Duration.ofHours(1), NotificationType.REMIND_1H);
+
+        private final Duration offset;
+        private final NotificationType type;
+
+        ReminderOffset(Duration offset, NotificationType type) {
+            this.offset = offset;
+            this.type = type;
+        }
+    }
+
+    // 예약 확정 시 리마인드 등록 (이미 지난 시각은 제외)
+    public void scheduleReminders(Reservation reservation) {
+        schedule(reservation, false);
+    }
+
+    // 누락된 리마인드만 등록 (이미 등록되었거나 발송된 리마인드는 유지)
+    public void scheduleMissingReminders(Reservation reservation) {
+        schedule(reservation, true);
+    }
+
+    public void cancelReminders(Long reservationId) {
+        for (ReminderOffset offset : ReminderOffset.values()) {
+            delayedJobQueue.cancel(generateJobId(reservationId, offset.getType()));
+        }
+    }
+
+    @Override
+    public String getType() {
+        return JOB_TYPE;
+    }
+
+    // payload: {reservationId}:{NotificationType}
+    @Override
+    @Transactional
+    public void handle(String payload) {
+        int separator = payload.indexOf(':');
+        Long reservationId = Long.parseLong(payload.substring(0, separator));
+        NotificationType type = NotificationType.valueOf(payload.substring(separator + 1));
+
+        // 등록 이후 취소되었거나 롤백된 예약이면 발송하지 않음
+        Reservation reservation = reservationRepository.findById(reservationId).orElse(null);
+        if (reservation == null || reservation.getStatus() != ReservationStatus.CHECKED) {
+            log.info("Skipping {} reminder for reservation {}: not checked", type, reservationId);
+            return;
+        }
+
+        notificationService.sendReminderNotification(reservation, type);
+        log.info("Sent {} reminder for reservation - id: {}, userId: {}, dateTime: {}",
+                type, reservation.getId(), reservation.getUser().getId(),
+                reservation.getDate() + " " + reservation.getTime());
+    }
+
+    private void schedule(Reservation reservation, boolean ifAbsent) {
+        LocalDateTime visitAt = LocalDateTime.of(reservation.getDate(), reservation.getTime());
+        Instant now = Instant.now();
+
+        for (ReminderOffset offset : ReminderOffset.values()) {
+            Instant fireAt = visitAt.minus(offset.getOffset()).atZone(ZoneId.systemDefault()).toInstant();
+            if (fireAt.isBefore(now)) continue;
+
+            String jobId = generateJobId(reservation.getId(), offset.getType());
+            String payload = reservation.getId() + ":" + offset.getType().name();
+
+            if (ifAbsent) delayedJobQueue.scheduleIfAbsent(jobId, JOB_TYPE, payload, fireAt);
+            else delayedJobQueue.schedule(jobId, JOB_TYPE, payload, fireAt);
+        }
+    }
+
+    private String generateJobId(Long reservationId, NotificationType type) {
+        return JOB_TYPE + ":" + reservationId + ":" + type.name();
+    }
+}
@@ -2,6 +2,9 @@ package com.poppy.domain.reservation.service;
 
 import com.poppy.common.exception.BusinessException;
 import com.poppy.common.exception.ErrorCode;
+import com.poppy.common.pagination.Cursor;
+import com.poppy.common.pagination.CursorPage;
+import com.poppy.common.pagination.CursorRequest;
 import com.poppy.domain.notification.entity.NotificationType;
 import com.poppy.domain.notification.service.NotificationService;
 import com.poppy.domain.payment.entity.Payment;
@@ -33,7 +36,6 @@ import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 import java.util.UUID;
 
 @Service
@@ -49,6 +51,7 @@ public class ReservationService {
     private final PaymentService paymentService;
     private final NotificationService notificationService;
     private final LoginUserProvider loginUserProvider;  // 로그인 유저 확인용
+    private final ReservationReminderService reservationReminderService;
 
     private static final String LOCK_PREFIX = "reservation:lock:";
     private static final long WAIT_TIME = 3L;
@@ -187,6 +190,7 @@ public class ReservationService {
         // 예약 확정 (DB 업데이트)
         Reservation reservation = processReservation(tempReservation);
         notificationService.sendNotification(reservation, reservation.getStatus(), NotificationType.RESERVATION_CHECK);     // 알림 전송
+        reservationReminderService.scheduleReminders(reservation);  // 방문 24시간, 1시간 전 리마인드 등록
         return reservation;
     }
 
@@ -265,6 +269,7 @@ public class ReservationService {
 
                 // 예약 상태 변경
                 reservation.updateStatus(ReservationStatus.CANCELED);
+                reservationReminderService.cancelReminders(reservation.getId());
 
                 // slot 업데이트
                 ReservationAvailableSlot slot = reservationAvailableSlotRepository
@@ -310,13 +315,12 @@ public class ReservationService {
         notificationService.sendNotification(reservation, ReservationStatus.CANCELED, NotificationType.RESERVATION_CANCEL); // 알림 전송
     }
 
-    // 유저의 모든 예약 조회
+    // 유저의 예약 조회 (예약일 최신순 페이지)
     @Transactional(readOnly = true)
-    public List<UserReservationRspDto> getReservations(Long userId) {
-        List<Reservation> reservations = reservationRepository.findAllByUserId(userId);
-        return reservations.stream()
-                .map(UserReservationRspDto::from)
-                .collect(Collectors.toList());
+    public CursorPage<UserReservationRspDto> getReservations(Long userId, CursorRequest request) {
+        List<Reservation> reservations = reservationRepository.findPageByUserId(userId, request);
+        return CursorPage.of(reservations, request, reservation -> Cursor.of(reservation.getDate(), reservation.getId()))
+                .map(UserReservationRspDto::from);
     }
 
     // 유저의 특정 예약 상세 조회
@@ -47,5 +47,7 @@ public interface ReviewRepository extends JpaRepository<Review,Long> {
     @Query("SELECT COALESCE(AVG(r.rating), 0.0) FROM Review r WHERE r.popupStore.id = :popupStoreId")
     Double calculateAverageRatingByPopupStore(@Param("popupStoreId") Long popupStoreId);
 
+    long countByPopupStoreId(Long popupStoreId);
+
     List<Review> findByUserIdOrderByCreateTimeDesc(Long userId);
 }
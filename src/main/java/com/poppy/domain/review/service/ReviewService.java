@@ -7,6 +7,8 @@ import com.poppy.common.service.ImageService;
 import com.poppy.domain.likes.repository.ReviewLikeRepository;
 import com.poppy.domain.likes.entity.ReviewLike;
 import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.event.PopupStoreChangedEvent;
+import com.poppy.domain.popupStore.event.PopupStoreEventPublisher;
 import com.poppy.domain.popupStore.repository.PopupStoreRepository;
 import com.poppy.domain.user.dto.response.UserReviewRspDto;
 import com.poppy.domain.review.entity.ReviewSortType;
@@ -45,6 +47,7 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final ReviewLikeRepository reviewLikeRepository;
     private final ImageService imageService;
+    private final PopupStoreEventPublisher popupStoreEventPublisher;
 
     // 리뷰 등록
     @Transactional
@@ -235,14 +238,17 @@ public class ReviewService {
         return ReviewRspDto.from(review);
     }
 
-    // 해당 팝업스토어의 리뷰 평점 계산
+    // 해당 팝업스토어의 리뷰 평점, 리뷰 수 계산
     private void updatePopupStoreRating(PopupStore popupStore) {
         // 해당 팝업스토어의 모든 리뷰 평점의 평균을 계산
         Double averageRating = reviewRepository.calculateAverageRatingByPopupStore(popupStore.getId());
-        // 팝업스토어 평점 업데이트
+        // 팝업스토어 평점, 리뷰 수 업데이트
         popupStore.updateAverageRating(averageRating);
+        popupStore.updateReviewCount((int) reviewRepository.countByPopupStoreId(popupStore.getId()));
         // 변경사항 저장
         popupStoreRepository.save(popupStore);
+        // 상세 캐시 무효화 (커밋 이후 모든 노드에 전파)
+        popupStoreEventPublisher.publish(popupStore.getId(), PopupStoreChangedEvent.Type.STATS_UPDATED);
     }
 
     // 유저의 리뷰 조회
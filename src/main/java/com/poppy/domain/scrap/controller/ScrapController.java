@@ -1,6 +1,8 @@
 package com.poppy.domain.scrap.controller;
 
 import com.poppy.common.api.RspTemplate;
+import com.poppy.common.pagination.CursorPage;
+import com.poppy.common.pagination.CursorRequest;
 import com.poppy.domain.scrap.dto.request.UserScrapReqDto;
 import com.poppy.domain.scrap.dto.response.ScrapRspDto;
 import com.poppy.domain.scrap.dto.response.UserScrapRspDto;
@@ -10,8 +12,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/scraps")
 @RequiredArgsConstructor
@@ -31,8 +31,12 @@ public class ScrapController {
 
     // 유저의 팝업 스토어 스크랩 목록
     @GetMapping
-    public RspTemplate<List<UserScrapRspDto>> getUserScraps(@RequestParam(defaultValue = "RECENT_SAVED") ScrapSortType sortType) {
-        return new RspTemplate<>(HttpStatus.OK, "스크랩 목록 조회", scrapService.getUserScraps(sortType));
+    public RspTemplate<CursorPage<UserScrapRspDto>> getUserScraps(
+            @RequestParam(defaultValue = "RECENT_SAVED") ScrapSortType sortType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return new RspTemplate<>(HttpStatus.OK, "스크랩 목록 조회",
+                scrapService.getUserScraps(sortType, CursorRequest.of(cursor, size)));
     }
 
     // 스크랩 삭제
@@ -1,13 +1,10 @@
 package com.poppy.domain.scrap.dto.response;
 
-import com.poppy.common.entity.Images;
 import com.poppy.domain.popupStore.entity.PopupStore;
 import com.poppy.domain.scrap.entity.Scrap;
 import lombok.Builder;
 import lombok.Getter;
 
-import java.util.List;
-
 @Getter
 @Builder
 public class UserScrapRspDto {
@@ -73,7 +70,6 @@ public class UserScrapRspDto {
     // Entity to DTO
     public static UserScrapRspDto from(Scrap scrap) {
         PopupStore store = scrap.getPopupStore();
-        List<Images> images = store.getImages();
 
         return UserScrapRspDto.builder()
                 .scrapId(scrap.getId())
@@ -91,15 +87,12 @@ public class UserScrapRspDto {
                         .month(store.getEndDate().getMonthValue())
                         .day(store.getEndDate().getDayOfMonth())
                         .build())
-                .thumbnailUrl(images != null && !images.isEmpty() ? images.get(0).getUploadUrl() : null)
-                .isAlmostFull(store.calculateAlmostFull(
-                        store.getReservationAvailableSlots(),
-                        store.getReservationType()))
+                .thumbnailUrl(store.getThumbnailUrl())
                 .availableSlot(store.getAvailableSlot())
                 .isActive(store.getIsActive())
                 .isEnd(store.getIsEnd())
                 .rating(store.getRating())
-                .reviewCnt(store.getReviews().size())
+                .reviewCnt(store.getReviewCount() != null ? store.getReviewCount() : 0)
                 .categoryName(store.getStoreCategory().getName())
                 .reservationType(store.getReservationType().toString())
                 .price(store.getPrice())
@@ -107,8 +100,8 @@ public class UserScrapRspDto {
                 .instagramUrl(store.getInstagramUrl())
                 .blogUrl(store.getBlogUrl())
                 .scrapCount(store.getScrapCount())
-                .isAlmostFull(store.calculateAlmostFull(store.getReservationAvailableSlots(), store.getReservationType()))
-                .viewCount(store.getViews() != null ? store.getViews().size() : 0)
+                .isAlmostFull(store.getAlmostFull())
+                .viewCount(store.getViewCount() != null ? (int) Math.min(store.getViewCount(), Integer.MAX_VALUE) : 0)
                 .build();
     }
 }
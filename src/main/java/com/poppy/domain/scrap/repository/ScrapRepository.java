@@ -13,7 +13,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 @Repository
-public interface ScrapRepository extends JpaRepository<Scrap, Long> {
+public interface ScrapRepository extends JpaRepository<Scrap, Long>, ScrapRepositoryCustom {
     // 유저와 팝업스토어로 스크랩 존재 여부 확인
     boolean existsByUserAndPopupStore(User user, PopupStore popupStore);
 
@@ -25,24 +25,39 @@ public interface ScrapRepository extends JpaRepository<Scrap, Long> {
     @Query("DELETE FROM Scrap s WHERE s.user = :user AND s.popupStore = :popupStore")
     void deleteByUserAndPopupStore(@Param("user") User user, @Param("popupStore") PopupStore popupStore);
 
-    // 유저의 스크랩 목록 조회 (+ 정렬 방식)
-    @Query("""
-       SELECT s
-       FROM Scrap s
-       JOIN s.popupStore p
-       WHERE s.user = :user
-       ORDER BY
-       CASE WHEN :sortType = 'RECENT_SAVED' THEN s.createTime END DESC,
-       CASE WHEN :sortType = 'OPEN_DATE' THEN p.startDate END ASC,
-       CASE WHEN :sortType = 'END_DATE' THEN p.endDate END ASC
-       """)
-    List<Scrap> findScrapsByUserAndSortType(@Param("user") User user, @Param("sortType") String sortType);
-
-    @Query("SELECT s FROM Scrap s " +
-            "JOIN FETCH s.user u " +
-            "JOIN FETCH s.popupStore p " +
-            "WHERE p.startDate = :date")
-    List<Scrap> findByPopupStoreStartDate(LocalDate date);
+    // 해당 날짜에 오픈하는 스크랩된 팝업스토어 id 조회
+    @Query("SELECT DISTINCT s.popupStore.id FROM Scrap s WHERE s.popupStore.startDate = :date")
+    List<Long> findPopupStoreIdsByStartDate(@Param("date") LocalDate date);
+
+    // 오픈 알림 대상 유저를 스크랩 id 순으로 나눠서 조회 (전체를 한 번에 메모리에 올리지 않음)
+    @Query(value = "SELECT s.id, s.user_id FROM scraps s " +
+            "WHERE s.popup_store_id = :popupStoreId AND s.id > :cursor " +
+            "ORDER BY s.id LIMIT :limit", nativeQuery = true)
+    List<Object[]> findUserIdsByPopupStoreIdAfter(@Param("popupStoreId") Long popupStoreId,
+                                                  @Param("cursor") Long cursor,
+                                                  @Param("limit") int limit);
+
+    // 아직 오픈하지 않은 스토어의 스크랩을 id 순으로 나눠서 조회 (scrapId, userId, popupStoreId)
+    @Query(value = "SELECT s.id, s.user_id, s.popup_store_id FROM scraps s " +
+            "JOIN popup_stores p ON p.id = s.popup_store_id " +
+            "WHERE p.start_date >= :date AND s.id > :cursor " +
+            "ORDER BY s.id LIMIT :limit", nativeQuery = true)
+    List<Object[]> findUpcomingScrapsAfter(@Param("date") LocalDate date,
+                                           @Param("cursor") Long cursor,
+                                           @Param("limit") int limit);
+
+    // 유저가 스크랩한 스토어 중 아직 오픈하지 않은 스토어 id 조회
+    @Query("SELECT s.popupStore.id FROM Scrap s WHERE s.user.id = :userId AND s.popupStore.startDate >= :date")
+    List<Long> findUpcomingPopupStoreIdsByUserId(@Param("userId") Long userId, @Param("date") LocalDate date);
 
     List<Scrap> findByUserIdAndIdIn(Long userId, List<Long> scrapIds);
-}
\ No newline at end of file
+
+    // 함께 스크랩한 스토어 (storeIds 각각을 스크랩한 유저가 함께 스크랩한 진행 중/예정 스토어별 유저 수)
+    // 결과: (기준 스토어 id, 함께 스크랩한 스토어 id, 유저 수)
+    @Query(value = "SELECT base.popup_store_id, other.popup_store_id, COUNT(*) FROM scraps base " +
+            "JOIN scraps other ON other.user_id = base.user_id AND other.popup_store_id <> base.popup_store_id " +
+            "JOIN popup_stores p ON p.id = other.popup_store_id AND p.is_end = false AND p.end_date >= :today " +
+            "WHERE base.popup_store_id IN (:storeIds) " +
+            "GROUP BY base.popup_store_id, other.popup_store_id", nativeQuery = true)
+    List<Object[]> countCoScrappers(@Param("storeIds") List<Long> storeIds, @Param("today") LocalDate today);
+}
@@ -0,0 +1,11 @@
+package com.poppy.domain.scrap.repository;
+
+import com.poppy.common.pagination.CursorRequest;
+import com.poppy.domain.scrap.entity.Scrap;
+import com.poppy.domain.scrap.entity.ScrapSortType;
+
+import java.util.List;
+
+public interface ScrapRepositoryCustom {
+    List<Scrap> findPageByUserId(Long userId, ScrapSortType sortType, CursorRequest request);
+}
@@ -0,0 +1,53 @@
+package com.poppy.domain.scrap.repository;
+
+import com.poppy.common.pagination.Cursor;
+import com.poppy.common.pagination.CursorPredicates;
+import com.poppy.common.pagination.CursorRequest;
+import com.poppy.domain.popupStore.entity.QPopupStore;
+import com.poppy.domain.scrap.entity.QScrap;
+import com.poppy.domain.scrap.entity.Scrap;
+import com.poppy.domain.scrap.entity.ScrapSortType;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ScrapRepositoryCustomImpl implements ScrapRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+    private final QScrap scrap = QScrap.scrap;
+    private final QPopupStore store = QPopupStore.popupStore;
+
+    // 유저의 스크랩 목록 (최근 저장일 순은 스크랩 id 내림차순, 오픈일/종료일 순은 (날짜, 스크랩 id) 오름차순)
+    @Override
+    public List<Scrap> findPageByUserId(Long userId, ScrapSortType sortType, CursorRequest request) {
+        return queryFactory.selectFrom(scrap)
+                .join(scrap.popupStore, store).fetchJoin()
+                .where(
+                        scrap.user.id.eq(userId),
+                        cursorCondition(sortType, request.getCursor())
+                )
+                .orderBy(orderOf(sortType))
+                .limit(request.fetchSize())
+                .fetch();
+    }
+
+    private BooleanExpression cursorCondition(ScrapSortType sortType, Cursor cursor) {
+        return switch (sortType) {
+            case RECENT_SAVED -> CursorPredicates.afterId(scrap.id, cursor, Order.DESC);
+            case OPEN_DATE -> CursorPredicates.after(store.startDate, scrap.id, cursor, Cursor::sortKeyAsDate, Order.ASC);
+            case END_DATE -> CursorPredicates.after(store.endDate, scrap.id, cursor, Cursor::sortKeyAsDate, Order.ASC);
+        };
+    }
+
+    private OrderSpecifier<?>[] orderOf(ScrapSortType sortType) {
+        return switch (sortType) {
+            case RECENT_SAVED -> new OrderSpecifier<?>[]{scrap.id.desc()};
+            case OPEN_DATE -> CursorPredicates.orderBy(store.startDate, scrap.id, Order.ASC);
+            case END_DATE -> CursorPredicates.orderBy(store.endDate, scrap.id, Order.ASC);
+        };
+    }
+}
@@ -2,7 +2,12 @@ package com.poppy.domain.scrap.service;
 
 import com.poppy.common.exception.BusinessException;
 import com.poppy.common.exception.ErrorCode;
+import com.poppy.common.pagination.Cursor;
+import com.poppy.common.pagination.CursorPage;
+import com.poppy.common.pagination.CursorRequest;
 import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.event.PopupStoreChangedEvent;
+import com.poppy.domain.popupStore.event.PopupStoreEventPublisher;
 import com.poppy.domain.popupStore.repository.PopupStoreRepository;
 import com.poppy.domain.scrap.dto.response.ScrapRspDto;
 import com.poppy.domain.scrap.dto.response.UserScrapRspDto;
@@ -35,6 +40,8 @@ public class ScrapService {
     private final LoginUserProviderImpl loginProvider;
     private final RedissonClient redissonClient;
     private final RedisTemplate<String, Integer> redisTemplate;
+    private final StoreTopicSubscriptionService storeTopicSubscriptionService;
+    private final PopupStoreEventPublisher popupStoreEventPublisher;
 
     @Transactional
     public ScrapRspDto toggleScrap(Long storeId) {
@@ -57,6 +64,7 @@ public class ScrapService {
                 store.updateScrapCount(currentCount - 1);
                 scrapRepository.deleteByUserAndPopupStore(user, store);
                 redisTemplate.opsForValue().decrement(cacheKey);
+                storeTopicSubscriptionService.unsubscribe(user, storeId);
             }
             else {
                 store.updateScrapCount(currentCount + 1);
@@ -65,10 +73,12 @@ public class ScrapService {
                         .popupStore(store)
                         .build());
                 redisTemplate.opsForValue().increment(cacheKey);
+                storeTopicSubscriptionService.subscribe(user, storeId);
             }
 
             // 명시적 저장 추가
             popupStoreRepository.saveAndFlush(store);
+            popupStoreEventPublisher.publish(storeId, PopupStoreChangedEvent.Type.STATS_UPDATED);
 
             return ScrapRspDto.of(!isScraped, store.getScrapCount());
         }
@@ -108,12 +118,20 @@ public class ScrapService {
     }
 
     @Transactional(readOnly = true)
-    public List<UserScrapRspDto> getUserScraps(ScrapSortType scrapSortType) {
+    public CursorPage<UserScrapRspDto> getUserScraps(ScrapSortType scrapSortType, CursorRequest request) {
         User user = loginProvider.getLoggedInUser();
-        return scrapRepository.findScrapsByUserAndSortType(user, scrapSortType.name())
-                .stream()
-                .map(UserScrapRspDto::from)
-                .toList();
+        List<Scrap> scraps = scrapRepository.findPageByUserId(user.getId(), scrapSortType, request);
+        return CursorPage.of(scraps, request, scrap -> cursorOf(scrap, scrapSortType))
+                .map(UserScrapRspDto::from);
+    }
+
+    // 정렬 방식별 커서 (ScrapRepositoryCustomImpl의 정렬 키와 일치)
+    private Cursor cursorOf(Scrap scrap, ScrapSortType sortType) {
+        return switch (sortType) {
+            case RECENT_SAVED -> Cursor.ofId(scrap.getId());
+            case OPEN_DATE -> Cursor.of(scrap.getPopupStore().getStartDate(), scrap.getId());
+            case END_DATE -> Cursor.of(scrap.getPopupStore().getEndDate(), scrap.getId());
+        };
     }
 
     // 스크랩 삭제
@@ -148,6 +166,8 @@ public class ScrapService {
             store.updateScrapCount(currentCount - count.intValue());
             redisTemplate.opsForValue().decrement(cacheKey, count);
             popupStoreRepository.saveAndFlush(store);
+            popupStoreEventPublisher.publish(store.getId(), PopupStoreChangedEvent.Type.STATS_UPDATED);
+            storeTopicSubscriptionService.unsubscribe(user, store.getId());
         });
 
         // 스크랩 일괄 삭제
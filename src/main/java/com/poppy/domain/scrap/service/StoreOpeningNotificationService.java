@@ -0,0 +1,94 @@
+package com.poppy.domain.scrap.service;
+
+import com.poppy.common.job.DelayedJobHandler;
+import com.poppy.common.job.DelayedJobQueue;
+import com.poppy.domain.notification.service.NotificationService;
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import com.poppy.domain.scrap.repository.ScrapRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// 오픈 알림을 스토어 단위 지연 작업으로 나눠 여러 노드가 나눠서 발송
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StoreOpeningNotificationService implements DelayedJobHandler {
+    public static final String JOB_TYPE = "store-opening";
+    private static final int SAVE_BATCH_SIZE = 1000;  // 알림함 INSERT 배치 크기
+    private static final String SENT_KEY_PREFIX = "store-opening:sent:";
+    private static final Duration SENT_TTL = Duration.ofDays(3);
+
+    private final DelayedJobQueue delayedJobQueue;
+    private final ScrapRepository scrapRepository;
+    private final PopupStoreRepository popupStoreRepository;
+    private final NotificationService notificationService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 해당 날짜에 오픈하는 스크랩된 스토어마다 작업 등록 (같은 날짜에 이미 등록/발송된 스토어는 무시)
+    @Transactional(readOnly = true)
+    public int scheduleOpenings(LocalDate date) {
+        List<Long> storeIds = scrapRepository.findPopupStoreIdsByStartDate(date);
+        Instant now = Instant.now();
+
+        for (Long storeId : storeIds) {
+            delayedJobQueue.scheduleIfAbsent(JOB_TYPE + ":" + storeId + ":" + date, JOB_TYPE, storeId.toString(), now);
+        }
+        return storeIds.size();
+    }
+
+    @Override
+    public String getType() {
+        return JOB_TYPE;
+    }
+
+    // payload: {popupStoreId}
+    @Override
+    public void handle(String payload) {
+        Long storeId = Long.parseLong(payload);
+        PopupStore store = popupStoreRepository.findById(storeId).orElse(null);
+        if (store == null) {
+            log.info("Skipping store opening notification: store {} not found", storeId);
+            return;
+        }
+
+        // 스크랩한 유저를 나눠서 읽고 청크마다 알림함에 배치 저장
+        long cursor = 0L;
+        int savedCount = 0;
+        while (true) {
+            List<Object[]> rows = scrapRepository.findUserIdsByPopupStoreIdAfter(storeId, cursor, SAVE_BATCH_SIZE);
+            if (rows.isEmpty()) break;
+
+            List<Long> userIds = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                cursor = ((Number) row[0]).longValue();
+                userIds.add(((Number) row[1]).longValue());
+            }
+
+            notificationService.saveStoreOpeningNotifications(store, userIds);
+            savedCount += userIds.size();
+
+            if (rows.size() < SAVE_BATCH_SIZE) break;
+        }
+
+        // 알림함 저장은 중복을 건너뛰므로 다시 실행해도 되지만, 푸시는 이미 발송했으면 다시 보내지 않음 (재시도 시)
+        String sentKey = SENT_KEY_PREFIX + storeId;
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(sentKey))) {
+            log.info("Store opening notification already sent - storeId: {}", storeId);
+            return;
+        }
+
+        notificationService.sendStoreOpeningNotification(store);
+        redisTemplate.opsForValue().set(sentKey, "1", SENT_TTL);
+        log.info("Sent store opening notifications - storeId: {}, saved: {}", storeId, savedCount);
+    }
+}
@@ -0,0 +1,90 @@
+package com.poppy.domain.scrap.service;
+
+import com.poppy.common.job.DelayedJobHandler;
+import com.poppy.common.job.DelayedJobQueue;
+import com.poppy.domain.notification.service.FcmSender;
+import com.poppy.domain.scrap.repository.ScrapRepository;
+import com.poppy.domain.user.service.DeviceTokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+
+/*
+ * 스토어 토픽 구독 도입 전 스크랩 백필 (1회)
+ *
+ * - 토픽 구독은 스크랩/기기 등록 시에만 하므로 도입 전에 스크랩한 유저는 오픈 알림 토픽을 받지 못함
+ * - 아직 오픈하지 않은 스토어의 스크랩을 id 순으로 나눠 읽고 스토어별로 묶어 구독 (다시 실행해도 결과가 같음)
+ * - 지연 작업으로 등록해 한 노드에서만 실행하고, 끝나면 완료 표시를 남겨 이후 시작 시에는 등록하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StoreTopicBackfillService implements DelayedJobHandler {
+    public static final String JOB_TYPE = "store-topic-backfill";
+    private static final String DONE_KEY = "store-topic:backfill:done";
+    private static final int SCRAP_BATCH_SIZE = 1000;
+
+    private final DelayedJobQueue delayedJobQueue;
+    private final ScrapRepository scrapRepository;
+    private final DeviceTokenService deviceTokenService;
+    private final FcmSender fcmSender;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleOnStartup() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(DONE_KEY))) return;
+            delayedJobQueue.scheduleIfAbsent(JOB_TYPE, JOB_TYPE, "", Instant.now());
+        } catch (Exception e) {
+            log.warn("Failed to schedule store topic backfill: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public String getType() {
+        return JOB_TYPE;
+    }
+
+    @Override
+    public void handle(String payload) {
+        LocalDate today = LocalDate.now();
+        long cursor = 0L;
+        int subscribed = 0;
+
+        while (true) {
+            List<Object[]> rows = scrapRepository.findUpcomingScrapsAfter(today, cursor, SCRAP_BATCH_SIZE);
+            if (rows.isEmpty()) break;
+
+            Map<Long, Set<Long>> userIdsByStore = new HashMap<>();
+            Set<Long> userIds = new HashSet<>();
+            for (Object[] row : rows) {
+                cursor = ((Number) row[0]).longValue();
+                long userId = ((Number) row[1]).longValue();
+                userIds.add(userId);
+                userIdsByStore.computeIfAbsent(((Number) row[2]).longValue(), id -> new HashSet<>()).add(userId);
+            }
+
+            Map<Long, List<String>> tokensByUser = deviceTokenService.getTokensByUserIds(userIds);
+            for (Map.Entry<Long, Set<Long>> entry : userIdsByStore.entrySet()) {
+                List<String> tokens = new ArrayList<>();
+                for (Long userId : entry.getValue()) tokens.addAll(tokensByUser.getOrDefault(userId, List.of()));
+                if (tokens.isEmpty()) continue;
+
+                fcmSender.subscribe(tokens, StoreTopicSubscriptionService.topicOf(entry.getKey()));
+                subscribed += tokens.size();
+            }
+
+            if (rows.size() < SCRAP_BATCH_SIZE) break;
+        }
+
+        redisTemplate.opsForValue().set(DONE_KEY, "1");
+        log.info("Store topic backfill finished - {} subscriptions", subscribed);
+    }
+}
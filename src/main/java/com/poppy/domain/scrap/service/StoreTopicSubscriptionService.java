@@ -0,0 +1,92 @@
+package com.poppy.domain.scrap.service;
+
+import com.poppy.domain.notification.service.FcmSender;
+import com.poppy.domain.scrap.repository.ScrapRepository;
+import com.poppy.domain.user.entity.User;
+import com.poppy.domain.user.service.DeviceTokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 스크랩한 스토어의 FCM 토픽(store-{id}) 구독 관리 (오픈 알림을 스토어당 1번의 토픽 발송으로 처리)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StoreTopicSubscriptionService {
+    private static final String TOPIC_PREFIX = "store-";
+
+    private final FcmSender fcmSender;
+    private final DeviceTokenService deviceTokenService;
+    private final ScrapRepository scrapRepository;
+
+    public static String topicOf(Long storeId) {
+        return TOPIC_PREFIX + storeId;
+    }
+
+    // 스크랩 시 유저의 모든 기기를 스토어 토픽에 구독
+    public void subscribe(User user, Long storeId) {
+        List<String> tokens = deviceTokenService.getTokens(user);
+        if (tokens.isEmpty()) return;
+
+        runAfterCommit(() -> fcmSender.subscribe(tokens, topicOf(storeId)));
+    }
+
+    // 스크랩 해제 시 구독 해제
+    public void unsubscribe(User user, Long storeId) {
+        List<String> tokens = deviceTokenService.getTokens(user);
+        if (tokens.isEmpty()) return;
+
+        runAfterCommit(() -> fcmSender.unsubscribe(tokens, topicOf(storeId)));
+    }
+
+    // 새 기기 등록 시 아직 오픈하지 않은 스크랩 스토어 토픽에 구독
+    public void subscribeDevice(User user, String token) {
+        if (token == null || token.isBlank()) return;
+
+        List<Long> storeIds = scrapRepository.findUpcomingPopupStoreIdsByUserId(user.getId(), LocalDate.now());
+        if (storeIds.isEmpty()) return;
+
+        runAfterCommit(() -> {
+            for (Long storeId : storeIds) fcmSender.subscribe(List.of(token), topicOf(storeId));
+        });
+    }
+
+    // 다른 계정으로 로그인해 소유자가 바뀐 기기는 이전 소유자의 스크랩 스토어 토픽에서 구독 해제
+    public void unsubscribeDevice(Long previousOwnerId, String token) {
+        if (token == null || token.isBlank()) return;
+
+        List<Long> storeIds = scrapRepository.findUpcomingPopupStoreIdsByUserId(previousOwnerId, LocalDate.now());
+        if (storeIds.isEmpty()) return;
+
+        runAfterCommit(() -> {
+            for (Long storeId : storeIds) fcmSender.unsubscribe(List.of(token), topicOf(storeId));
+        });
+    }
+
+    // 롤백된 스크랩 변경이 구독에 반영되지 않도록 커밋 이후 실행 (FCM 실패는 스크랩 처리에 영향 없음)
+    private void runAfterCommit(Runnable task) {
+        Runnable safeTask = () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.warn("Failed to update store topic subscription: {}", e.getMessage());
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeTask.run();
+                }
+            });
+        } else {
+            safeTask.run();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.poppy.domain.search.controller;
+
+import com.poppy.common.api.RspTemplate;
+import com.poppy.domain.search.dto.response.AutocompleteRspDto;
+import com.poppy.domain.search.service.AutocompleteService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/search")
+public class AutocompleteController {
+    private final AutocompleteService autocompleteService;
+
+    // 검색어 자동완성 (검색 횟수, 검색 기록에 반영되지 않음)
+    @GetMapping("/autocomplete")
+    public RspTemplate<List<AutocompleteRspDto>> autocomplete(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "10") int size) {
+        return new RspTemplate<>(
+                HttpStatus.OK,
+                "자동완성 조회 성공",
+                autocompleteService.autocomplete(keyword, size)
+        );
+    }
+}
@@ -1,8 +1,10 @@
 package com.poppy.domain.search.controller;
 
 import com.poppy.common.api.RspTemplate;
+import com.poppy.domain.search.dto.request.SearchHistoryImportReqDto;
 import com.poppy.domain.search.service.PopularKeywordService;
 import com.poppy.domain.search.service.SearchHistoryService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
@@ -26,15 +28,26 @@ public class SearchHistoryController {
         );
     }
 
+    // 로그인 직후 기기에 저장된 검색 기록 병합
+    @PostMapping("/import")
+    public RspTemplate<List<String>> importSearchHistory(@Valid @RequestBody SearchHistoryImportReqDto reqDto) {
+        return new RspTemplate<>(
+                HttpStatus.OK,
+                "검색 기록 가져오기 성공",
+                searchHistoryService.importSearchHistory(reqDto.getHistories())
+        );
+    }
+
     // 인기 검색어 조회
     @GetMapping("/popular")
     public RspTemplate<List<String>> getPopularSearchHistory() {
         LocalDateTime now = LocalDateTime.now();
         String message = String.format(
-                "%d월 %d일 %d시 인기 검색어 조회",
+                "%d월 %d일 %d시 %d분 인기 검색어 조회",
                 now.getMonthValue(),
                 now.getDayOfMonth(),
-                now.getHour()
+                now.getHour(),
+                now.getMinute() / 5 * 5     // 5분 단위로 갱신
         );
 
         return new RspTemplate<>(
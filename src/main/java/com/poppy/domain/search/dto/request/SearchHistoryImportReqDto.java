@@ -0,0 +1,33 @@
+package com.poppy.domain.search.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 비로그인 상태에서 기기에 저장해둔 검색 기록 (로그인 직후 서버 기록과 병합)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHistoryImportReqDto {
+    @NotNull
+    @Size(max = 50)
+    private List<@Valid Entry> histories;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        @NotBlank
+        @Size(max = 50)
+        private String keyword;
+
+        @NotNull
+        private Long searchedAt;    // epoch millis
+    }
+}
@@ -0,0 +1,14 @@
+package com.poppy.domain.search.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AutocompleteRspDto {
+    public enum Type { STORE, KEYWORD }
+
+    private final String text;
+    private final Type type;
+    private final Long storeId;     // STORE인 경우에만
+}
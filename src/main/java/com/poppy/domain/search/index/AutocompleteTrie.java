@@ -0,0 +1,185 @@
+package com.poppy.domain.search.index;
+
+import com.poppy.common.util.HangulUtil;
+import com.poppy.domain.search.dto.response.AutocompleteRspDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.*;
+
+/*
+ * 자동완성용 접두어 트라이
+ *
+ * - 정규화된 문자열로 구성하고, 노드마다 가중치 상위 suggestion을 미리 저장해 조회 시 하위 노드를 순회하지 않음
+ * - 검색어에 자음만 입력된 글자가 있으면 해당 위치는 초성이 같은 모든 글자와 매칭 (ㅍㅍ -> 포피, 포ㅍ -> 포피)
+ * - add는 공개 전 구성용, 공개 후 변경은 replace/remove로 경로상의 노드만 복사해 루트를 교체 (조회는 잠금 없이 이전 루트를 계속 사용)
+ * - 노드마다 해당 위치에서 끝나는 suggestion을 따로 두어, 상위 목록에서 빠진 자리는 자식 노드의 상위 목록으로 다시 채움
+ */
+public class AutocompleteTrie {
+    private volatile Node root = new Node();
+    private final int suggestionsPerNode;
+
+    public AutocompleteTrie(int suggestionsPerNode) {
+        this.suggestionsPerNode = suggestionsPerNode;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Suggestion {
+        private final String text;
+        private final AutocompleteRspDto.Type type;
+        private final Long storeId;
+        private final long weight;
+
+        public AutocompleteRspDto toDto() {
+            return new AutocompleteRspDto(text, type, storeId);
+        }
+
+        // 스토어는 id, 검색어는 문자열이 같으면 같은 대상
+        boolean isSameTarget(Suggestion other) {
+            if (type != other.type) return false;
+            return type == AutocompleteRspDto.Type.STORE ? Objects.equals(storeId, other.storeId) : text.equals(other.text);
+        }
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children;
+        private final List<Suggestion> top;
+        private final List<Suggestion> terminal;    // 이 노드에서 끝나는 suggestion
+
+        private Node() {
+            this(new HashMap<>(4), new ArrayList<>(2), new ArrayList<>(1));
+        }
+
+        private Node(Map<Character, Node> children, List<Suggestion> top, List<Suggestion> terminal) {
+            this.children = children;
+            this.top = top;
+            this.terminal = terminal;
+        }
+
+        private Node copy() {
+            return new Node(new HashMap<>(children), new ArrayList<>(top), new ArrayList<>(terminal));
+        }
+
+        private boolean isEmpty() {
+            return children.isEmpty() && terminal.isEmpty();
+        }
+    }
+
+    private static final Comparator<Suggestion> BY_WEIGHT = Comparator.comparingLong(Suggestion::getWeight).reversed()
+            .thenComparing(Suggestion::getText);
+
+    public void add(Suggestion suggestion) {
+        String key = HangulUtil.normalize(suggestion.getText());
+        if (key.isEmpty()) return;
+
+        Node node = root;
+        offer(node, suggestion);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            offer(node, suggestion);
+        }
+        node.terminal.add(suggestion);
+    }
+
+    // 기존 suggestion(없으면 null)을 새 suggestion으로 교체
+    public synchronized void replace(Suggestion previous, Suggestion suggestion) {
+        Node next = root;
+        if (previous != null) next = without(next, HangulUtil.normalize(previous.getText()), 0, previous);
+        if (next == null) next = new Node();
+
+        String key = HangulUtil.normalize(suggestion.getText());
+        if (!key.isEmpty()) next = with(next, key, 0, suggestion);
+        root = next;
+    }
+
+    public synchronized void remove(Suggestion suggestion) {
+        Node next = without(root, HangulUtil.normalize(suggestion.getText()), 0, suggestion);
+        root = next == null ? new Node() : next;
+    }
+
+    public List<Suggestion> search(String prefix, int limit) {
+        String query = HangulUtil.normalize(prefix);
+        if (query.isEmpty()) return List.of();
+
+        List<Node> matched = new ArrayList<>();
+        collect(root, query, 0, matched);
+        if (matched.isEmpty()) return List.of();
+
+        // 초성 매칭으로 여러 노드가 나오면 각 노드의 상위 목록을 합쳐서 정렬
+        Set<Suggestion> merged = new LinkedHashSet<>();
+        for (Node node : matched) merged.addAll(node.top);
+
+        List<Suggestion> result = new ArrayList<>(merged);
+        result.sort(BY_WEIGHT);
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    private void collect(Node node, String query, int depth, List<Node> matched) {
+        if (depth == query.length()) {
+            matched.add(node);
+            return;
+        }
+
+        char c = query.charAt(depth);
+        if (!HangulUtil.isChoseong(c)) {
+            Node child = node.children.get(c);
+            if (child != null) collect(child, query, depth + 1, matched);
+            return;
+        }
+
+        for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+            char next = entry.getKey();
+            if (next == c || HangulUtil.choseongOf(next) == c) collect(entry.getValue(), query, depth + 1, matched);
+        }
+    }
+
+    // 경로상의 노드만 복사해 추가한 트라이의 루트를 반환
+    private Node with(Node node, String key, int depth, Suggestion suggestion) {
+        Node copy = node.copy();
+        offer(copy, suggestion);
+        if (depth == key.length()) {
+            copy.terminal.add(suggestion);
+            return copy;
+        }
+
+        Node child = copy.children.get(key.charAt(depth));
+        copy.children.put(key.charAt(depth), with(child == null ? new Node() : child, key, depth + 1, suggestion));
+        return copy;
+    }
+
+    // 경로상의 노드만 복사해 제거한 트라이의 루트를 반환 (비게 된 노드는 null)
+    private Node without(Node node, String key, int depth, Suggestion suggestion) {
+        if (node == null) return null;
+
+        Node copy = node.copy();
+        if (depth == key.length()) {
+            copy.terminal.removeIf(suggestion::isSameTarget);
+        } else {
+            char c = key.charAt(depth);
+            Node child = without(copy.children.get(c), key, depth + 1, suggestion);
+            if (child == null || child.isEmpty()) copy.children.remove(c);
+            else copy.children.put(c, child);
+        }
+
+        if (copy.top.removeIf(suggestion::isSameTarget)) refill(copy);
+        return copy.isEmpty() ? null : copy;
+    }
+
+    // 하위 트리의 상위 목록은 이 노드에서 끝나는 suggestion과 자식들의 상위 목록 중에 있음
+    private void refill(Node node) {
+        node.top.clear();
+        node.terminal.forEach(suggestion -> offer(node, suggestion));
+        for (Node child : node.children.values()) child.top.forEach(suggestion -> offer(node, suggestion));
+    }
+
+    // 가중치 상위 suggestionsPerNode개만 유지
+    private void offer(Node node, Suggestion suggestion) {
+        List<Suggestion> top = node.top;
+        if (top.size() == suggestionsPerNode && BY_WEIGHT.compare(suggestion, top.get(top.size() - 1)) >= 0) return;
+
+        int index = Collections.binarySearch(top, suggestion, BY_WEIGHT);
+        top.add(index < 0 ? -index - 1 : index, suggestion);
+        if (top.size() > suggestionsPerNode) top.remove(top.size() - 1);
+    }
+}
@@ -0,0 +1,124 @@
+package com.poppy.domain.search.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.*;
+
+/*
+ * Space-Saving 알고리즘 기반 빈도 상위 항목 추적기
+ *
+ * - 카운터는 최대 capacity개, 가득 차면 가장 작은 카운터를 새 항목이 물려받음 (count = 최소값 + n, error = 최소값)
+ * - 실제 빈도가 전체/capacity를 넘는 항목은 반드시 남아 있으므로, 고유 검색어가 아무리 많아도 메모리는 고정
+ * - count - error는 실제 빈도의 하한이므로 외부로 내보낼 때는 이 값을 사용
+ * - 카운터별로 이미 내보낸 양을 기록해, 초기화 없이 계속 집계하면서 그 이후의 증가분만 내보냄
+ * - 주기적으로 decay를 호출해 오래된 빈도를 줄임 (최소 카운터가 계속 커져 새 항목이 큰 오차를 물려받는 것을 방지)
+ * - 한 인스턴스는 단일 잠금이므로 동시 요청이 많은 곳에서는 항목 해시로 나눈 여러 인스턴스를 사용
+ */
+public class SpaceSavingSketch {
+    private final int capacity;
+    private final Map<String, Counter> counters;
+    private final TreeSet<Counter> byCount = new TreeSet<>(
+            Comparator.comparingLong((Counter c) -> c.count).thenComparingLong(c -> c.sequence));
+    private long sequence = 0L;
+
+    public SpaceSavingSketch(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class HeavyHitter {
+        private final String item;
+        private final long count;       // 실제 빈도의 하한
+    }
+
+    private static class Counter {
+        private final String item;
+        private final long sequence;    // 같은 count 내 정렬용
+        private long count;
+        private long error;
+        private long exported;          // 이미 내보낸 빈도 하한
+
+        private Counter(String item, long sequence, long count, long error) {
+            this.item = item;
+            this.sequence = sequence;
+            this.count = count;
+            this.error = error;
+        }
+    }
+
+    public synchronized void offer(String item, long n) {
+        Counter counter = counters.get(item);
+        if (counter != null) {
+            byCount.remove(counter);
+            counter.count += n;
+            byCount.add(counter);
+            return;
+        }
+
+        if (counters.size() < capacity) {
+            counter = new Counter(item, sequence++, n, 0L);
+        } else {
+            Counter min = byCount.pollFirst();
+            counters.remove(min.item);
+            counter = new Counter(item, sequence++, min.count + n, min.count);
+        }
+        counters.put(item, counter);
+        byCount.add(counter);
+    }
+
+    // 빈도 하한 기준 상위 k개
+    public synchronized List<HeavyHitter> top(int k) {
+        List<HeavyHitter> hitters = new ArrayList<>(counters.size());
+        for (Counter counter : counters.values()) {
+            hitters.add(new HeavyHitter(counter.item, counter.count - counter.error));
+        }
+
+        hitters.sort(Comparator.comparingLong(HeavyHitter::getCount).reversed());
+        return hitters.size() > k ? new ArrayList<>(hitters.subList(0, k)) : hitters;
+    }
+
+    // 아직 내보내지 않은 증가분 기준 상위 k개 (markExported 전까지는 다음 조회에도 포함)
+    public synchronized List<HeavyHitter> pending(int k) {
+        List<HeavyHitter> hitters = new ArrayList<>();
+        for (Counter counter : counters.values()) {
+            long delta = counter.count - counter.error - counter.exported;
+            if (delta > 0) hitters.add(new HeavyHitter(counter.item, delta));
+        }
+
+        hitters.sort(Comparator.comparingLong(HeavyHitter::getCount).reversed());
+        return hitters.size() > k ? new ArrayList<>(hitters.subList(0, k)) : hitters;
+    }
+
+    // 내보낸 증가분 기록 (그 사이 밀려났다가 다시 들어온 항목은 현재 하한을 넘지 않도록)
+    public synchronized void markExported(String item, long n) {
+        Counter counter = counters.get(item);
+        if (counter == null) return;
+        counter.exported = Math.min(counter.exported + n, counter.count - counter.error);
+    }
+
+    // 모든 카운터에 factor(0~1)를 곱함 (0이 된 카운터는 제거)
+    public synchronized void decay(double factor) {
+        byCount.clear();
+        Iterator<Counter> iterator = counters.values().iterator();
+        while (iterator.hasNext()) {
+            Counter counter = iterator.next();
+            counter.count = (long) (counter.count * factor);
+            if (counter.count == 0) {
+                iterator.remove();
+                continue;
+            }
+
+            counter.error = (long) (counter.error * factor);
+            // 이미 내보낸 양을 다시 내보내지 않도록 올림
+            counter.exported = Math.min((long) Math.ceil(counter.exported * factor), counter.count - counter.error);
+            byCount.add(counter);
+        }
+    }
+
+    public synchronized int size() {
+        return counters.size();
+    }
+}
@@ -0,0 +1,192 @@
+package com.poppy.domain.search.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * 팝업스토어 검색 조건(날짜/지역/평점/카테고리)용 비트셋 인덱스
+ *
+ * - 스토어마다 정수 ordinal을 부여하고 조건값별 BitSet에 표시, 검색은 BitSet 교집합
+ * - 평점은 0.5점 단위 "이상" 버킷 (정확한 경계는 후보만 다시 확인)
+ * - 날짜는 기준일 전후 범위(horizon)만 일자별 BitSet으로 유지하고, 범위 밖 날짜는 후보를 직접 확인
+ */
+public class StoreFacetIndex {
+    private static final int RATING_STEPS = 10;     // 0.5점 단위, 0 ~ 5점
+
+    private final LocalDate horizonStart;
+    private final LocalDate horizonEnd;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final List<Entry> entries = new ArrayList<>();      // ordinal -> 스토어 (삭제 시 null)
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final BitSet alive = new BitSet();
+
+    private final Map<Long, BitSet> byCategory = new HashMap<>();
+    private final Map<String, BitSet> byLocation = new HashMap<>();
+    private final BitSet[] byRating = new BitSet[RATING_STEPS + 1];   // byRating[i]: 평점 >= i * 0.5
+    private final Map<LocalDate, BitSet> byDate = new HashMap<>();
+
+    public StoreFacetIndex(LocalDate horizonStart, LocalDate horizonEnd) {
+        this.horizonStart = horizonStart;
+        this.horizonEnd = horizonEnd;
+        for (int i = 0; i <= RATING_STEPS; i++) byRating[i] = new BitSet();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final Long id;
+        private final Long categoryId;
+        private final String location;
+        private final double rating;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final long createdAt;
+    }
+
+    public void put(Entry entry) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(entry.getId());
+            if (ordinal != null) {
+                unindex(ordinal, entries.get(ordinal));
+            } else {
+                ordinal = freeOrdinals.isEmpty() ? entries.size() : freeOrdinals.pop();
+                if (ordinal == entries.size()) entries.add(null);
+                ordinals.put(entry.getId(), ordinal);
+            }
+
+            entries.set(ordinal, entry);
+            index(ordinal, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long storeId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(storeId);
+            if (ordinal == null) return;
+
+            unindex(ordinal, entries.get(ordinal));
+            entries.set(ordinal, null);
+            freeOrdinals.push(ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 조건에 맞는 스토어 id (최신 등록순), null/빈 조건은 무시
+    public List<Long> search(LocalDate date, Collection<String> locations, Double minRating, Collection<Long> categoryIds) {
+        lock.readLock().lock();
+        try {
+            BitSet result = (BitSet) alive.clone();
+
+            if (categoryIds != null && !categoryIds.isEmpty()) result.and(union(byCategory, categoryIds));
+            if (locations != null && !locations.isEmpty()) result.and(union(byLocation, locations));
+
+            boolean checkRating = false;
+            if (minRating != null) {
+                int step = (int) Math.floor(minRating * 2);
+                if (step > RATING_STEPS) return new ArrayList<>();
+                if (step > 0) result.and(byRating[step]);
+                checkRating = minRating * 2 != step;    // 버킷 경계가 아니면 후보만 다시 확인
+            }
+
+            boolean checkDate = false;
+            if (date != null) {
+                if (!date.isBefore(horizonStart) && !date.isAfter(horizonEnd)) {
+                    BitSet day = byDate.get(date);
+                    if (day == null) return new ArrayList<>();
+                    result.and(day);
+                } else {
+                    checkDate = true;
+                }
+            }
+
+            List<Entry> matched = new ArrayList<>(result.cardinality());
+            for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+                Entry entry = entries.get(i);
+                if (checkRating && entry.getRating() < minRating) continue;
+                if (checkDate && (date.isBefore(entry.getStartDate()) || date.isAfter(entry.getEndDate()))) continue;
+                matched.add(entry);
+            }
+
+            matched.sort(Comparator.comparingLong(Entry::getCreatedAt).reversed()
+                    .thenComparing(Entry::getId, Comparator.reverseOrder()));
+
+            List<Long> ids = new ArrayList<>(matched.size());
+            for (Entry entry : matched) ids.add(entry.getId());
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(int ordinal, Entry entry) {
+        alive.set(ordinal);
+        if (entry.getCategoryId() != null) byCategory.computeIfAbsent(entry.getCategoryId(), k -> new BitSet()).set(ordinal);
+        if (entry.getLocation() != null) byLocation.computeIfAbsent(entry.getLocation(), k -> new BitSet()).set(ordinal);
+        for (int i = 0; i <= ratingStep(entry); i++) byRating[i].set(ordinal);
+        for (LocalDate d = firstIndexedDate(entry); !d.isAfter(lastIndexedDate(entry)); d = d.plusDays(1)) {
+            byDate.computeIfAbsent(d, k -> new BitSet()).set(ordinal);
+        }
+    }
+
+    private void unindex(int ordinal, Entry entry) {
+        alive.clear(ordinal);
+        clear(byCategory, entry.getCategoryId(), ordinal);
+        clear(byLocation, entry.getLocation(), ordinal);
+        for (int i = 0; i <= ratingStep(entry); i++) byRating[i].clear(ordinal);
+        for (LocalDate d = firstIndexedDate(entry); !d.isAfter(lastIndexedDate(entry)); d = d.plusDays(1)) {
+            clear(byDate, d, ordinal);
+        }
+    }
+
+    private int ratingStep(Entry entry) {
+        return Math.max(0, Math.min(RATING_STEPS, (int) Math.floor(entry.getRating() * 2)));
+    }
+
+    private LocalDate firstIndexedDate(Entry entry) {
+        return entry.getStartDate().isBefore(horizonStart) ? horizonStart : entry.getStartDate();
+    }
+
+    private LocalDate lastIndexedDate(Entry entry) {
+        return entry.getEndDate().isAfter(horizonEnd) ? horizonEnd : entry.getEndDate();
+    }
+
+    private static <K> BitSet union(Map<K, BitSet> facet, Collection<K> keys) {
+        BitSet union = new BitSet();
+        for (K key : keys) {
+            BitSet bits = facet.get(key);
+            if (bits != null) union.or(bits);
+        }
+        return union;
+    }
+
+    private static <K> void clear(Map<K, BitSet> facet, K key, int ordinal) {
+        if (key == null) return;
+
+        BitSet bits = facet.get(key);
+        if (bits == null) return;
+
+        bits.clear(ordinal);
+        if (bits.isEmpty()) facet.remove(key);
+    }
+}
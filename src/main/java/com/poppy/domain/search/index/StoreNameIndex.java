@@ -0,0 +1,145 @@
+package com.poppy.domain.search.index;
+
+import com.poppy.common.util.HangulUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 스토어 이름 n-gram 역색인 (1~3-gram, 한글은 음절 단위)
+ *
+ * - 검색어 길이가 3 이상이면 검색어의 모든 3-gram 목록을 교집합한 뒤 실제 포함 여부로 검증
+ * - 마지막 글자가 자음만 입력된 경우(예: "포피ㅍ") 다음 음절의 초성으로 비교
+ * - 순위: 이름 일치 > 접두어 일치 > 포함, 같은 순위는 최신 등록순
+ */
+public class StoreNameIndex {
+    private static final int MAX_GRAM = 3;
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, IndexedStore> stores = new ConcurrentHashMap<>();
+
+    @Getter
+    @AllArgsConstructor
+    private static class IndexedStore {
+        private final String normalizedName;
+        private final long createdAt;
+    }
+
+    public void put(Long storeId, String name, long createdAt) {
+        remove(storeId);
+
+        String normalized = HangulUtil.normalize(name);
+        stores.put(storeId, new IndexedStore(normalized, createdAt));
+        for (String gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(storeId);
+        }
+    }
+
+    public void remove(Long storeId) {
+        IndexedStore removed = stores.remove(storeId);
+        if (removed == null) return;
+
+        for (String gram : grams(removed.getNormalizedName())) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) continue;
+            ids.remove(storeId);
+            if (ids.isEmpty()) postings.remove(gram, ids);
+        }
+    }
+
+    public void clear() {
+        postings.clear();
+        stores.clear();
+    }
+
+    public int size() {
+        return stores.size();
+    }
+
+    // 순위순 스토어 id 목록
+    public List<Long> search(String keyword) {
+        String query = HangulUtil.normalize(keyword);
+
+        // 입력 중인 마지막 자음은 n-gram에서 제외하고 검증 단계에서 초성으로 비교
+        char pendingChoseong = 0;
+        if (!query.isEmpty() && HangulUtil.isChoseong(query.charAt(query.length() - 1))) {
+            pendingChoseong = query.charAt(query.length() - 1);
+            query = query.substring(0, query.length() - 1);
+        }
+        if (query.isEmpty()) return List.of();
+
+        Set<Long> candidates = findCandidates(query);
+        if (candidates.isEmpty()) return List.of();
+
+        List<Long> result = new ArrayList<>();
+        Map<Long, Integer> ranks = new HashMap<>();
+        Map<Long, Long> createdAts = new HashMap<>();
+        for (Long storeId : candidates) {
+            IndexedStore store = stores.get(storeId);
+            if (store == null) continue;
+
+            int rank = rank(store.getNormalizedName(), query, pendingChoseong);
+            if (rank < 0) continue;
+
+            ranks.put(storeId, rank);
+            createdAts.put(storeId, store.getCreatedAt());
+            result.add(storeId);
+        }
+
+        result.sort(Comparator.<Long>comparingInt(ranks::get)
+                .thenComparing(createdAts::get, Comparator.reverseOrder())
+                .thenComparing(Comparator.reverseOrder()));
+        return result;
+    }
+
+    // 검색어의 n-gram 목록을 작은 것부터 교집합
+    private Set<Long> findCandidates(String query) {
+        int n = Math.min(query.length(), MAX_GRAM);
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (int i = 0; i + n <= query.length(); i++) {
+            Set<Long> ids = postings.get(query.substring(i, i + n));
+            if (ids == null || ids.isEmpty()) return Set.of();
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> candidates = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(lists.get(i));
+        }
+        return candidates;
+    }
+
+    // 0: 이름 일치, 1: 접두어 일치, 2: 포함, -1: 불일치
+    private int rank(String name, String query, char pendingChoseong) {
+        int from = 0;
+        while (true) {
+            int index = name.indexOf(query, from);
+            if (index < 0) return -1;
+
+            int end = index + query.length();
+            if (pendingChoseong == 0) {
+                if (index == 0) return name.length() == query.length() ? 0 : 1;
+                return 2;
+            }
+            if (end < name.length() && HangulUtil.choseongOf(name.charAt(end)) == pendingChoseong) {
+                if (index == 0) return end + 1 == name.length() ? 0 : 1;
+                return 2;
+            }
+            from = index + 1;
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int n = 1; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= text.length(); i++) {
+                grams.add(text.substring(i, i + n));
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,165 @@
+package com.poppy.domain.search.service;
+
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.event.PopupStoreChangedEvent;
+import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import com.poppy.domain.search.dto.response.AutocompleteRspDto;
+import com.poppy.domain.search.index.AutocompleteTrie;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 스토어 이름 + 인기 검색어 접두어 자동완성 (입력 중 요청은 검색 횟수, 검색 기록에 반영하지 않음)
+ *
+ * - 전체 재구성은 시작 시와 매일 새벽에만 수행 (이벤트 누락, 종료 처리 반영용)
+ * - 스토어 변경은 id만 모아두었다가 5초마다 해당 스토어만 트라이에 추가/제거
+ * - 인기 검색어는 1분마다 순위를 비교해 바뀐 검색어만 추가/제거
+ * - 트라이 변경은 모두 이 서비스의 잠금 안에서 수행 (조회는 잠금 없이 트라이의 현재 루트를 사용)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AutocompleteService {
+    private static final int SUGGESTIONS_PER_NODE = 10;
+    private static final int MAX_SIZE = 10;
+    private static final int KEYWORD_COUNT = 50;
+    private static final long KEYWORD_REFRESH_MILLIS = 60 * 1000L;
+    private static final String REBUILD_SCHEDULE = "0 30 4 * * *";
+
+    private final PopupStoreRepository popupStoreRepository;
+    private final PopularKeywordService popularKeywordService;
+
+    private volatile AutocompleteTrie trie = new AutocompleteTrie(SUGGESTIONS_PER_NODE);
+    private Map<Long, AutocompleteTrie.Suggestion> storeSuggestions = new HashMap<>();     // 트라이에 있는 스토어 (제거/교체용)
+    private List<AutocompleteTrie.Suggestion> keywordSuggestions = new ArrayList<>();      // 트라이에 있는 인기 검색어 (순위순)
+    private final Set<Long> changedStoreIds = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    // 새 트라이를 만든 뒤 교체 (구성 중에도 기존 트라이로 조회)
+    @Scheduled(cron = REBUILD_SCHEDULE)
+    public synchronized void rebuild() {
+        try {
+            AutocompleteTrie fresh = new AutocompleteTrie(SUGGESTIONS_PER_NODE);
+            Map<Long, AutocompleteTrie.Suggestion> stores = new HashMap<>();
+
+            // 스토어는 최신 등록순
+            for (Object[] row : popupStoreRepository.findActiveStoreNames()) {
+                AutocompleteTrie.Suggestion suggestion = storeSuggestionOf(
+                        (Long) row[0], (String) row[1], (LocalDateTime) row[2]);
+                fresh.add(suggestion);
+                stores.put(suggestion.getStoreId(), suggestion);
+            }
+
+            // 인기 검색어는 스토어보다 우선, 순위순
+            List<AutocompleteTrie.Suggestion> keywords = keywordSuggestionsOf(popularKeywordService.getTopKeywords(KEYWORD_COUNT));
+            keywords.forEach(fresh::add);
+
+            trie = fresh;
+            storeSuggestions = stores;
+            keywordSuggestions = keywords;
+            log.info("Autocomplete trie built with {} stores, {} keywords", stores.size(), keywords.size());
+        } catch (Exception e) {
+            log.error("Failed to build autocomplete trie: {}", e.getMessage(), e);
+        }
+    }
+
+    // 스토어 변경은 id만 모아두고 5초마다 반영 (등록/수정이 몰려도 스토어별 한 번)
+    @EventListener
+    public void onStoreChanged(PopupStoreChangedEvent event) {
+        if (event.getType() == PopupStoreChangedEvent.Type.STATS_UPDATED) return;   // 이름과 무관
+        changedStoreIds.add(event.getStoreId());
+    }
+
+    @Scheduled(fixedDelay = 5000, initialDelay = 5000)
+    public synchronized void applyStoreChanges() {
+        if (changedStoreIds.isEmpty()) return;
+
+        List<Long> storeIds = new ArrayList<>(changedStoreIds);
+        changedStoreIds.removeAll(storeIds);
+
+        for (Long storeId : storeIds) {
+            try {
+                applyStoreChange(storeId);
+            } catch (Exception e) {
+                changedStoreIds.add(storeId);   // 다음 주기에 다시 반영
+                log.warn("Failed to apply store change to autocomplete trie - storeId: {}: {}", storeId, e.getMessage());
+            }
+        }
+    }
+
+    // 인기 검색어 순위가 바뀐 검색어만 반영
+    @Scheduled(fixedDelay = KEYWORD_REFRESH_MILLIS, initialDelay = KEYWORD_REFRESH_MILLIS)
+    public synchronized void refreshKeywords() {
+        try {
+            List<AutocompleteTrie.Suggestion> keywords = keywordSuggestionsOf(popularKeywordService.getTopKeywords(KEYWORD_COUNT));
+
+            Map<String, AutocompleteTrie.Suggestion> previousByText = new HashMap<>();
+            keywordSuggestions.forEach(previous -> previousByText.put(previous.getText(), previous));
+
+            for (AutocompleteTrie.Suggestion keyword : keywords) {
+                AutocompleteTrie.Suggestion previous = previousByText.remove(keyword.getText());
+                if (previous != null && previous.getWeight() == keyword.getWeight()) continue;
+                trie.replace(previous, keyword);
+            }
+            previousByText.values().forEach(trie::remove);     // 순위에서 빠진 검색어
+            keywordSuggestions = keywords;
+        } catch (Exception e) {
+            log.error("Failed to refresh autocomplete keywords: {}", e.getMessage(), e);
+        }
+    }
+
+    public List<AutocompleteRspDto> autocomplete(String keyword, int size) {
+        if (keyword == null || keyword.isBlank()) return List.of();
+
+        return trie.search(keyword, Math.min(Math.max(size, 1), MAX_SIZE)).stream()
+                .map(AutocompleteTrie.Suggestion::toDto)
+                .toList();
+    }
+
+    private void applyStoreChange(Long storeId) {
+        AutocompleteTrie.Suggestion previous = storeSuggestions.get(storeId);
+        PopupStore store = popupStoreRepository.findById(storeId).orElse(null);
+
+        if (store == null || Boolean.TRUE.equals(store.getIsEnd())) {
+            if (previous == null) return;
+            trie.remove(previous);
+            storeSuggestions.remove(storeId);
+            return;
+        }
+
+        AutocompleteTrie.Suggestion suggestion = storeSuggestionOf(store.getId(), store.getName(), store.getCreateTime());
+        trie.replace(previous, suggestion);
+        storeSuggestions.put(storeId, suggestion);
+    }
+
+    private AutocompleteTrie.Suggestion storeSuggestionOf(Long storeId, String name, LocalDateTime createTime) {
+        return new AutocompleteTrie.Suggestion(name, AutocompleteRspDto.Type.STORE, storeId, toEpochMillis(createTime));
+    }
+
+    private List<AutocompleteTrie.Suggestion> keywordSuggestionsOf(List<String> keywords) {
+        List<AutocompleteTrie.Suggestion> suggestions = new ArrayList<>(keywords.size());
+        for (int rank = 0; rank < keywords.size(); rank++) {
+            suggestions.add(new AutocompleteTrie.Suggestion(
+                    keywords.get(rank), AutocompleteRspDto.Type.KEYWORD, null, Long.MAX_VALUE - rank));
+        }
+        return suggestions;
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        if (dateTime == null) return 0L;
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
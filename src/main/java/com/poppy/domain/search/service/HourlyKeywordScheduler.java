@@ -15,14 +15,14 @@ public class HourlyKeywordScheduler {
     private final PopularKeywordService popularKeywordService;
     private final DistributedLockService lockService;
 
-    @Scheduled(cron = "0 0 * * * *")  // 매 시 정각에 실행
+    @Scheduled(cron = "5 */5 * * * *")  // 5분 버킷이 바뀔 때마다 최근 1시간 윈도우로 갱신
     public void updateHourlyKeywords() {
         try {
             // 락 획득 시도
             if (lockService.tryLock(HOURLY_KEYWORD_LOCK)) {
                 try {
-                    popularKeywordService.switchHourlyKeywords();
-                    log.info("시간별 인기 검색어가 업데이트 완료.");
+                    popularKeywordService.refreshWindow();
+                    log.debug("시간별 인기 검색어가 업데이트 완료.");
                 } catch (Exception e) {
                     log.error("시간별 인기 검색어 업데이트에 실패.");
                 } finally {
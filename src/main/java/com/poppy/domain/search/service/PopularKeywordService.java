@@ -1,71 +1,199 @@
 package com.poppy.domain.search.service;
 
 import com.poppy.common.exception.BusinessException;
+import com.poppy.domain.search.index.SpaceSavingSketch;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+/*
+ * 인기 검색어 집계
+ *
+ * - 검색 횟수는 노드 로컬 Space-Saving 스케치에 모았다가 1초마다 아직 반영하지 않은 증가분이 큰 검색어만 5분 단위 버킷 ZSET에 파이프라인으로 반영
+ * - 스케치는 교체하지 않으므로 플러시와 동시에 들어온 증가분도 다음 플러시에 반영됨 (반영에 실패하면 내보냄 표시를 하지 않아 다시 전송)
+ * - 스케치는 검색어 해시로 SKETCH_STRIPES개로 나눠 검색 요청끼리 같은 잠금을 두고 경합하지 않게 하고, 1분마다 빈도를 절반으로 감쇠
+ * - 버킷은 상위 BUCKET_CAPACITY개로 잘라내고 윈도우가 지나면 TTL로 삭제 (고유 검색어 수와 무관하게 메모리 고정)
+ * - 주기적으로 최근 1시간 버킷을 감쇠 가중치로 합산(ZUNIONSTORE)해 상위 RANKING_SIZE개만 현재 순위로 교체
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PopularKeywordService {
     private final RedisTemplate<String, String> redisTemplate;
-    private static final String CURRENT_POPULAR_KEY = "popular:keywords:current";  // 현재 시간대 고정 순위
-    private static final String NEXT_POPULAR_KEY = "popular:keywords:next";        // 다음 시간대 집계중
+    private static final String CURRENT_POPULAR_KEY = "popular:keywords:current";      // 윈도우 집계 결과 (조회용)
+    private static final String WINDOW_TEMP_KEY = "popular:keywords:current:tmp";
+    private static final String BUCKET_KEY_PREFIX = "popular:keywords:bucket:";
+    private static final String LEGACY_NEXT_KEY = "popular:keywords:next";             // 버킷 도입 전 누적 집계 키 (더 이상 쓰지 않음)
     private static final int TOP_SIZE = 10;
+    private static final int RANKING_SIZE = 100;        // 현재 순위에 유지할 최대 검색어 수 (자동완성 후보 포함)
 
-    // 검색어 카운트 증가 (다음 시간대 집계용)
+    static final long BUCKET_SECONDS = 5 * 60L;
+    static final int WINDOW_BUCKETS = 12;               // 1시간
+    private static final double DECAY = 0.9;            // 버킷이 하나 오래될수록 곱해지는 가중치
+    private static final long BUCKET_TTL_SECONDS = BUCKET_SECONDS * (WINDOW_BUCKETS + 1);
+    private static final long FLUSH_INTERVAL_MILLIS = 1000L;
+    private static final int SKETCH_CAPACITY = 1000;    // 노드별 추적 카운터 수
+    private static final int SKETCH_STRIPES = 16;
+    private static final long SKETCH_DECAY_INTERVAL_MILLIS = 60 * 1000L;
+    private static final double SKETCH_DECAY = 0.5;
+    private static final int FLUSH_TOP_K = 100;         // 플러시마다 Redis로 보내는 검색어 수
+    private static final int BUCKET_CAPACITY = 1000;    // 버킷별 유지 검색어 수
+    private static final int MAX_KEYWORD_LENGTH = 50;
+
+    // 노드 로컬 검색 횟수 (플러시 후에도 유지하고 내보낸 양만 기록, 검색어별로 항상 같은 스트라이프)
+    private final SpaceSavingSketch[] searchCounts = createStripes();
+
+    // KEYS[1]: 현재 순위, KEYS[2]: 임시 키, KEYS[3..]: 버킷 / ARGV[1]: 유지 개수, ARGV[2..]: 버킷별 가중치
+    private static final DefaultRedisScript<Long> ROLL_WINDOW_SCRIPT = new DefaultRedisScript<>("""
+            local args = {'ZUNIONSTORE', KEYS[2], #KEYS - 2}
+            for i = 3, #KEYS do
+                args[#args + 1] = KEYS[i]
+            end
+            args[#args + 1] = 'WEIGHTS'
+            for i = 2, #ARGV do
+                args[#args + 1] = ARGV[i]
+            end
+
+            local size = redis.call(unpack(args))
+            if size == 0 then
+                redis.call('DEL', KEYS[1])
+                return 0
+            end
+            redis.call('ZREMRANGEBYRANK', KEYS[2], 0, -(tonumber(ARGV[1]) + 1))
+            redis.call('RENAME', KEYS[2], KEYS[1])
+            return size
+            """, Long.class);
+
+    // 버킷 도입 전 누적 집계 키는 TTL 없이 남아 있으므로 시작 시 삭제 (이미 없으면 아무 일도 하지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void deleteLegacyKey() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.delete(LEGACY_NEXT_KEY))) log.info("Deleted legacy key {}", LEGACY_NEXT_KEY);
+        } catch (Exception e) {
+            log.warn("Failed to delete legacy key {}: {}", LEGACY_NEXT_KEY, e.getMessage());
+        }
+    }
+
+    // 검색어 카운트 증가 (Redis 호출 없이 로컬 집계만)
     public void incrementSearchCount(String keyword) {
-        redisTemplate.execute(new SessionCallback<>() {
-            @Override
-            @SuppressWarnings("unchecked")
-            public Object execute(RedisOperations operations) {
-                try {
-                    operations.multi();
-                    // 다음 시간대 키워드 카운트 증가
-                    operations.opsForZSet().incrementScore(NEXT_POPULAR_KEY, keyword, 1);
-                    return operations.exec();
-                } catch (Exception e) {
-                    operations.discard();
-                    throw new BusinessException("인기 검색어 갱신에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        if (keyword == null || keyword.isBlank()) return;
+
+        String normalized = normalize(keyword);
+        if (normalized.length() > MAX_KEYWORD_LENGTH) return;
+
+        stripeOf(normalized).offer(normalized, 1);
+    }
+
+    // 아직 반영하지 않은 증가분이 큰 검색어만 현재 버킷에 한 번의 파이프라인으로 반영
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MILLIS)
+    @PreDestroy
+    public void flushSearchCounts() {
+        List<SpaceSavingSketch.HeavyHitter> hitters = new ArrayList<>();
+        for (SpaceSavingSketch stripe : searchCounts) hitters.addAll(stripe.pending(FLUSH_TOP_K));
+        if (hitters.isEmpty()) return;
+
+        // 스트라이프별 상위 목록을 합쳐 전체 상위 FLUSH_TOP_K개만 전송
+        hitters.sort(Comparator.comparingLong(SpaceSavingSketch.HeavyHitter::getCount).reversed());
+        List<SpaceSavingSketch.HeavyHitter> flushed = hitters.size() > FLUSH_TOP_K ? hitters.subList(0, FLUSH_TOP_K) : hitters;
+
+        String bucketKey = bucketKeyOf(currentBucket());
+        try {
+            redisTemplate.executePipelined(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    for (SpaceSavingSketch.HeavyHitter hitter : flushed) {
+                        operations.opsForZSet().incrementScore(bucketKey, hitter.getItem(), hitter.getCount());
+                    }
+                    operations.opsForZSet().removeRange(bucketKey, 0, -(BUCKET_CAPACITY + 1));
+                    operations.expire(bucketKey, BUCKET_TTL_SECONDS, TimeUnit.SECONDS);
+                    return null;
                 }
-            }
-        });
+            });
+            for (SpaceSavingSketch.HeavyHitter hitter : flushed) stripeOf(hitter.getItem()).markExported(hitter.getItem(), hitter.getCount());
+        } catch (Exception e) {
+            // 내보냄 표시를 하지 않았으므로 다음 플러시에 다시 반영
+            log.warn("Failed to flush {} search keywords: {}", flushed.size(), e.getMessage());
+        }
     }
 
-    // 현재 시간대의 Top 10 인기 검색어 조회 (고정된 순위)
+    // 예전에 많이 검색된 검색어가 카운터를 계속 차지하지 않도록 감쇠
+    @Scheduled(fixedDelay = SKETCH_DECAY_INTERVAL_MILLIS, initialDelay = SKETCH_DECAY_INTERVAL_MILLIS)
+    public void decaySearchCounts() {
+        for (SpaceSavingSketch stripe : searchCounts) stripe.decay(SKETCH_DECAY);
+    }
+
+    // 최근 윈도우 기준 Top 10 인기 검색어 조회
     public List<String> getTopKeywords() {
+        return getTopKeywords(TOP_SIZE);
+    }
+
+    public List<String> getTopKeywords(int size) {
         Set<String> topKeywords = redisTemplate.opsForZSet()
-                .reverseRange(CURRENT_POPULAR_KEY, 0, TOP_SIZE - 1);
+                .reverseRange(CURRENT_POPULAR_KEY, 0, size - 1);
         return topKeywords != null ? new ArrayList<>(topKeywords) : new ArrayList<>();
     }
 
-    // 매 정각마다 호출되어 순위 변경
-    public void switchHourlyKeywords() {
-        redisTemplate.execute(new SessionCallback<>() {
-            @Override
-            @SuppressWarnings("unchecked")
-            public Object execute(RedisOperations operations) {
-                try {
-                    operations.multi();
-                    // 현재 시간대 키 삭제
-                    operations.delete(CURRENT_POPULAR_KEY);
-                    // 다음 시간대 키를 현재 시간대로 복사 (next는 그대로 유지)
-                    operations.copy(NEXT_POPULAR_KEY, CURRENT_POPULAR_KEY, true);
-                    return operations.exec();
-                } catch (Exception e) {
-                    operations.discard();
-                    throw new BusinessException("인기 검색어 갱신에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
-                }
-            }
-        });
+    // 최근 1시간 버킷을 합산해 현재 순위 교체 (최신 버킷 가중치 1, 이전 버킷마다 DECAY배)
+    public void refreshWindow() {
+        long bucket = currentBucket();
+
+        List<String> keys = new ArrayList<>(WINDOW_BUCKETS + 2);
+        keys.add(CURRENT_POPULAR_KEY);
+        keys.add(WINDOW_TEMP_KEY);
+
+        String[] args = new String[WINDOW_BUCKETS + 1];
+        args[0] = String.valueOf(RANKING_SIZE);
+
+        double weight = 1.0;
+        for (int i = 0; i < WINDOW_BUCKETS; i++) {
+            keys.add(bucketKeyOf(bucket - i));
+            args[i + 1] = String.valueOf(weight);
+            weight *= DECAY;
+        }
+
+        try {
+            redisTemplate.execute(ROLL_WINDOW_SCRIPT, keys, (Object[]) args);
+        } catch (Exception e) {
+            throw new BusinessException("인기 검색어 갱신에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR, e);
+        }
+    }
+
+    private SpaceSavingSketch stripeOf(String keyword) {
+        return searchCounts[Math.floorMod(keyword.hashCode(), SKETCH_STRIPES)];
+    }
+
+    private static SpaceSavingSketch[] createStripes() {
+        SpaceSavingSketch[] stripes = new SpaceSavingSketch[SKETCH_STRIPES];
+        for (int i = 0; i < SKETCH_STRIPES; i++) stripes[i] = new SpaceSavingSketch(SKETCH_CAPACITY / SKETCH_STRIPES);
+        return stripes;
+    }
+
+    // 앞뒤 공백 제거, 연속 공백은 하나로
+    static String normalize(String keyword) {
+        return keyword.trim().replaceAll("\\s+", " ");
+    }
+
+    static long currentBucket() {
+        return System.currentTimeMillis() / 1000 / BUCKET_SECONDS;
+    }
+
+    static String bucketKeyOf(long bucket) {
+        return BUCKET_KEY_PREFIX + bucket;
     }
 }
@@ -1,23 +1,21 @@
 package com.poppy.domain.search.service;
 
 import com.poppy.common.exception.BusinessException;
+import com.poppy.domain.search.dto.request.SearchHistoryImportReqDto;
 import com.poppy.domain.user.entity.User;
 import com.poppy.domain.user.repository.LoginUserProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataAccessException;
-import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.SessionCallback;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.TimeUnit;
 
+// 유저별 최근 검색어 (작업마다 Lua 스크립트 하나로 한 번의 왕복에 처리)
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -26,52 +24,82 @@ public class SearchHistoryService {
     private final RedisTemplate<String, String> redisTemplate;
     private static final String KEY_PREFIX = "search:history:";
     private static final int MAX_HISTORY_SIZE = 10;     // 최대 저장 개수
+    private static final long EXPIRE_SECONDS = 7 * 24 * 60 * 60L;
+
+    // 추가 + 최대 개수 초과분 제거 + 만료 갱신 (ARGV[3..]: score, keyword 쌍, 기존보다 최신일 때만 시간 갱신)
+    private static final DefaultRedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 3, #ARGV, 2 do
+                redis.call('ZADD', KEYS[1], 'GT', ARGV[i], ARGV[i + 1])
+            end
+            redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[1]) + 1))
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return redis.call('ZCARD', KEYS[1])
+            """, Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> READ_SCRIPT = new DefaultRedisScript<>("""
+            return redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+            """, List.class);
+
+    private static final DefaultRedisScript<Long> DELETE_SCRIPT = new DefaultRedisScript<>("""
+            return redis.call('ZREM', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    private static final DefaultRedisScript<Long> DELETE_ALL_SCRIPT = new DefaultRedisScript<>("""
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
 
     public void saveSearchHistory(String keyword) {
         User loggedInUser = loginUserProvider.getLoggedInUser();
         String key = generateKey(loggedInUser.getId());
 
-        redisTemplate.execute(new SessionCallback<>() {
-            @Override
-            @SuppressWarnings("unchecked")
-            public Object execute(RedisOperations operations) throws DataAccessException {
-                try {
-                    operations.multi();  // 트랜잭션 시작
-
-                    ZSetOperations<String, String> zSetOps = operations.opsForZSet();
-                    double score = System.currentTimeMillis();
-
-                    zSetOps.add(key, keyword, score);
-
-                    // 크기 체크 후 초과분 제거
-                    Long size = zSetOps.size(key);
-                    if(size != null && size >= MAX_HISTORY_SIZE)
-                        zSetOps.removeRange(key, 0, size - MAX_HISTORY_SIZE);
-
-                    // 만료 시간 설정
-                    operations.expire(key, 7, TimeUnit.DAYS);
+        try {
+            redisTemplate.execute(SAVE_SCRIPT, List.of(key),
+                    String.valueOf(MAX_HISTORY_SIZE), String.valueOf(EXPIRE_SECONDS),
+                    String.valueOf(System.currentTimeMillis()), keyword);
+        } catch (Exception e) {
+            throw new BusinessException("검색어 저장에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR, e);
+        }
+    }
 
-                    // 트랜잭션 커밋
-                    List<Object> result = operations.exec();
-                    if(result.isEmpty()) throw new BusinessException("검색어 저장에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+    // 기기에 저장된 검색 기록을 서버 기록과 병합 (최근 MAX_HISTORY_SIZE개만 반영)
+    public List<String> importSearchHistory(List<SearchHistoryImportReqDto.Entry> histories) {
+        User loggedInUser = loginUserProvider.getLoggedInUser();
+        String key = generateKey(loggedInUser.getId());
+        long now = System.currentTimeMillis();
+
+        List<SearchHistoryImportReqDto.Entry> recent = histories.stream()
+                .filter(entry -> entry.getKeyword() != null && !entry.getKeyword().isBlank())
+                .sorted(Comparator.comparing(SearchHistoryImportReqDto.Entry::getSearchedAt).reversed())
+                .limit(MAX_HISTORY_SIZE)
+                .toList();
+
+        if (!recent.isEmpty()) {
+            List<String> args = new ArrayList<>(2 + recent.size() * 2);
+            args.add(String.valueOf(MAX_HISTORY_SIZE));
+            args.add(String.valueOf(EXPIRE_SECONDS));
+            for (SearchHistoryImportReqDto.Entry entry : recent) {
+                args.add(String.valueOf(Math.min(entry.getSearchedAt(), now)));  // 기기 시간이 앞서 있어도 현재 시각까지만
+                args.add(entry.getKeyword().trim());
+            }
 
-                    return result;
-                }
-                catch (Exception e) {
-                    operations.discard();
-                    throw new BusinessException("검색어 저장에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR, e);
-                }
+            try {
+                redisTemplate.execute(SAVE_SCRIPT, List.of(key), args.toArray());
+            } catch (Exception e) {
+                throw new BusinessException("검색 기록 가져오기에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR, e);
             }
-        });
+        }
+
+        return getSearchHistory();
     }
 
-    // 검색 기록 조회
+    // 검색 기록 조회 (최근 시간부터 정렬)
+    @SuppressWarnings("unchecked")
     public List<String> getSearchHistory() {
         User loggedInUser = loginUserProvider.getLoggedInUser();
         String key = generateKey(loggedInUser.getId());
 
-        ZSetOperations<String, String> zSetOps = redisTemplate.opsForZSet();
-        Set<String> history = zSetOps.reverseRange(key, 0, -1);     // 최근 시간부터 정렬
+        List<String> history = redisTemplate.execute(READ_SCRIPT, List.of(key), String.valueOf(MAX_HISTORY_SIZE));
         return history != null ? new ArrayList<>(history) : new ArrayList<>();
     }
 
@@ -81,28 +109,8 @@ public class SearchHistoryService {
         String key = generateKey(loggedInUser.getId());
 
         try {
-            // 트랜잭션으로 삭제 작업 수행
-            return (Boolean.TRUE.equals(redisTemplate.execute(new SessionCallback<>() {
-                @Override
-                @SuppressWarnings("unchecked")
-                public Boolean execute(RedisOperations operations) throws DataAccessException {
-                    try {
-                        operations.multi();
-                        operations.opsForZSet().remove(key, keyword);
-                        List<Object> result = operations.exec();
-
-                        if (result.isEmpty()) return false;
-
-                        // 삭제 성공: 1, 실패: 0
-                        Long removed = (Long) result.get(0);
-                        return removed != null && removed > 0;
-                    }
-                    catch (Exception e) {
-                        operations.discard();
-                        throw e;
-                    }
-                }
-            })));
+            Long removed = redisTemplate.execute(DELETE_SCRIPT, List.of(key), keyword);
+            return removed != null && removed > 0;
         }
         catch (Exception e) {
             throw new BusinessException("검색어 삭제에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
@@ -115,25 +123,7 @@ public class SearchHistoryService {
         String key = generateKey(loggedInUser.getId());
 
         try {
-            redisTemplate.execute(new SessionCallback<>() {
-                @Override
-                public Object execute(RedisOperations operations) throws DataAccessException {
-                    try {
-                        operations.multi();
-                        operations.delete(key);
-                        List<Object> result = operations.exec();
-
-                        if(result.isEmpty())
-                            throw new BusinessException("검색 기록 삭제에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
-
-                        return result;
-                    }
-                    catch (Exception e) {
-                        operations.discard();
-                        throw e;
-                    }
-                }
-            });
+            redisTemplate.execute(DELETE_ALL_SCRIPT, List.of(key));
         }
         catch (Exception e) {
             throw new BusinessException("전체 검색 기록 삭제에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
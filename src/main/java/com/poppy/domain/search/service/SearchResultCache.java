@@ -0,0 +1,166 @@
+package com.poppy.domain.search.service;
+
+import com.poppy.common.config.redis.RedisConfig;
+import com.poppy.common.util.HangulUtil;
+import com.poppy.domain.popupStore.dto.response.PopupStoreRspDto;
+import com.poppy.domain.popupStore.event.PopupStoreChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/*
+ * 스토어 검색 결과 캐시
+ *
+ * - 정규화된 검색어 -> 스토어 id 목록은 Redis에 (모든 노드 공유)
+ * - 스토어 id -> 응답 DTO는 노드 로컬에 (DTO 변환 시 이미지/리뷰/조회수 지연 로딩 비용 제거)
+ * - 스토어 변경 이벤트 시 로컬 DTO 제거 + Redis 결과 버전 다시 읽기 (이전 버전 키는 TTL로 만료)
+ * - 결과 버전은 스토어 데이터 버전(RedisConfig.POPUP_STORE_VERSION_KEY)을 사용, 수신 노드는 읽기만 함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchResultCache {
+    private static final String RESULT_KEY_PREFIX = "search:result:";
+    private static final long RESULT_TTL_SECONDS = 60L;
+    private static final long DTO_TTL_MILLIS = 60 * 1000L;
+    private static final int MAX_LOCAL_DTOS = 5000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, CachedDto> localDtos = new ConcurrentHashMap<>();
+    private volatile String version = null;
+
+    @Getter
+    @AllArgsConstructor
+    private static class CachedDto {
+        private final PopupStoreRspDto dto;
+        private final long expiresAt;
+    }
+
+    // 캐시된 검색 결과 조회, 없으면 idLoader로 id 목록을, 로컬에 없는 DTO는 dtoLoader로 채움
+    public List<PopupStoreRspDto> get(String query,
+                                      Supplier<List<Long>> idLoader,
+                                      Function<List<Long>, List<PopupStoreRspDto>> dtoLoader) {
+        List<Long> ids = getIds(query, idLoader);
+        if (ids.isEmpty()) return new ArrayList<>();
+
+        long now = System.currentTimeMillis();
+        Map<Long, PopupStoreRspDto> found = new HashMap<>(ids.size() * 2);
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            CachedDto cached = localDtos.get(id);
+            if (cached != null && cached.getExpiresAt() > now) found.put(id, cached.getDto());
+            else missing.add(id);
+        }
+
+        meterRegistry.counter("search.cache.requests", "level", "store", "result", "hit").increment(found.size());
+        meterRegistry.counter("search.cache.requests", "level", "store", "result", "miss").increment(missing.size());
+
+        if (!missing.isEmpty()) {
+            evictExpiredIfFull(now);
+            for (PopupStoreRspDto dto : dtoLoader.apply(missing)) {
+                found.put(dto.getId(), dto);
+                localDtos.put(dto.getId(), new CachedDto(dto, now + DTO_TTL_MILLIS));
+            }
+        }
+
+        List<PopupStoreRspDto> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            PopupStoreRspDto dto = found.get(id);
+            if (dto != null) result.add(dto);
+        }
+        return result;
+    }
+
+    // 스토어가 바뀌면 해당 DTO 제거, 신규/삭제는 어떤 검색어 결과에도 영향을 줄 수 있어 발행 노드가 올린 결과 버전으로 전환
+    // (집계 값만 바뀐 경우는 검색 결과 id 목록과 무관하므로 DTO만 제거)
+    @EventListener
+    public void onStoreChanged(PopupStoreChangedEvent event) {
+        localDtos.remove(event.getStoreId());
+        if (event.getType() == PopupStoreChangedEvent.Type.STATS_UPDATED) return;
+
+        try {
+            String stored = redisTemplate.opsForValue().get(RedisConfig.POPUP_STORE_VERSION_KEY);
+            version = stored != null ? stored : "0";
+        } catch (Exception e) {
+            log.warn("Failed to read search result cache version: {}", e.getMessage());
+            version = null;     // 다음 조회 시 다시 읽음
+        }
+    }
+
+    private List<Long> getIds(String query, Supplier<List<Long>> idLoader) {
+        String key = resultKey(query);
+
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                meterRegistry.counter("search.cache.requests", "level", "query", "result", "hit").increment();
+                return parseIds(cached);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read search result cache: {}", e.getMessage());
+        }
+
+        meterRegistry.counter("search.cache.requests", "level", "query", "result", "miss").increment();
+        List<Long> ids = idLoader.get();
+
+        try {
+            redisTemplate.opsForValue().set(key, joinIds(ids), RESULT_TTL_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.warn("Failed to write search result cache: {}", e.getMessage());
+        }
+        return ids;
+    }
+
+    private String resultKey(String query) {
+        return RESULT_KEY_PREFIX + currentVersion() + ":" + HangulUtil.normalize(query);
+    }
+
+    private String currentVersion() {
+        String current = version;
+        if (current != null) return current;
+
+        try {
+            String stored = redisTemplate.opsForValue().get(RedisConfig.POPUP_STORE_VERSION_KEY);
+            current = stored != null ? stored : "0";
+            version = current;
+        } catch (Exception e) {
+            current = "0";
+        }
+        return current;
+    }
+
+    private void evictExpiredIfFull(long now) {
+        if (localDtos.size() < MAX_LOCAL_DTOS) return;
+
+        localDtos.values().removeIf(cached -> cached.getExpiresAt() <= now);
+        if (localDtos.size() >= MAX_LOCAL_DTOS) localDtos.clear();
+    }
+
+    private static String joinIds(List<Long> ids) {
+        StringJoiner joiner = new StringJoiner(",");
+        for (Long id : ids) joiner.add(String.valueOf(id));
+        return joiner.toString();
+    }
+
+    private static List<Long> parseIds(String value) {
+        if (value.isEmpty()) return new ArrayList<>();
+
+        String[] parts = value.split(",");
+        List<Long> ids = new ArrayList<>(parts.length);
+        for (String part : parts) ids.add(Long.parseLong(part));
+        return ids;
+    }
+}
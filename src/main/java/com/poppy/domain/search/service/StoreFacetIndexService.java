@@ -0,0 +1,146 @@
+package com.poppy.domain.search.service;
+
+import com.poppy.domain.popupStore.dto.request.PopupStoreSearchReqDto;
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.event.PopupStoreChangedEvent;
+import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import com.poppy.domain.search.index.StoreFacetIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 검색 조건 필터링용 비트셋 인덱스 (시작 시 전체 구성, 이후 스토어 변경 이벤트로 갱신)
+ *
+ * - 재구성 중 들어온 변경은 기존 인덱스에 반영하면서 id를 모아두고, 교체 후 새 인덱스에 다시 반영
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StoreFacetIndexService {
+    private static final long REBUILD_INTERVAL_MILLIS = 10 * 60 * 1000L;   // 리뷰로 바뀐 평점, 날짜 범위 이동 반영 주기
+    private static final int HORIZON_PAST_DAYS = 7;
+    private static final int HORIZON_FUTURE_DAYS = 180;
+
+    private final PopupStoreRepository popupStoreRepository;
+
+    private volatile StoreFacetIndex index = newIndex();
+    private volatile boolean ready = false;
+    private volatile boolean rebuilding = false;
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    // 새 인덱스를 만든 뒤 교체 (재구성 중에도 기존 인덱스로 검색)
+    @Scheduled(fixedDelay = REBUILD_INTERVAL_MILLIS, initialDelay = REBUILD_INTERVAL_MILLIS)
+    public synchronized void rebuild() {
+        changedDuringRebuild.clear();
+        rebuilding = true;
+        try {
+            StoreFacetIndex fresh = newIndex();
+            for (Object[] row : popupStoreRepository.findFacetEntries()) {
+                fresh.put(new StoreFacetIndex.Entry(
+                        (Long) row[0],
+                        (Long) row[1],
+                        (String) row[2],
+                        row[3] != null ? (Double) row[3] : 0.0,
+                        (LocalDate) row[4],
+                        (LocalDate) row[5],
+                        toEpochMillis((LocalDateTime) row[6])
+                ));
+            }
+
+            index = fresh;
+            ready = true;
+            log.info("Store facet index built with {} stores", fresh.size());
+        } catch (Exception e) {
+            log.error("Failed to build store facet index: {}", e.getMessage(), e);
+        } finally {
+            rebuilding = false;     // 이후 이벤트는 교체된 인덱스에 바로 반영
+        }
+
+        replayChangedDuringRebuild();
+    }
+
+    @EventListener
+    public void onStoreChanged(PopupStoreChangedEvent event) {
+        if (rebuilding) changedDuringRebuild.add(event.getStoreId());
+
+        if (event.getType() == PopupStoreChangedEvent.Type.DELETED) {
+            index.remove(event.getStoreId());
+            return;
+        }
+        applyStoreChange(event.getStoreId());
+    }
+
+    // 재구성 중 변경된 스토어를 DB에서 다시 읽어 반영
+    private void replayChangedDuringRebuild() {
+        if (changedDuringRebuild.isEmpty()) return;
+
+        List<Long> storeIds = new ArrayList<>(changedDuringRebuild);
+        changedDuringRebuild.removeAll(storeIds);
+        for (Long storeId : storeIds) {
+            try {
+                applyStoreChange(storeId);
+            } catch (Exception e) {
+                log.warn("Failed to replay store change to facet index - storeId: {}: {}", storeId, e.getMessage());
+            }
+        }
+    }
+
+    private void applyStoreChange(Long storeId) {
+        PopupStore store = popupStoreRepository.findById(storeId).orElse(null);
+        if (store == null || Boolean.TRUE.equals(store.getIsEnd())) {
+            index.remove(storeId);
+            return;
+        }
+
+        index.put(new StoreFacetIndex.Entry(
+                store.getId(),
+                store.getStoreCategory().getId(),
+                store.getLocation(),
+                store.getRating() != null ? store.getRating() : 0.0,
+                store.getStartDate(),
+                store.getEndDate(),
+                toEpochMillis(store.getCreateTime())
+        ));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 조건에 맞는 스토어 id 목록 (최신 등록순)
+    public List<Long> search(PopupStoreSearchReqDto condition) {
+        return index.search(
+                condition.getDate(),
+                condition.getLocations(),
+                condition.getRating(),
+                condition.getCategoryIds()
+        );
+    }
+
+    private static StoreFacetIndex newIndex() {
+        LocalDate today = LocalDate.now();
+        return new StoreFacetIndex(today.minusDays(HORIZON_PAST_DAYS), today.plusDays(HORIZON_FUTURE_DAYS));
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        if (dateTime == null) return 0L;
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,118 @@
+package com.poppy.domain.search.service;
+
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.event.PopupStoreChangedEvent;
+import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import com.poppy.domain.search.index.StoreNameIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 진행 중인 스토어 이름 역색인 (시작 시 전체 구성, 이후 스토어 변경 이벤트로 갱신)
+ *
+ * - 재구성 중 들어온 변경은 기존 인덱스에 반영하면서 id를 모아두고, 교체 후 새 인덱스에 다시 반영
+ *   (재구성 시작 시점의 조회 결과로 교체하면 그 사이 변경이 사라지므로)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StoreNameIndexService {
+    private static final long REBUILD_INTERVAL_MILLIS = 30 * 60 * 1000L;  // 이벤트 누락, 종료 처리 반영용 전체 재구성 주기
+
+    private final PopupStoreRepository popupStoreRepository;
+
+    private volatile StoreNameIndex index = new StoreNameIndex();
+    private volatile boolean ready = false;
+    private volatile boolean rebuilding = false;
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    // 새 인덱스를 만든 뒤 교체 (재구성 중에도 기존 인덱스로 검색)
+    @Scheduled(fixedDelay = REBUILD_INTERVAL_MILLIS, initialDelay = REBUILD_INTERVAL_MILLIS)
+    public synchronized void rebuild() {
+        changedDuringRebuild.clear();
+        rebuilding = true;
+        try {
+            StoreNameIndex fresh = new StoreNameIndex();
+            for (Object[] row : popupStoreRepository.findActiveStoreNames()) {
+                fresh.put((Long) row[0], (String) row[1], toEpochMillis((LocalDateTime) row[2]));
+            }
+
+            index = fresh;
+            ready = true;
+            log.info("Store name index built with {} stores", fresh.size());
+        } catch (Exception e) {
+            log.error("Failed to build store name index: {}", e.getMessage(), e);
+        } finally {
+            rebuilding = false;     // 이후 이벤트는 교체된 인덱스에 바로 반영
+        }
+
+        replayChangedDuringRebuild();
+    }
+
+    @EventListener
+    public void onStoreChanged(PopupStoreChangedEvent event) {
+        if (event.getType() == PopupStoreChangedEvent.Type.STATS_UPDATED) return;   // 이름과 무관
+
+        if (rebuilding) changedDuringRebuild.add(event.getStoreId());
+
+        if (event.getType() == PopupStoreChangedEvent.Type.DELETED) {
+            index.remove(event.getStoreId());
+            return;
+        }
+        applyStoreChange(event.getStoreId());
+    }
+
+    // 재구성 중 변경된 스토어를 DB에서 다시 읽어 반영
+    private void replayChangedDuringRebuild() {
+        if (changedDuringRebuild.isEmpty()) return;
+
+        List<Long> storeIds = new ArrayList<>(changedDuringRebuild);
+        changedDuringRebuild.removeAll(storeIds);
+        for (Long storeId : storeIds) {
+            try {
+                applyStoreChange(storeId);
+            } catch (Exception e) {
+                log.warn("Failed to replay store change to name index - storeId: {}: {}", storeId, e.getMessage());
+            }
+        }
+    }
+
+    private void applyStoreChange(Long storeId) {
+        PopupStore store = popupStoreRepository.findById(storeId).orElse(null);
+        if (store == null || Boolean.TRUE.equals(store.getIsEnd())) {
+            index.remove(storeId);
+            return;
+        }
+        index.put(store.getId(), store.getName(), toEpochMillis(store.getCreateTime()));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 순위순 스토어 id 목록
+    public List<Long> search(String keyword) {
+        return index.search(keyword);
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        if (dateTime == null) return 0L;
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
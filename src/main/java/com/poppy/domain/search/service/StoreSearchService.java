@@ -7,7 +7,6 @@ import com.poppy.domain.popupStore.service.PopupStoreService;
 import com.poppy.domain.user.repository.LoginUserProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -18,9 +17,10 @@ public class StoreSearchService {
     private final SearchHistoryService searchHistoryService;
     private final PopularKeywordService popularKeywordService;
     private final LoginUserProvider loginUserProvider;
+    private final StoreNameIndexService storeNameIndexService;
+    private final SearchResultCache searchResultCache;
 
-    // 이름으로 검색 후 검색어 저장 및 카운트 증가
-    @Transactional(readOnly = true)
+    // 이름으로 검색 후 검색어 저장 및 카운트 증가 (캐시 적중 시 DB 조회 없음, DTO 변환은 getStoresByIds 트랜잭션에서)
     public List<PopupStoreRspDto> searchStoresAndSaveHistory(String name) {
         popularKeywordService.incrementSearchCount(name);
 
@@ -33,6 +33,15 @@ public class StoreSearchService {
             if(e.getCode() != ErrorCode.UNAUTHORIZED.getCode()) throw e;
         }
 
-        return popupStoreService.searchStoresByName(name);
+        // 인덱스 구성 전에는 DB LIKE 검색
+        if (!storeNameIndexService.isReady()) return popupStoreService.searchStoresByName(name);
+
+        List<PopupStoreRspDto> stores = searchResultCache.get(
+                name,
+                () -> storeNameIndexService.search(name),
+                popupStoreService::getStoresByIds
+        );
+        if (stores.isEmpty()) throw new BusinessException(ErrorCode.STORE_NOT_FOUND);
+        return stores;
     }
 }
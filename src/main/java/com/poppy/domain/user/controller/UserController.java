@@ -2,6 +2,8 @@ package com.poppy.domain.user.controller;
 
 import com.poppy.common.api.RspTemplate;
 import com.poppy.common.auth.dto.TokenRspDto;
+import com.poppy.common.pagination.CursorPage;
+import com.poppy.common.pagination.CursorRequest;
 import com.poppy.domain.user.dto.response.UserReviewRspDto;
 import com.poppy.domain.review.service.ReviewService;
 import com.poppy.domain.user.dto.request.UpdateFcmTokenReqDto;
@@ -32,11 +34,15 @@ public class UserController {
         return new RspTemplate<>(HttpStatus.OK, "회원 가입 완료", tokenRspDto);
     }
 
-    // 유저의 예약 내역 전체 조회
+    // 유저의 예약 내역 조회 (cursor: 이전 응답의 nextCursor, 없으면 첫 페이지)
     @GetMapping("/reservations")
-    public RspTemplate<List<UserReservationRspDto>> getReservations() {
-        List<UserReservationRspDto> reservations = userService.getReservations();
-        if(reservations.isEmpty()) return new RspTemplate<>(HttpStatus.OK, "예약 내역이 존재하지 않습니다.");
+    public RspTemplate<CursorPage<UserReservationRspDto>> getReservations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorRequest request = CursorRequest.of(cursor, size);
+        CursorPage<UserReservationRspDto> reservations = userService.getReservations(request);
+        if(reservations.getContent().isEmpty() && request.getCursor() == null)
+            return new RspTemplate<>(HttpStatus.OK, "예약 내역이 존재하지 않습니다.");
 
         return new RspTemplate<>(HttpStatus.OK, "예약 내역 조회", reservations);
     }
@@ -1,13 +1,9 @@
 package com.poppy.domain.user.dto.response;
 
-import com.poppy.common.entity.Images;
 import com.poppy.domain.popupStore.entity.PopupStore;
-import com.poppy.domain.user.entity.User;
 import lombok.Builder;
 import lombok.Getter;
 
-import java.util.List;
-
 @Getter
 @Builder
 public class UserPopupStoreRspDto {
@@ -30,11 +26,9 @@ public class UserPopupStoreRspDto {
     private String thumbnailUrl;
     private Boolean isAlmostFull;
 
-    public static UserPopupStoreRspDto of(User user, PopupStore store) {
-        List<Images> images = store.getImages();
-
+    public static UserPopupStoreRspDto of(Long userId, PopupStore store) {
         return UserPopupStoreRspDto.builder()
-                .userId(user.getId())
+                .userId(userId)
                 .popupStoreId(store.getId())
                 .name(store.getName())
                 .address(store.getAddress())
@@ -50,8 +44,8 @@ public class UserPopupStoreRspDto {
                         .build())
                 .isActive(store.getIsActive())
                 .isEnd(store.getIsEnd())
-                .thumbnailUrl(images != null && !images.isEmpty() ? images.get(0).getUploadUrl() : null)
-                .isAlmostFull(store.calculateAlmostFull(store.getReservationAvailableSlots(), store.getReservationType()))
+                .thumbnailUrl(store.getThumbnailUrl())
+                .isAlmostFull(store.getAlmostFull())
                 .build();
     }
 }
@@ -0,0 +1,44 @@
+package com.poppy.domain.user.entity;
+
+import com.poppy.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "device_tokens", indexes = {
+        @Index(name = "idx_device_tokens_user_id", columnList = "user_id")
+})
+@Getter
+@NoArgsConstructor
+public class DeviceToken extends BaseTimeEntity {  // 유저별 FCM 기기 토큰
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false, unique = true, length = 512)
+    private String token;
+
+    @Column(name = "last_seen_at", nullable = false)
+    private LocalDateTime lastSeenAt;
+
+    @Builder
+    public DeviceToken(User user, String token) {
+        this.user = user;
+        this.token = token;
+        this.lastSeenAt = LocalDateTime.now();
+    }
+
+    // 앱에서 토큰을 다시 등록할 때마다 갱신 (다른 계정으로 로그인한 기기면 소유자 변경)
+    public void touch(User user) {
+        this.user = user;
+        this.lastSeenAt = LocalDateTime.now();
+    }
+}
@@ -16,7 +16,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_fcm_token", columnList = "fcm_token")   // 기기가 다른 계정으로 옮겨갈 때 이전 소유자 조회
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -59,6 +61,9 @@ public class User extends BaseTimeEntity {
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Waiting> waitings = new ArrayList<>();
 
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<DeviceToken> deviceTokens = new ArrayList<>();
+
     public User(Long id) {
         this.id = id;
     }
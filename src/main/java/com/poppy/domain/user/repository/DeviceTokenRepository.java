@@ -0,0 +1,35 @@
+package com.poppy.domain.user.repository;
+
+import com.poppy.domain.user.entity.DeviceToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DeviceTokenRepository extends JpaRepository<DeviceToken, Long> {
+    Optional<DeviceToken> findByToken(String token);
+
+    // 유저의 기기 토큰 목록 (최근 사용 순)
+    @Query("SELECT d.token FROM DeviceToken d WHERE d.user.id = :userId ORDER BY d.lastSeenAt DESC")
+    List<String> findTokensByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT d FROM DeviceToken d WHERE d.user.id IN :userIds")
+    List<DeviceToken> findAllByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // 레지스트리에 등록된 토큰만 조회 (users.fcm_token 대체 발송 시 다른 계정으로 옮겨간 토큰 제외용)
+    @Query("SELECT d.token FROM DeviceToken d WHERE d.token IN :tokens")
+    List<String> findRegisteredTokens(@Param("tokens") Collection<String> tokens);
+
+    @Query("SELECT DISTINCT d.user.id FROM DeviceToken d WHERE d.token IN :tokens")
+    List<Long> findUserIdsByTokenIn(@Param("tokens") Collection<String> tokens);
+
+    @Modifying
+    @Query("DELETE FROM DeviceToken d WHERE d.token IN :tokens")
+    int deleteByTokenIn(@Param("tokens") Collection<String> tokens);
+}
@@ -3,8 +3,12 @@ package com.poppy.domain.user.repository;
 import com.poppy.domain.user.entity.Role;
 import com.poppy.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +17,21 @@ public interface UserRepository extends JpaRepository<User, Long>, UserRepositor
     Optional<User> findByEmail(String email);
     Boolean existsByNickname(String nickname);
     List<User> findByRole(Role role);
+
+    // 대표 FCM 토큰 갱신 (만료된 토큰 정리 시 사용)
+    @Modifying
+    @Query("UPDATE User u SET u.fcmToken = :fcmToken WHERE u.id = :userId")
+    int updateFcmToken(@Param("userId") Long userId, @Param("fcmToken") String fcmToken);
+
+    // 같은 기기 토큰을 대표 토큰으로 가진 다른 유저 (기기가 다른 계정으로 옮겨갈 때 정리용)
+    @Query("SELECT u.id FROM User u WHERE u.fcmToken = :token AND u.id <> :userId")
+    List<Long> findIdsByFcmTokenAndIdNot(@Param("token") String token, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE User u SET u.fcmToken = NULL WHERE u.fcmToken = :token AND u.id <> :userId")
+    int clearFcmTokenExcept(@Param("token") String token, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE User u SET u.fcmToken = NULL WHERE u.fcmToken IN :tokens")
+    int clearFcmTokens(@Param("tokens") Collection<String> tokens);
 }
@@ -1,6 +1,7 @@
 package com.poppy.domain.user.repository;
 
-import com.poppy.domain.popupStore.entity.PopupStoreView;
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.entity.QPopupStore;
 import com.poppy.domain.popupStore.entity.QPopupStoreView;
 import com.poppy.domain.user.dto.response.UserPopupStoreRspDto;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -8,6 +9,8 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -15,31 +18,33 @@ import java.util.stream.Collectors;
 public class UserRepositoryCustomImpl implements UserRepositoryCustom {
     private final JPAQueryFactory queryFactory;
     private final QPopupStoreView view = QPopupStoreView.popupStoreView;
+    private final QPopupStore store = QPopupStore.popupStore;
 
     @Override
     public List<UserPopupStoreRspDto> findRecentViewedStores(Long userId, int limit) {
-        List<PopupStoreView> views = queryFactory
-                .selectFrom(view)
-                .join(view.user).fetchJoin()
-                .join(view.popupStore).fetchJoin()
-                .leftJoin(view.popupStore.images).fetchJoin()
+        // 스토어별 마지막 조회 시각 기준으로 최근 limit개만 (user_id, viewed_at 인덱스 사용)
+        List<Long> storeIds = queryFactory
+                .select(view.popupStore.id)
+                .from(view)
                 .where(view.user.id.eq(userId))
-                .orderBy(view.viewedAt.desc())
-                .distinct()
+                .groupBy(view.popupStore.id)
+                .orderBy(view.viewedAt.max().desc())
+                .limit(limit)
                 .fetch();
 
-        return views.stream()
-                .map(view -> UserPopupStoreRspDto.of(view.getUser(), view.getPopupStore()))
-                .collect(Collectors.collectingAndThen(
-                        Collectors.toMap(
-                                UserPopupStoreRspDto::getPopupStoreId,  // 팝업스토어 ID로 중복 제거
-                                Function.identity(),                     // DTO 자체를 값으로 사용
-                                (existing, replacement) -> existing      // 중복 시 기존 값 유지 (최근 순으로 정렬되어 있으므로 첫 번째가 가장 최근)
-                        ),
-                        map -> new ArrayList<>(map.values())
-                ))
+        if (storeIds.isEmpty()) return new ArrayList<>();
+
+        Map<Long, PopupStore> storesById = queryFactory
+                .selectFrom(store)
+                .where(store.id.in(storeIds))
+                .fetch()
                 .stream()
-                .limit(limit)
+                .collect(Collectors.toMap(PopupStore::getId, Function.identity()));
+
+        return storeIds.stream()
+                .map(storesById::get)
+                .filter(Objects::nonNull)
+                .map(popupStore -> UserPopupStoreRspDto.of(userId, popupStore))
                 .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,151 @@
+package com.poppy.domain.user.service;
+
+import com.poppy.domain.user.entity.DeviceToken;
+import com.poppy.domain.user.entity.User;
+import com.poppy.domain.user.repository.DeviceTokenRepository;
+import com.poppy.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DeviceTokenService {
+    private static final int USER_ID_CHUNK_SIZE = 1000;
+
+    private final DeviceTokenRepository deviceTokenRepository;
+    private final UserRepository userRepository;
+
+    // 기기 토큰 등록 (이미 있으면 최근 사용 시각만 갱신)
+    // 다른 유저가 쓰던 기기면 이전 소유자들의 대표 토큰을 비우고 id를 반환 (이전 소유자의 토픽 구독 해제용)
+    @Transactional
+    public Set<Long> register(User user, String token) {
+        if (token == null || token.isBlank()) return Set.of();
+
+        // 레지스트리 도입 전 대표 토큰으로만 남아 있는 이전 소유자도 포함
+        Set<Long> previousOwnerIds = new HashSet<>(userRepository.findIdsByFcmTokenAndIdNot(token, user.getId()));
+        if (!previousOwnerIds.isEmpty()) userRepository.clearFcmTokenExcept(token, user.getId());
+
+        DeviceToken deviceToken = deviceTokenRepository.findByToken(token).orElse(null);
+        if (deviceToken == null) {
+            deviceTokenRepository.save(DeviceToken.builder()
+                    .user(user)
+                    .token(token)
+                    .build());
+            return previousOwnerIds;
+        }
+
+        Long previousOwnerId = deviceToken.getUser().getId();
+        deviceToken.touch(user);
+        if (!previousOwnerId.equals(user.getId())) previousOwnerIds.add(previousOwnerId);
+        return previousOwnerIds;
+    }
+
+    // 유저의 발송 대상 토큰 목록
+    // 레지스트리 도입 전 사용자는 users.fcm_token 사용 (이미 레지스트리에 등록된 토큰이면 다른 계정의 기기이므로 제외)
+    @Transactional(readOnly = true)
+    public List<String> getTokens(User user) {
+        List<String> tokens = deviceTokenRepository.findTokensByUserId(user.getId());
+        if (!tokens.isEmpty() || user.getFcmToken() == null) return tokens;
+
+        return excludeRegistered(List.of(user.getFcmToken()));
+    }
+
+    // 여러 유저의 발송 대상 토큰 목록 (공지사항 등 일괄 발송용)
+    @Transactional(readOnly = true)
+    public List<String> getTokens(Collection<User> users) {
+        List<String> tokens = new ArrayList<>();
+        Set<Long> registeredUserIds = new HashSet<>();
+
+        // IN 절이 너무 길어지지 않도록 나눠서 조회
+        List<Long> userIds = users.stream().map(User::getId).toList();
+        for (int from = 0; from < userIds.size(); from += USER_ID_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + USER_ID_CHUNK_SIZE, userIds.size()));
+            for (DeviceToken deviceToken : deviceTokenRepository.findAllByUserIdIn(chunk)) {
+                tokens.add(deviceToken.getToken());
+                registeredUserIds.add(deviceToken.getUser().getId());
+            }
+        }
+
+        List<String> legacyTokens = new ArrayList<>();
+        for (User user : users) {
+            if (!registeredUserIds.contains(user.getId()) && user.getFcmToken() != null)
+                legacyTokens.add(user.getFcmToken());
+        }
+        tokens.addAll(excludeRegistered(legacyTokens));
+        return tokens;
+    }
+
+    // 유저별 발송 대상 토큰 (토픽 구독 백필 등 유저 id만 있는 경우)
+    @Transactional(readOnly = true)
+    public Map<Long, List<String>> getTokensByUserIds(Collection<Long> userIds) {
+        Map<Long, List<String>> tokensByUser = new HashMap<>();
+        List<Long> ids = new ArrayList<>(userIds);
+        for (int from = 0; from < ids.size(); from += USER_ID_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + USER_ID_CHUNK_SIZE, ids.size()));
+            for (DeviceToken deviceToken : deviceTokenRepository.findAllByUserIdIn(chunk)) {
+                tokensByUser.computeIfAbsent(deviceToken.getUser().getId(), id -> new ArrayList<>()).add(deviceToken.getToken());
+            }
+        }
+
+        // 레지스트리 도입 전 사용자는 users.fcm_token 사용
+        List<Long> missing = ids.stream().filter(id -> !tokensByUser.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            Map<Long, String> legacyTokens = new HashMap<>();
+            for (User user : userRepository.findAllById(missing)) {
+                if (user.getFcmToken() != null) legacyTokens.put(user.getId(), user.getFcmToken());
+            }
+
+            Set<String> available = new HashSet<>(excludeRegistered(legacyTokens.values()));
+            legacyTokens.forEach((userId, token) -> {
+                if (available.contains(token)) tokensByUser.put(userId, List.of(token));
+            });
+        }
+        return tokensByUser;
+    }
+
+    // users.fcm_token 중 레지스트리에 없는 토큰만 남김 (레지스트리에 있으면 소유자는 레지스트리 기준)
+    private List<String> excludeRegistered(Collection<String> legacyTokens) {
+        if (legacyTokens.isEmpty()) return List.of();
+
+        List<String> tokens = new ArrayList<>(legacyTokens);
+        Set<String> registered = new HashSet<>();
+        for (int from = 0; from < tokens.size(); from += USER_ID_CHUNK_SIZE) {
+            registered.addAll(deviceTokenRepository.findRegisteredTokens(
+                    tokens.subList(from, Math.min(from + USER_ID_CHUNK_SIZE, tokens.size()))));
+        }
+
+        if (registered.isEmpty()) return tokens;
+        return tokens.stream().filter(token -> !registered.contains(token)).toList();
+    }
+
+    // FCM이 UNREGISTERED / INVALID_ARGUMENT로 응답한 토큰 삭제
+    // 발송 중인 트랜잭션과 분리 (정리 실패가 알림 트랜잭션을 rollback-only로 만들지 않도록)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void prune(Collection<String> tokens) {
+        if (tokens.isEmpty()) return;
+
+        List<Long> userIds = deviceTokenRepository.findUserIdsByTokenIn(tokens);
+        int deleted = deviceTokenRepository.deleteByTokenIn(tokens);
+        userRepository.clearFcmTokens(tokens);
+
+        // 대표 토큰이 삭제된 유저는 남은 기기 중 가장 최근 토큰으로 교체
+        for (Long userId : userIds) {
+            List<String> remaining = deviceTokenRepository.findTokensByUserId(userId);
+            userRepository.updateFcmToken(userId, remaining.isEmpty() ? null : remaining.get(0));
+        }
+
+        log.info("Pruned {} dead FCM tokens", deleted);
+    }
+}
@@ -5,7 +5,10 @@ import com.poppy.common.auth.cache.OAuthOTUCache;
 import com.poppy.common.auth.dto.TokenRspDto;
 import com.poppy.common.exception.BusinessException;
 import com.poppy.common.exception.ErrorCode;
+import com.poppy.common.pagination.CursorPage;
+import com.poppy.common.pagination.CursorRequest;
 import com.poppy.domain.reservation.service.ReservationService;
+import com.poppy.domain.scrap.service.StoreTopicSubscriptionService;
 import com.poppy.domain.user.dto.response.UserPopupStoreRspDto;
 import com.poppy.domain.user.dto.response.UserReservationDetailRspDto;
 import com.poppy.domain.user.dto.response.UserReservationRspDto;
@@ -32,6 +35,8 @@ public class UserService {
     private final JwtTokenizer jwtTokenizer;
     private final RedisTemplate<String, String> redisTemplate;
     private final ReservationService reservationService;
+    private final DeviceTokenService deviceTokenService;
+    private final StoreTopicSubscriptionService storeTopicSubscriptionService;
 
     // 로그인/회원가입
     @Transactional
@@ -91,9 +96,9 @@ public class UserService {
 
     // 유저의 예약 조회
     @Transactional(readOnly = true)
-    public List<UserReservationRspDto> getReservations() {
+    public CursorPage<UserReservationRspDto> getReservations(CursorRequest request) {
         User user = loginUserProvider.getLoggedInUser();
-        return reservationService.getReservations(user.getId());
+        return reservationService.getReservations(user.getId(), request);
     }
 
     // 유저의 예약 상세 조회
@@ -141,8 +146,13 @@ public class UserService {
         if (!userId.equals(authenticatedUserId))
             throw new BusinessException(ErrorCode.FCM_TOKEN_UPDATE_FORBIDDEN);
 
+        // 가장 최근에 등록한 기기를 대표 토큰으로 유지하고, 기기별 토큰은 레지스트리에 등록
         user.updateFcmToken(fcmToken);
         userRepository.save(user);
+        // 다른 계정에서 쓰던 기기면 이전 계정의 스토어 토픽 구독 해제
+        for (Long previousOwnerId : deviceTokenService.register(user, fcmToken))
+            storeTopicSubscriptionService.unsubscribeDevice(previousOwnerId, fcmToken);
+        storeTopicSubscriptionService.subscribeDevice(user, fcmToken);
     }
 
     // 회원 탈퇴
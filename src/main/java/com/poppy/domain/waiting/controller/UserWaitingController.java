@@ -1,6 +1,8 @@
 package com.poppy.domain.waiting.controller;
 
 import com.poppy.common.api.RspTemplate;
+import com.poppy.common.pagination.CursorPage;
+import com.poppy.common.pagination.CursorRequest;
 import com.poppy.domain.waiting.dto.response.UserWaitingHistoryRspDto;
 import com.poppy.domain.waiting.dto.response.WaitingRspDto;
 import com.poppy.domain.waiting.service.UserWaitingService;
@@ -9,8 +11,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequiredArgsConstructor
 public class UserWaitingController {
@@ -26,11 +26,14 @@ public class UserWaitingController {
     }
 
     @GetMapping("/users/{id}/waiting")
-    public RspTemplate<List<UserWaitingHistoryRspDto>> getWaitingHistory(@PathVariable Long id) {
+    public RspTemplate<CursorPage<UserWaitingHistoryRspDto>> getWaitingHistory(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         return new RspTemplate<>(
                 HttpStatus.OK,
                 "대기 내역 조회 성공",
-                userWaitingService.getUserWaitingHistory()
+                userWaitingService.getUserWaitingHistory(CursorRequest.of(cursor, size))
         );
     }
 
@@ -14,6 +14,7 @@ import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
 
 @Entity
+@Table(indexes = @Index(name = "idx_waiting_user_date", columnList = "user_id, waiting_date"))  // 유저 웨이팅 내역 페이지
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Waiting extends BaseTimeEntity {
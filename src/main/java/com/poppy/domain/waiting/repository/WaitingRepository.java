@@ -14,13 +14,17 @@ import java.util.Optional;
 import java.util.Set;
 
 @Repository
-public interface WaitingRepository extends JpaRepository<Waiting, Long> {
+public interface WaitingRepository extends JpaRepository<Waiting, Long>, WaitingRepositoryCustom {
     // 사용자의 중복 대기 여부 확인
     boolean existsByPopupStoreIdAndUserIdAndStatusIn(Long storeId, Long userId, Set<WaitingStatus> statuses);
 
     // 현재 대기 중인 인원 수 카운트
     long countByPopupStoreIdAndStatusIn(Long popupStoreId, Set<WaitingStatus> statuses);
 
+    // 지연 발송용 (유저, 팝업스토어까지 한 번에 조회)
+    @Query("SELECT w FROM Waiting w JOIN FETCH w.user JOIN FETCH w.popupStore WHERE w.id IN :ids")
+    List<Waiting> findAllWithUserAndStoreByIdIn(@Param("ids") List<Long> ids);
+
     // 현재 최대 대기번호 조회 (다음 대기번호 생성용)
     @Query("SELECT MAX(w.waitingNumber) FROM Waiting w WHERE w.popupStore.id = :storeId")
     Optional<Integer> findMaxWaitingNumberByStoreId(@Param("storeId") Long storeId);
@@ -74,6 +78,4 @@ public interface WaitingRepository extends JpaRepository<Waiting, Long> {
     int countPeopleAhead(@Param("storeId") Long storeId, @Param("currentNumber") Integer currentNumber, @Param("statuses") Set<WaitingStatus> statuses);
 
     List<Waiting> findByStatus(WaitingStatus status);
-
-    List<Waiting> findByUserIdOrderByWaitingDateDescWaitingTimeDesc(Long userId);
 }
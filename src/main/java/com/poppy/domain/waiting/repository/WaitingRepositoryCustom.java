@@ -0,0 +1,10 @@
+package com.poppy.domain.waiting.repository;
+
+import com.poppy.common.pagination.CursorRequest;
+import com.poppy.domain.waiting.entity.Waiting;
+
+import java.util.List;
+
+public interface WaitingRepositoryCustom {
+    List<Waiting> findHistoryPageByUserId(Long userId, CursorRequest request);
+}
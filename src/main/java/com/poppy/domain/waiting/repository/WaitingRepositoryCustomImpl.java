@@ -0,0 +1,35 @@
+package com.poppy.domain.waiting.repository;
+
+import com.poppy.common.pagination.Cursor;
+import com.poppy.common.pagination.CursorPredicates;
+import com.poppy.common.pagination.CursorRequest;
+import com.poppy.domain.popupStore.entity.QPopupStore;
+import com.poppy.domain.waiting.entity.QWaiting;
+import com.poppy.domain.waiting.entity.Waiting;
+import com.querydsl.core.types.Order;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class WaitingRepositoryCustomImpl implements WaitingRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+
+    // 유저의 웨이팅 내역 (대기 날짜, id 내림차순 / 같은 날짜 안에서는 등록 순서 = 대기 시간 순서)
+    @Override
+    public List<Waiting> findHistoryPageByUserId(Long userId, CursorRequest request) {
+        QWaiting waiting = QWaiting.waiting;
+        QPopupStore store = QPopupStore.popupStore;
+
+        return queryFactory.selectFrom(waiting)
+                .join(waiting.popupStore, store).fetchJoin()
+                .where(
+                        waiting.user.id.eq(userId),
+                        CursorPredicates.after(waiting.waitingDate, waiting.id, request.getCursor(), Cursor::sortKeyAsDate, Order.DESC)
+                )
+                .orderBy(CursorPredicates.orderBy(waiting.waitingDate, waiting.id, Order.DESC))
+                .limit(request.fetchSize())
+                .fetch();
+    }
+}
@@ -4,8 +4,7 @@ import com.poppy.common.exception.BusinessException;
 import com.poppy.common.exception.ErrorCode;
 import com.poppy.domain.notification.entity.NotificationType;
 import com.poppy.domain.notification.service.NotificationService;
-import com.poppy.domain.popupStore.entity.PopupStore;
-import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import com.poppy.domain.popupStore.service.PopupStoreCache;
 import com.poppy.domain.user.entity.User;
 import com.poppy.domain.user.repository.LoginUserProvider;
 import com.poppy.domain.waiting.dto.response.DailyWaitingRspDto;
@@ -32,7 +31,7 @@ public class MasterWaitingService {
     private final WaitingRepository waitingRepository;
     private final NotificationService notificationService;
     private final WaitingUtils waitingUtils;
-    private final PopupStoreRepository popupStoreRepository;
+    private final PopupStoreCache popupStoreCache;
     private final LoginUserProvider loginUserProvider;
 
     // 날짜별 대기 목록 조회
@@ -114,10 +113,9 @@ public class MasterWaitingService {
 
     private void validateMasterAuthority(Long storeId) {
         User master = loginUserProvider.getLoggedInUser();
-        PopupStore store = popupStoreRepository.findById(storeId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
+        PopupStoreCache.Entry store = popupStoreCache.get(storeId);
 
-        if (!store.getMasterUser().getId().equals(master.getId())) {
+        if (!store.getMasterUserId().equals(master.getId())) {
             throw new BusinessException(ErrorCode.UNAUTHORIZED_STORE_ACCESS);
         }
     }
@@ -2,6 +2,9 @@ package com.poppy.domain.waiting.service;
 
 import com.poppy.common.exception.BusinessException;
 import com.poppy.common.exception.ErrorCode;
+import com.poppy.common.pagination.Cursor;
+import com.poppy.common.pagination.CursorPage;
+import com.poppy.common.pagination.CursorRequest;
 import com.poppy.domain.notification.entity.NotificationType;
 import com.poppy.domain.notification.service.NotificationService;
 import com.poppy.domain.popupStore.entity.PopupStore;
@@ -26,7 +29,6 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -98,12 +100,11 @@ public class UserWaitingService {
 
     // 웨이팅 내역 조회
     @Transactional(readOnly = true)
-    public List<UserWaitingHistoryRspDto> getUserWaitingHistory() {
+    public CursorPage<UserWaitingHistoryRspDto> getUserWaitingHistory(CursorRequest request) {
         User user = loginUserProvider.getLoggedInUser();
-        return waitingRepository.findByUserIdOrderByWaitingDateDescWaitingTimeDesc(user.getId())
-                .stream()
-                .map(UserWaitingHistoryRspDto::from)
-                .collect(Collectors.toList());
+        List<Waiting> waitings = waitingRepository.findHistoryPageByUserId(user.getId(), request);
+        return CursorPage.of(waitings, request, waiting -> Cursor.of(waiting.getWaitingDate(), waiting.getId()))
+                .map(UserWaitingHistoryRspDto::from);
     }
 
     // 웨이팅 상세 조회
@@ -2,11 +2,13 @@ package com.poppy.admin.service;
 
 import com.poppy.common.entity.Images;
 import com.poppy.common.exception.BusinessException;
+import com.poppy.common.geo.Geocoder;
 import com.poppy.common.service.ImageService;
 import com.poppy.domain.popupStore.dto.request.PopupStoreReqDto;
 import com.poppy.domain.popupStore.dto.response.PopupStoreRspDto;
 import com.poppy.domain.popupStore.entity.PopupStore;
 import com.poppy.domain.popupStore.entity.ReservationType;
+import com.poppy.domain.popupStore.event.PopupStoreEventPublisher;
 import com.poppy.domain.popupStore.repository.PopupStoreRepository;
 import com.poppy.domain.popupStore.service.PopupStoreService;
 import com.poppy.domain.storeCategory.entity.StoreCategory;
@@ -47,6 +49,10 @@ class AdminServiceTest {
     private PopupStoreService popupStoreService;
     @Mock
     private ImageService imageService;
+    @Mock
+    private PopupStoreEventPublisher popupStoreEventPublisher;
+    @Mock
+    private Geocoder geocoder;
 
     @InjectMocks
     private AdminService adminService;
@@ -0,0 +1,96 @@
+package com.poppy.common.config.redis.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.poppy.domain.notification.dto.NoticeNotificationDto;
+import com.poppy.domain.notification.dto.ScrapedStoreNotificationDto;
+import com.poppy.domain.notification.dto.WaitingNotificationDto;
+import com.poppy.domain.notification.entity.NotificationType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryNotificationCodecTest {
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .build();
+
+    private final BinaryNotificationCodec codec = new BinaryNotificationCodec(objectMapper);
+
+    @Test
+    void 헤더만_읽고_JSON_본문은_그대로_전달() throws Exception {
+        // given
+        WaitingNotificationDto notification = WaitingNotificationDto.builder()
+                .message("현재 5번째 순서입니다.")
+                .type(NotificationType.TEAMS_AHEAD)
+                .userId(7L)
+                .popupStoreId(1L)
+                .popupStoreName("테스트 매장")
+                .waitingNumber(10)
+                .peopleAhead(5)
+                .isRead(false)
+                .build();
+
+        // when
+        NotificationFrame frame = codec.decode(codec.encode(notification));
+
+        // then
+        assertThat(frame.getUserId()).isEqualTo(7L);
+        assertThat(frame.isBroadcast()).isFalse();
+        assertThat(frame.getPayload()).isEqualTo(objectMapper.writeValueAsBytes(notification));
+
+        JsonNode payload = objectMapper.readTree(frame.getPayload());
+        assertThat(payload.has("@class")).isFalse();
+        assertThat(payload.get("peopleAhead").asInt()).isEqualTo(5);
+    }
+
+    @Test
+    void 공지사항은_전체_전송_플래그_설정() {
+        // given
+        NoticeNotificationDto notice = NoticeNotificationDto.builder()
+                .message("[공지]\n점검 안내")
+                .type(NotificationType.NOTICE)
+                .userId(3L)
+                .isRead(false)
+                .build();
+
+        // when
+        NotificationFrame frame = codec.decode(codec.encode(notice));
+
+        // then
+        assertThat(frame.isBroadcast()).isTrue();
+        assertThat(frame.getUserId()).isEqualTo(3L);
+    }
+
+    @Test
+    void 수신자_없는_스토어_오픈_알림은_스토어_토픽으로_전송() {
+        // given
+        ScrapedStoreNotificationDto notification = ScrapedStoreNotificationDto.of(
+                "[테스트 매장]\n스토어가 오픈되었습니다.",
+                NotificationType.SCRAPED_STORE_OPENING,
+                null,
+                42L,
+                "테스트 매장",
+                false
+        );
+
+        // when
+        NotificationFrame frame = codec.decode(codec.encode(notification));
+
+        // then
+        assertThat(frame.getStoreId()).isEqualTo(42L);
+        assertThat(frame.getUserId()).isNull();
+        assertThat(frame.isBroadcast()).isFalse();
+    }
+
+    @Test
+    void 알_수_없는_버전은_거부() {
+        byte[] message = new byte[BinaryNotificationCodec.HEADER_SIZE];
+        message[0] = 99;
+
+        assertThatThrownBy(() -> codec.decode(message))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,80 @@
+package com.poppy.common.config.websocket;
+
+import com.poppy.domain.notification.service.UserPresenceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PresenceChannelInterceptorTest {
+    @Mock
+    private UserPresenceService presenceService;
+    @Mock
+    private MessageChannel channel;
+
+    private PresenceChannelInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new PresenceChannelInterceptor(presenceService);
+    }
+
+    @Test
+    void 하트비트_프레임으로_접속_상태_연장() {
+        // when
+        interceptor.preSend(messageOf(SimpMessageType.HEARTBEAT, "s1", "7"), channel);
+
+        // then
+        verify(presenceService).heartbeat(7L, "s1");
+    }
+
+    @Test
+    void 같은_세션의_연속된_프레임은_한_번만_반영() {
+        // when
+        interceptor.preSend(messageOf(SimpMessageType.HEARTBEAT, "s1", "7"), channel);
+        interceptor.preSend(messageOf(SimpMessageType.MESSAGE, "s1", "7"), channel);
+        interceptor.preSend(messageOf(SimpMessageType.SUBSCRIBE, "s1", "7"), channel);
+
+        // then
+        verify(presenceService, times(1)).heartbeat(7L, "s1");
+    }
+
+    @Test
+    void 연결_종료_후_같은_세션_id는_다시_반영() {
+        // given
+        interceptor.preSend(messageOf(SimpMessageType.HEARTBEAT, "s1", "7"), channel);
+
+        // when
+        interceptor.preSend(messageOf(SimpMessageType.DISCONNECT, "s1", "7"), channel);
+        interceptor.preSend(messageOf(SimpMessageType.HEARTBEAT, "s1", "7"), channel);
+
+        // then
+        verify(presenceService, times(2)).heartbeat(7L, "s1");
+    }
+
+    @Test
+    void 인증되지_않은_세션은_무시() {
+        // when
+        interceptor.preSend(messageOf(SimpMessageType.HEARTBEAT, "s1", null), channel);
+
+        // then
+        verify(presenceService, never()).heartbeat(any(), any());
+    }
+
+    private Message<byte[]> messageOf(SimpMessageType type, String sessionId, String userId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        if (userId != null) accessor.setUser(() -> userId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,37 @@
+package com.poppy.common.geo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StubGeocoderTest {
+    private final StubGeocoder geocoder = new StubGeocoder();
+
+    @Test
+    void 자치구_중심_근처_좌표로_변환() {
+        // when
+        GeoPoint point = geocoder.geocode("서울 성동구 연무장길 10").orElseThrow();
+
+        // then
+        assertThat(point.getLatitude()).isBetween(37.5634 - 0.003, 37.5634 + 0.003);
+        assertThat(point.getLongitude()).isBetween(127.0369 - 0.003, 127.0369 + 0.003);
+    }
+
+    @Test
+    void 같은_주소는_항상_같은_좌표() {
+        // when
+        GeoPoint first = geocoder.geocode("서울 마포구 양화로 45").orElseThrow();
+        GeoPoint second = geocoder.geocode("서울 마포구 양화로 45").orElseThrow();
+
+        // then
+        assertThat(first.getLatitude()).isEqualTo(second.getLatitude());
+        assertThat(first.getLongitude()).isEqualTo(second.getLongitude());
+    }
+
+    @Test
+    void 알_수_없는_주소는_empty() {
+        // when & then
+        assertThat(geocoder.geocode("부산 해운대구 우동")).isEmpty();
+        assertThat(geocoder.geocode(" ")).isEmpty();
+    }
+}
@@ -0,0 +1,114 @@
+package com.poppy.common.job;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DelayedJobWorkerTest {
+    @Mock
+    private DelayedJobQueue delayedJobQueue;
+    @Mock
+    private DelayedJobHandler handler;
+
+    private DelayedJobWorker delayedJobWorker;
+
+    @BeforeEach
+    void setUp() {
+        when(handler.getType()).thenReturn("test-job");
+        delayedJobWorker = new DelayedJobWorker(delayedJobQueue, List.of(handler));
+    }
+
+    @Test
+    void 처리_성공시_작업_완료() {
+        // given
+        when(delayedJobQueue.claim(anyInt())).thenReturn(List.of(new ClaimedJob("job-1", "test-job", "1", 1, 1_000L)));
+
+        // when
+        delayedJobWorker.poll();
+
+        // then
+        verify(handler).handle("1");
+        verify(delayedJobQueue).complete("job-1");
+    }
+
+    @Test
+    void 처리_실패시_완료하지_않고_재시도_대기() {
+        // given
+        when(delayedJobQueue.claim(anyInt())).thenReturn(List.of(new ClaimedJob("job-1", "test-job", "1", 1, 1_000L)));
+        doThrow(new RuntimeException("테스트 예외")).when(handler).handle("1");
+
+        // when
+        delayedJobWorker.poll();
+
+        // then
+        verify(delayedJobQueue, never()).complete(anyString());
+    }
+
+    @Test
+    void 최대_시도_횟수_초과시_작업_폐기() {
+        // given
+        when(delayedJobQueue.claim(anyInt())).thenReturn(List.of(new ClaimedJob("job-1", "test-job", "1", 6, 1_000L)));
+
+        // when
+        delayedJobWorker.poll();
+
+        // then
+        verify(handler, never()).handle(anyString());
+        verify(delayedJobQueue).complete("job-1");
+    }
+
+    @Test
+    void 처리기가_없는_작업은_폐기() {
+        // given
+        when(delayedJobQueue.claim(anyInt())).thenReturn(List.of(new ClaimedJob("job-1", "unknown", "1", 1, 1_000L)));
+
+        // when
+        delayedJobWorker.poll();
+
+        // then
+        verify(handler, never()).handle(anyString());
+        verify(delayedJobQueue).complete("job-1");
+    }
+
+    @Test
+    void 처리_중인_작업은_가시성_타임아웃을_연장() {
+        // given
+        when(delayedJobQueue.claim(anyInt())).thenReturn(List.of(new ClaimedJob("job-1", "test-job", "1", 1, 1_000L)));
+        when(delayedJobQueue.extendLease(eq("job-1"), eq(1_000L), anyLong())).thenReturn(true);
+        doAnswer(invocation -> {
+            delayedJobWorker.extendLeases();    // 처리 도중 연장 주기 도래
+            return null;
+        }).when(handler).handle("1");
+
+        // when
+        delayedJobWorker.poll();
+
+        // then
+        verify(delayedJobQueue).extendLease(eq("job-1"), eq(1_000L), anyLong());
+        verify(delayedJobQueue).complete("job-1");
+    }
+
+    @Test
+    void 처리가_끝난_작업은_연장하지_않음() {
+        // given
+        when(delayedJobQueue.claim(anyInt())).thenReturn(List.of(new ClaimedJob("job-1", "test-job", "1", 1, 1_000L)));
+        delayedJobWorker.poll();
+
+        // when
+        delayedJobWorker.extendLeases();
+
+        // then
+        verify(delayedJobQueue, never()).extendLease(anyString(), anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,76 @@
+package com.poppy.common.pagination;
+
+import com.poppy.common.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorPageTest {
+    @Test
+    void 커서를_인코딩한_뒤_디코딩하면_같은_값() {
+        // given
+        LocalDate date = LocalDate.of(2024, 11, 1);
+        String encoded = Cursor.of(date, 42L).encode();
+
+        // when
+        Cursor decoded = Cursor.decode(encoded);
+
+        // then
+        assertThat(decoded.sortKeyAsDate()).isEqualTo(date);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    void 빈_커서는_첫_페이지() {
+        // when
+        CursorRequest request = CursorRequest.of(null, null);
+
+        // then
+        assertThat(request.getCursor()).isNull();
+        assertThat(request.getSize()).isEqualTo(CursorRequest.DEFAULT_SIZE);
+    }
+
+    @Test
+    void 잘못된_커서는_예외() {
+        // when & then
+        assertThatThrownBy(() -> Cursor.decode("not-a-cursor!")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> Cursor.decode("YWJj")).isInstanceOf(BusinessException.class);   // "abc" (구분자 없음)
+    }
+
+    @Test
+    void 요청_크기는_최대값으로_제한() {
+        // when
+        CursorRequest request = CursorRequest.of(null, 1000);
+
+        // then
+        assertThat(request.getSize()).isEqualTo(CursorRequest.MAX_SIZE);
+    }
+
+    @Test
+    void 한_행_더_조회되면_다음_커서를_만들고_초과분은_제외() {
+        // given
+        CursorRequest request = CursorRequest.first(2);
+
+        // when
+        CursorPage<Long> page = CursorPage.of(List.of(5L, 4L, 3L), request, Cursor::ofId);
+
+        // then
+        assertThat(page.getContent()).containsExactly(5L, 4L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(Cursor.decode(page.getNextCursor()).getId()).isEqualTo(4L);
+    }
+
+    @Test
+    void 마지막_페이지는_다음_커서가_없음() {
+        // when
+        CursorPage<Long> page = CursorPage.of(List.of(5L), CursorRequest.first(2), Cursor::ofId);
+
+        // then
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+}
@@ -0,0 +1,85 @@
+package com.poppy.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MpscRingBufferTest {
+    @Test
+    void 넣은_순서대로_꺼냄() {
+        // given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(8);
+        for (int i = 0; i < 5; i++) buffer.offer(i);
+
+        // when
+        List<Integer> drained = new ArrayList<>();
+        int count = buffer.drainTo(drained, 8);
+
+        // then
+        assertThat(count).isEqualTo(5);
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void 가득_차면_버리고_꺼낸_만큼_다시_넣을_수_있음() {
+        // given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) assertThat(buffer.offer(i)).isTrue();
+
+        // when & then
+        assertThat(buffer.offer(4)).isFalse();
+
+        List<Integer> drained = new ArrayList<>();
+        buffer.drainTo(drained, 2);
+        assertThat(buffer.offer(5)).isTrue();
+        assertThat(buffer.offer(6)).isTrue();
+        assertThat(buffer.offer(7)).isFalse();
+
+        buffer.drainTo(drained, 10);
+        assertThat(drained).containsExactly(0, 1, 2, 3, 5, 6);
+    }
+
+    @Test
+    void 여러_스레드가_동시에_넣어도_유실_없이_꺼냄() throws InterruptedException {
+        // given
+        int producers = 8;
+        int perProducer = 10_000;
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1 << 17);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) buffer.offer(base + i);
+                done.countDown();
+            });
+        }
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        List<Integer> drained = new ArrayList<>();
+        buffer.drainTo(drained, Integer.MAX_VALUE);
+        Set<Integer> unique = new HashSet<>(drained);
+        assertThat(drained).hasSize(producers * perProducer);
+        assertThat(unique).hasSize(producers * perProducer);
+    }
+
+    @Test
+    void 용량은_2의_거듭제곱만_허용() {
+        assertThatThrownBy(() -> new MpscRingBuffer<>(1000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package com.poppy.domain.notification.service;
+
+import com.google.firebase.messaging.*;
+import com.poppy.domain.user.entity.User;
+import com.poppy.domain.user.service.DeviceTokenService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FcmSenderTest {
+    @Mock
+    private FirebaseMessaging firebaseMessaging;
+    @Mock
+    private DeviceTokenService deviceTokenService;
+
+    @InjectMocks
+    private FcmSender fcmSender;
+
+    @Test
+    void 유저의_모든_기기로_한번에_발송() throws FirebaseMessagingException {
+        // given
+        User user = User.builder().id(1L).email("user@test.com").build();
+        when(deviceTokenService.getTokens(user)).thenReturn(List.of("phone", "tablet"));
+
+        BatchResponse response = mock(BatchResponse.class);
+        when(response.getFailureCount()).thenReturn(0);
+        when(firebaseMessaging.sendEachForMulticast(any(MulticastMessage.class))).thenReturn(response);
+
+        // when
+        fcmSender.send(user, "제목", "내용", Map.of("type", "TEAMS_AHEAD"));
+
+        // then
+        verify(firebaseMessaging, times(1)).sendEachForMulticast(any(MulticastMessage.class));
+        verify(deviceTokenService, never()).prune(any());
+    }
+
+    @Test
+    void 만료된_토큰은_삭제() throws FirebaseMessagingException {
+        // given
+        FirebaseMessagingException unregistered = mock(FirebaseMessagingException.class);
+        when(unregistered.getMessagingErrorCode()).thenReturn(MessagingErrorCode.UNREGISTERED);
+        FirebaseMessagingException unavailable = mock(FirebaseMessagingException.class);
+        when(unavailable.getMessagingErrorCode()).thenReturn(MessagingErrorCode.UNAVAILABLE);
+
+        SendResponse success = mock(SendResponse.class);
+        when(success.isSuccessful()).thenReturn(true);
+        SendResponse deadToken = mock(SendResponse.class);
+        when(deadToken.isSuccessful()).thenReturn(false);
+        when(deadToken.getException()).thenReturn(unregistered);
+        SendResponse temporaryFailure = mock(SendResponse.class);
+        when(temporaryFailure.isSuccessful()).thenReturn(false);
+        when(temporaryFailure.getException()).thenReturn(unavailable);
+
+        BatchResponse response = mock(BatchResponse.class);
+        when(response.getFailureCount()).thenReturn(2);
+        when(response.getResponses()).thenReturn(List.of(success, deadToken, temporaryFailure));
+        when(firebaseMessaging.sendEachForMulticast(any(MulticastMessage.class))).thenReturn(response);
+
+        // when
+        fcmSender.send(List.of("alive", "dead", "retry"), "제목", "내용", Map.of("type", "NOTICE"));
+
+        // then
+        verify(deviceTokenService).prune(List.of("dead"));
+    }
+
+    @Test
+    void 토큰이_500개를_넘으면_나눠서_발송() throws FirebaseMessagingException {
+        // given
+        List<String> tokens = IntStream.range(0, 1200)
+                .mapToObj(i -> "token-" + i)
+                .collect(Collectors.toList());
+
+        BatchResponse response = mock(BatchResponse.class);
+        when(response.getFailureCount()).thenReturn(0);
+        when(firebaseMessaging.sendEachForMulticast(any(MulticastMessage.class))).thenReturn(response);
+
+        // when
+        fcmSender.send(tokens, "[공지]", "점검 안내", Map.of("type", "NOTICE"));
+
+        // then
+        verify(firebaseMessaging, times(3)).sendEachForMulticast(any(MulticastMessage.class));
+    }
+}
@@ -1,69 +1,49 @@
 package com.poppy.domain.notification.service;
 
 import com.poppy.common.config.redis.DistributedLockService;
-import com.poppy.domain.notification.entity.Notification;
-import com.poppy.domain.notification.entity.NotificationType;
 import com.poppy.domain.notification.repository.NotificationRepository;
-import com.poppy.domain.user.entity.User;
-import com.poppy.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.test.util.ReflectionTestUtils;
-
-import java.util.List;
-
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
-@SpringBootTest
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 class NotificationCleanupSchedulerTest {
-    @Autowired
-    private NotificationCleanupScheduler notificationCleanupScheduler;
+    private static final String CURSOR_KEY = "notification:cleanup:cursor";
 
-    @MockBean
+    @Mock
     private NotificationRepository notificationRepository;
-
-    @MockBean
-    private UserRepository userRepository;
-
-    @MockBean
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
     private DistributedLockService lockService;
 
-    private User user1;
-    private User user2;
-    private List<Notification> notificationsToDelete;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationCleanupScheduler notificationCleanupScheduler;
 
     @BeforeEach
     void setUp() {
-        user1 = User.builder()
-                .id(1L)
-                .email("test1@example.com")
-                .build();
-
-        user2 = User.builder()
-                .id(2L)
-                .email("test2@example.com")
-                .build();
-
-        notificationsToDelete = List.of(
-                Notification.builder()
-                        .message("테스트 알림 1")
-                        .type(NotificationType.NOTICE)
-                        .user(user1)
-                        .build(),
-                Notification.builder()
-                        .message("테스트 알림 2")
-                        .type(NotificationType.NOTICE)
-                        .user(user1)
-                        .build()
-        );
-
-        ReflectionTestUtils.setField(notificationsToDelete.get(0), "id", 1L);
-        ReflectionTestUtils.setField(notificationsToDelete.get(1), "id", 2L);
+        meterRegistry = new SimpleMeterRegistry();
+        notificationCleanupScheduler = new NotificationCleanupScheduler(
+                notificationRepository, redisTemplate, lockService, meterRegistry);
+        notificationCleanupScheduler.registerMetrics();
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
     }
 
     @Test
@@ -75,63 +55,81 @@ class NotificationCleanupSchedulerTest {
         notificationCleanupScheduler.cleanupOldNotifications();
 
         // then
-        verify(userRepository, never()).findAll();
-        verify(notificationRepository, never()).findNotificationsExceedingLimit(anyLong(), anyInt());
+        verify(notificationRepository, never()).findUserIdChunkUpperBound(anyLong(), anyInt());
+        verify(notificationRepository, never()).deleteExceedingLimitInUserRange(anyLong(), anyLong(), anyInt(), anyInt());
     }
 
     @Test
-    void 삭제할_알림이_있는_경우_정상_삭제() {
+    void 유저_범위별로_초과_알림_삭제후_커서_삭제() {
         // given
         when(lockService.tryLock(anyString(), anyLong(), anyLong())).thenReturn(true);
-        when(userRepository.findAll()).thenReturn(List.of(user1));
-        when(notificationRepository.findNotificationsExceedingLimit(eq(user1.getId()), anyInt()))
-                .thenReturn(notificationsToDelete);
+        when(notificationRepository.findUserIdChunkUpperBound(0L, 500)).thenReturn(500L);
+        when(notificationRepository.findUserIdChunkUpperBound(500L, 500)).thenReturn(800L);
+        when(notificationRepository.findUserIdChunkUpperBound(800L, 500)).thenReturn(null);
+        when(notificationRepository.deleteExceedingLimitInUserRange(0L, 500L, 30, 1000)).thenReturn(2);
+        when(notificationRepository.deleteExceedingLimitInUserRange(500L, 800L, 30, 1000)).thenReturn(0);
 
         // when
         notificationCleanupScheduler.cleanupOldNotifications();
 
         // then
-        verify(notificationRepository, times(1)).deleteAll(notificationsToDelete);
+        verify(notificationRepository).deleteExceedingLimitInUserRange(0L, 500L, 30, 1000);
+        verify(notificationRepository).deleteExceedingLimitInUserRange(500L, 800L, 30, 1000);
+        verify(valueOperations).set(CURSOR_KEY, "800", 1, TimeUnit.DAYS);
+        verify(redisTemplate).delete(CURSOR_KEY);
+        assertThat(meterRegistry.counter("notification.cleanup.deleted").count()).isEqualTo(2.0);
     }
 
     @Test
-    void 삭제할_알림이_없는_경우_삭제_수행하지_않음() {
+    void 한_범위의_삭제가_배치크기를_넘으면_반복_삭제() {
         // given
         when(lockService.tryLock(anyString(), anyLong(), anyLong())).thenReturn(true);
-        when(userRepository.findAll()).thenReturn(List.of(user1));
-        when(notificationRepository.findNotificationsExceedingLimit(eq(user1.getId()), anyInt()))
-                .thenReturn(List.of());
+        when(notificationRepository.findUserIdChunkUpperBound(0L, 500)).thenReturn(10L);
+        when(notificationRepository.findUserIdChunkUpperBound(10L, 500)).thenReturn(null);
+        when(notificationRepository.deleteExceedingLimitInUserRange(0L, 10L, 30, 1000))
+                .thenReturn(1000, 1000, 5);
 
         // when
         notificationCleanupScheduler.cleanupOldNotifications();
 
         // then
-        verify(notificationRepository, never()).deleteAll(any());
+        verify(notificationRepository, times(3)).deleteExceedingLimitInUserRange(0L, 10L, 30, 1000);
+        assertThat(meterRegistry.counter("notification.cleanup.deleted").count()).isEqualTo(2005.0);
     }
 
     @Test
-    void 여러_유저의_알림_삭제_처리() {
+    void 저장된_커서부터_이어서_정리() {
         // given
+        when(redisTemplate.hasKey(CURSOR_KEY)).thenReturn(true);
+        when(valueOperations.get(CURSOR_KEY)).thenReturn("300");
         when(lockService.tryLock(anyString(), anyLong(), anyLong())).thenReturn(true);
-        when(userRepository.findAll()).thenReturn(List.of(user1, user2));
-        when(notificationRepository.findNotificationsExceedingLimit(eq(user1.getId()), anyInt()))
-                .thenReturn(notificationsToDelete);
-        when(notificationRepository.findNotificationsExceedingLimit(eq(user2.getId()), anyInt()))
-                .thenReturn(List.of());
+        when(notificationRepository.findUserIdChunkUpperBound(300L, 500)).thenReturn(null);
 
         // when
-        notificationCleanupScheduler.cleanupOldNotifications();
+        notificationCleanupScheduler.resumeInterruptedCleanup();
+
+        // then
+        verify(notificationRepository).findUserIdChunkUpperBound(300L, 500);
+        verify(notificationRepository, never()).findUserIdChunkUpperBound(eq(0L), anyInt());
+    }
+
+    @Test
+    void 진행중인_커서가_없으면_재개하지_않음() {
+        // given
+        when(redisTemplate.hasKey(CURSOR_KEY)).thenReturn(false);
+
+        // when
+        notificationCleanupScheduler.resumeInterruptedCleanup();
 
         // then
-        verify(notificationRepository, times(1)).deleteAll(notificationsToDelete);
-        verify(notificationRepository, times(2)).findNotificationsExceedingLimit(anyLong(), anyInt());
+        verify(lockService, never()).tryLock(anyString(), anyLong(), anyLong());
     }
 
     @Test
     void 예외_발생시_락_정상_해제() {
         // given
         when(lockService.tryLock(anyString(), anyLong(), anyLong())).thenReturn(true);
-        when(userRepository.findAll())
+        when(notificationRepository.findUserIdChunkUpperBound(anyLong(), anyInt()))
                 .thenThrow(new RuntimeException("테스트 예외"));
 
         // when
@@ -139,5 +137,6 @@ class NotificationCleanupSchedulerTest {
 
         // then
         verify(lockService, times(1)).unlock(anyString());
+        verify(redisTemplate, never()).delete(CURSOR_KEY);
     }
-}
\ No newline at end of file
+}
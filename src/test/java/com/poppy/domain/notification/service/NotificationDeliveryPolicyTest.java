@@ -0,0 +1,92 @@
+package com.poppy.domain.notification.service;
+
+import com.poppy.domain.notification.entity.NotificationChannel;
+import com.poppy.domain.notification.entity.NotificationType;
+import com.poppy.domain.notification.entity.PresenceState;
+import com.poppy.domain.user.entity.User;
+import com.poppy.domain.user.service.DeviceTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDeliveryPolicyTest {
+    @Mock
+    private UserPresenceService presenceService;
+    @Mock
+    private DeviceTokenService deviceTokenService;
+
+    @InjectMocks
+    private NotificationDeliveryPolicy deliveryPolicy;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .id(1L)
+                .email("user@test.com")
+                .fcmToken("test_token")
+                .build();
+    }
+
+    @Test
+    void 접속중이면_웹소켓으로_발송() {
+        when(presenceService.getPresence(1L)).thenReturn(PresenceState.ONLINE);
+
+        assertThat(deliveryPolicy.resolve(user, NotificationType.TEAMS_AHEAD))
+                .isEqualTo(NotificationChannel.WEBSOCKET);
+    }
+
+    @Test
+    void 백그라운드_또는_오프라인이면_FCM으로_발송() {
+        when(deviceTokenService.getTokens(user)).thenReturn(List.of("test_token"));
+        when(presenceService.getPresence(1L)).thenReturn(PresenceState.BACKGROUND, PresenceState.OFFLINE);
+
+        assertThat(deliveryPolicy.resolve(user, NotificationType.TEAMS_AHEAD))
+                .isEqualTo(NotificationChannel.FCM);
+        assertThat(deliveryPolicy.resolve(user, NotificationType.TEAMS_AHEAD))
+                .isEqualTo(NotificationChannel.FCM);
+    }
+
+    @Test
+    void 입장_호출은_접속상태와_무관하게_양쪽_발송() {
+        when(deviceTokenService.getTokens(user)).thenReturn(List.of("test_token"));
+
+        assertThat(deliveryPolicy.resolve(user, NotificationType.WAITING_CALL))
+                .isEqualTo(NotificationChannel.BOTH);
+        verify(presenceService, never()).getPresence(anyLong());
+    }
+
+    @Test
+    void FCM토큰이_없으면_웹소켓으로_대체() {
+        User noTokenUser = User.builder()
+                .id(2L)
+                .email("user2@test.com")
+                .build();
+        when(presenceService.getPresence(2L)).thenReturn(PresenceState.OFFLINE);
+        when(deviceTokenService.getTokens(noTokenUser)).thenReturn(List.of());
+
+        assertThat(deliveryPolicy.resolve(noTokenUser, NotificationType.TEAMS_AHEAD))
+                .isEqualTo(NotificationChannel.WEBSOCKET);
+    }
+
+    @Test
+    void 대표_토큰이_남아_있어도_등록된_기기가_없으면_웹소켓으로_대체() {
+        // given (다른 계정으로 옮겨간 기기의 토큰이 users.fcm_token에 남아 있는 경우)
+        when(presenceService.getPresence(1L)).thenReturn(PresenceState.OFFLINE);
+        when(deviceTokenService.getTokens(user)).thenReturn(List.of());
+
+        // when & then
+        assertThat(deliveryPolicy.resolve(user, NotificationType.TEAMS_AHEAD))
+                .isEqualTo(NotificationChannel.WEBSOCKET);
+    }
+}
@@ -0,0 +1,51 @@
+package com.poppy.domain.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationInboxServiceTest {
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @InjectMocks
+    private NotificationInboxService inboxService;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void 여러_유저의_알림함은_커밋_이후에_비움() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        inboxService.evict(List.of(1L, 2L));
+
+        // then (커밋 전에는 비우지 않음)
+        verify(redisTemplate, never()).delete(anyCollection());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(redisTemplate).delete(List.of(
+                "notification:inbox:1", "notification:inbox:loaded:1", "notification:inbox:loading:1", "notification:inbox:unread:1",
+                "notification:inbox:2", "notification:inbox:loaded:2", "notification:inbox:loading:2", "notification:inbox:unread:2"));
+    }
+}
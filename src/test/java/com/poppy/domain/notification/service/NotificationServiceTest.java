@@ -1,24 +1,31 @@
 package com.poppy.domain.notification.service;
 
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import com.poppy.common.config.redis.NotificationPublisher;
 import com.poppy.domain.notification.dto.NotificationDto;
+import com.poppy.domain.notification.dto.NotificationInboxEntry;
 import com.poppy.domain.notification.dto.ReservationNotificationDto;
+import com.poppy.domain.notification.dto.ScrapedStoreNotificationDto;
 import com.poppy.domain.notification.dto.WaitingNotificationDto;
 import com.poppy.domain.notification.entity.Notification;
+import com.poppy.domain.notification.entity.NotificationChannel;
 import com.poppy.domain.notification.entity.NotificationType;
+import com.poppy.domain.notification.repository.NotificationJdbcRepository;
 import com.poppy.domain.notification.repository.NotificationRepository;
 import com.poppy.domain.popupStore.entity.PopupStore;
 import com.poppy.domain.user.entity.User;
 import com.poppy.domain.user.repository.LoginUserProvider;
+import com.poppy.domain.user.service.DeviceTokenService;
 import com.poppy.domain.waiting.entity.Waiting;
+import com.poppy.domain.waiting.entity.WaitingStatus;
+import com.poppy.domain.waiting.repository.WaitingRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.Optional;
@@ -35,13 +42,25 @@ class NotificationServiceTest {
     @Mock
     private NotificationRepository notificationRepository;
     @Mock
-    private FirebaseMessaging firebaseMessaging;
+    private FcmSender fcmSender;
+    @Mock
+    private DeviceTokenService deviceTokenService;
     @Mock
     private NotificationPublisher notificationPublisher;
     @Mock
     private NotificationMessageGenerator messageGenerator;
     @Mock
     private LoginUserProvider loginUserProvider;
+    @Mock
+    private NotificationDeliveryPolicy deliveryPolicy;
+    @Mock
+    private NotificationInboxService inboxService;
+    @Mock
+    private TeamsAheadNotificationCoalescer teamsAheadCoalescer;
+    @Mock
+    private NotificationJdbcRepository notificationJdbcRepository;
+    @Mock
+    private WaitingRepository waitingRepository;
 
     @InjectMocks
     private NotificationService notificationService;
@@ -72,7 +91,7 @@ class NotificationServiceTest {
     }
 
     @Test
-    void FCM알림과_웹소켓알림_모두_발송() throws FirebaseMessagingException {
+    void FCM알림과_웹소켓알림_모두_발송() {
         // given
         String fcmTitle = "제목";
         String fcmBody = "FCM 내용";
@@ -82,18 +101,19 @@ class NotificationServiceTest {
         when(messageGenerator.generateFCMBody(any(), any(), any())).thenReturn(fcmBody);
         when(messageGenerator.generateWebSocketMessage(any(), any(), any()))  // storeName 파라미터 제거
                 .thenReturn(wsMessage);
+        when(deliveryPolicy.resolve(any(), any())).thenReturn(NotificationChannel.BOTH);
 
         // when
         notificationService.sendNotification(waiting, NotificationType.WAITING_CALL, 5);
 
         // then
-        verify(firebaseMessaging).send(any());
+        verify(fcmSender).send(any(User.class), any(), any(), anyMap());
         verify(notificationPublisher).publish(any(WaitingNotificationDto.class));
         verify(notificationRepository).save(any(Notification.class));
     }
 
     @Test
-    void FCM토큰이_없으면_웹소켓알림만_발송() throws FirebaseMessagingException {
+    void FCM토큰이_없으면_웹소켓알림만_발송() {
         // given
         user = User.builder()
                 .id(1L)
@@ -110,16 +130,51 @@ class NotificationServiceTest {
         String wsMessage = "웹소켓 메시지";
         when(messageGenerator.generateWebSocketMessage(any(), any(), any()))
                 .thenReturn(wsMessage);
+        when(deliveryPolicy.resolve(any(), any())).thenReturn(NotificationChannel.WEBSOCKET);
 
         // when
         notificationService.sendNotification(waiting, NotificationType.WAITING_CALL, 5);
 
         // then
-        verify(firebaseMessaging, never()).send(any());
+        verify(fcmSender, never()).send(any(User.class), any(), any(), anyMap());
+        verify(notificationPublisher).publish(any(WaitingNotificationDto.class));
+        verify(notificationRepository).save(any(Notification.class));
+    }
+
+    @Test
+    void 접속중인_사용자에게는_웹소켓알림만_발송() {
+        // given
+        when(messageGenerator.generateWebSocketMessage(any(), any(), any()))
+                .thenReturn("웹소켓 메시지");
+        when(deliveryPolicy.resolve(any(), any())).thenReturn(NotificationChannel.WEBSOCKET);
+
+        // when
+        notificationService.sendNotification(waiting, NotificationType.TEAMS_AHEAD, 5);
+
+        // then
+        verify(fcmSender, never()).send(any(User.class), any(), any(), anyMap());
         verify(notificationPublisher).publish(any(WaitingNotificationDto.class));
         verify(notificationRepository).save(any(Notification.class));
     }
 
+    @Test
+    void 오프라인_사용자에게는_FCM알림만_발송() {
+        // given
+        when(messageGenerator.generateFCMTitle(any(), any())).thenReturn("제목");
+        when(messageGenerator.generateFCMBody(any(), any(), any())).thenReturn("FCM 내용");
+        when(messageGenerator.generateWebSocketMessage(any(), any(), any()))
+                .thenReturn("웹소켓 메시지");
+        when(deliveryPolicy.resolve(any(), any())).thenReturn(NotificationChannel.FCM);
+
+        // when
+        notificationService.sendNotification(waiting, NotificationType.TEAMS_AHEAD, 5);
+
+        // then
+        verify(fcmSender).send(any(User.class), any(), any(), anyMap());
+        verify(notificationPublisher, never()).publish(any());
+        verify(notificationRepository).save(any(Notification.class));   // 활동 알림 목록용 저장은 유지
+    }
+
     @Test
     void 알림_읽음_처리_성공() {
         // given
@@ -188,6 +243,8 @@ class NotificationServiceTest {
                 .findTop30ByUserIdAndIsFcmFalseAndTypeNotOrderByCreateTimeDesc(
                         eq(1L), eq(NotificationType.NOTICE));
 
+        verify(inboxService).fill(eq(1L), any(), anyList(), anyLong());
+
         // 타입에 따른 DTO 변환 확인
         assertThat(result.get(0))
                 .isInstanceOf(WaitingNotificationDto.class);
@@ -196,5 +253,199 @@ class NotificationServiceTest {
         assertThat(result.get(2))
                 .isInstanceOf(WaitingNotificationDto.class);
     }
-}
 
+    @Test
+    void 알림함이_캐시되어_있으면_DB조회_없이_반환() {
+        // given
+        List<NotificationInboxEntry> entries = List.of(
+                NotificationInboxEntry.builder()
+                        .id(2L)
+                        .type(NotificationType.RESERVATION_CHECK)
+                        .message("예약이 확정되었습니다.")
+                        .popupStoreId(1L)
+                        .popupStoreName("테스트 매장")
+                        .read(false)
+                        .build(),
+                NotificationInboxEntry.builder()
+                        .id(1L)
+                        .type(NotificationType.TEAMS_AHEAD)
+                        .message("현재 3번째 순서입니다.")
+                        .popupStoreId(1L)
+                        .popupStoreName("테스트 매장")
+                        .waitingNumber(4)
+                        .peopleAhead(3)
+                        .read(true)
+                        .build()
+        );
+        when(inboxService.getInbox(1L)).thenReturn(Optional.of(entries));
+        when(inboxService.getUnreadCount(1L)).thenReturn(Optional.of(1L));
+
+        // when
+        List<? extends NotificationDto> result = notificationService.getNotifications(1L);
+        long unreadCount = notificationService.getUnreadCount(1L);
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0)).isInstanceOf(ReservationNotificationDto.class);
+        assertThat(result.get(1)).isInstanceOf(WaitingNotificationDto.class);
+        assertThat(result.get(0).getId()).isEqualTo(2L);
+        assertThat(unreadCount).isEqualTo(1L);
+        verify(notificationRepository, never())
+                .findTop30ByUserIdAndIsFcmFalseAndTypeNotOrderByCreateTimeDesc(anyLong(), any());
+    }
+
+    @Test
+    void 알림함에_있는_알림은_단건_UPDATE로_읽음_처리() {
+        // given
+        when(loginUserProvider.getLoggedInUser()).thenReturn(user);
+        when(inboxService.contains(1L, 10L)).thenReturn(true);
+        when(notificationRepository.markAsRead(10L, 1L)).thenReturn(1);
+
+        // when
+        notificationService.markAsRead(10L);
+
+        // then
+        verify(notificationRepository).markAsRead(10L, 1L);
+        verify(inboxService).markAsRead(1L, 10L);
+        verify(notificationRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void 이미_읽은_알림은_읽지_않은_수를_줄이지_않음() {
+        // given
+        when(loginUserProvider.getLoggedInUser()).thenReturn(user);
+        when(inboxService.contains(1L, 10L)).thenReturn(true);
+        when(notificationRepository.markAsRead(10L, 1L)).thenReturn(0);
+
+        // when
+        notificationService.markAsRead(10L);
+
+        // then
+        verify(inboxService, never()).markAsRead(anyLong(), anyLong());
+    }
+
+    @Test
+    void 읽지_않은_수가_캐시에_없으면_DB_개수로_알림함과_함께_백필() {
+        // given
+        when(inboxService.beginLoad(1L)).thenReturn("token");
+        when(notificationRepository.findTop30ByUserIdAndIsFcmFalseAndTypeNotOrderByCreateTimeDesc(1L, NotificationType.NOTICE))
+                .thenReturn(List.of());
+        when(notificationRepository.countByUserIdAndIsFcmFalseAndTypeNotAndIsReadFalse(1L, NotificationType.NOTICE))
+                .thenReturn(45L);
+
+        // when
+        long unreadCount = notificationService.getUnreadCount(1L);
+
+        // then (알림함에 담기는 30개와 무관하게 전체 개수)
+        assertThat(unreadCount).isEqualTo(45L);
+        InOrder inOrder = inOrder(inboxService, notificationRepository);
+        inOrder.verify(inboxService).beginLoad(1L);
+        inOrder.verify(notificationRepository).findTop30ByUserIdAndIsFcmFalseAndTypeNotOrderByCreateTimeDesc(1L, NotificationType.NOTICE);
+        inOrder.verify(inboxService).fill(1L, "token", List.of(), 45L);
+    }
+
+    @Test
+    void 읽지_않은_알림을_삭제하면_알림함과_카운터에서_제거() {
+        // given
+        when(loginUserProvider.getLoggedInUser()).thenReturn(user);
+        when(inboxService.find(1L, 10L)).thenReturn(Optional.of(NotificationInboxEntry.builder()
+                .id(10L)
+                .type(NotificationType.RESERVATION_CHECK)
+                .read(false)
+                .build()));
+        when(notificationRepository.deleteByIdAndUserId(10L, 1L)).thenReturn(1);
+
+        // when
+        notificationService.deleteNotification(10L);
+
+        // then
+        verify(inboxService).remove(1L, 10L, true);
+        verify(notificationRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void 대기순서_알림이_버퍼에_담기면_바로_발송하지_않음() {
+        // given
+        when(teamsAheadCoalescer.offer(waiting.getId(), 7)).thenReturn(true);
+
+        // when
+        notificationService.sendNotification(waiting, NotificationType.TEAMS_AHEAD, 7);
+
+        // then
+        verify(fcmSender, never()).send(any(User.class), any(), any(), anyMap());
+        verify(notificationPublisher, never()).publish(any());
+        verify(notificationRepository, never()).save(any());
+    }
+
+    @Test
+    void 모아둔_대기순서_알림은_마지막_값으로_한번만_발송() {
+        // given
+        ReflectionTestUtils.setField(waiting, "id", 10L);
+        when(teamsAheadCoalescer.drainDue()).thenReturn(List.of(
+                new TeamsAheadNotificationCoalescer.PendingTeamsAhead(10L, 5)));
+        when(waitingRepository.findAllWithUserAndStoreByIdIn(List.of(10L))).thenReturn(List.of(waiting));
+        when(messageGenerator.generateWebSocketMessage(any(), any(), any()))
+                .thenReturn("현재 5번째 순서입니다.");
+        when(deliveryPolicy.resolve(any(), any())).thenReturn(NotificationChannel.WEBSOCKET);
+
+        // when
+        notificationService.flushTeamsAheadNotifications();
+
+        // then
+        verify(messageGenerator).generateWebSocketMessage(NotificationType.TEAMS_AHEAD, 1, 5);
+        verify(notificationPublisher, times(1)).publish(any(WaitingNotificationDto.class));
+        verify(notificationRepository, times(1)).save(any(Notification.class));
+    }
+
+    @Test
+    void 모아둔_사이_호출된_대기건은_순서_알림을_발송하지_않음() {
+        // given
+        ReflectionTestUtils.setField(waiting, "id", 10L);
+        waiting.updateStatus(WaitingStatus.CALLED);
+        when(teamsAheadCoalescer.drainDue()).thenReturn(List.of(
+                new TeamsAheadNotificationCoalescer.PendingTeamsAhead(10L, 5)));
+        when(waitingRepository.findAllWithUserAndStoreByIdIn(List.of(10L))).thenReturn(List.of(waiting));
+
+        // when
+        notificationService.flushTeamsAheadNotifications();
+
+        // then
+        verify(notificationPublisher, never()).publish(any());
+        verify(notificationRepository, never()).save(any());
+    }
+
+    @Test
+    void 스토어_오픈_알림은_토픽으로_한번만_발송() {
+        // given
+        when(messageGenerator.generateWebSocketMessage(any(NotificationType.class), anyString()))
+                .thenReturn("[테스트 매장]\n스토어가 오픈되었습니다.");
+
+        // when
+        notificationService.sendStoreOpeningNotification(popupStore);
+
+        // then
+        verify(fcmSender).sendToTopic(eq("store-1"), any(), any(), anyMap());
+        verify(fcmSender, never()).send(any(User.class), any(), any(), anyMap());
+        verify(notificationPublisher).publish(argThat((NotificationDto dto) ->
+                dto instanceof ScrapedStoreNotificationDto storeDto
+                        && storeDto.getUserId() == null
+                        && storeDto.getStoreId().equals(1L)));
+    }
+
+    @Test
+    void 스토어_오픈_알림함은_배치로_저장하고_캐시는_비움() {
+        // given
+        List<Long> userIds = List.of(1L, 2L, 3L);
+        when(messageGenerator.generateWebSocketMessage(any(NotificationType.class), anyString()))
+                .thenReturn("[테스트 매장]\n스토어가 오픈되었습니다.");
+
+        // when
+        notificationService.saveStoreOpeningNotifications(popupStore, userIds);
+
+        // then
+        verify(notificationJdbcRepository).batchInsertIfAbsent(userIds, NotificationType.SCRAPED_STORE_OPENING,
+                "[테스트 매장]\n스토어가 오픈되었습니다.", 1L);
+        verify(inboxService).evict(userIds);
+        verify(notificationRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,103 @@
+package com.poppy.domain.notification.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TeamsAheadNotificationCoalescerTest {
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private TeamsAheadNotificationCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new TeamsAheadNotificationCoalescer(redisTemplate);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 순서_변경은_커밋_이후에만_버퍼에_반영() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        boolean buffered = coalescer.offer(1L, 8);
+
+        // then (커밋 전에는 Redis에 쓰지 않음)
+        assertThat(buffered).isTrue();
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("teams-ahead:latest:1", "teams-ahead:due")), eq("1"), eq("8"), anyString(), anyString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 롤백되면_버퍼에_반영하지_않음() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        coalescer.offer(1L, 8);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    void 앞_3팀_이하는_즉시_발송하고_공유_버퍼의_값은_버림() {
+        // when
+        boolean buffered = coalescer.offer(1L, 3);
+
+        // then
+        assertThat(buffered).isFalse();
+        verify(redisTemplate).delete("teams-ahead:latest:1");
+        verify(zSetOperations).remove("teams-ahead:due", "1");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 꺼낸_결과를_대기_건별_마지막_값으로_변환() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("teams-ahead:due")), any(Object[].class)))
+                .thenReturn(List.of("1", "6", "2", "9"));
+
+        // when
+        List<TeamsAheadNotificationCoalescer.PendingTeamsAhead> due = coalescer.drainDue();
+
+        // then
+        assertThat(due).extracting(TeamsAheadNotificationCoalescer.PendingTeamsAhead::getWaitingId).containsExactly(1L, 2L);
+        assertThat(due).extracting(TeamsAheadNotificationCoalescer.PendingTeamsAhead::getPeopleAhead).containsExactly(6, 9);
+    }
+}
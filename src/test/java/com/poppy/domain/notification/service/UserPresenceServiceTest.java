@@ -0,0 +1,58 @@
+package com.poppy.domain.notification.service;
+
+import com.poppy.domain.notification.entity.PresenceState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserPresenceServiceTest {
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @InjectMocks
+    private UserPresenceService presenceService;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    void 다른_세션이_살아_있어도_마지막_수신이_오래된_세션은_제외하고_정리() {
+        // given (포그라운드 세션은 끊겼고 백그라운드 세션만 하트비트 중)
+        long now = System.currentTimeMillis();
+        when(hashOperations.entries("presence:user:1")).thenReturn(Map.of(
+                "dead", "ONLINE:" + (now - 120_000),
+                "alive", "BACKGROUND:" + now));
+
+        // when
+        PresenceState presence = presenceService.getPresence(1L);
+
+        // then
+        assertThat(presence).isEqualTo(PresenceState.BACKGROUND);
+        verify(hashOperations).delete("presence:user:1", "dead");
+    }
+
+    @Test
+    void 모든_세션이_만료되면_오프라인() {
+        // given
+        when(hashOperations.entries("presence:user:1")).thenReturn(Map.of(
+                "dead", "ONLINE:" + (System.currentTimeMillis() - 120_000)));
+
+        // when & then
+        assertThat(presenceService.getPresence(1L)).isEqualTo(PresenceState.OFFLINE);
+    }
+}
@@ -0,0 +1,112 @@
+package com.poppy.domain.popupstore;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poppy.common.config.redis.DistributedLockService;
+import com.poppy.common.exception.BusinessException;
+import com.poppy.common.exception.ErrorCode;
+import com.poppy.common.pagination.CursorPage;
+import com.poppy.common.pagination.CursorRequest;
+import com.poppy.domain.popupStore.service.HomeFeedService;
+import com.poppy.domain.popupStore.service.PopupStoreService;
+import com.poppy.domain.storeCategory.repository.StoreCategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class HomeFeedServiceTest {
+    private static final String SNAPSHOT_KEY = "home-feed:snapshot";
+
+    @Mock
+    private PopupStoreService popupStoreService;
+    @Mock
+    private StoreCategoryRepository storeCategoryRepository;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+    @Mock
+    private DistributedLockService lockService;
+
+    private HomeFeedService homeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        homeFeedService = new HomeFeedService(
+                popupStoreService, storeCategoryRepository, redisTemplate, new ObjectMapper(), lockService);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(popupStoreService.getNewStores()).thenThrow(new BusinessException(ErrorCode.STORE_NOT_FOUND));
+        when(popupStoreService.getPopularPopupStores()).thenReturn(List.of());
+        when(popupStoreService.getDeadlinePopupStores()).thenReturn(List.of());
+        when(popupStoreService.getAllFuturePopupStores(any())).thenReturn(CursorPage.of(List.<PopupStoreRspDto>of(), CursorRequest.first(20), store -> null));
+        when(storeCategoryRepository.findAll()).thenReturn(List.of());
+    }
+
+    @Test
+    void 락을_잡은_노드가_스냅샷을_만들어_Redis에_저장() {
+        // given
+        when(lockService.tryLock(anyString(), anyLong(), anyLong())).thenReturn(true);
+
+        // when
+        homeFeedService.rebuild();
+
+        // then
+        HomeFeedService.Snapshot snapshot = homeFeedService.getSnapshot();
+        assertThat(new String(snapshot.getBody(), StandardCharsets.UTF_8))
+                .contains("\"newStores\":[]")
+                .contains("홈 피드 조회 성공");
+        verify(hashOperations).putAll(eq(SNAPSHOT_KEY), eq(Map.of(
+                "etag", snapshot.getEtag(),
+                "body", new String(snapshot.getBody(), StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void 내용이_같으면_ETag도_같음() {
+        // given
+        when(lockService.tryLock(anyString(), anyLong(), anyLong())).thenReturn(true);
+
+        // when
+        homeFeedService.rebuild();
+        String first = homeFeedService.getSnapshot().getEtag();
+        homeFeedService.rebuild();
+        String second = homeFeedService.getSnapshot().getEtag();
+
+        // then
+        assertThat(first).isEqualTo(second).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    void 다른_노드가_만든_스냅샷은_ETag가_바뀐_경우에만_본문을_받아옴() {
+        // given
+        when(hashOperations.get(SNAPSHOT_KEY, "etag")).thenReturn("\"v1\"");
+        when(hashOperations.multiGet(SNAPSHOT_KEY, List.of("etag", "body")))
+                .thenReturn(Arrays.asList("\"v1\"", "{\"code\":200}"));
+
+        // when
+        homeFeedService.syncFromRedis();
+        homeFeedService.syncFromRedis();
+
+        // then
+        HomeFeedService.Snapshot snapshot = homeFeedService.getSnapshot();
+        assertThat(snapshot.getEtag()).isEqualTo("\"v1\"");
+        assertThat(new String(snapshot.getBody(), StandardCharsets.UTF_8)).isEqualTo("{\"code\":200}");
+        verify(hashOperations, times(1)).multiGet(anyString(), anyCollection());
+        verifyNoInteractions(popupStoreService);
+    }
+}
@@ -0,0 +1,79 @@
+package com.poppy.domain.popupstore;
+
+import com.poppy.common.config.redis.DistributedLockService;
+import com.poppy.domain.popupStore.service.PopularStoreRankingService;
+import com.poppy.domain.storeCategory.entity.StoreCategory;
+import com.poppy.domain.storeCategory.repository.StoreCategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.invocation.Invocation;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopularStoreRankingServiceTest {
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private StoreCategoryRepository storeCategoryRepository;
+    @Mock
+    private DistributedLockService lockService;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @InjectMocks
+    private PopularStoreRankingService popularStoreRankingService;
+
+    @Test
+    void 현재_순위에서_조회수_순으로_id_반환() {
+        // given
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.reverseRange("popular:stores:current", 0, 9))
+                .thenReturn(new LinkedHashSet<>(List.of("3", "1", "2")));
+
+        // when
+        List<Long> ids = popularStoreRankingService.getPopularStoreIds(10);
+
+        // then
+        assertThat(ids).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 전체와_카테고리별로_최근_3시간_버킷을_합산() {
+        // given
+        StoreCategory category = StoreCategory.builder().id(7L).name("패션").build();
+        when(lockService.tryLock(anyString(), anyLong(), anyLong())).thenReturn(true);
+        when(storeCategoryRepository.findAll()).thenReturn(List.of(category));
+
+        // when
+        popularStoreRankingService.refreshRankings();
+
+        // then
+        List<Invocation> executions = mockingDetails(redisTemplate).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("execute"))
+                .toList();
+        assertThat(executions).hasSize(2);
+
+        List<String> globalKeys = (List<String>) executions.get(0).getRawArguments()[1];
+        assertThat(globalKeys).hasSize(18 + 2);
+        assertThat(globalKeys.get(0)).isEqualTo("popular:stores:current");
+        assertThat(globalKeys.subList(2, globalKeys.size())).allMatch(key -> key.startsWith("popular:stores:bucket:"));
+
+        List<String> categoryKeys = (List<String>) executions.get(1).getRawArguments()[1];
+        assertThat(categoryKeys.get(0)).isEqualTo("popular:stores:category:7:current");
+        assertThat(categoryKeys.get(2)).startsWith("popular:stores:category:7:bucket:");
+        verify(lockService).unlock(anyString());
+    }
+}
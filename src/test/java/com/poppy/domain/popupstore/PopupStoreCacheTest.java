@@ -0,0 +1,170 @@
+package com.poppy.domain.popupstore;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poppy.common.entity.Images;
+import com.poppy.common.exception.BusinessException;
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.entity.ReservationType;
+import com.poppy.domain.popupStore.event.PopupStoreChangedEvent;
+import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import com.poppy.domain.popupStore.service.PopupStoreCache;
+import com.poppy.domain.storeCategory.entity.StoreCategory;
+import com.poppy.domain.user.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PopupStoreCacheTest {
+    private static final String KEY = "popup-store:detail:1";
+
+    @Mock
+    private PopupStoreRepository popupStoreRepository;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private PopupStoreCache popupStoreCache;
+    private PopupStore store;
+
+    @BeforeEach
+    void setUp() {
+        popupStoreCache = new PopupStoreCache(popupStoreRepository, redisTemplate, objectMapper, new SimpleMeterRegistry());
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        store = PopupStore.builder()
+                .id(1L)
+                .name("테스트 팝업")
+                .location("서울")
+                .address("서울시 강남구")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(10))
+                .openingTime(LocalTime.of(10, 0))
+                .closingTime(LocalTime.of(20, 0))
+                .availableSlot(100)
+                .isActive(true)
+                .isEnd(false)
+                .storeCategory(StoreCategory.builder().id(3L).name("패션").build())
+                .masterUser(User.builder().id(7L).build())
+                .reservationType(ReservationType.ONLINE)
+                .images(new ArrayList<>())
+                .build();
+        store.getImages().add(Images.builder()
+                .originName("test.jpg")
+                .storedName("stored-test.jpg")
+                .uploadUrl("https://test-url.com/test.jpg")
+                .build());
+    }
+
+    @Test
+    void 캐시에_없으면_DB에서_적재해_Redis에_저장하고_이후에는_로컬_캐시_사용() {
+        // given
+        when(valueOperations.get(KEY)).thenReturn(null);
+        when(popupStoreRepository.findDetailById(1L)).thenReturn(Optional.of(store));
+
+        // when
+        PopupStoreCache.Entry first = popupStoreCache.get(1L);
+        PopupStoreCache.Entry second = popupStoreCache.get(1L);
+
+        // then
+        assertThat(first.getCategoryId()).isEqualTo(3L);
+        assertThat(first.getMasterUserId()).isEqualTo(7L);
+        assertThat(first.getDetail().getImageUrls()).containsExactly("https://test-url.com/test.jpg");
+        assertThat(second).isSameAs(first);
+        verify(popupStoreRepository, times(1)).findDetailById(1L);
+        verify(valueOperations, times(1)).set(eq(KEY), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void Redis에_있으면_DB를_조회하지_않음() throws Exception {
+        // given
+        String json = objectMapper.writeValueAsString(PopupStoreCache.Entry.of(store));
+        when(valueOperations.get(KEY)).thenReturn(json);
+
+        // when
+        PopupStoreCache.Entry entry = popupStoreCache.get(1L);
+
+        // then
+        assertThat(entry.getName()).isEqualTo("테스트 팝업");
+        assertThat(entry.getEndDate()).isEqualTo(store.getEndDate());
+        assertThat(entry.getDetail().getCategoryName()).isEqualTo("패션");
+        assertThat(entry.getDetail().getOpeningTime().getHour()).isEqualTo(10);
+        verify(popupStoreRepository, never()).findDetailById(any());
+    }
+
+    @Test
+    void 없는_스토어는_예외가_발생하고_캐시하지_않음() {
+        // given
+        when(popupStoreRepository.findDetailById(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> popupStoreCache.get(1L)).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> popupStoreCache.get(1L)).isInstanceOf(BusinessException.class);
+        verify(popupStoreRepository, times(2)).findDetailById(1L);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void 변경_이벤트를_받으면_로컬과_Redis_캐시를_모두_제거() {
+        // given
+        when(popupStoreRepository.findDetailById(1L)).thenReturn(Optional.of(store));
+        popupStoreCache.get(1L);
+
+        // when
+        popupStoreCache.onStoreChanged(new PopupStoreChangedEvent(1L, PopupStoreChangedEvent.Type.STATS_UPDATED));
+        popupStoreCache.get(1L);
+
+        // then
+        verify(redisTemplate).delete(KEY);
+        verify(popupStoreRepository, times(2)).findDetailById(1L);
+    }
+
+    @Test
+    void 동시에_요청해도_DB_적재는_한_번만_수행() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        when(popupStoreRepository.findDetailById(1L)).thenAnswer(invocation -> {
+            loading.await(1, TimeUnit.SECONDS);
+            return Optional.of(store);
+        });
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<PopupStoreCache.Entry>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threads; i++) results.add(executor.submit(() -> popupStoreCache.get(1L)));
+        Thread.sleep(100);
+        loading.countDown();
+
+        // then
+        for (Future<PopupStoreCache.Entry> result : results) {
+            assertThat(result.get(2, TimeUnit.SECONDS).getId()).isEqualTo(1L);
+        }
+        executor.shutdown();
+        verify(popupStoreRepository, times(1)).findDetailById(1L);
+    }
+}
@@ -2,12 +2,20 @@ package com.poppy.domain.popupstore;
 
 import com.poppy.common.entity.Images;
 import com.poppy.common.exception.BusinessException;
+import com.poppy.common.exception.ErrorCode;
+import com.poppy.common.pagination.Cursor;
+import com.poppy.common.pagination.CursorPage;
+import com.poppy.common.pagination.CursorRequest;
 import com.poppy.domain.popupStore.dto.response.PopupStoreRspDto;
+import com.poppy.domain.popupStore.dto.response.PopupStoreSummaryDto;
 import com.poppy.domain.popupStore.entity.PopupStore;
 import com.poppy.domain.popupStore.entity.ReservationType;
 import com.poppy.domain.popupStore.repository.PopupStoreRepository;
-import com.poppy.domain.popupStore.repository.PopupStoreViewRepository;
+import com.poppy.domain.popupStore.service.PopularStoreRankingService;
+import com.poppy.domain.popupStore.service.PopupStoreCache;
 import com.poppy.domain.popupStore.service.PopupStoreService;
+import com.poppy.domain.popupStore.service.PopupStoreViewBuffer;
+import com.poppy.domain.popupStore.service.SimilarStoreService;
 import com.poppy.domain.storeCategory.entity.StoreCategory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,8 +25,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
@@ -31,6 +37,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,7 +46,13 @@ class PopupStoreServiceTest {
     @Mock
     private PopupStoreRepository popupStoreRepository;
     @Mock
-    private PopupStoreViewRepository popupStoreViewRepository;
+    private PopupStoreViewBuffer popupStoreViewBuffer;
+    @Mock
+    private PopularStoreRankingService popularStoreRankingService;
+    @Mock
+    private PopupStoreCache popupStoreCache;
+    @Mock
+    private SimilarStoreService similarStoreService;
 
     @InjectMocks
     private PopupStoreService popupStoreService;
@@ -105,18 +119,33 @@ class PopupStoreServiceTest {
         store2.getImages().add(testImage2);
     }
 
+    // 목록 조회 프로젝션 결과 (대표 이미지는 첫 번째 이미지)
+    private PopupStoreSummaryDto summaryOf(PopupStore store) {
+        return new PopupStoreSummaryDto(
+                store.getId(), store.getName(), store.getDescription(), store.getLocation(), store.getAddress(),
+                store.getStartDate(), store.getEndDate(), store.getOpeningTime(), store.getClosingTime(),
+                store.getAvailableSlot(), store.getIsActive(), store.getIsEnd(), store.getRating(),
+                store.getStoreCategory().getName(), store.getReservationType(),
+                store.getImages().get(0).getUploadUrl(), store.getPrice(),
+                store.getHomepageUrl(), store.getInstagramUrl(), store.getBlogUrl(),
+                store.getScrapCount(), false, 0L, 0);
+    }
+
     @Nested
     @DisplayName("팝업스토어 목록 조회 테스트")
     class GetAllActiveStoresTest {
         @Test
         void 활성화된_모든_팝업스토어_조회_성공() {
             // given
-            when(popupStoreRepository.findAllActive()).thenReturn(Arrays.asList(store1, store2));
+            when(popupStoreRepository.findAllActive(any())).thenReturn(Arrays.asList(summaryOf(store1), summaryOf(store2)));
 
             // when
-            List<PopupStoreRspDto> result = popupStoreService.getAllActiveStores();
+            CursorPage<PopupStoreRspDto> page = popupStoreService.getAllActiveStores(CursorRequest.of(null, null));
+            List<PopupStoreRspDto> result = page.getContent();
 
             // then
+            assertThat(page.isHasNext()).isFalse();
+            assertThat(page.getNextCursor()).isNull();
             assertThat(result).hasSize(2);
             assertThat(result.get(0).getName()).isEqualTo("테스트 팝업 1");
             assertThat(result.get(0).getThumbnailUrl()).isEqualTo("https://test-url.com/test1.jpg");
@@ -134,8 +163,8 @@ class PopupStoreServiceTest {
         @Test
         void 팝업스토어_상세_조회_성공() {
             // given
-            when(popupStoreRepository.findById(1L)).thenReturn(Optional.of(store1));
-            when(popupStoreViewRepository.save(any())).thenReturn(null);
+            when(popupStoreCache.get(1L)).thenReturn(new PopupStoreCache.Entry(
+                    1L, 1L, 1L, store1.getName(), store1.getStartDate(), store1.getEndDate(), PopupStoreRspDto.from(store1)));
 
             // when
             PopupStoreRspDto result = popupStoreService.getPopupStore(1L);
@@ -145,13 +174,15 @@ class PopupStoreServiceTest {
             assertThat(result.getName()).isEqualTo("테스트 팝업 1");
             assertThat(result.getImageUrls()).isNotEmpty();  // 이미지 URL 확인
             assertThat(result.getImageUrls().get(0)).isEqualTo("https://test-url.com/test1.jpg");
-            verify(popupStoreViewRepository, times(1)).save(any());
+            assertThat(result.getIsScraped()).isFalse();
+            verify(popupStoreViewBuffer, times(1)).record(1L, 1L, null);
+            verify(popupStoreRepository, never()).findById(any());
         }
 
         @Test
         void 존재하지_않는_팝업스토어_조회시_예외_발생() {
             // given
-            when(popupStoreRepository.findById(999L)).thenReturn(Optional.empty());
+            when(popupStoreCache.get(999L)).thenThrow(new BusinessException(ErrorCode.STORE_NOT_FOUND));
 
             // when & then
             assertThatThrownBy(() -> popupStoreService.getPopupStore(999L))
@@ -166,13 +197,8 @@ class PopupStoreServiceTest {
         @Test
         void 인기_팝업스토어_조회_성공() {
             // given
-            Object[] result1 = new Object[]{1L, 100L};
-            Object[] result2 = new Object[]{2L, 80L};
-            List<Object[]> resultList = Arrays.asList(result1, result2);
-            Page<Object[]> pageResult = new PageImpl<>(resultList);
-
-            when(popupStoreViewRepository.findPopularPopupStores(any(), any())).thenReturn(pageResult);
-            when(popupStoreRepository.findAllById(any())).thenReturn(Arrays.asList(store1, store2));
+            when(popularStoreRankingService.getPopularStoreIds(10)).thenReturn(List.of(1L, 2L));
+            when(popupStoreRepository.findSummariesByIds(any())).thenReturn(Arrays.asList(summaryOf(store2), summaryOf(store1)));
 
             // when
             List<PopupStoreRspDto> result = popupStoreService.getPopularPopupStores();
@@ -183,7 +209,70 @@ class PopupStoreServiceTest {
             assertThat(result.get(0).getImageUrls()).containsExactly("https://test-url.com/test1.jpg");
             assertThat(result.get(1).getThumbnailUrl()).isEqualTo("https://test-url.com/test2.jpg");
             assertThat(result.get(1).getImageUrls()).containsExactly("https://test-url.com/test2.jpg");
-            verify(popupStoreViewRepository).findPopularPopupStores(any(), any());
+            verify(popularStoreRankingService).getPopularStoreIds(10);
+        }
+    }
+
+    @Nested
+    @DisplayName("마감 임박 팝업스토어 조회 테스트")
+    class GetDeadlinePopupStoresTest {
+        @Test
+        void 프로젝션으로_최대_10개만_조회() {
+            // given
+            when(popupStoreRepository.findDeadlineStores(10)).thenReturn(List.of(summaryOf(store2), summaryOf(store1)));
+
+            // when
+            List<PopupStoreRspDto> result = popupStoreService.getDeadlinePopupStores();
+
+            // then
+            assertThat(result).extracting(PopupStoreRspDto::getId).containsExactly(2L, 1L);
+            verify(popupStoreRepository).findDeadlineStores(10);
+        }
+    }
+
+    @Nested
+    @DisplayName("비슷한 팝업스토어 조회 테스트")
+    class GetSimilarStoreTest {
+        @Test
+        void 미리_계산된_이웃_순서대로_조회() {
+            // given
+            when(similarStoreService.getSimilarStoreIds(1L, 5)).thenReturn(Optional.of(List.of(2L, 1L)));
+            when(popupStoreRepository.findSummariesByIds(any())).thenReturn(Arrays.asList(summaryOf(store1), summaryOf(store2)));
+
+            // when
+            List<PopupStoreRspDto> result = popupStoreService.getSimilarStore(1L);
+
+            // then
+            assertThat(result).extracting(PopupStoreRspDto::getId).containsExactly(2L, 1L);
+            verify(popupStoreCache).get(1L);
+            verify(popupStoreRepository, never()).findSameCategoryStoreIds(any(), any(), any(), any());
+        }
+
+        @Test
+        void 이웃_목록이_아직_없으면_같은_카테고리_스토어로_대신_응답() {
+            // given
+            when(popupStoreCache.get(1L)).thenReturn(new PopupStoreCache.Entry(
+                    1L, 7L, 1L, store1.getName(), store1.getStartDate(), store1.getEndDate(), PopupStoreRspDto.from(store1)));
+            when(similarStoreService.getSimilarStoreIds(1L, 5)).thenReturn(Optional.empty());
+            when(popupStoreRepository.findSameCategoryStoreIds(eq(7L), eq(1L), any(), any())).thenReturn(List.of(2L));
+            when(popupStoreRepository.findSummariesByIds(List.of(2L))).thenReturn(List.of(summaryOf(store2)));
+
+            // when
+            List<PopupStoreRspDto> result = popupStoreService.getSimilarStore(1L);
+
+            // then
+            assertThat(result).extracting(PopupStoreRspDto::getId).containsExactly(2L);
+        }
+
+        @Test
+        void 존재하지_않는_팝업스토어면_예외_발생() {
+            // given
+            when(popupStoreCache.get(99L)).thenThrow(new BusinessException(ErrorCode.STORE_NOT_FOUND));
+
+            // when & then
+            assertThatThrownBy(() -> popupStoreService.getSimilarStore(99L))
+                    .isInstanceOf(BusinessException.class);
+            verify(similarStoreService, never()).getSimilarStoreIds(any(), anyInt());
         }
     }
 
@@ -193,11 +282,11 @@ class PopupStoreServiceTest {
         @Test
         void 오픈_예정_팝업스토어_조회_성공() {
             // given
-            when(popupStoreRepository.findAllFuturePopupStores(any()))
-                    .thenReturn(Arrays.asList(store1, store2));
+            when(popupStoreRepository.findAllFuturePopupStores(any(), any()))
+                    .thenReturn(Arrays.asList(summaryOf(store1), summaryOf(store2)));
 
             // when
-            List<PopupStoreRspDto> result = popupStoreService.getAllFuturePopupStores();
+            List<PopupStoreRspDto> result = popupStoreService.getAllFuturePopupStores(CursorRequest.of(null, null)).getContent();
 
             // then
             assertThat(result).hasSize(2);
@@ -208,7 +297,25 @@ class PopupStoreServiceTest {
             assertThat(result.get(1).getName()).isEqualTo("테스트 팝업 2");
             assertThat(result.get(1).getThumbnailUrl()).isEqualTo("https://test-url.com/test2.jpg");
             assertThat(result.get(1).getImageUrls()).containsExactly("https://test-url.com/test2.jpg");
-            verify(popupStoreRepository).findAllFuturePopupStores(any());
+            verify(popupStoreRepository).findAllFuturePopupStores(any(), any());
+        }
+
+        @Test
+        void 요청한_개수보다_많이_조회되면_다음_페이지_커서_반환() {
+            // given (size + 1개 조회)
+            when(popupStoreRepository.findAllFuturePopupStores(any(), any()))
+                    .thenReturn(Arrays.asList(summaryOf(store1), summaryOf(store2)));
+
+            // when
+            CursorPage<PopupStoreRspDto> page = popupStoreService.getAllFuturePopupStores(CursorRequest.of(null, 1));
+
+            // then
+            assertThat(page.getContent()).extracting(PopupStoreRspDto::getId).containsExactly(1L);
+            assertThat(page.isHasNext()).isTrue();
+
+            Cursor next = Cursor.decode(page.getNextCursor());
+            assertThat(next.getId()).isEqualTo(1L);
+            assertThat(next.sortKeyAsDate()).isEqualTo(store1.getStartDate());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.poppy.domain.popupstore;
+
+import com.poppy.domain.popupStore.event.PopupStoreViewEvent;
+import com.poppy.domain.popupStore.repository.PopupStoreViewJdbcRepository;
+import com.poppy.domain.popupStore.service.PopularStoreRankingService;
+import com.poppy.domain.popupStore.service.PopupStoreViewBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopupStoreViewBufferTest {
+    @Mock
+    private PopupStoreViewJdbcRepository popupStoreViewJdbcRepository;
+    @Mock
+    private PopularStoreRankingService popularStoreRankingService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PopupStoreViewBuffer viewBuffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        viewBuffer = new PopupStoreViewBuffer(popupStoreViewJdbcRepository, popularStoreRankingService, meterRegistry);
+    }
+
+    @Test
+    void 플러시하면_모아둔_조회를_한번에_저장하고_순위에_반영() {
+        // given
+        viewBuffer.record(1L, 10L, 100L);
+        viewBuffer.record(2L, 20L, null);
+
+        // when
+        viewBuffer.flush();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PopupStoreViewEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(popupStoreViewJdbcRepository).batchInsert(captor.capture());
+        assertThat(captor.getValue()).extracting(PopupStoreViewEvent::getStoreId).containsExactly(1L, 2L);
+        verify(popularStoreRankingService).incrementViews(captor.getValue());
+        assertThat(meterRegistry.counter("store.views.flushed").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void 저장에_실패하면_순위에_반영하지_않고_다음_플러시에서_다시_저장() {
+        // given
+        viewBuffer.record(1L, 10L, 100L);
+        doThrow(new RuntimeException("db down")).doNothing()
+                .when(popupStoreViewJdbcRepository).batchInsert(anyList());
+
+        // when
+        viewBuffer.flush();
+        viewBuffer.flush();
+
+        // then
+        verify(popupStoreViewJdbcRepository, times(2)).batchInsert(anyList());
+        verify(popularStoreRankingService, times(1)).incrementViews(anyList());
+        assertThat(meterRegistry.counter("store.views.dropped").count()).isZero();
+    }
+
+    @Test
+    void 버퍼가_비어_있으면_저장하지_않음() {
+        // when
+        viewBuffer.flush();
+
+        // then
+        verifyNoInteractions(popupStoreViewJdbcRepository, popularStoreRankingService);
+    }
+}
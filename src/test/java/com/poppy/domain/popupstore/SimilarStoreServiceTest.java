@@ -0,0 +1,206 @@
+package com.poppy.domain.popupstore;
+
+import com.poppy.common.config.redis.DistributedLockService;
+import com.poppy.domain.popupStore.event.PopupStoreChangedEvent;
+import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import com.poppy.domain.popupStore.repository.PopupStoreViewRepository;
+import com.poppy.domain.popupStore.service.SimilarStoreService;
+import com.poppy.domain.scrap.repository.ScrapRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SimilarStoreServiceTest {
+    private static final String DIRTY_KEY = "popup-store:similar:dirty";
+    private static final String PROCESSING_KEY = "popup-store:similar:processing";
+
+    @Mock
+    private PopupStoreRepository popupStoreRepository;
+    @Mock
+    private PopupStoreViewRepository popupStoreViewRepository;
+    @Mock
+    private ScrapRepository scrapRepository;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private DistributedLockService lockService;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    private SimilarStoreService similarStoreService;
+
+    @BeforeEach
+    void setUp() {
+        similarStoreService = new SimilarStoreService(popupStoreRepository, popupStoreViewRepository, scrapRepository,
+                redisTemplate, lockService, new SimpleMeterRegistry());
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(lockService.tryLock(anyString(), anyLong(), anyLong())).thenReturn(true);
+    }
+
+    @Test
+    void 저장된_이웃_목록을_순서대로_요청한_개수만큼_반환() {
+        // given
+        when(valueOperations.get("popup-store:similar:1")).thenReturn("5,3,9,2");
+
+        // when
+        Optional<List<Long>> ids = similarStoreService.getSimilarStoreIds(1L, 3);
+
+        // then
+        assertThat(ids).hasValue(List.of(5L, 3L, 9L));
+    }
+
+    @Test
+    void 아직_계산되지_않았으면_empty를_반환하고_갱신_대기에_쓰지_않음() {
+        // given
+        when(valueOperations.get("popup-store:similar:1")).thenReturn(null);
+
+        // when
+        Optional<List<Long>> ids = similarStoreService.getSimilarStoreIds(1L, 5);
+
+        // then
+        assertThat(ids).isEmpty();
+        verifyNoInteractions(setOperations);
+    }
+
+    @Test
+    void 카테고리_위치_가격대와_함께_스크랩한_유저_수로_이웃_순위_계산() {
+        // given
+        claim("1");
+        when(popupStoreRepository.findSimilarityFeatures(any())).thenReturn(List.of(
+                new Object[]{1L, 1L, "성수", 37.5445, 127.0560, 15_000L, 4.0},
+                new Object[]{2L, 1L, "성수", 37.5450, 127.0570, 12_000L, 3.0},   // 같은 카테고리, 근처, 같은 가격대
+                new Object[]{3L, 2L, "부산", 35.1587, 129.1604, null, 5.0},      // 함께 스크랩한 유저가 많음
+                new Object[]{4L, 2L, "부산", 35.1590, 129.1610, 60_000L, 5.0}    // 공통점 없음
+        ));
+        when(popupStoreViewRepository.countCoViewers(eq(List.of(1L)), any(), any())).thenReturn(List.of());
+        when(scrapRepository.countCoScrappers(eq(List.of(1L)), any())).thenReturn(List.<Object[]>of(new Object[]{1L, 3L, 5L}));
+
+        // when
+        similarStoreService.refreshDirty();
+
+        // then
+        ValueOperations<String, String> pipelined = runPipeline();
+        verify(pipelined).set("popup-store:similar:1", "2,3", Duration.ofDays(2));
+
+        // 목록을 저장한 뒤에만 계산 중 집합을 삭제
+        InOrder inOrder = inOrder(redisTemplate);
+        inOrder.verify(redisTemplate).executePipelined(any(SessionCallback.class));
+        inOrder.verify(redisTemplate).delete(PROCESSING_KEY);
+    }
+
+    @Test
+    void 저장에_실패하면_계산_중_집합에_남겨_다음_실행에서_다시_계산() {
+        // given
+        claim("1");
+        when(popupStoreRepository.findSimilarityFeatures(any())).thenReturn(List.<Object[]>of(
+                new Object[]{1L, 1L, "성수", null, null, null, 0.0}
+        ));
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        similarStoreService.refreshDirty();
+
+        // then
+        verify(redisTemplate, never()).delete(PROCESSING_KEY);
+        verify(lockService).unlock("similar-store-refresh-lock");
+    }
+
+    @Test
+    void 종료된_스토어는_빈_목록으로_저장() {
+        // given
+        claim("7");
+        when(popupStoreRepository.findSimilarityFeatures(any())).thenReturn(List.<Object[]>of(
+                new Object[]{1L, 1L, "성수", null, null, null, 0.0}
+        ));
+
+        // when
+        similarStoreService.refreshDirty();
+
+        // then
+        ValueOperations<String, String> pipelined = runPipeline();
+        verify(pipelined).set("popup-store:similar:7", "", Duration.ofDays(2));
+        verify(scrapRepository, never()).countCoScrappers(any(), any());
+    }
+
+    @Test
+    void 수정_이벤트를_받으면_재사용_중인_후보_특성을_다시_읽음() {
+        // given (첫 계산에서 후보 특성을 읽어 둠)
+        claim("1");
+        when(popupStoreRepository.findSimilarityFeatures(any())).thenReturn(List.<Object[]>of(
+                new Object[]{1L, 1L, "성수", null, null, null, 0.0},
+                new Object[]{2L, 1L, "성수", null, null, null, 0.0}
+        ));
+        similarStoreService.refreshDirty();
+
+        // when (2번 스토어의 카테고리가 바뀐 뒤 다시 계산)
+        similarStoreService.onStoreChanged(new PopupStoreChangedEvent(2L, PopupStoreChangedEvent.Type.UPDATED));
+        similarStoreService.refreshDirty();
+
+        // then
+        verify(popupStoreRepository, times(2)).findSimilarityFeatures(any());
+    }
+
+    @Test
+    void 수정_이벤트가_없으면_후보_특성을_재사용() {
+        // given
+        claim("1");
+        when(popupStoreRepository.findSimilarityFeatures(any())).thenReturn(List.<Object[]>of(
+                new Object[]{1L, 1L, "성수", null, null, null, 0.0}
+        ));
+
+        // when
+        similarStoreService.refreshDirty();
+        similarStoreService.refreshDirty();
+
+        // then
+        verify(popupStoreRepository, times(1)).findSimilarityFeatures(any());
+    }
+
+    // 갱신 대기에서 꺼낸(또는 이전 실행에서 남은) 계산 대상
+    @SuppressWarnings("unchecked")
+    private void claim(String... storeIds) {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(DIRTY_KEY, PROCESSING_KEY)), any(Object[].class)))
+                .thenReturn(List.of((Object[]) storeIds));
+    }
+
+    // 파이프라인 콜백을 mock 커넥션에서 실행해 기록된 명령을 확인
+    @SuppressWarnings("unchecked")
+    private ValueOperations<String, String> runPipeline() {
+        ArgumentCaptor<SessionCallback<Object>> callback = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate).executePipelined(callback.capture());
+
+        RedisOperations<String, String> operations = mock(RedisOperations.class);
+        ValueOperations<String, String> pipelined = mock(ValueOperations.class);
+        when(operations.opsForValue()).thenReturn(pipelined);
+        callback.getValue().execute(operations);
+        return pipelined;
+    }
+}
@@ -0,0 +1,73 @@
+package com.poppy.domain.popupstore;
+
+import com.poppy.common.geo.GeoPoint;
+import com.poppy.common.geo.Geocoder;
+import com.poppy.common.job.DelayedJobQueue;
+import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import com.poppy.domain.popupStore.service.StoreCoordinateBackfillService;
+import com.poppy.domain.popupStore.service.StoreGeoIndexService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoreCoordinateBackfillServiceTest {
+    @Mock
+    private DelayedJobQueue delayedJobQueue;
+    @Mock
+    private PopupStoreRepository popupStoreRepository;
+    @Mock
+    private Geocoder geocoder;
+    @Mock
+    private StoreGeoIndexService storeGeoIndexService;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private StoreCoordinateBackfillService backfillService;
+
+    @Test
+    void 위치_인덱스를_재구성하지_못하면_완료_표시_없이_실패() {
+        // given (다른 노드가 재구성 중)
+        when(geocoder.isEnabled()).thenReturn(true);
+        when(popupStoreRepository.findCoordinateBackfillTargets(any(), eq(0L), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, "서울 성동구 연무장길 10"}));
+        when(geocoder.geocode("서울 성동구 연무장길 10")).thenReturn(Optional.of(new GeoPoint(37.56, 127.03)));
+        when(storeGeoIndexService.rebuild()).thenReturn(false);
+
+        // when & then (지연 작업이 재시도하도록 예외)
+        assertThatThrownBy(() -> backfillService.handle(""))
+                .isInstanceOf(IllegalStateException.class);
+        verify(popupStoreRepository).updateCoordinates(1L, 37.56, 127.03);
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    void 지오코딩_제공자가_없으면_실행하지_않고_완료_표시도_남기지_않음() {
+        // given
+        when(geocoder.isEnabled()).thenReturn(false);
+
+        // when
+        backfillService.scheduleOnStartup();
+        backfillService.handle("");
+
+        // then
+        verify(delayedJobQueue, never()).scheduleIfAbsent(any(), any(), any(), any());
+        verify(popupStoreRepository, never()).findCoordinateBackfillTargets(any(), anyLong(), any());
+        verify(popupStoreRepository, never()).updateCoordinates(anyLong(), any(), any());
+        verify(redisTemplate, never()).opsForValue();
+    }
+}
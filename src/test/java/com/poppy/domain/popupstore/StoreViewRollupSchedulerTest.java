@@ -0,0 +1,93 @@
+package com.poppy.domain.popupstore;
+
+import com.poppy.common.config.redis.DistributedLockService;
+import com.poppy.domain.popupStore.repository.PopupStoreViewRepository;
+import com.poppy.domain.popupStore.repository.StoreViewHourlyRepository;
+import com.poppy.domain.popupStore.service.StoreViewRollupScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoreViewRollupSchedulerTest {
+    @Mock
+    private PopupStoreViewRepository popupStoreViewRepository;
+    @Mock
+    private StoreViewHourlyRepository storeViewHourlyRepository;
+    @Mock
+    private DistributedLockService lockService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StoreViewRollupScheduler storeViewRollupScheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        storeViewRollupScheduler = new StoreViewRollupScheduler(
+                popupStoreViewRepository, storeViewHourlyRepository, lockService, meterRegistry);
+    }
+
+    @Test
+    void 락_획득_실패시_실행되지_않음() {
+        // given
+        when(lockService.tryLock(anyString(), anyLong(), anyLong())).thenReturn(false);
+
+        // when
+        storeViewRollupScheduler.rollupAndPurge();
+
+        // then
+        verifyNoInteractions(popupStoreViewRepository, storeViewHourlyRepository);
+    }
+
+    @Test
+    void 마지막_집계_이후_끝난_시간_구간만_집계후_보관_기간_지난_원본_삭제() {
+        // given
+        LocalDateTime latestHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(3);
+        when(lockService.tryLock(anyString(), anyLong(), anyLong())).thenReturn(true);
+        when(storeViewHourlyRepository.findLatestHour()).thenReturn(latestHour);
+        when(popupStoreViewRepository.deleteViewedBefore(any(), eq(5000))).thenReturn(5000, 10);
+
+        // when
+        storeViewRollupScheduler.rollupAndPurge();
+
+        // then
+        ArgumentCaptor<LocalDateTime> hourStarts = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(storeViewHourlyRepository, atLeast(2)).rollupHour(hourStarts.capture(), any());
+        List<LocalDateTime> rolledHours = hourStarts.getAllValues();
+        assertThat(rolledHours.get(0)).isEqualTo(latestHour.plusHours(1));
+        assertThat(rolledHours.get(1)).isEqualTo(latestHour.plusHours(2));
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(popupStoreViewRepository, times(2)).deleteViewedBefore(cutoff.capture(), eq(5000));
+        assertThat(cutoff.getValue()).isBefore(LocalDateTime.now().minusDays(29));
+        assertThat(meterRegistry.counter("store.views.purged").count()).isEqualTo(5010.0);
+        verify(lockService).unlock(DistributedLockService.STORE_VIEW_ROLLUP_LOCK);
+    }
+
+    @Test
+    void 조회_기록이_없으면_집계와_삭제_모두_건너뜀() {
+        // given
+        when(lockService.tryLock(anyString(), anyLong(), anyLong())).thenReturn(true);
+        when(storeViewHourlyRepository.findLatestHour()).thenReturn(null);
+        when(popupStoreViewRepository.findOldestViewedAt()).thenReturn(null);
+
+        // when
+        storeViewRollupScheduler.rollupAndPurge();
+
+        // then
+        verify(storeViewHourlyRepository, never()).rollupHour(any(), any());
+        verify(popupStoreViewRepository, never()).deleteViewedBefore(any(), anyInt());
+    }
+}
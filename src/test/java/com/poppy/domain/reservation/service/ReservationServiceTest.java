@@ -66,6 +66,8 @@ class ReservationServiceTest {
     @Mock
     private LoginUserProvider loginUserProvider;
     @Mock
+    private ReservationReminderService reservationReminderService;
+    @Mock
     private RLock rLock;
 
     private Long storeId;
@@ -90,7 +92,8 @@ class ReservationServiceTest {
                 asyncRedisSlotDecrementService,
                 paymentService,
                 notificationService,
-                loginUserProvider
+                loginUserProvider,
+                reservationReminderService
         );
 
         // 기본 값 설정
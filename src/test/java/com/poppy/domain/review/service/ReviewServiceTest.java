@@ -7,6 +7,7 @@ import com.poppy.common.service.ImageService;
 import com.poppy.domain.likes.entity.ReviewLike;
 import com.poppy.domain.likes.repository.ReviewLikeRepository;
 import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.event.PopupStoreEventPublisher;
 import com.poppy.domain.popupStore.repository.PopupStoreRepository;
 import com.poppy.domain.review.entity.ReviewSortType;
 import com.poppy.domain.review.dto.request.ReviewReqDto;
@@ -60,6 +61,8 @@ class ReviewServiceTest {
     private ImageService imageService;
     @Mock
     private RedissonClient redissonClient;
+    @Mock
+    private PopupStoreEventPublisher popupStoreEventPublisher;
 
     private User testUser;
     private PopupStore testStore;
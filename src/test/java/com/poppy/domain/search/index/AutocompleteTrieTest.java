@@ -0,0 +1,97 @@
+package com.poppy.domain.search.index;
+
+import com.poppy.domain.search.dto.response.AutocompleteRspDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutocompleteTrieTest {
+    private AutocompleteTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new AutocompleteTrie(3);
+        trie.add(store(1L, "포피 성수 팝업스토어", 100L));
+        trie.add(store(2L, "포켓몬 팝업", 200L));
+        trie.add(store(3L, "팝마트", 50L));
+        trie.add(new AutocompleteTrie.Suggestion("포피", AutocompleteRspDto.Type.KEYWORD, null, Long.MAX_VALUE));
+    }
+
+    @Test
+    void 접두어_가중치순_조회() {
+        // when & then
+        assertThat(trie.search("포", 10))
+                .extracting(AutocompleteTrie.Suggestion::getText)
+                .containsExactly("포피", "포켓몬 팝업", "포피 성수 팝업스토어");
+    }
+
+    @Test
+    void 초성으로_조회() {
+        // when & then
+        assertThat(trie.search("ㅍㅍ", 10))
+                .extracting(AutocompleteTrie.Suggestion::getText)
+                .containsExactly("포피", "포피 성수 팝업스토어");
+    }
+
+    @Test
+    void 완성형과_초성_혼합_조회() {
+        // when & then
+        assertThat(trie.search("포ㅋ", 10))
+                .extracting(AutocompleteTrie.Suggestion::getStoreId)
+                .containsExactly(2L);
+    }
+
+    @Test
+    void 노드별_상위개수와_limit_적용() {
+        // given
+        trie.add(store(4L, "포레스트", 300L));
+
+        // when & then
+        assertThat(trie.search("포", 10)).hasSize(3);
+        assertThat(trie.search("포", 2))
+                .extracting(AutocompleteTrie.Suggestion::getText)
+                .containsExactly("포피", "포레스트");
+    }
+
+    @Test
+    void 일치하는_접두어가_없으면_빈_목록() {
+        // when & then
+        assertThat(trie.search("없는", 10)).isEmpty();
+        assertThat(trie.search("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void 제거하면_빈_자리를_하위_노드로_다시_채움() {
+        // given (노드별 상위 3개라 "포피 성수 팝업스토어"는 "포" 노드에서 밀려남)
+        trie.add(store(4L, "포레스트", 300L));
+
+        // when
+        trie.remove(store(4L, "포레스트", 300L));
+
+        // then
+        assertThat(trie.search("포", 10))
+                .extracting(AutocompleteTrie.Suggestion::getText)
+                .containsExactly("포피", "포켓몬 팝업", "포피 성수 팝업스토어");
+        assertThat(trie.search("포레", 10)).isEmpty();
+    }
+
+    @Test
+    void 이름이_바뀐_스토어는_이전_이름으로_조회되지_않음() {
+        // when
+        trie.replace(store(2L, "포켓몬 팝업", 200L), store(2L, "피카츄 팝업", 200L));
+
+        // then
+        assertThat(trie.search("포켓", 10)).isEmpty();
+        assertThat(trie.search("피카", 10))
+                .extracting(AutocompleteTrie.Suggestion::getStoreId)
+                .containsExactly(2L);
+        assertThat(trie.search("ㅍ", 10))
+                .extracting(AutocompleteTrie.Suggestion::getText)
+                .containsExactly("포피", "피카츄 팝업", "포피 성수 팝업스토어", "팝마트");
+    }
+
+    private AutocompleteTrie.Suggestion store(Long id, String name, long weight) {
+        return new AutocompleteTrie.Suggestion(name, AutocompleteRspDto.Type.STORE, id, weight);
+    }
+}
@@ -0,0 +1,101 @@
+package com.poppy.domain.search.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSavingSketchTest {
+    @Test
+    void 고유_항목이_많아도_카운터_수는_고정() {
+        // given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(10);
+
+        // when
+        for (int i = 0; i < 10_000; i++) sketch.offer("bot-" + i, 1);
+
+        // then
+        assertThat(sketch.size()).isEqualTo(10);
+    }
+
+    @Test
+    void 고유_검색어_폭주_속에서도_빈도_상위_검색어_유지() {
+        // given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(20);
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            sketch.offer("bot-" + i, 1);
+            if (i % 5 == 0) sketch.offer("포피", 1);
+            if (i % 10 == 0) sketch.offer("성수", 1);
+        }
+
+        // then
+        assertThat(sketch.top(2))
+                .extracting(SpaceSavingSketch.HeavyHitter::getItem)
+                .containsExactly("포피", "성수");
+    }
+
+    @Test
+    void 내보내는_빈도는_물려받은_오차를_제외한_하한() {
+        // given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(1);
+        sketch.offer("a", 5);
+
+        // when
+        sketch.offer("b", 2);
+
+        // then
+        assertThat(sketch.top(10)).singleElement()
+                .satisfies(hitter -> {
+                    assertThat(hitter.getItem()).isEqualTo("b");
+                    assertThat(hitter.getCount()).isEqualTo(2L);
+                });
+    }
+
+    @Test
+    void 내보낸_이후의_증가분만_다시_조회() {
+        // given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(10);
+        sketch.offer("포피", 3);
+        sketch.markExported("포피", 3);
+
+        // when
+        sketch.offer("포피", 2);
+
+        // then
+        assertThat(sketch.pending(10)).singleElement()
+                .satisfies(hitter -> assertThat(hitter.getCount()).isEqualTo(2L));
+    }
+
+    @Test
+    void 내보냄_표시_전에는_같은_증가분을_다시_조회() {
+        // given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(10);
+        sketch.offer("포피", 3);
+
+        // when
+        sketch.pending(10);
+
+        // then
+        assertThat(sketch.pending(10)).singleElement()
+                .satisfies(hitter -> assertThat(hitter.getCount()).isEqualTo(3L));
+    }
+
+    @Test
+    void 감쇠하면_빈도가_줄고_0이_된_카운터는_제거() {
+        // given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(10);
+        sketch.offer("포피", 8);
+        sketch.offer("성수", 1);
+        sketch.markExported("포피", 8);
+
+        // when
+        sketch.decay(0.5);
+
+        // then
+        assertThat(sketch.size()).isEqualTo(1);
+        assertThat(sketch.top(10)).singleElement()
+                .satisfies(hitter -> assertThat(hitter.getCount()).isEqualTo(4L));
+        assertThat(sketch.pending(10)).isEmpty();
+    }
+}
@@ -0,0 +1,71 @@
+package com.poppy.domain.search.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoreFacetIndexTest {
+    private static final LocalDate TODAY = LocalDate.of(2024, 11, 20);
+
+    private StoreFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StoreFacetIndex(TODAY.minusDays(7), TODAY.plusDays(30));
+        index.put(entry(1L, 1L, "성수", 4.5, TODAY.minusDays(3), TODAY.plusDays(3), 100L));
+        index.put(entry(2L, 2L, "홍대", 3.2, TODAY, TODAY.plusDays(10), 200L));
+        index.put(entry(3L, 1L, "홍대", 4.0, TODAY.plusDays(5), TODAY.plusDays(60), 300L));
+        index.put(entry(4L, 3L, "강남", 0.0, TODAY.minusDays(30), TODAY.minusDays(10), 400L));
+    }
+
+    @Test
+    void 조건이_없으면_전체를_최신_등록순으로() {
+        // when & then
+        assertThat(index.search(null, null, null, null)).containsExactly(4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    void 카테고리와_지역은_각각_OR_조건끼리는_AND() {
+        // when & then
+        assertThat(index.search(null, List.of("홍대", "강남"), null, List.of(1L, 2L))).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void 평점은_버킷_경계가_아니어도_정확히_비교() {
+        // when & then
+        assertThat(index.search(null, null, 4.0, null)).containsExactly(3L, 1L);
+        assertThat(index.search(null, null, 4.2, null)).containsExactly(1L);
+        assertThat(index.search(null, null, 5.5, null)).isEmpty();
+    }
+
+    @Test
+    void 날짜는_운영_기간에_포함된_스토어만() {
+        // when & then
+        assertThat(index.search(TODAY, null, null, null)).containsExactly(2L, 1L);
+        assertThat(index.search(TODAY.plusDays(50), null, null, null)).containsExactly(3L);    // 범위 밖 날짜
+        assertThat(index.search(TODAY.minusDays(20), null, null, null)).containsExactly(4L);
+    }
+
+    @Test
+    void 수정시_이전_조건값에서_제거되고_삭제된_스토어는_제외() {
+        // when
+        index.put(entry(1L, 2L, "강남", 1.0, TODAY.minusDays(3), TODAY.plusDays(3), 100L));
+        index.remove(2L);
+        index.put(entry(5L, 2L, "성수", 2.0, TODAY, TODAY, 500L));
+
+        // then
+        assertThat(index.search(null, List.of("성수"), null, null)).containsExactly(5L);
+        assertThat(index.search(null, null, null, List.of(2L))).containsExactly(5L, 1L);
+        assertThat(index.search(null, null, 4.0, null)).containsExactly(3L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    private StoreFacetIndex.Entry entry(Long id, Long categoryId, String location, double rating,
+                                        LocalDate start, LocalDate end, long createdAt) {
+        return new StoreFacetIndex.Entry(id, categoryId, location, rating, start, end, createdAt);
+    }
+}
@@ -0,0 +1,68 @@
+package com.poppy.domain.search.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoreNameIndexTest {
+    private StoreNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StoreNameIndex();
+        index.put(1L, "포피 성수 팝업스토어", 100L);
+        index.put(2L, "성수 팝업", 200L);
+        index.put(3L, "팝업", 50L);
+        index.put(4L, "Poppy Store", 300L);
+    }
+
+    @Test
+    void 이름_일치_접두어_포함_순으로_정렬() {
+        // when & then
+        assertThat(index.search("팝업")).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void 세글자_이상은_n_gram_교집합_후_포함_여부_검증() {
+        // when & then
+        assertThat(index.search("성수팝업")).containsExactly(2L, 1L);
+        assertThat(index.search("수성팝")).isEmpty();
+    }
+
+    @Test
+    void 공백과_대소문자_무시() {
+        // when & then
+        assertThat(index.search("poppy s")).containsExactly(4L);
+    }
+
+    @Test
+    void 자모_분리된_입력도_검색() {
+        // given
+        String decomposed = Normalizer.normalize("성수", Normalizer.Form.NFD);
+
+        // when & then
+        assertThat(index.search(decomposed)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 입력중인_마지막_자음은_다음_글자_초성으로_비교() {
+        // when & then
+        assertThat(index.search("성수ㅍ")).containsExactly(2L, 1L);
+        assertThat(index.search("포피ㅅ")).containsExactly(1L);
+        assertThat(index.search("포피ㅂ")).isEmpty();
+    }
+
+    @Test
+    void 수정_삭제_반영() {
+        // when
+        index.put(3L, "굿즈샵", 50L);
+        index.remove(2L);
+
+        // then
+        assertThat(index.search("팝업")).containsExactly(1L);
+        assertThat(index.search("굿즈")).containsExactly(3L);
+    }
+}
@@ -0,0 +1,101 @@
+package com.poppy.domain.search.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.invocation.Invocation;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopularKeywordServiceTest {
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @InjectMocks
+    private PopularKeywordService popularKeywordService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 최근_윈도우_버킷을_감쇠_가중치로_합산() {
+        // when
+        popularKeywordService.refreshWindow();
+
+        // then
+        Invocation invocation = mockingDetails(redisTemplate).getInvocations().iterator().next();
+        assertThat(invocation.getMethod().getName()).isEqualTo("execute");
+
+        List<String> keys = (List<String>) invocation.getRawArguments()[1];
+        assertThat(keys).hasSize(PopularKeywordService.WINDOW_BUCKETS + 2);
+        assertThat(keys.get(0)).isEqualTo("popular:keywords:current");
+
+        long latest = Long.parseLong(keys.get(2).substring("popular:keywords:bucket:".length()));
+        assertThat(keys.get(keys.size() - 1))
+                .isEqualTo(PopularKeywordService.bucketKeyOf(latest - PopularKeywordService.WINDOW_BUCKETS + 1));
+
+        Object[] args = (Object[]) invocation.getRawArguments()[2];
+        assertThat(args).hasSize(PopularKeywordService.WINDOW_BUCKETS + 1);
+        assertThat(args[0]).isEqualTo("100");
+        assertThat(Double.parseDouble((String) args[1])).isEqualTo(1.0);
+        assertThat(Double.parseDouble((String) args[2])).isEqualTo(0.9);
+    }
+
+    @Test
+    void 검색시_Redis_호출없이_로컬_집계후_한번에_플러시() {
+        // when
+        popularKeywordService.incrementSearchCount("포피");
+        popularKeywordService.incrementSearchCount(" 포피 ");
+        popularKeywordService.incrementSearchCount("성수  팝업");
+
+        // then
+        verifyNoInteractions(redisTemplate);
+
+        popularKeywordService.flushSearchCounts();
+        popularKeywordService.flushSearchCounts();
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    void 플러시_실패시_다음_플러시에_재반영() {
+        // given
+        popularKeywordService.incrementSearchCount("포피");
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"))
+                .thenReturn(List.of());
+
+        // when
+        popularKeywordService.flushSearchCounts();
+        popularKeywordService.flushSearchCounts();
+
+        // then
+        verify(redisTemplate, times(2)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    void 시작시_이전_누적_집계_키_삭제() {
+        // when
+        popularKeywordService.deleteLegacyKey();
+
+        // then
+        verify(redisTemplate).delete("popular:keywords:next");
+    }
+
+    @Test
+    void 빈_검색어는_집계하지_않음() {
+        // when
+        popularKeywordService.incrementSearchCount("  ");
+        popularKeywordService.flushSearchCounts();
+
+        // then
+        verifyNoInteractions(redisTemplate);
+    }
+}
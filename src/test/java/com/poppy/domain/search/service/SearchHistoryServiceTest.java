@@ -1,6 +1,7 @@
 package com.poppy.domain.search.service;
 
 import com.poppy.common.exception.BusinessException;
+import com.poppy.domain.search.dto.request.SearchHistoryImportReqDto;
 import com.poppy.domain.user.entity.User;
 import com.poppy.domain.user.repository.LoginUserProvider;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,11 +9,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.invocation.Invocation;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.SessionCallback;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.http.HttpStatus;
 
 import java.util.*;
@@ -29,9 +30,6 @@ class SearchHistoryServiceTest {
     @Mock
     private RedisTemplate<String, String> redisTemplate;
 
-    @Mock
-    private ZSetOperations<String, String> zSetOperations;
-
     @InjectMocks
     private SearchHistoryService searchHistoryService;
 
@@ -51,123 +49,138 @@ class SearchHistoryServiceTest {
     void 검색어_저장_성공() {
         // given
         when(loginUserProvider.getLoggedInUser()).thenReturn(mockUser);
-        when(redisTemplate.execute(any(SessionCallback.class)))
-                .thenReturn(List.of(true));
 
-        // when & then
+        // when
         assertDoesNotThrow(() -> searchHistoryService.saveSearchHistory(TEST_KEYWORD));
-        verify(redisTemplate).execute(any(SessionCallback.class));
+
+        // then
+        Object[] args = lastScriptArgs();
+        assertEquals(List.of(KEY_PREFIX + mockUser.getId()), lastScriptKeys());
+        assertEquals("10", args[0]);                   // 최대 개수
+        assertEquals(String.valueOf(7 * 24 * 60 * 60L), args[1]);  // 만료 시간
+        assertEquals(TEST_KEYWORD, args[3]);
     }
 
     @Test
     void 검색어_저장_실패_시_Redis_확인() {
         // given
         when(loginUserProvider.getLoggedInUser()).thenReturn(mockUser);
-        when(redisTemplate.execute(any(SessionCallback.class)))
-                .thenThrow(new BusinessException("검색어 저장에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
 
         // when & then
         BusinessException exception = assertThrows(BusinessException.class,
                 () -> searchHistoryService.saveSearchHistory(TEST_KEYWORD));
 
-        // then
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), exception.getCode());
         assertEquals("검색어 저장에 실패했습니다.", exception.getMessage());
-        verify(redisTemplate).execute(any(SessionCallback.class));
     }
 
     @Test
     void 검색어_조회_성공() {
         // given
-        Set<String> mockHistory = new HashSet<>(Arrays.asList("검색어1", "검색어2"));
         when(loginUserProvider.getLoggedInUser()).thenReturn(mockUser);
-        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
-        when(zSetOperations.reverseRange(KEY_PREFIX + mockUser.getId(), 0, -1))
-                .thenReturn(mockHistory);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY_PREFIX + mockUser.getId())), any(Object[].class)))
+                .thenReturn(List.of("검색어2", "검색어1"));
 
         // when
         List<String> result = searchHistoryService.getSearchHistory();
 
         // then
-        assertAll(
-                () -> assertEquals(2, result.size()),
-                () -> assertTrue(result.containsAll(mockHistory))
-        );
-        verify(zSetOperations).reverseRange(anyString(), anyLong(), anyLong());
+        assertEquals(List.of("검색어2", "검색어1"), result);
     }
 
     @Test
-    void 검색어_부분_삭제() {
+    void 기기_검색기록_가져오기는_최근_10개만_한번에_저장() {
         // given
         when(loginUserProvider.getLoggedInUser()).thenReturn(mockUser);
-        when(redisTemplate.execute(any(SessionCallback.class))).thenAnswer(invocation -> {
-            SessionCallback<?> callback = invocation.getArgument(0);
-            RedisOperations<String, String> operations = mock(RedisOperations.class);
-            ZSetOperations<String, String> zSetOps = mock(ZSetOperations.class);
+        long now = System.currentTimeMillis();
+        List<SearchHistoryImportReqDto.Entry> histories = new ArrayList<>();
+        for (int i = 0; i < 15; i++) histories.add(new SearchHistoryImportReqDto.Entry("검색어" + i, now - 100_000L + i));
+        histories.add(new SearchHistoryImportReqDto.Entry(" ", now));
+        histories.add(new SearchHistoryImportReqDto.Entry("미래", now + 100_000L));
+
+        // when
+        searchHistoryService.importSearchHistory(histories);
 
-            when(operations.opsForZSet()).thenReturn(zSetOps);
-            when(operations.exec()).thenReturn(List.of(1L));
+        // then
+        Invocation save = scriptInvocations().get(0);
+        Object[] args = (Object[]) save.getRawArguments()[2];
+        assertEquals(2 + 10 * 2, args.length);
+        assertEquals("미래", args[3]);
+        assertTrue(Long.parseLong((String) args[2]) <= System.currentTimeMillis());   // 기기 시각은 현재 시각으로 보정
+        assertEquals("검색어14", args[5]);
+        assertEquals(2, scriptInvocations().size());     // 저장 + 병합 결과 조회
+    }
 
-            return callback.execute(operations);
-        });
+    @Test
+    void 검색어_부분_삭제() {
+        // given
+        when(loginUserProvider.getLoggedInUser()).thenReturn(mockUser);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
 
         // when
         boolean result = searchHistoryService.deleteSearchKeyword(TEST_KEYWORD);
 
         // then
         assertTrue(result);
-        verify(redisTemplate).execute(any(SessionCallback.class));
     }
 
     @Test
-    void 검색어_부분_삭제_실패_시_Redis_확인() {
+    void 삭제할_검색어가_없으면_false() {
         // given
         when(loginUserProvider.getLoggedInUser()).thenReturn(mockUser);
-        when(redisTemplate.execute(any(SessionCallback.class)))
-                .thenReturn(Collections.emptyList());
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(0L);
 
         // when
         boolean result = searchHistoryService.deleteSearchKeyword(TEST_KEYWORD);
 
         // then
         assertFalse(result);
-        verify(redisTemplate).execute(any(SessionCallback.class));
     }
 
     @Test
     void 검색어_전체_삭제() {
         // given
         when(loginUserProvider.getLoggedInUser()).thenReturn(mockUser);
-        when(redisTemplate.execute(any(SessionCallback.class)))
-                .thenReturn(List.of(true));
 
         // when & then
         assertDoesNotThrow(() -> searchHistoryService.deleteAllSearchHistory());
-        verify(redisTemplate).execute(any(SessionCallback.class));
+        assertEquals(List.of(KEY_PREFIX + mockUser.getId()), lastScriptKeys());
     }
 
     @Test
     void 검색어_전체_삭제_실패_시_Redis_확인() {
         // given
         when(loginUserProvider.getLoggedInUser()).thenReturn(mockUser);
-        when(redisTemplate.execute(any(SessionCallback.class))).thenAnswer(invocation -> {
-            SessionCallback<?> callback = invocation.getArgument(0);
-            RedisOperations<String, String> operations = mock(RedisOperations.class);
-
-            // multi()와 exec() 메소드 모킹
-            doReturn(operations).when(operations).multi();
-            when(operations.exec()).thenReturn(Collections.emptyList());
-
-            return callback.execute(operations);
-        });
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
 
         // when & then
         BusinessException exception = assertThrows(BusinessException.class,
                 () -> searchHistoryService.deleteAllSearchHistory());
 
-        // 예외 메시지와 상태 코드 검증
         assertEquals("전체 검색 기록 삭제에 실패했습니다.", exception.getMessage());
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), exception.getCode());
-        verify(redisTemplate).execute(any(SessionCallback.class));
     }
-}
\ No newline at end of file
+
+    private List<Invocation> scriptInvocations() {
+        return mockingDetails(redisTemplate).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("execute"))
+                .filter(invocation -> invocation.getRawArguments()[0] instanceof RedisScript)
+                .toList();
+    }
+
+    private Invocation lastScriptInvocation() {
+        List<Invocation> invocations = scriptInvocations();
+        return invocations.get(invocations.size() - 1);
+    }
+
+    private Object lastScriptKeys() {
+        return lastScriptInvocation().getRawArguments()[1];
+    }
+
+    private Object[] lastScriptArgs() {
+        return (Object[]) lastScriptInvocation().getRawArguments()[2];
+    }
+}
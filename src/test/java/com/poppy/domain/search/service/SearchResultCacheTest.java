@@ -0,0 +1,113 @@
+package com.poppy.domain.search.service;
+
+import com.poppy.domain.popupStore.dto.response.PopupStoreRspDto;
+import com.poppy.domain.popupStore.event.PopupStoreChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SearchResultCacheTest {
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SearchResultCache searchResultCache;
+    private List<List<Long>> loadedIds;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        searchResultCache = new SearchResultCache(redisTemplate, meterRegistry);
+        loadedIds = new ArrayList<>();
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("search:result:version")).thenReturn("3");
+    }
+
+    @Test
+    void 캐시_미스시_id와_DTO_모두_로드후_저장() {
+        // when
+        List<PopupStoreRspDto> result = searchResultCache.get("포피 팝업", () -> List.of(2L, 1L), dtoLoader());
+
+        // then
+        assertThat(result).extracting(PopupStoreRspDto::getId).containsExactly(2L, 1L);
+        verify(valueOperations).set("search:result:3:포피팝업", "2,1", 60L, TimeUnit.SECONDS);
+        assertThat(meterRegistry.counter("search.cache.requests", "level", "query", "result", "miss").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 캐시_적중시_로더_호출없음() {
+        // given
+        when(valueOperations.get("search:result:3:포피팝업")).thenReturn("2,1");
+        searchResultCache.get("포피팝업", () -> List.of(2L, 1L), dtoLoader());
+        loadedIds.clear();
+
+        // when
+        List<PopupStoreRspDto> result = searchResultCache.get("포피 팝업", () -> {
+            throw new AssertionError("id 로더가 호출되면 안 됨");
+        }, dtoLoader());
+
+        // then
+        assertThat(result).extracting(PopupStoreRspDto::getId).containsExactly(2L, 1L);
+        assertThat(loadedIds).isEmpty();
+        assertThat(meterRegistry.counter("search.cache.requests", "level", "store", "result", "hit").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void 스토어_변경시_해당_DTO만_다시_로드하고_발행_노드가_올린_결과_버전으로_전환() {
+        // given
+        when(valueOperations.get("search:result:3:포피")).thenReturn("2,1");
+        when(valueOperations.get("search:result:4:포피")).thenReturn("2,1");
+        searchResultCache.get("포피", () -> List.of(2L, 1L), dtoLoader());
+        loadedIds.clear();
+        when(valueOperations.get("search:result:version")).thenReturn("4");
+
+        // when
+        searchResultCache.onStoreChanged(new PopupStoreChangedEvent(1L, PopupStoreChangedEvent.Type.UPDATED));
+        searchResultCache.get("포피", () -> List.of(2L, 1L), dtoLoader());
+
+        // then (수신 노드는 버전을 올리지 않음)
+        assertThat(loadedIds).containsExactly(List.of(1L));
+        verify(valueOperations).get("search:result:4:포피");
+        verify(valueOperations, never()).increment(anyString());
+    }
+
+    @Test
+    void 검색_결과가_없어도_캐시() {
+        // when
+        List<PopupStoreRspDto> result = searchResultCache.get("없음", List::of, dtoLoader());
+
+        // then
+        assertThat(result).isEmpty();
+        verify(valueOperations).set("search:result:3:없음", "", 60L, TimeUnit.SECONDS);
+    }
+
+    private Function<List<Long>, List<PopupStoreRspDto>> dtoLoader() {
+        return ids -> {
+            loadedIds.add(ids);
+            return ids.stream()
+                    .map(id -> PopupStoreRspDto.builder().id(id).name("store-" + id).build())
+                    .toList();
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.poppy.domain.search.service;
+
+import com.poppy.domain.popupStore.dto.request.PopupStoreSearchReqDto;
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.event.PopupStoreChangedEvent;
+import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import com.poppy.domain.storeCategory.entity.StoreCategory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoreFacetIndexServiceTest {
+    @Mock
+    private PopupStoreRepository popupStoreRepository;
+
+    @InjectMocks
+    private StoreFacetIndexService storeFacetIndexService;
+
+    @Test
+    void 재구성_중_조건이_바뀐_스토어는_교체된_인덱스에_다시_반영() {
+        // given (전체 조회 이후 1번 스토어의 지역이 성수로 바뀐 경우)
+        LocalDate today = LocalDate.now();
+        PopupStore updated = PopupStore.builder()
+                .id(1L)
+                .location("성수")
+                .rating(4.5)
+                .startDate(today)
+                .endDate(today.plusDays(10))
+                .isEnd(false)
+                .storeCategory(StoreCategory.builder().id(1L).name("패션").build())
+                .build();
+        when(popupStoreRepository.findById(1L)).thenReturn(Optional.of(updated));
+        when(popupStoreRepository.findFacetEntries()).thenAnswer(invocation -> {
+            storeFacetIndexService.onStoreChanged(new PopupStoreChangedEvent(1L, PopupStoreChangedEvent.Type.UPDATED));
+            return List.<Object[]>of(new Object[]{1L, 1L, "홍대", 4.5, today, today.plusDays(10), LocalDateTime.now()});
+        });
+
+        // when
+        storeFacetIndexService.rebuild();
+
+        // then
+        assertThat(storeFacetIndexService.search(PopupStoreSearchReqDto.builder().locations(List.of("성수")).build()))
+                .containsExactly(1L);
+        assertThat(storeFacetIndexService.search(PopupStoreSearchReqDto.builder().locations(List.of("홍대")).build()))
+                .isEmpty();
+    }
+}
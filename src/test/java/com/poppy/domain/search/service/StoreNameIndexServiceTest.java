@@ -0,0 +1,48 @@
+package com.poppy.domain.search.service;
+
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.event.PopupStoreChangedEvent;
+import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoreNameIndexServiceTest {
+    @Mock
+    private PopupStoreRepository popupStoreRepository;
+
+    @InjectMocks
+    private StoreNameIndexService storeNameIndexService;
+
+    @Test
+    void 재구성_중_등록된_스토어는_교체된_인덱스에_다시_반영() {
+        // given (전체 조회 이후 등록 이벤트가 도착해 조회 결과에는 없는 경우)
+        PopupStore created = PopupStore.builder()
+                .id(2L)
+                .name("포피 팝업")
+                .isEnd(false)
+                .build();
+        when(popupStoreRepository.findById(2L)).thenReturn(Optional.of(created));
+        when(popupStoreRepository.findActiveStoreNames()).thenAnswer(invocation -> {
+            storeNameIndexService.onStoreChanged(new PopupStoreChangedEvent(2L, PopupStoreChangedEvent.Type.CREATED));
+            return List.<Object[]>of(new Object[]{1L, "다른 매장", LocalDateTime.now()});
+        });
+
+        // when
+        storeNameIndexService.rebuild();
+
+        // then
+        assertThat(storeNameIndexService.search("포피")).containsExactly(2L);
+        assertThat(storeNameIndexService.search("다른")).containsExactly(1L);
+    }
+}
@@ -0,0 +1,58 @@
+package com.poppy.domain.user.service;
+
+import com.poppy.domain.user.entity.DeviceToken;
+import com.poppy.domain.user.entity.User;
+import com.poppy.domain.user.repository.DeviceTokenRepository;
+import com.poppy.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeviceTokenServiceTest {
+    @Mock
+    private DeviceTokenRepository deviceTokenRepository;
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private DeviceTokenService deviceTokenService;
+
+    @Test
+    void 다른_계정으로_옮겨간_기기는_이전_소유자들의_대표_토큰을_비움() {
+        // given (2번은 레지스트리 소유자, 3번은 레지스트리 도입 전 대표 토큰으로만 보유)
+        User previousOwner = User.builder().id(2L).build();
+        User newOwner = User.builder().id(1L).build();
+        DeviceToken deviceToken = DeviceToken.builder().user(previousOwner).token("phone").build();
+        when(userRepository.findIdsByFcmTokenAndIdNot("phone", 1L)).thenReturn(List.of(2L, 3L));
+        when(deviceTokenRepository.findByToken("phone")).thenReturn(Optional.of(deviceToken));
+
+        // when
+        Set<Long> previousOwnerIds = deviceTokenService.register(newOwner, "phone");
+
+        // then
+        assertThat(previousOwnerIds).containsExactlyInAnyOrder(2L, 3L);
+        verify(userRepository).clearFcmTokenExcept("phone", 1L);
+        assertThat(deviceToken.getUser()).isEqualTo(newOwner);
+    }
+
+    @Test
+    void 레지스트리에_등록된_토큰은_대표_토큰으로_대체_발송하지_않음() {
+        // given (대표 토큰이 다른 계정의 기기로 등록되어 있는 경우)
+        User user = User.builder().id(1L).fcmToken("phone").build();
+        when(deviceTokenRepository.findTokensByUserId(1L)).thenReturn(List.of());
+        when(deviceTokenRepository.findRegisteredTokens(List.of("phone"))).thenReturn(List.of("phone"));
+
+        // when & then
+        assertThat(deviceTokenService.getTokens(user)).isEmpty();
+    }
+}
@@ -1,6 +1,7 @@
 package com.poppy.domain.user.service;
 
 import com.poppy.common.exception.BusinessException;
+import com.poppy.domain.scrap.service.StoreTopicSubscriptionService;
 import com.poppy.domain.user.entity.Role;
 import com.poppy.domain.user.entity.User;
 import com.poppy.domain.user.repository.UserRepository;
@@ -28,6 +29,12 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private DeviceTokenService deviceTokenService;
+
+    @Mock
+    private StoreTopicSubscriptionService storeTopicSubscriptionService;
+
     private User user;
 
     @BeforeEach
@@ -55,6 +62,7 @@ class UserServiceTest {
 
             // then
             assertEquals(newToken, user.getFcmToken());
+            verify(deviceTokenService).register(user, newToken);
             verify(userRepository).save(user);
         }
 
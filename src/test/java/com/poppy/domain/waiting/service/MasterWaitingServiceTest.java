@@ -4,7 +4,7 @@ import com.poppy.common.exception.BusinessException;
 import com.poppy.domain.notification.entity.NotificationType;
 import com.poppy.domain.notification.service.NotificationService;
 import com.poppy.domain.popupStore.entity.PopupStore;
-import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import com.poppy.domain.popupStore.service.PopupStoreCache;
 import com.poppy.domain.user.entity.Role;
 import com.poppy.domain.user.entity.User;
 import com.poppy.domain.user.repository.LoginUserProvider;
@@ -39,7 +39,7 @@ class MasterWaitingServiceTest {
     @Mock
     private WaitingUtils waitingUtils;
     @Mock
-    private PopupStoreRepository popupStoreRepository;
+    private PopupStoreCache popupStoreCache;
     @Mock
     private LoginUserProvider loginUserProvider;
 
@@ -48,6 +48,7 @@ class MasterWaitingServiceTest {
 
     private User masterUser;
     private PopupStore popupStore;
+    private PopupStoreCache.Entry cachedStore;
     private Waiting waiting;
 
     @BeforeEach
@@ -64,6 +65,8 @@ class MasterWaitingServiceTest {
                 .masterUser(masterUser)
                 .build();
 
+        cachedStore = new PopupStoreCache.Entry(1L, 1L, masterUser.getId(), "테스트 매장", null, null, null);
+
         waiting = Waiting.builder()
                 .popupStore(popupStore)
                 .user(User.builder().id(2L).build())
@@ -78,7 +81,7 @@ class MasterWaitingServiceTest {
         // given
         LocalDate date = LocalDate.now();
         when(loginUserProvider.getLoggedInUser()).thenReturn(masterUser);
-        when(popupStoreRepository.findById(anyLong())).thenReturn(Optional.of(popupStore));
+        when(popupStoreCache.get(anyLong())).thenReturn(cachedStore);
         when(waitingRepository.findWaitingsByStoreIdAndDate(anyLong(), any(LocalDate.class))).thenReturn(List.of(waiting));
 
         // when
@@ -95,7 +98,7 @@ class MasterWaitingServiceTest {
         int hour = 14;  // 오후 2시
 
         when(loginUserProvider.getLoggedInUser()).thenReturn(masterUser);
-        when(popupStoreRepository.findById(anyLong())).thenReturn(Optional.of(popupStore));
+        when(popupStoreCache.get(anyLong())).thenReturn(cachedStore);
         when(waitingRepository.findWaitingsByStoreIdAndDateTime(anyLong(), any(LocalDate.class), anyInt()))
                 .thenReturn(List.of(waiting));
 
@@ -111,7 +114,7 @@ class MasterWaitingServiceTest {
     void 대기_상태_업데이트_성공() {
         // given
         when(loginUserProvider.getLoggedInUser()).thenReturn(masterUser);
-        when(popupStoreRepository.findById(anyLong())).thenReturn(Optional.of(popupStore));
+        when(popupStoreCache.get(anyLong())).thenReturn(cachedStore);
         when(waitingRepository.findById(anyLong())).thenReturn(Optional.of(waiting));
 
         // when
@@ -127,7 +130,7 @@ class MasterWaitingServiceTest {
         // given
         User unauthorizedUser = User.builder().id(3L).role(Role.ROLE_USER).build();
         when(loginUserProvider.getLoggedInUser()).thenReturn(unauthorizedUser);
-        when(popupStoreRepository.findById(anyLong())).thenReturn(Optional.of(popupStore));
+        when(popupStoreCache.get(anyLong())).thenReturn(cachedStore);
 
         // when & then
         assertThrows(BusinessException.class, () ->
@@ -138,7 +141,7 @@ class MasterWaitingServiceTest {
     void 활성화된_대기목록_조회_성공() {
         // given
         when(loginUserProvider.getLoggedInUser()).thenReturn(masterUser);
-        when(popupStoreRepository.findById(anyLong())).thenReturn(Optional.of(popupStore));
+        when(popupStoreCache.get(anyLong())).thenReturn(cachedStore);
         when(waitingRepository.findActiveWaitings(anyLong(), any())).thenReturn(List.of(waiting));
 
         // when
@@ -154,7 +157,7 @@ class MasterWaitingServiceTest {
         // given
         waiting.updateStatus(WaitingStatus.CALLED);
         when(waitingRepository.findById(anyLong())).thenReturn(Optional.of(waiting));
-        when(popupStoreRepository.findById(anyLong())).thenReturn(Optional.of(popupStore));
+        when(popupStoreCache.get(anyLong())).thenReturn(cachedStore);
         when(loginUserProvider.getLoggedInUser()).thenReturn(masterUser);
 
         // when
@@ -1,6 +1,8 @@
 package com.poppy.domain.waiting.service;
 
 import com.poppy.common.exception.BusinessException;
+import com.poppy.common.pagination.CursorPage;
+import com.poppy.common.pagination.CursorRequest;
 import com.poppy.domain.notification.entity.NotificationType;
 import com.poppy.domain.notification.service.NotificationService;
 import com.poppy.domain.popupStore.entity.PopupStore;
@@ -132,15 +134,16 @@ class UserWaitingServiceTest {
     void 대기내역_조회_성공() {
         // given
         when(loginUserProvider.getLoggedInUser()).thenReturn(user);
-        when(waitingRepository.findByUserIdOrderByWaitingDateDescWaitingTimeDesc(anyLong()))  // 메서드명 변경
+        when(waitingRepository.findHistoryPageByUserId(anyLong(), any()))
                 .thenReturn(List.of(waiting));
 
         // when
-        List<UserWaitingHistoryRspDto> result = userWaitingService.getUserWaitingHistory();
+        CursorPage<UserWaitingHistoryRspDto> result = userWaitingService.getUserWaitingHistory(CursorRequest.of(null, null));
 
         // then
-        assertFalse(result.isEmpty());
-        assertEquals(1, result.size());
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
     }
 
     @Test